@@ -0,0 +1,72 @@
+package uk.ac.york.student.benchmarks;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.ac.york.student.assets.map.ActivityMapObject;
+import uk.ac.york.student.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures constructing an {@link ActivityMapObject} for every activity on a map, as the game screen does whenever a map is loaded.
+ * The objects are read from the real maps once, so only the construction (parsing the activity type, time and change amounts) is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ActivityMapObjectBenchmark {
+    /**
+     * The name of the map in {@code assets/map} to read the activities from.
+     */
+    @Param({"map", "inside_house", "inside_library", "inside_pub"})
+    public String map;
+
+    /**
+     * The map objects that are activities, in the order they are on the map.
+     */
+    private final List<MapObject> activities = new ArrayList<>();
+
+    /**
+     * Loads the map and collects its activities, then disposes the map's textures, as only the objects are needed.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.start();
+        TiledMap tiledMap = new TmxMapLoader().load("map/" + map + ".tmx");
+        MapLayer gameObjects = tiledMap.getLayers().get("gameObjects");
+        for (MapObject object : gameObjects.getObjects()) {
+            if (Player.getTransition(object) == Player.Transition.ACTIVITY) {
+                activities.add(object);
+            }
+        }
+        tiledMap.dispose();
+    }
+
+    /**
+     * Measures constructing an {@link ActivityMapObject} for each activity on the map.
+     *
+     * @param blackhole Consumes the objects, so their construction is not optimised away.
+     */
+    @Benchmark
+    public void construct(Blackhole blackhole) {
+        for (MapObject object : activities) {
+            blackhole.consume(new ActivityMapObject(object));
+        }
+    }
+}
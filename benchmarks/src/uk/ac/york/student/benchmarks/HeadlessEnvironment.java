@@ -0,0 +1,53 @@
+package uk.ac.york.student.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import lombok.experimental.UtilityClass;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * This utility class starts a headless libGDX application for the benchmarks, in the same way as the {@code GdxTestRunner} used by the tests.
+ * <p>
+ * GL calls go to a mock, so textures and maps can be loaded without a window. The graphics report a 1920x1080 screen,
+ * so that the player and the map are scaled as they would be in the game, rather than to the zero size of the headless backend.
+ */
+@UtilityClass
+public final class HeadlessEnvironment {
+    /**
+     * The size of the screen reported to the game, in pixels.
+     */
+    public static final int SCREEN_WIDTH = 1920, SCREEN_HEIGHT = 1080;
+
+    /**
+     * Whether the application has been started in this JVM.
+     */
+    private static boolean started = false;
+
+    /**
+     * Starts the headless application if it has not been started yet.
+     * This should be called from the {@link org.openjdk.jmh.annotations.Setup} method of every suite that uses libGDX.
+     */
+    public static synchronized void start() {
+        if (started) return;
+        new HeadlessApplication(new ApplicationAdapter() {}, new HeadlessApplicationConfiguration());
+
+        GL20 gl = mock(GL20.class);
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+
+        Graphics graphics = mock(Graphics.class);
+        when(graphics.getWidth()).thenReturn(SCREEN_WIDTH);
+        when(graphics.getHeight()).thenReturn(SCREEN_HEIGHT);
+        when(graphics.getDeltaTime()).thenReturn(1 / 60f);
+        when(graphics.getGL20()).thenReturn(gl);
+        Gdx.graphics = graphics;
+
+        started = true;
+    }
+}
@@ -0,0 +1,172 @@
+package uk.ac.york.student.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.ac.york.student.game.leaderboard.ScoreStore;
+import uk.ac.york.student.game.leaderboard.ScoreSubmission;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the {@link ScoreStore} behind {@link uk.ac.york.student.game.Leaderboard} at growing sizes:
+ * saving a score (as {@link uk.ac.york.student.game.Leaderboard#saveScore(String, float)} does), reading the top of the leaderboard,
+ * ranking a score, and opening the store when the game starts.
+ * <p>
+ * The {@link uk.ac.york.student.game.Leaderboard} itself keeps its store in the working directory, so the store is measured directly,
+ * in a temporary directory. The store is filled once per trial and compacted into a snapshot, and each iteration works on a fresh copy
+ * of that snapshot, so saving scores during one iteration does not grow the store for the next.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class LeaderboardBenchmark {
+    /**
+     * The number of scores in the store.
+     */
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    /**
+     * The directory holding the filled snapshot, which is copied for each iteration.
+     */
+    private Path template;
+
+    /**
+     * The directory of the store used by the current iteration.
+     */
+    private Path directory;
+
+    /**
+     * The store used by the current iteration.
+     */
+    private ScoreStore store;
+
+    /**
+     * The source of the scores that are saved and ranked.
+     */
+    private final Random random = new Random(42);
+
+    /**
+     * Fills a store with {@link LeaderboardBenchmark#size} random scores and compacts it into a snapshot.
+     *
+     * @throws IOException If the store cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void fill() throws IOException {
+        template = Files.createTempDirectory("leaderboard-benchmark");
+        try (ScoreStore filled = ScoreStore.open(template)) {
+            for (int i = 0; i < size; i++) {
+                filled.add("Player" + i, random.nextFloat() * 100);
+            }
+            filled.compact();
+        }
+    }
+
+    /**
+     * Opens a fresh copy of the filled store for the iteration.
+     *
+     * @throws IOException If the store cannot be copied or opened.
+     */
+    @Setup(Level.Iteration)
+    public void open() throws IOException {
+        directory = Files.createTempDirectory("leaderboard-benchmark");
+        Files.copy(template.resolve(ScoreStore.SNAPSHOT_FILE), directory.resolve(ScoreStore.SNAPSHOT_FILE));
+        store = ScoreStore.open(directory);
+    }
+
+    /**
+     * Closes the iteration's store and deletes its copy.
+     *
+     * @throws IOException If the store cannot be closed or deleted.
+     */
+    @TearDown(Level.Iteration)
+    public void close() throws IOException {
+        store.close();
+        delete(directory);
+    }
+
+    /**
+     * Deletes the filled snapshot.
+     *
+     * @throws IOException If the snapshot cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void deleteTemplate() throws IOException {
+        delete(template);
+    }
+
+    /**
+     * Deletes a directory and everything in it.
+     *
+     * @param path The directory to delete.
+     * @throws IOException If the directory cannot be deleted.
+     */
+    private static void delete(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Measures saving a score, which appends it to the journal and forces it to disk.
+     *
+     * @return The saved submission.
+     * @throws IOException If the score cannot be saved.
+     */
+    @Benchmark
+    public ScoreSubmission saveScore() throws IOException {
+        return store.add("Player", random.nextFloat() * 100);
+    }
+
+    /**
+     * Measures reading the scores shown on the leaderboard.
+     *
+     * @return The top ten scores.
+     */
+    @Benchmark
+    public List<ScoreSubmission> top() {
+        return store.top(10);
+    }
+
+    /**
+     * Measures ranking a new score against the store.
+     *
+     * @return The rank of the score.
+     */
+    @Benchmark
+    public int rankOf() {
+        return store.rankOf(random.nextFloat() * 100);
+    }
+
+    /**
+     * Measures opening the store, which reads the snapshot and rebuilds the index, as the game does the first time the leaderboard is shown.
+     *
+     * @return The number of scores read.
+     * @throws IOException If the store cannot be opened.
+     */
+    @Benchmark
+    public int openStore() throws IOException {
+        try (ScoreStore opened = ScoreStore.open(directory)) {
+            return opened.size();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package uk.ac.york.student.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading each map in {@code assets/map} with a {@link TmxMapLoader}, with the same parameters as the
+ * {@link uk.ac.york.student.assets.map.MapManager}. This covers parsing the TMX and TSX files and decoding the tileset images;
+ * uploading the textures goes to a mocked GL, so it is not included.
+ * Each map is disposed straight after it is loaded, so its textures do not build up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapLoadingBenchmark {
+    /**
+     * The name of the map in {@code assets/map} to load.
+     */
+    @Param({"map", "blankMap", "inside_house", "inside_library", "inside_pub"})
+    public String map;
+
+    /**
+     * The parameters the maps are loaded with.
+     */
+    private final TmxMapLoader.Parameters parameter = new TmxMapLoader.Parameters();
+
+    /**
+     * Starts libGDX and sets up the loading parameters.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.start();
+        parameter.textureMinFilter = Texture.TextureFilter.Nearest;
+        parameter.textureMagFilter = Texture.TextureFilter.Nearest;
+    }
+
+    /**
+     * Measures loading the map.
+     *
+     * @return The number of layers in the map.
+     */
+    @Benchmark
+    public int load() {
+        TiledMap tiledMap = new TmxMapLoader().load("map/" + map + ".tmx", parameter);
+        int layers = tiledMap.getLayers().size();
+        tiledMap.dispose();
+        return layers;
+    }
+}
@@ -0,0 +1,179 @@
+package uk.ac.york.student.benchmarks;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.ac.york.student.player.Player;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the map object lookups the {@link Player} makes every frame: {@link Player#getCurrentMapObject()},
+ * and {@link Player#isInCollisionTile()} while the player is moving.
+ * <p>
+ * The lookups are run on the real maps, and on synthetic maps with a growing number of objects, to show how the lookups scale.
+ * Each invocation moves the player to the next of a fixed sequence of random positions on the map, so the results do not depend on a single cell.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PlayerCollisionBenchmark {
+    /**
+     * The prefix of the {@link PlayerCollisionBenchmark#map} parameter for synthetic maps, followed by the number of objects.
+     */
+    private static final String SYNTHETIC = "synthetic-";
+
+    /**
+     * The size of the synthetic maps, in tiles, and the size of each tile, in pixels.
+     */
+    private static final int SYNTHETIC_TILES = 200, SYNTHETIC_TILE_SIZE = 32;
+
+    /**
+     * The number of positions the player is moved between. This is a power of two, so the next position can be found with a mask.
+     */
+    private static final int POSITIONS = 1024;
+
+    /**
+     * The map to look objects up in: the name of a map in {@code assets/map}, or {@code synthetic-} followed by a number of objects.
+     */
+    @Param({"map", "inside_house", "inside_library", "inside_pub", "synthetic-100", "synthetic-1000", "synthetic-10000"})
+    public String map;
+
+    /**
+     * The loaded or generated map.
+     */
+    private TiledMap tiledMap;
+
+    /**
+     * The player whose lookups are measured.
+     */
+    private Player player;
+
+    /**
+     * The positions the player is moved between, in the same scaled units as the player's sprite.
+     */
+    private final Vector2[] positions = new Vector2[POSITIONS];
+
+    /**
+     * The index of the next position in {@link PlayerCollisionBenchmark#positions}.
+     */
+    private int next = 0;
+
+    /**
+     * Loads or generates the map, creates the player on it, and picks the positions to move it between.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        HeadlessEnvironment.start();
+        if (map.startsWith(SYNTHETIC)) {
+            tiledMap = createSyntheticMap(Integer.parseInt(map.substring(SYNTHETIC.length())));
+        } else {
+            TmxMapLoader.Parameters parameter = new TmxMapLoader.Parameters();
+            parameter.textureMinFilter = Texture.TextureFilter.Nearest;
+            parameter.textureMagFilter = Texture.TextureFilter.Nearest;
+            tiledMap = new TmxMapLoader().load("map/" + map + ".tmx", parameter);
+        }
+        player = new Player(tiledMap, new Vector2());
+
+        // Spread the positions over the whole map, scaled the same way as the player
+        TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(0);
+        int width = layer.getWidth() * layer.getTileWidth();
+        int height = layer.getHeight() * layer.getTileHeight();
+        float scale = Math.max(HeadlessEnvironment.SCREEN_WIDTH / width, HeadlessEnvironment.SCREEN_HEIGHT / height);
+        Random random = new Random(42);
+        for (int i = 0; i < POSITIONS; i++) {
+            positions[i] = new Vector2(random.nextFloat() * width * scale, random.nextFloat() * height * scale);
+        }
+    }
+
+    /**
+     * Creates a map with a single empty tile layer and the given number of randomly placed objects on its {@code gameObjects} layer.
+     * A third of the objects are collision tiles, and the rest are activities.
+     *
+     * @param objects The number of objects to place.
+     * @return The generated map.
+     */
+    private static TiledMap createSyntheticMap(int objects) {
+        TiledMap tiledMap = new TiledMap();
+        tiledMap.getLayers().add(new TiledMapTileLayer(SYNTHETIC_TILES, SYNTHETIC_TILES, SYNTHETIC_TILE_SIZE, SYNTHETIC_TILE_SIZE));
+
+        MapLayer gameObjects = new MapLayer();
+        gameObjects.setName("gameObjects");
+        Random random = new Random(7);
+        float size = SYNTHETIC_TILES * SYNTHETIC_TILE_SIZE;
+        for (int i = 0; i < objects; i++) {
+            float width = SYNTHETIC_TILE_SIZE * (1 + random.nextInt(4));
+            float height = SYNTHETIC_TILE_SIZE * (1 + random.nextInt(4));
+            RectangleMapObject object = new RectangleMapObject(random.nextFloat() * (size - width), random.nextFloat() * (size - height), width, height);
+            object.setName("object" + i);
+
+            // The player reads the bounds from the properties, as the TMX loader sets them
+            MapProperties properties = object.getProperties();
+            properties.put("x", object.getRectangle().x);
+            properties.put("y", object.getRectangle().y);
+            properties.put("width", width);
+            properties.put("height", height);
+            properties.put(i % 3 == 0 ? "isCollision" : "isActivity", true);
+            gameObjects.getObjects().add(object);
+        }
+        tiledMap.getLayers().add(gameObjects);
+        return tiledMap;
+    }
+
+    /**
+     * Disposes the player and the map.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        player.dispose();
+        tiledMap.dispose();
+    }
+
+    /**
+     * Moves the player to the next position.
+     */
+    private void moveToNextPosition() {
+        player.setPosition(positions[next]);
+        next = (next + 1) & (POSITIONS - 1);
+    }
+
+    /**
+     * Measures looking up the object under the centre of the player.
+     *
+     * @return The object, so the lookup is not optimised away.
+     */
+    @Benchmark
+    public Object getCurrentMapObject() {
+        moveToNextPosition();
+        return player.getCurrentMapObject();
+    }
+
+    /**
+     * Measures checking whether the player is about to move into a collision tile.
+     *
+     * @return The collision, so the lookup is not optimised away.
+     */
+    @Benchmark
+    public Object isInCollisionTile() {
+        moveToNextPosition();
+        return player.isInCollisionTile();
+    }
+}
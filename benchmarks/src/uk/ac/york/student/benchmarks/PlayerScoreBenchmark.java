@@ -0,0 +1,94 @@
+package uk.ac.york.student.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.player.PlayerScore;
+import uk.ac.york.student.player.PlayerStreaks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PlayerScore#calculateScore(float, float, float, float, PlayerStreaks, int)}, which scores every finished game
+ * and every game played by the simulator, and converting the score to a degree class.
+ * The inputs are taken in turn from a fixed set of random metrics, so the branches of the scoring rules are all exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class PlayerScoreBenchmark {
+    /**
+     * The number of sets of inputs. This is a power of two, so the next set can be found with a mask.
+     */
+    private static final int INPUTS = 256;
+
+    /**
+     * The study level, happiness and number of days not studied of each set of inputs.
+     */
+    private final float[] studyLevels = new float[INPUTS];
+    private final float[] happiness = new float[INPUTS];
+    private final int[] daysNotStudied = new int[INPUTS];
+
+    /**
+     * The streaks the scores are calculated with, long enough to earn the streak bonus for studying and exercising.
+     */
+    private final PlayerStreaks streaks = new PlayerStreaks();
+
+    /**
+     * A player score with only the default methods, used to convert scores to degree classes.
+     */
+    private final PlayerScore playerScore = new PlayerScore() {};
+
+    /**
+     * The index of the next set of inputs.
+     */
+    private int next = 0;
+
+    /**
+     * Generates the inputs and builds up the streaks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < INPUTS; i++) {
+            studyLevels[i] = random.nextFloat();
+            happiness[i] = random.nextFloat();
+            daysNotStudied[i] = random.nextInt(4);
+        }
+        for (int day = 1; day <= 5; day++) {
+            streaks.incrementStreak(Activity.STUDY, day);
+            streaks.incrementStreak(Activity.EXERCISE, day);
+        }
+    }
+
+    /**
+     * Measures calculating a score.
+     *
+     * @return The score.
+     */
+    @Benchmark
+    public float calculateScore() {
+        int i = next;
+        next = (next + 1) & (INPUTS - 1);
+        return PlayerScore.calculateScore(studyLevels[i], 1f, happiness[i], 1f, streaks, daysNotStudied[i]);
+    }
+
+    /**
+     * Measures calculating a score and converting it to a degree class, as the end screen does.
+     *
+     * @return The degree class.
+     */
+    @Benchmark
+    public String calculateAndConvertScore() {
+        return playerScore.convertScoreToString(calculateScore());
+    }
+}
@@ -6,14 +6,29 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
 import com.badlogic.gdx.scenes.scene2d.actions.SequenceAction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.SharedBatch;
 import uk.ac.york.student.assets.map.MapManager;
+import uk.ac.york.student.assets.skins.SkinManager;
 import uk.ac.york.student.audio.AudioManager;
 import uk.ac.york.student.audio.music.MusicManager;
 import uk.ac.york.student.audio.sound.SoundManager;
+import uk.ac.york.student.debug.FrameProfiler;
+import uk.ac.york.student.game.Leaderboard;
+import uk.ac.york.student.game.save.Autosave;
 import uk.ac.york.student.screens.BaseScreen;
+import uk.ac.york.student.screens.ReusableScreen;
 import uk.ac.york.student.screens.Screens;
+import uk.ac.york.student.settings.PreferenceStore;
+import uk.ac.york.student.utils.DrawableUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Supplier;
 
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeOut;
 
@@ -48,77 +63,78 @@ public final class GdxGame extends Game {
 
 		MapManager.onEnable();
 
+		// Show the profiler overlay if screen debugging is enabled
+		FrameProfiler.onEnable();
+
 		// Set the initial screen to the loading screen
 		setScreen(Screens.LOADING);
 	}
 
+	/**
+	 * The constructor parameter types used to create a screen with a fade-in time.
+	 */
+	private static final Class<?>[] TRANSITION_PARAMETER_TYPES = {GdxGame.class, boolean.class, float.class};
+
+	/**
+	 * The constructor parameter types used to create a screen with a fade-in time and additional initialization arguments.
+	 */
+	private static final Class<?>[] TRANSITION_ARGS_PARAMETER_TYPES = {GdxGame.class, boolean.class, float.class, Object[].class};
+
+	/**
+	 * The reusable screens that have been created, keyed by their class.
+	 * A screen that implements {@link ReusableScreen} is created once, kept here while other screens are shown,
+	 * and reset with {@link ReusableScreen#reset(boolean, float)} when it is shown again. The screens are disposed in {@link GdxGame#dispose()}.
+	 */
+	private final Map<Class<? extends BaseScreen>, BaseScreen> screenCache = new HashMap<>();
+
+	/**
+	 * Whether a transition started by {@link GdxGame#transitionScreen(Class)} is still fading out.
+	 * Any further transition requested in this time is ignored, so clicking a button twice does not start two transitions.
+	 */
+	private boolean transitioning = false;
+
+	/**
+	 * The steps left to prepare the screen being transitioned to. {@link GdxGame#render()} runs one of them each frame while the current screen fades out,
+	 * so creating the screen and building its widgets are done in different frames of the fade, rather than all in the frame the transition starts.
+	 */
+	private final Queue<Runnable> preparationSteps = new ArrayDeque<>();
+
+	/**
+	 * The screen prepared by the {@link GdxGame#preparationSteps} so far, or null if it has not been created yet.
+	 */
+	private @Nullable BaseScreen preparedScreen = null;
+
 	/**
 	 * Sets the current screen to the specified screen class.
-	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} before the new screen is set.
-	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame}.
+	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} when the new screen is set, unless it is a {@link ReusableScreen}.
+	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame}, or reset if it is a {@link ReusableScreen} that has already been created.
 	 * If an error occurs during the instantiation of the new screen, an error is logged and the application is exited.
 	 *
 	 * @param screen The class of the screen to set. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame}.
 	 */
 	public void setScreen(@NotNull Class<? extends BaseScreen> screen) {
-		// Dispose the current screen if it exists
-		final Screen currentScreen = getScreen();
-		if (currentScreen != null) {
-			currentScreen.dispose();
-		}
-
-		// Create a new screen instance
-		BaseScreen newScreen;
-		try {
-			// Instantiate the new screen using reflection
-			newScreen = screen.getConstructor(GdxGame.class).newInstance(this);
-		} catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-			// Log the error and exit the application if the new screen cannot be instantiated
-			Gdx.app.error("LetRonCooke", "Error loading screen", e);
-			Gdx.app.exit();
-			return;
-		}
-
-		// Set the new screen
-		super.setScreen(newScreen);
+		switchScreen(prepareScreen(screen, false, ReusableScreen.DEFAULT_FADE_IN_TIME, new Class<?>[]{GdxGame.class}, this));
 	}
 
 	/**
 	 * Sets the current screen to the specified screen class with an option to fade in.
-	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} before the new screen is set.
-	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame} and a boolean indicating whether the screen should fade in.
+	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} when the new screen is set, unless it is a {@link ReusableScreen}.
+	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame} and a boolean indicating whether the screen should fade in,
+	 * or reset if it is a {@link ReusableScreen} that has already been created.
 	 * If an error occurs during the instantiation of the new screen, an error is logged and the application is exited.
 	 *
 	 * @param screen The class of the screen to set. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame} and a boolean.
 	 * @param shouldFadeIn A boolean indicating whether the new screen should fade in.
 	 */
 	public void setScreen(@NotNull Class<? extends BaseScreen> screen, boolean shouldFadeIn) {
-		// Dispose the current screen if it exists
-		final Screen currentScreen = getScreen();
-		if (currentScreen != null) {
-			currentScreen.dispose();
-		}
-
-		// Create a new screen instance
-		BaseScreen newScreen;
-		try {
-			// Instantiate the new screen using reflection
-			newScreen = screen.getConstructor(GdxGame.class, boolean.class).newInstance(this, shouldFadeIn);
-		} catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-			// Log the error and exit the application if the new screen cannot be instantiated
-			Gdx.app.error("LetRonCooke", "Error loading screen", e);
-			Gdx.app.exit();
-			return;
-		}
-
-		// Set the new screen
-		super.setScreen(newScreen);
+		switchScreen(prepareScreen(screen, shouldFadeIn, ReusableScreen.DEFAULT_FADE_IN_TIME, new Class<?>[]{GdxGame.class, boolean.class}, this, shouldFadeIn));
 	}
 
 	/**
 	 * Sets the current screen to the specified screen class with an option to fade in and a specified fade-in time.
-	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} before the new screen is set.
-	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame}, a boolean indicating whether the screen should fade in, and a float specifying the fade-in time.
+	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} when the new screen is set, unless it is a {@link ReusableScreen}.
+	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame}, a boolean indicating whether the screen should fade in, and a float specifying the fade-in time,
+	 * or reset if it is a {@link ReusableScreen} that has already been created.
 	 * If an error occurs during the instantiation of the new screen, an error is logged and the application is exited.
 	 *
 	 * @param screen The class of the screen to set. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame}, a boolean, and a float.
@@ -126,32 +142,14 @@ public final class GdxGame extends Game {
 	 * @param fadeInTime A float specifying the time for the fade-in effect in seconds
 	 */
 	public void setScreen(@NotNull Class<? extends BaseScreen> screen, boolean shouldFadeIn, float fadeInTime) {
-		// Dispose the current screen if it exists
-		final Screen currentScreen = getScreen();
-		if (currentScreen != null) {
-			currentScreen.dispose();
-		}
-
-		// Create a new screen instance
-		BaseScreen newScreen;
-		try {
-			// Instantiate the new screen using reflection
-			newScreen = screen.getConstructor(GdxGame.class, boolean.class, float.class).newInstance(this, shouldFadeIn, fadeInTime);
-		} catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-			// Log the error and exit the application if the new screen cannot be instantiated
-			Gdx.app.error("LetRonCooke", "Error loading screen", e);
-			Gdx.app.exit();
-			return;
-		}
-
-		// Set the new screen
-		super.setScreen(newScreen);
+		switchScreen(prepareScreen(screen, shouldFadeIn, fadeInTime, TRANSITION_PARAMETER_TYPES, this, shouldFadeIn, fadeInTime));
 	}
 
 	/**
 	 * Sets the current screen to the specified screen class with an option to fade in, a specified fade-in time, and additional initialization arguments.
-	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} before the new screen is set.
+	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is disposed using {@link BaseScreen#dispose()} when the new screen is set, unless it is a {@link ReusableScreen}.
 	 * The new screen is instantiated using reflection, with the constructor that takes a single argument of type {@link GdxGame}, a boolean indicating whether the screen should fade in, a float specifying the fade-in time, and an array of Objects as additional initialization arguments.
+	 * A {@link ReusableScreen} that has already been created is reset instead, and the additional initialization arguments are not used.
 	 * If an error occurs during the instantiation of the new screen, an error is logged and the application is exited.
 	 *
 	 * @param screen The class of the screen to set. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame}, a boolean, a float, and an array of {@link Object}s.
@@ -160,26 +158,66 @@ public final class GdxGame extends Game {
 	 * @param initArgs An array of {@link Object}s that are passed as additional initialization arguments to the new screen's constructor.
 	 */
 	public void setScreen(@NotNull Class<? extends BaseScreen> screen, boolean shouldFadeIn, float fadeInTime, Object ... initArgs) {
-		// Dispose the current screen if it exists
-		final Screen currentScreen = getScreen();
-		if (currentScreen != null) {
-			currentScreen.dispose();
+		switchScreen(prepareScreen(screen, shouldFadeIn, fadeInTime, TRANSITION_ARGS_PARAMETER_TYPES, this, shouldFadeIn, fadeInTime, initArgs));
+	}
+
+	/**
+	 * Returns a screen of the specified class, ready to be shown.
+	 * If the screen is a {@link ReusableScreen} that has already been created, the existing instance is reset with the given fade-in settings and returned.
+	 * Otherwise, a new instance is created using reflection, with the constructor that takes the given parameter types, and is kept for later if it is a {@link ReusableScreen}.
+	 * If an error occurs during the instantiation of the new screen, an error is logged and the application is exited.
+	 *
+	 * @param screen The class of the screen to prepare.
+	 * @param shouldFadeIn A boolean indicating whether the screen should fade in, used when resetting a {@link ReusableScreen}.
+	 * @param fadeInTime A float specifying the time for the fade-in effect in seconds, used when resetting a {@link ReusableScreen}.
+	 * @param parameterTypes The parameter types of the constructor used to create a new instance.
+	 * @param args The arguments passed to the constructor, starting with this {@link GdxGame}.
+	 * @return The prepared screen, or null if it could not be created.
+	 */
+	private @Nullable BaseScreen prepareScreen(@NotNull Class<? extends BaseScreen> screen, boolean shouldFadeIn, float fadeInTime, Class<?> @NotNull [] parameterTypes, Object @NotNull ... args) {
+		// Reuse the existing instance of a reusable screen
+		final BaseScreen cachedScreen = screenCache.get(screen);
+		if (cachedScreen != null) {
+			((ReusableScreen) cachedScreen).reset(shouldFadeIn, fadeInTime);
+			return cachedScreen;
 		}
 
 		// Create a new screen instance
 		BaseScreen newScreen;
 		try {
 			// Instantiate the new screen using reflection
-			newScreen = screen.getConstructor(GdxGame.class, boolean.class, float.class, Object[].class).newInstance(this, shouldFadeIn, fadeInTime, initArgs);
+			newScreen = screen.getConstructor(parameterTypes).newInstance(args);
 		} catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
 			// Log the error and exit the application if the new screen cannot be instantiated
 			Gdx.app.error("LetRonCooke", "Error loading screen", e);
 			Gdx.app.exit();
-			return;
+			return null;
 		}
 
-		// Set the new screen
+		// Keep reusable screens so they do not have to be created again
+		if (newScreen instanceof ReusableScreen) {
+			screenCache.put(screen, newScreen);
+		}
+		return newScreen;
+	}
+
+	/**
+	 * Replaces the current screen with a prepared screen.
+	 * The current screen is hidden, and then disposed unless it is a cached {@link ReusableScreen} or the new screen itself.
+	 *
+	 * @param newScreen The screen to show, or null to keep the current screen if the new screen could not be prepared.
+	 */
+	private void switchScreen(@Nullable BaseScreen newScreen) {
+		if (newScreen == null) return;
+
+		final Screen currentScreen = getScreen();
+		// Set the new screen, which hides the current one
 		super.setScreen(newScreen);
+
+		// Dispose the old screen, unless it is being kept to be shown again
+		if (currentScreen != null && currentScreen != newScreen && !screenCache.containsValue(currentScreen)) {
+			currentScreen.dispose();
+		}
 	}
 
 	/**
@@ -187,12 +225,14 @@ public final class GdxGame extends Game {
 	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is checked if it's an instance of {@link BaseScreen}.
 	 * If the current screen is null or not an instance of {@link BaseScreen}, the new screen is set immediately without transition.
 	 * If the current screen is an instance of {@link BaseScreen}, a fade-out effect is applied to the current screen before transitioning to the new screen.
-	 * The new screen is set with a fade-in effect.
+	 * The new screen is prepared while the current screen fades out, and is set with a fade-in effect once the fade-out has finished.
 	 *
-	 * @param screen The class of the screen to transition to. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame}.
+	 * @param screen The class of the screen to transition to. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame}, a boolean, and a float.
 	 */
 	public void transitionScreen(@NotNull Class<? extends BaseScreen> screen) {
-		// Dispose current screen
+		// Ignore the transition if another one is still fading out
+		if (transitioning) return;
+
 		final Screen currentScreen = getScreen();
 		if (currentScreen == null) {
 			setScreen(screen);
@@ -204,17 +244,7 @@ public final class GdxGame extends Game {
 			return;
 		}
 
-		final BaseScreen baseScreen = (BaseScreen) currentScreen;
-
-		// Set the alpha value of the root's color to 1
-		baseScreen.getProcessor().getRoot().getColor().a = 1;
-		SequenceAction sequenceAction = new SequenceAction();
-		// Add a fade-out action to the sequence
-		sequenceAction.addAction(Actions.fadeOut(0.5f));
-		// Add a run action to the sequence that sets the new screen with a fade-in effect
-		sequenceAction.addAction(Actions.run(() -> setScreen(screen, true, 0.5f)));
-		// Add the sequence action to the root
-		baseScreen.getProcessor().getRoot().addAction(sequenceAction);
+		fadeOutTo((BaseScreen) currentScreen, screen, () -> prepareScreen(screen, true, 0.5f, TRANSITION_PARAMETER_TYPES, this, true, 0.5f));
 	}
 
 	/**
@@ -222,13 +252,15 @@ public final class GdxGame extends Game {
 	 * The current screen, retrieved from {@link GdxGame#getScreen()}, is checked if it's an instance of {@link BaseScreen}.
 	 * If the current screen is null or not an instance of {@link BaseScreen}, the new screen is set immediately with a fade-in effect and the provided initialization arguments.
 	 * If the current screen is an instance of {@link BaseScreen}, a fade-out effect is applied to the current screen before transitioning to the new screen.
-	 * The new screen is set with a fade-in effect and the provided initialization arguments.
+	 * The new screen is prepared while the current screen fades out, and is set with a fade-in effect once the fade-out has finished.
 	 *
 	 * @param screen The class of the screen to transition to. This class must extend {@link BaseScreen} and have a constructor that takes a single argument of type {@link GdxGame}, a boolean, a float, and an array of {@link Object}s.
 	 * @param initArgs An array of {@link Object}s that are passed as additional initialization arguments to the new screen's constructor.
 	 */
 	public void transitionScreen(@NotNull Class<? extends BaseScreen> screen, Object ... initArgs) {
-		// Dispose current screen
+		// Ignore the transition if another one is still fading out
+		if (transitioning) return;
+
 		final Screen currentScreen = getScreen();
 		if (currentScreen == null) {
 			setScreen(screen, true, 0.5f, initArgs);
@@ -240,37 +272,100 @@ public final class GdxGame extends Game {
 			return;
 		}
 
-		final BaseScreen baseScreen = (BaseScreen) currentScreen;
+		fadeOutTo((BaseScreen) currentScreen, screen, () -> prepareScreen(screen, true, 0.5f, TRANSITION_ARGS_PARAMETER_TYPES, this, true, 0.5f, initArgs));
+	}
+
+	/**
+	 * Fades out the current screen and then sets the new screen.
+	 * The new screen is prepared while the current screen fades out, one step per frame (see {@link GdxGame#preparationSteps}):
+	 * the frame after the fade starts it is created or reset, which also makes it the input processor so the fading screen no longer reacts to input,
+	 * and the frame after that a {@link ReusableScreen} builds its widgets with {@link ReusableScreen#prepare()}.
+	 * Any step the fade was too short for is run when it finishes, before the new screen is set.
+	 * A {@link ReusableScreen} that is transitioning to itself cannot be reset while it is fading out, so it is prepared once the fade-out has finished.
+	 *
+	 * @param currentScreen The current screen, which is faded out.
+	 * @param screen The class of the screen to transition to.
+	 * @param preparer Prepares the new screen, as {@link GdxGame#prepareScreen(Class, boolean, float, Class[], Object...)} does.
+	 */
+	private void fadeOutTo(@NotNull BaseScreen currentScreen, @NotNull Class<? extends BaseScreen> screen, @NotNull Supplier<BaseScreen> preparer) {
+		final boolean prepareAfterFade = screenCache.get(screen) == currentScreen;
+		transitioning = true;
+		preparedScreen = null;
+		preparationSteps.clear();
+		if (!prepareAfterFade) {
+			preparationSteps.add(() -> preparedScreen = preparer.get());
+			preparationSteps.add(() -> {
+				if (preparedScreen instanceof ReusableScreen) ((ReusableScreen) preparedScreen).prepare();
+			});
+		}
 
 		// Set the alpha value of the root's color to 1
-		baseScreen.getProcessor().getRoot().getColor().a = 1;
+		currentScreen.getProcessor().getRoot().getColor().a = 1;
 		SequenceAction sequenceAction = new SequenceAction();
 		// Add a fade-out action to the sequence
 		sequenceAction.addAction(Actions.fadeOut(0.5f));
-		// Add a run action to the sequence that sets the new screen with a fade-in effect and the provided initialization arguments
-		sequenceAction.addAction(Actions.run(() -> setScreen(screen, true, 0.5f, initArgs)));
+		// Add a run action to the sequence that sets the prepared screen, which fades in
+		sequenceAction.addAction(Actions.run(() -> {
+			transitioning = false;
+			final BaseScreen newScreen;
+			if (prepareAfterFade) {
+				newScreen = preparer.get();
+			} else {
+				// Finish preparing the screen if the fade was shorter than the preparation
+				Runnable step;
+				while ((step = preparationSteps.poll()) != null) step.run();
+				newScreen = preparedScreen;
+				preparedScreen = null;
+			}
+			// Show the current screen again if the new screen could not be prepared
+			if (newScreen == null) currentScreen.getProcessor().getRoot().getColor().a = 1;
+			switchScreen(newScreen);
+		}));
 		// Add the sequence action to the root
-		baseScreen.getProcessor().getRoot().addAction(sequenceAction);
+		currentScreen.getProcessor().getRoot().addAction(sequenceAction);
 	}
 
 
 	/**
 	 * Renders the game, updating the screen display.
 	 * This method is called by the game loop from the application every time rendering should be performed.
+	 * If a screen is being transitioned to, the next step of preparing it is run first (see {@link GdxGame#preparationSteps}).
 	 * This method calls the render method of the superclass {@link Game}, which in turn calls the render method of the current screen.
+	 * The frame is measured by the {@link FrameProfiler}, which draws its overlay over the screen when screen debugging is enabled.
 	 */
 	@Override
 	public void render() {
+		FrameProfiler.frameStarted();
+		final Runnable preparationStep = preparationSteps.poll();
+		if (preparationStep != null) preparationStep.run();
 		super.render();
+		FrameProfiler.frameEnded();
 	}
 
 	/**
 	 * Disposes the game, cleaning up resources.
 	 * This method is called when the application is about to be closed.
 	 * It retrieves the instances of {@link MusicManager} and {@link SoundManager} and disables them, stopping all audio playback and releasing audio resources.
+	 * It also disables the {@link MapManager} and {@link SkinManager} and disposes every asset loaded through {@link GameAssets}, including the cached maps.
+	 * The cached {@link ReusableScreen}s and the current screen are disposed first, so they release their skins and sounds before the assets are disposed,
+	 * followed by the {@link SharedBatch} they draw with and the white texture of the {@link DrawableUtils}.
 	 */
 	@Override
 	public void dispose() {
+		// Dispose the reusable screens that are being kept, including the current one if it is reusable
+		for (BaseScreen screen : screenCache.values()) {
+			screen.dispose();
+		}
+		screenCache.clear();
+		// Dispose the current screen too if it is not cached, so nothing is left drawing with the shared batch
+		final Screen currentScreen = getScreen();
+		if (currentScreen instanceof BaseScreen && !(currentScreen instanceof ReusableScreen)) {
+			currentScreen.dispose();
+		}
+		FrameProfiler.onDisable();
+		SharedBatch.dispose();
+		DrawableUtils.dispose();
+
 		// Get the instance of the music manager and disable it
 		final AudioManager musicManager = MusicManager.getInstance();
 		musicManager.onDisable();
@@ -278,5 +373,19 @@ public final class GdxGame extends Game {
 		// Get the instance of the sound manager and disable it
 		final AudioManager soundManager = SoundManager.getInstance();
 		soundManager.onDisable();
+
+		// Clear the map cache, then dispose every loaded asset (maps included)
+		MapManager.onDisable();
+		SkinManager.onDisable();
+		GameAssets.dispose();
+
+		// Close the leaderboard's score store
+		Leaderboard.close();
+
+		// Write the autosave if it is still waiting to be saved
+		Autosave.onDisable();
+
+		// Write any preference changes that are still waiting to be saved
+		PreferenceStore.onDisable();
 	}
 }
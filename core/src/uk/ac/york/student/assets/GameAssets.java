@@ -0,0 +1,197 @@
+package uk.ac.york.student.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGeneratorLoader;
+import com.badlogic.gdx.graphics.g2d.freetype.FreetypeFontLoader;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.assets.map.MapManager;
+import uk.ac.york.student.assets.skins.Skins;
+import uk.ac.york.student.assets.textures.TextureAtlases;
+import uk.ac.york.student.assets.textures.Textures;
+import uk.ac.york.student.game.world.CreatureType;
+
+/**
+ * This utility class owns the single {@link AssetManager} used to load the game's assets.
+ * <p>
+ * The {@link uk.ac.york.student.screens.LoadingScreen} queues the manifest with {@link GameAssets#queue()} and then calls
+ * {@link GameAssets#update(int)} once per frame, so the assets are streamed in over several frames instead of being loaded
+ * synchronously by each screen when it is constructed.
+ * <p>
+ * Assets are retrieved with {@link GameAssets#get(AssetDescriptor)}. Assets returned by this class are owned by the {@link AssetManager}
+ * and must not be disposed by the caller; they are all disposed together by {@link GameAssets#dispose()} when the game closes.
+ */
+@UtilityClass
+public final class GameAssets {
+    /**
+     * The descriptor for the texture atlas containing the character sprites.
+     */
+    public static final AssetDescriptor<TextureAtlas> CHARACTER_ATLAS = new AssetDescriptor<>("sprite-atlases/character-sprites.atlas", TextureAtlas.class);
+
+    /**
+     * The descriptor for the button click sound.
+     */
+    public static final AssetDescriptor<Sound> BUTTON_CLICK_SOUND = new AssetDescriptor<>("audio/sounds/mixkit-classic-click.mp3", Sound.class);
+
+    /**
+     * The descriptor for the Pixelify Sans font, generated at size 12.
+     */
+    public static final AssetDescriptor<BitmapFont> PIXELIFY_FONT = new AssetDescriptor<>("fonts/PixelifySans-Regular.ttf", BitmapFont.class, getFontParameter("fonts/PixelifySans-Regular.ttf", 12));
+
+    /**
+     * The name of the map that is loaded as part of the manifest, as the game always starts on it.
+     * Other maps are loaded on demand by the {@link MapManager}.
+     */
+    private static final String STARTING_MAP = "map";
+
+    /**
+     * The {@link AssetManager} that loads and owns the game's assets.
+     */
+    @Getter
+    private static final AssetManager manager = createManager();
+
+    /**
+     * Whether the manifest has already been queued with {@link GameAssets#queue()}.
+     */
+    private static boolean queued = false;
+
+    /**
+     * Creates the {@link AssetManager}, registering the loaders for the asset types that libGDX does not support by default.
+     *
+     * @return The new {@link AssetManager}.
+     */
+    private static @NotNull AssetManager createManager() {
+        FileHandleResolver resolver = new InternalFileHandleResolver();
+        AssetManager assetManager = new AssetManager(resolver);
+        assetManager.setLoader(TiledMap.class, new TmxMapLoader(resolver));
+        assetManager.setLoader(FreeTypeFontGenerator.class, new FreeTypeFontGeneratorLoader(resolver));
+        assetManager.setLoader(BitmapFont.class, ".ttf", new FreetypeFontLoader(resolver));
+        return assetManager;
+    }
+
+    /**
+     * Creates the parameters used to generate a {@link BitmapFont} from a TTF file.
+     *
+     * @param fontFileName The internal path to the TTF file.
+     * @param size The size of the font to generate.
+     * @return The font loader parameters.
+     */
+    private static FreetypeFontLoader.@NotNull FreeTypeFontLoaderParameter getFontParameter(String fontFileName, int size) {
+        FreetypeFontLoader.FreeTypeFontLoaderParameter parameter = new FreetypeFontLoader.FreeTypeFontLoaderParameter();
+        parameter.fontFileName = fontFileName;
+        parameter.fontParameters.size = size;
+        return parameter;
+    }
+
+    /**
+     * Queues every asset in the manifest to be loaded.
+     * The manifest contains the menu atlases, the UI skins, the character atlas, the creatures' sprite sheets, the starting map, the font and the sounds.
+     * Calling this method more than once has no effect.
+     * {@link MapManager#onEnable()} must have been called first so the map can be found.
+     */
+    public static synchronized void queue() {
+        if (queued) return;
+        queued = true;
+
+        for (TextureAtlases atlas : TextureAtlases.values()) {
+            manager.load(atlas.getDescriptor());
+        }
+        for (Skins skin : Skins.values()) {
+            manager.load(skin.getDescriptor());
+        }
+        manager.load(CHARACTER_ATLAS);
+        for (CreatureType type : CreatureType.values()) {
+            manager.load(type.getDescriptor());
+        }
+        manager.load(MapManager.getDescriptor(STARTING_MAP));
+        manager.load(PIXELIFY_FONT);
+        manager.load(BUTTON_CLICK_SOUND);
+    }
+
+    /**
+     * Continues loading the queued assets for at most the given amount of time.
+     * This should be called once per frame on the render thread, as textures have to be uploaded on the GL thread.
+     *
+     * @param millis The maximum time to spend loading, in milliseconds.
+     * @return True if every queued asset has been loaded, false otherwise.
+     */
+    public static boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    /**
+     * Returns the progress of loading the queued assets.
+     *
+     * @return The progress, between 0 (nothing loaded) and 1 (everything loaded).
+     */
+    public static float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Returns the asset with the given descriptor.
+     * If the asset has not finished loading yet, it is loaded synchronously, so this is always safe to call on the render thread.
+     * The returned asset is owned by the {@link AssetManager} and must not be disposed.
+     *
+     * @param descriptor The descriptor of the asset.
+     * @param <T> The type of the asset.
+     * @return The loaded asset.
+     */
+    public static synchronized <T> @NotNull T get(@NotNull AssetDescriptor<T> descriptor) {
+        if (!manager.isLoaded(descriptor.fileName, descriptor.type)) {
+            // Only queue the asset if it is not queued already, so its reference count is not increased twice
+            if (!manager.contains(descriptor.fileName)) {
+                manager.load(descriptor);
+            }
+            return manager.finishLoadingAsset(descriptor);
+        }
+        return manager.get(descriptor);
+    }
+
+    /**
+     * Returns the region with the given name from the given atlas, loading the atlas synchronously if it has not been loaded yet.
+     * The returned region's texture is owned by the {@link AssetManager} and must not be disposed.
+     *
+     * @param atlas The atlas containing the region.
+     * @param regionName The name of the region, which is the packed image's file name without the extension.
+     * @return The region.
+     * @throws IllegalArgumentException If the atlas has no region with the given name.
+     */
+    public static @NotNull AtlasRegion getRegion(@NotNull TextureAtlases atlas, @NotNull String regionName) {
+        AtlasRegion region = get(atlas.getDescriptor()).findRegion(regionName);
+        if (region == null) {
+            throw new IllegalArgumentException("No region named " + regionName + " in " + atlas.getDescriptor().fileName);
+        }
+        return region;
+    }
+
+    /**
+     * Returns the region of the given menu image, loading its atlas synchronously if it has not been loaded yet.
+     * The returned region's texture is owned by the {@link AssetManager} and must not be disposed.
+     *
+     * @param texture The menu image to get.
+     * @return The image's region in its atlas.
+     */
+    public static @NotNull AtlasRegion getRegion(@NotNull Textures texture) {
+        return getRegion(texture.getAtlas(), texture.getRegionName());
+    }
+
+    /**
+     * Disposes every asset held by the {@link AssetManager}.
+     * This should only be called when the game is closing.
+     */
+    public static synchronized void dispose() {
+        manager.dispose();
+    }
+}
@@ -0,0 +1,48 @@
+package uk.ac.york.student.assets;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This utility class owns the single {@link SpriteBatch} shared by every {@link com.badlogic.gdx.scenes.scene2d.Stage} and map renderer in the game.
+ * <p>
+ * A {@link SpriteBatch} allocates native vertex buffers and compiles a shader when it is created, so creating one for every stage,
+ * and every time a renderer is recreated, makes native memory grow each time a screen is opened, the window is resized or a map is changed.
+ * Instead, stages and renderers are given this batch when they are created. They do not own it, so disposing them does not dispose it.
+ * <p>
+ * Only one user can draw with the batch at a time, which is always the case as everything is drawn on the render thread, one after the other.
+ * A user that changes the colour of the batch should restore it, as the next user will draw with it.
+ * The batch is disposed by {@link SharedBatch#dispose()} when the game closes.
+ */
+@UtilityClass
+public final class SharedBatch {
+    /**
+     * The shared batch, or null if it has not been created yet or has been disposed.
+     */
+    private static SpriteBatch batch;
+
+    /**
+     * Returns the shared batch, creating it if it has not been created yet.
+     * This must be called on the render thread. The returned batch must not be disposed by the caller.
+     *
+     * @return The shared batch.
+     */
+    public static @NotNull Batch get() {
+        if (batch == null) {
+            batch = new SpriteBatch();
+        }
+        return batch;
+    }
+
+    /**
+     * Disposes the shared batch, if it has been created.
+     * This should only be called when the game is closing, after every screen has been disposed.
+     */
+    public static void dispose() {
+        if (batch == null) return;
+        batch.dispose();
+        batch = null;
+    }
+}
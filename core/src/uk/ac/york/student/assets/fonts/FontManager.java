@@ -1,9 +1,8 @@
 package uk.ac.york.student.assets.fonts;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import lombok.Getter;
+import uk.ac.york.student.assets.GameAssets;
 
 /**
  * Singleton class that manages the fonts for the game.
@@ -26,18 +25,11 @@ public class FontManager {
     /**
      * Private constructor to prevent instantiation.
      * As this is a singleton class, the constructor is private.
-     * It initializes the BitmapFont object with a font file and a font size.
+     * It gets the BitmapFont object from {@link GameAssets}, which generates it from the font file at size 12.
+     * The font is owned by the asset manager and must not be disposed.
      */
     private FontManager() {
-        // The FreeTypeFontGenerator object is used to generate a BitmapFont object
-        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/PixelifySans-Regular.ttf"));
-        // The FreeTypeFontParameter object is used to set the parameters for the BitmapFont object
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        // Set the font size
-        parameter.size = 12;
-        // Generate the BitmapFont object
-        font = generator.generateFont(parameter);
-        // Dispose the FreeTypeFontGenerator object as it is no longer needed
-        generator.dispose();
+        // The font is normally already loaded by the loading screen, so this does not regenerate it
+        font = GameAssets.get(GameAssets.PIXELIFY_FONT);
     }
 }
\ No newline at end of file
@@ -6,12 +6,12 @@ import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.game.activities.ActivityEffects;
+import uk.ac.york.student.player.MetricStore;
 import uk.ac.york.student.player.Player;
 import uk.ac.york.student.player.PlayerMetrics;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This class extends MapObject and implements ActionMapObject.
@@ -49,17 +49,40 @@ public final class ActivityMapObject extends MapObject implements ActionMapObjec
     @Getter
     private final @Unmodifiable List<Float> changeAmounts;
 
+    /**
+     * The change amount of each metric, indexed by {@link PlayerMetrics.MetricType#ordinal()}, compiled from {@link ActivityMapObject#changeAmounts}
+     * by {@link ActivityEffects#compileChangeAmounts(Activity, float[])} when the object is created. Metrics the activity has no effect on are 0.
+     */
+    private final float[] metricChangeAmounts;
+
     /**
      * Returns the change amount for the specified {@link PlayerMetrics.MetricType}.
-     * This method retrieves the index of the specified {@link PlayerMetrics.MetricType} in the {@link Activity#getEffects()} of the {@link Activity}.
-     * It then returns the change amount at that index in {@link Activity#getEffects()}.
      * The change amount represents the amount by which the {@link Player}'s {@link PlayerMetrics} changes when performing the {@link Activity}.
      *
      * @param metricType the {@link PlayerMetrics.MetricType} to get the change amount for
-     * @return the change amount for the specified {@link PlayerMetrics.MetricType}
+     * @return the change amount for the specified {@link PlayerMetrics.MetricType}, or 0 if the {@link Activity} has no effect on it
      */
     public float getChangeAmount(PlayerMetrics.MetricType metricType) {
-        return changeAmounts.get(type.indexOf(metricType));
+        return metricChangeAmounts[metricType.ordinal()];
+    }
+
+    /**
+     * Checks whether the player has enough of every metric the activity decreases to perform it.
+     *
+     * @param store The player's metrics.
+     * @return True if every decreased metric is at least its change amount, false otherwise.
+     */
+    public boolean hasEnough(@NotNull MetricStore store) {
+        return ActivityEffects.hasEnough(type, metricChangeAmounts, store);
+    }
+
+    /**
+     * Applies the effects of the activity to the player's metrics.
+     *
+     * @param store The player's metrics.
+     */
+    public void apply(@NotNull MetricStore store) {
+        ActivityEffects.apply(type, metricChangeAmounts, store);
     }
 
     /**
@@ -111,9 +134,17 @@ public final class ActivityMapObject extends MapObject implements ActionMapObjec
         time = properties.get("activityTime", Integer.class);
 
         // Retrieves the "changeAmount" property from the properties of the ActivityMapObject, splits it into an array of strings, converts each string to a float, and collects them into an unmodifiable list
-        changeAmounts = Arrays.stream(properties.get("changeAmount", String.class).split(","))
-            .map(Float::parseFloat)
-            .collect(Collectors.toUnmodifiableList());
+        String[] changeAmountStrs = properties.get("changeAmount", String.class).split(",");
+        float[] amounts = new float[changeAmountStrs.length];
+        Float[] boxedAmounts = new Float[changeAmountStrs.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Float.parseFloat(changeAmountStrs[i]);
+            boxedAmounts[i] = amounts[i];
+        }
+        changeAmounts = List.of(boxedAmounts);
+
+        // Compiles the change amounts, listed in the order of the activity's effects, into one amount per metric
+        metricChangeAmounts = ActivityEffects.compileChangeAmounts(type, amounts);
     }
 
     /**
@@ -0,0 +1,605 @@
+package uk.ac.york.student.assets.map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.assets.SharedBatch;
+
+/**
+ * The {@link ChunkedTiledMapRenderer} draws an orthogonal {@link TiledMap} from vertices that are uploaded to the GPU once, when the renderer is created,
+ * instead of submitting every visible tile again every frame as {@link OrthogonalTiledMapRenderer} does.
+ * <p>
+ * Each tile layer is split into square chunks of {@link ChunkedTiledMapRenderer#CHUNK_TILES} by {@link ChunkedTiledMapRenderer#CHUNK_TILES} tiles,
+ * and the tiles of each chunk are baked into a {@link SpriteCache}. Each frame, only the chunks that intersect the camera's view are drawn,
+ * each with a single call, so the cost of drawing the map barely depends on how many tiles or layers it has.
+ * <p>
+ * The map is baked in map units (pixels of the tilesets), and scaled by the unit scale when it is drawn, so changing the unit scale does not bake the map again.
+ * Layers containing {@link AnimatedTiledMapTile}s change every frame, so they are not baked, and are drawn by an {@link OrthogonalTiledMapRenderer} instead,
+ * using the {@link SharedBatch}.
+ * Only the tile layers at the top level of the map are drawn; the visibility of each layer is checked every frame, but its opacity is baked in.
+ * The whole map is faded with {@link ChunkedTiledMapRenderer#setAlpha(float)}, which does not change the shared map's layers.
+ * <p>
+ * The renderer must be created and used on the render thread, and disposed when it is no longer used. It does not dispose the map.
+ */
+public final class ChunkedTiledMapRenderer implements Disposable {
+    /**
+     * The width and height of a chunk, in tiles.
+     */
+    public static final int CHUNK_TILES = 16;
+
+    /**
+     * The number of floats per vertex in a {@link SpriteCache}: the position (2), the packed colour (1) and the texture coordinates (2).
+     */
+    private static final int VERTEX_SIZE = 5;
+
+    /**
+     * The number of floats per tile in a {@link SpriteCache} that uses indices, which has four vertices per tile.
+     */
+    private static final int TILE_SIZE = 4 * VERTEX_SIZE;
+
+    /**
+     * The maximum number of tiles a single {@link SpriteCache} that uses indices can hold, as its indices are shorts.
+     */
+    private static final int MAX_TILES_PER_CACHE = 8191;
+
+    /**
+     * The offsets of the texture coordinates of each vertex of a tile, in the order used by {@link Batch}: bottom left, top left, top right, bottom right.
+     */
+    private static final int U1 = Batch.U1, V1 = Batch.V1, U2 = Batch.U2, V2 = Batch.V2, U3 = Batch.U3, V3 = Batch.V3, U4 = Batch.U4, V4 = Batch.V4;
+
+    /**
+     * The vertex shader of the caches. It is the {@link SpriteCache}'s default vertex shader.
+     */
+    private static final String VERTEX_SHADER = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projectionViewMatrix;\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "   v_color.a = v_color.a * (255.0/254.0);\n"
+        + "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "   gl_Position = u_projectionViewMatrix * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    /**
+     * The fragment shader of the caches. It is the {@link SpriteCache}'s default fragment shader,
+     * with an extra tint uniform that is multiplied with every tile, so the map can be faded without baking it again.
+     */
+    private static final String FRAGMENT_SHADER = "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec4 v_color;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n"
+        + "uniform vec4 u_tint;\n"
+        + "void main() {\n"
+        + "   gl_FragColor = u_tint * v_color * texture2D(u_texture, v_texCoords);\n"
+        + "}\n";
+
+    /**
+     * The map being drawn.
+     */
+    private final TiledMap map;
+
+    /**
+     * The pages the tiles are baked into. A new page is started whenever the current one is full.
+     */
+    private final Array<Page> pages = new Array<>();
+
+    /**
+     * The number of static tiles that have not been baked yet, used to size each new page.
+     */
+    private int unbakedTiles;
+
+    /**
+     * The baked chunks of each layer of the map, indexed by layer and then by chunk.
+     * The entry for a layer is null if the layer is not baked, and the entry for a chunk is null if it has no tiles.
+     */
+    private final BakedChunk[][] chunks;
+
+    /**
+     * For each layer of the map, an array holding just its index if it is drawn by the {@link ChunkedTiledMapRenderer#fallback}, or null otherwise.
+     */
+    private final int[][] fallbackLayers;
+
+    /**
+     * The number of chunks across and up the map.
+     */
+    private final int chunksX, chunksY;
+
+    /**
+     * The width and height of a tile, in map units.
+     */
+    private final float tileWidth, tileHeight;
+
+    /**
+     * How far the largest tile reaches beyond its cell, to the right and upwards, in tiles.
+     * Chunks this far to the left of or below the view are still drawn, as their tiles may reach into it.
+     */
+    private final int overhangX, overhangY;
+
+    /**
+     * The renderer for the layers with animated tiles, or null if the map has none.
+     */
+    private @Nullable OrthogonalTiledMapRenderer fallback;
+
+    /**
+     * The number of world units per map unit.
+     */
+    private float unitScale;
+
+    /**
+     * The combined projection and view matrix of the camera, scaled by the unit scale so it can be applied to the baked map units.
+     */
+    private final Matrix4 projection = new Matrix4();
+
+    /**
+     * The part of the map visible to the camera, in map units.
+     */
+    private final Rectangle viewBounds = new Rectangle();
+
+    /**
+     * The colour multiplied with every tile when the map is drawn.
+     */
+    private final Color tint = new Color(Color.WHITE);
+
+    /**
+     * The camera last given to {@link ChunkedTiledMapRenderer#setView(OrthographicCamera)}, used to set up the fallback renderer.
+     */
+    private @Nullable OrthographicCamera camera;
+
+    /**
+     * A {@link SpriteCache} that tiles are baked into, along with its shader.
+     */
+    private static final class Page {
+        /**
+         * The cache holding the baked tiles.
+         */
+        private final SpriteCache cache;
+
+        /**
+         * The shader the cache draws with, which is disposed by the cache.
+         */
+        private final ShaderProgram shader;
+
+        /**
+         * The number of tiles that can still be added to the cache.
+         */
+        private int remaining;
+
+        /**
+         * Constructs a new {@link Page}.
+         *
+         * @param cache The cache holding the baked tiles.
+         * @param shader The shader the cache draws with.
+         * @param remaining The number of tiles the cache can hold.
+         */
+        private Page(SpriteCache cache, ShaderProgram shader, int remaining) {
+            this.cache = cache;
+            this.shader = shader;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * A chunk of a layer that has been baked into one of the {@link ChunkedTiledMapRenderer#pages}.
+     */
+    private static final class BakedChunk {
+        /**
+         * The page holding the chunk.
+         */
+        private final Page page;
+
+        /**
+         * The id of the chunk in the page's cache.
+         */
+        private final int id;
+
+        /**
+         * Constructs a new {@link BakedChunk}.
+         *
+         * @param page The page holding the chunk.
+         * @param id The id of the chunk in the page's cache.
+         */
+        private BakedChunk(Page page, int id) {
+            this.page = page;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Constructs a new {@link ChunkedTiledMapRenderer}, baking the static tile layers of the map.
+     *
+     * @param map The map to draw. It is not disposed by the renderer.
+     * @param unitScale The number of world units per map unit.
+     */
+    public ChunkedTiledMapRenderer(@NotNull TiledMap map, float unitScale) {
+        this.map = map;
+        this.unitScale = unitScale;
+
+        MapLayers layers = map.getLayers();
+        chunks = new BakedChunk[layers.size()][];
+        fallbackLayers = new int[layers.size()][];
+
+        // Work out the size of the grid from the largest tile layer
+        int widthInTiles = 0, heightInTiles = 0;
+        float cellWidth = 0, cellHeight = 0;
+        int maxOverhangX = 0, maxOverhangY = 0;
+        for (MapLayer mapLayer : layers) {
+            if (!(mapLayer instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            widthInTiles = Math.max(widthInTiles, layer.getWidth());
+            heightInTiles = Math.max(heightInTiles, layer.getHeight());
+            cellWidth = Math.max(cellWidth, layer.getTileWidth());
+            cellHeight = Math.max(cellHeight, layer.getTileHeight());
+        }
+        tileWidth = cellWidth;
+        tileHeight = cellHeight;
+        chunksX = (widthInTiles + CHUNK_TILES - 1) / CHUNK_TILES;
+        chunksY = (heightInTiles + CHUNK_TILES - 1) / CHUNK_TILES;
+
+        // Find the layers with animated tiles, and count the tiles in the other layers so the pages can be sized to fit
+        for (int index = 0; index < layers.size(); index++) {
+            MapLayer mapLayer = layers.get(index);
+            if (!(mapLayer instanceof TiledMapTileLayer)) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+            if (hasAnimatedTiles(layer)) {
+                fallbackLayers[index] = new int[]{index};
+            } else {
+                unbakedTiles += countTiles(layer, 0, layer.getWidth(), 0, layer.getHeight());
+            }
+        }
+
+        float[] vertices = new float[TILE_SIZE];
+        for (int index = 0; index < layers.size(); index++) {
+            MapLayer mapLayer = layers.get(index);
+            if (!(mapLayer instanceof TiledMapTileLayer) || fallbackLayers[index] != null) continue;
+            TiledMapTileLayer layer = (TiledMapTileLayer) mapLayer;
+
+            // The layer's opacity never changes, so it is baked into the colour of its tiles
+            float layerColour = Color.toFloatBits(1f, 1f, 1f, layer.getOpacity());
+            float offsetX = layer.getRenderOffsetX();
+            float offsetY = -layer.getRenderOffsetY();
+            BakedChunk[] layerChunks = new BakedChunk[chunksX * chunksY];
+            for (int chunkY = 0; chunkY < chunksY; chunkY++) {
+                for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+                    int firstCol = chunkX * CHUNK_TILES, lastCol = Math.min(firstCol + CHUNK_TILES, layer.getWidth());
+                    int firstRow = chunkY * CHUNK_TILES, lastRow = Math.min(firstRow + CHUNK_TILES, layer.getHeight());
+                    int count = countTiles(layer, firstCol, lastCol, firstRow, lastRow);
+                    if (count == 0) continue;
+
+                    Page page = pageWithSpaceFor(count);
+                    SpriteCache cache = page.cache;
+                    cache.beginCache();
+                    for (int row = firstRow; row < lastRow; row++) {
+                        for (int col = firstCol; col < lastCol; col++) {
+                            TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                            if (cell == null || cell.getTile() == null) continue;
+                            TiledMapTile tile = cell.getTile();
+                            TextureRegion region = tile.getTextureRegion();
+                            float x = col * layer.getTileWidth() + tile.getOffsetX() + offsetX;
+                            float y = row * layer.getTileHeight() + tile.getOffsetY() + offsetY;
+                            setVertices(vertices, cell, region, x, y, layerColour);
+                            cache.add(region.getTexture(), vertices, 0, TILE_SIZE);
+
+                            // Remember how far tiles larger than the grid reach into the neighbouring chunks
+                            maxOverhangX = Math.max(maxOverhangX, (int) Math.ceil(region.getRegionWidth() / tileWidth) - 1);
+                            maxOverhangY = Math.max(maxOverhangY, (int) Math.ceil(region.getRegionHeight() / tileHeight) - 1);
+                        }
+                    }
+                    layerChunks[chunkY * chunksX + chunkX] = new BakedChunk(page, cache.endCache());
+                }
+            }
+            chunks[index] = layerChunks;
+        }
+        overhangX = maxOverhangX;
+        overhangY = maxOverhangY;
+    }
+
+    /**
+     * Checks whether a layer contains any {@link AnimatedTiledMapTile}s.
+     *
+     * @param layer The layer to check.
+     * @return True if any cell of the layer has an animated tile, false otherwise.
+     */
+    private static boolean hasAnimatedTiles(@NotNull TiledMapTileLayer layer) {
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the tiles in a rectangle of cells of a layer.
+     *
+     * @param layer The layer to count the tiles of.
+     * @param firstCol The first column, inclusive.
+     * @param lastCol The last column, exclusive.
+     * @param firstRow The first row, inclusive.
+     * @param lastRow The last row, exclusive.
+     * @return The number of cells in the rectangle that have a tile.
+     */
+    private static int countTiles(@NotNull TiledMapTileLayer layer, int firstCol, int lastCol, int firstRow, int lastRow) {
+        int count = 0;
+        for (int row = firstRow; row < lastRow; row++) {
+            for (int col = firstCol; col < lastCol; col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell != null && cell.getTile() != null) count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the last page if it has space for the given number of tiles, or starts a new page otherwise.
+     * Each new page is made large enough for the rest of the map's static tiles, up to the most a {@link SpriteCache} can hold.
+     *
+     * @param count The number of tiles that will be added.
+     * @return A page with space for the tiles.
+     */
+    private @NotNull Page pageWithSpaceFor(int count) {
+        unbakedTiles -= count;
+        if (pages.notEmpty() && pages.peek().remaining >= count) {
+            pages.peek().remaining -= count;
+            return pages.peek();
+        }
+        ShaderProgram shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Error compiling the map shader: " + shader.getLog());
+        }
+        int size = Math.min(MAX_TILES_PER_CACHE, count + unbakedTiles);
+        Page page = new Page(new SpriteCache(size, shader, true), shader, size - count);
+        pages.add(page);
+        return page;
+    }
+
+    /**
+     * Fills in the vertices of a tile, applying the flips and rotation of its cell in the same way as {@link OrthogonalTiledMapRenderer}.
+     *
+     * @param vertices The array to fill in, of length {@link ChunkedTiledMapRenderer#TILE_SIZE}.
+     * @param cell The cell holding the tile.
+     * @param region The texture region of the tile.
+     * @param x The x coordinate of the bottom left corner of the tile, in map units.
+     * @param y The y coordinate of the bottom left corner of the tile, in map units.
+     * @param colour The packed colour of the tile.
+     */
+    private static void setVertices(float @NotNull [] vertices, TiledMapTileLayer.@NotNull Cell cell, @NotNull TextureRegion region, float x, float y, float colour) {
+        float x2 = x + region.getRegionWidth();
+        float y2 = y + region.getRegionHeight();
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        vertices[Batch.X1] = x;
+        vertices[Batch.Y1] = y;
+        vertices[Batch.C1] = colour;
+        vertices[U1] = u1;
+        vertices[V1] = v1;
+
+        vertices[Batch.X2] = x;
+        vertices[Batch.Y2] = y2;
+        vertices[Batch.C2] = colour;
+        vertices[U2] = u1;
+        vertices[V2] = v2;
+
+        vertices[Batch.X3] = x2;
+        vertices[Batch.Y3] = y2;
+        vertices[Batch.C3] = colour;
+        vertices[U3] = u2;
+        vertices[V3] = v2;
+
+        vertices[Batch.X4] = x2;
+        vertices[Batch.Y4] = y;
+        vertices[Batch.C4] = colour;
+        vertices[U4] = u2;
+        vertices[V4] = v1;
+
+        if (cell.getFlipHorizontally()) {
+            swap(vertices, U1, U3);
+            swap(vertices, U2, U4);
+        }
+        if (cell.getFlipVertically()) {
+            swap(vertices, V1, V3);
+            swap(vertices, V2, V4);
+        }
+        switch (cell.getRotation()) {
+            case TiledMapTileLayer.Cell.ROTATE_90:
+                rotate(vertices, V1, V2, V3, V4);
+                rotate(vertices, U1, U2, U3, U4);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_180:
+                swap(vertices, U1, U3);
+                swap(vertices, U2, U4);
+                swap(vertices, V1, V3);
+                swap(vertices, V2, V4);
+                break;
+            case TiledMapTileLayer.Cell.ROTATE_270:
+                rotate(vertices, V1, V4, V3, V2);
+                rotate(vertices, U1, U4, U3, U2);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Swaps two values in an array.
+     *
+     * @param values The array.
+     * @param a The index of the first value.
+     * @param b The index of the second value.
+     */
+    private static void swap(float @NotNull [] values, int a, int b) {
+        float temp = values[a];
+        values[a] = values[b];
+        values[b] = temp;
+    }
+
+    /**
+     * Moves each of four values in an array to the previous index given, with the first value moving to the last index.
+     *
+     * @param values The array.
+     * @param a The index of the first value, which receives the second value.
+     * @param b The index of the second value, which receives the third value.
+     * @param c The index of the third value, which receives the fourth value.
+     * @param d The index of the fourth value, which receives the first value.
+     */
+    private static void rotate(float @NotNull [] values, int a, int b, int c, int d) {
+        float temp = values[a];
+        values[a] = values[b];
+        values[b] = values[c];
+        values[c] = values[d];
+        values[d] = temp;
+    }
+
+    /**
+     * Sets the number of world units per map unit.
+     * The baked map is only scaled when it is drawn, so this does not bake the map again.
+     *
+     * @param unitScale The number of world units per map unit.
+     */
+    public void setUnitScale(float unitScale) {
+        this.unitScale = unitScale;
+        if (fallback != null) {
+            // The fallback renderer's unit scale is fixed, so it is recreated lazily with the new one.
+            // It draws with the shared batch, so this does not allocate a new batch
+            fallback.dispose();
+            fallback = null;
+        }
+        if (camera != null) setView(camera);
+    }
+
+    /**
+     * Sets the alpha every tile is multiplied with when the map is drawn, which is used to fade the map in and out.
+     *
+     * @param alpha The alpha, between 0 (invisible) and 1 (opaque).
+     */
+    public void setAlpha(float alpha) {
+        tint.a = alpha;
+    }
+
+    /**
+     * Sets the camera the map is drawn with, working out which part of the map it can see.
+     * This should be called whenever the camera moves.
+     *
+     * @param camera The camera to draw the map with.
+     */
+    public void setView(@NotNull OrthographicCamera camera) {
+        this.camera = camera;
+        projection.set(camera.combined).scale(unitScale, unitScale, 1f);
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        viewBounds.set((camera.position.x - width / 2) / unitScale, (camera.position.y - height / 2) / unitScale, width / unitScale, height / unitScale);
+    }
+
+    /**
+     * Draws the chunks of every visible layer that intersect the camera's view, in layer order.
+     * Blending is enabled, as {@link SpriteCache} does not enable it itself.
+     */
+    public void render() {
+        if (tileWidth <= 0 || tileHeight <= 0) return;
+
+        // Work out which chunks intersect the view, including chunks whose large tiles reach into it
+        int firstChunkX = Math.max(0, (int) ((viewBounds.x / tileWidth - overhangX) / CHUNK_TILES));
+        int firstChunkY = Math.max(0, (int) ((viewBounds.y / tileHeight - overhangY) / CHUNK_TILES));
+        int lastChunkX = Math.min(chunksX - 1, (int) ((viewBounds.x + viewBounds.width) / tileWidth / CHUNK_TILES));
+        int lastChunkY = Math.min(chunksY - 1, (int) ((viewBounds.y + viewBounds.height) / tileHeight / CHUNK_TILES));
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        MapLayers layers = map.getLayers();
+        Page active = null;
+        for (int index = 0; index < chunks.length; index++) {
+            if (!layers.get(index).isVisible()) continue;
+
+            int[] fallbackLayer = fallbackLayers[index];
+            if (fallbackLayer != null) {
+                if (active != null) {
+                    active.cache.end();
+                    active = null;
+                }
+                renderFallback(fallbackLayer);
+                continue;
+            }
+
+            BakedChunk[] layerChunks = chunks[index];
+            if (layerChunks == null) continue;
+            for (int chunkY = firstChunkY; chunkY <= lastChunkY; chunkY++) {
+                for (int chunkX = firstChunkX; chunkX <= lastChunkX; chunkX++) {
+                    BakedChunk chunk = layerChunks[chunkY * chunksX + chunkX];
+                    if (chunk == null) continue;
+                    if (chunk.page != active) {
+                        if (active != null) active.cache.end();
+                        active = chunk.page;
+                        active.cache.setProjectionMatrix(projection);
+                        active.cache.begin();
+                        // The page's shader is bound by begin, so the tint can be set now
+                        active.shader.setUniformf("u_tint", tint);
+                    }
+                    active.cache.draw(chunk.id);
+                }
+            }
+        }
+        if (active != null) active.cache.end();
+    }
+
+    /**
+     * Draws a layer with animated tiles using the fallback renderer, creating it if needed.
+     *
+     * @param layer An array holding the index of the layer to draw.
+     */
+    private void renderFallback(int @NotNull [] layer) {
+        if (fallback == null) {
+            fallback = new OrthogonalTiledMapRenderer(map, unitScale, SharedBatch.get());
+        }
+        if (camera != null) fallback.setView(camera);
+        // The batch is shared, so its colour is restored after the layer is drawn
+        Batch batch = fallback.getBatch();
+        float colour = batch.getPackedColor();
+        batch.setColor(1f, 1f, 1f, tint.a);
+        fallback.render(layer);
+        batch.setPackedColor(colour);
+    }
+
+    /**
+     * Disposes the pages and the fallback renderer. The map is not disposed.
+     */
+    @Override
+    public void dispose() {
+        // Each cache disposes its own shader
+        for (Page page : pages) {
+            page.cache.dispose();
+        }
+        pages.clear();
+        if (fallback != null) {
+            fallback.dispose();
+            fallback = null;
+        }
+    }
+}
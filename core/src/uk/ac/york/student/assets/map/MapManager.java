@@ -1,32 +1,105 @@
 package uk.ac.york.student.assets.map;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import lombok.Getter;
 import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.assets.GameAssets;
 import uk.ac.york.student.utils.MapOfSuppliers;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This utility class manages the loading and storage of TiledMap objects.
  * It uses a MapOfSuppliers to store the maps, allowing for lazy loading.
+ * <p>
+ * Maps should be obtained with {@link MapManager#acquire(String)} and handed back with {@link MapManager#release(TiledMap)}.
+ * Maps are loaded through the {@link GameAssets} {@link com.badlogic.gdx.assets.AssetManager} and kept in a reference-counted cache,
+ * so going back to a map that was recently visited does not parse the TMX file or upload its tileset textures again. Maps that are no longer in use stay cached until more than {@link MapManager#MAX_UNUSED_MAPS}
+ * unused maps are held, at which point the least recently used one is unloaded.
+ * <p>
+ * A map that is likely to be needed soon, such as the one behind a door the player is walking towards, can be loaded ahead of time with {@link MapManager#prefetch(String)}.
+ * The asset manager parses its TMX file on its own thread, and {@link MapManager#update(int)} uploads its tileset textures on the render thread a little at a time,
+ * so acquiring it afterwards returns straight away instead of stalling the frame.
  */
 @UtilityClass
 public final class MapManager {
     /**
      * A MapOfSuppliers that maps from map names (as a string) to TiledMap objects
      * <p>
-     * Use {@link uk.ac.york.student.utils.MapOfSuppliers#getResult(Object)} to get the TiledMap object for a given map name
+     * Use {@link uk.ac.york.student.utils.MapOfSuppliers#getResult(Object)} to get the TiledMap object for a given map name.
+     * Note that every call to the supplier loads a new, uncached copy of the map, which the caller has to dispose.
+     * Use {@link MapManager#acquire(String)} instead to share loaded maps through the cache.
      */
     @Getter
     private static final MapOfSuppliers<String, TiledMap> maps = new MapOfSuppliers<>();
 
+    /**
+     * The descriptors used to load each map through the {@link GameAssets} asset manager, keyed by map name.
+     */
+    private static final Map<String, AssetDescriptor<TiledMap>> descriptors = new HashMap<>();
+
+    /**
+     * The maximum number of maps that are kept loaded while nothing is using them.
+     * Maps that are currently acquired never count towards this limit and are never evicted.
+     */
+    private static final int MAX_UNUSED_MAPS = 3;
+
+    /**
+     * A map entry in the cache, holding the loaded map and the number of users currently holding it.
+     */
+    private static final class CachedMap {
+        /**
+         * The name of the map.
+         */
+        private final String name;
+
+        /**
+         * The loaded map.
+         */
+        private final TiledMap map;
+
+        /**
+         * The number of times the map has been acquired and not yet released.
+         */
+        private int references;
+
+        /**
+         * Constructs a new {@link CachedMap} with no references.
+         *
+         * @param name The name of the map.
+         * @param map The loaded map.
+         */
+        private CachedMap(String name, TiledMap map) {
+            this.name = name;
+            this.map = map;
+        }
+    }
+
+    /**
+     * The cache of loaded maps, keyed by map name.
+     * The {@link LinkedHashMap} is in access order, so iterating it goes from the least to the most recently used map.
+     */
+    private static final LinkedHashMap<String, CachedMap> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The names of the maps queued by {@link MapManager#prefetch(String)} that have not finished loading yet.
+     * Each holds a reference in the asset manager, which is handed to the cache once the map is loaded or acquired.
+     */
+    private static final Set<String> prefetching = new HashSet<>();
+
     public static void onEnable() {
 
         List<String> maps = List.of("map", "blankMap", "inside_house", "inside_pub", "inside_library");
@@ -44,7 +117,145 @@ public final class MapManager {
             if (file.getName().endsWith(".tmx")) {
                 // Add the map to the MapOfSuppliers, using a lambda to allow for lazy loading
                 MapManager.maps.put(file.getName().replace(".tmx", ""), () -> new TmxMapLoader().load("map/" + file.getName(), parameter));
+                // Record the descriptor used to load the map through the asset manager
+                descriptors.put(file.getName().replace(".tmx", ""), new AssetDescriptor<>("map/" + file.getName(), TiledMap.class, parameter));
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the descriptor used to load the map with the given name through the {@link GameAssets} asset manager.
+     *
+     * @param name The name of the map (the TMX file name without the extension).
+     * @return The descriptor of the map.
+     * @throws IllegalArgumentException If no map with the given name is registered.
+     */
+    public static @NotNull AssetDescriptor<TiledMap> getDescriptor(@NotNull String name) {
+        AssetDescriptor<TiledMap> descriptor = descriptors.get(name);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("Unknown map: " + name);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Clears the cache, whether the maps in it are still in use or not.
+     * The maps themselves are disposed with the rest of the assets by {@link GameAssets#dispose()}.
+     * This should only be called when the game is closing.
+     */
+    public static synchronized void onDisable() {
+        cache.clear();
+        prefetching.clear();
+    }
+
+    /**
+     * Acquires the map with the given name, loading it if it is not already cached.
+     * Every call must be paired with a call to {@link MapManager#release(TiledMap)} once the map is no longer needed.
+     * The returned map must not be disposed by the caller.
+     *
+     * @param name The name of the map (the TMX file name without the extension).
+     * @return The loaded map.
+     * @throws IllegalArgumentException If no map with the given name is registered.
+     */
+    public static synchronized @NotNull TiledMap acquire(@NotNull String name) {
+        CachedMap cachedMap = cache.get(name);
+        if (cachedMap == null) {
+            AssetDescriptor<TiledMap> descriptor = getDescriptor(name);
+            // Take a reference in the asset manager for as long as the map is cached.
+            // If the map has already been loaded (e.g. by the loading screen), this reuses it.
+            // A prefetched map already holds one, so only what is left of its loading is finished here.
+            if (!prefetching.remove(name)) GameAssets.getManager().load(descriptor);
+            cachedMap = new CachedMap(name, GameAssets.getManager().finishLoadingAsset(descriptor));
+            cache.put(name, cachedMap);
+        }
+        cachedMap.references++;
+        evictUnused();
+        return cachedMap.map;
+    }
+
+    /**
+     * Starts loading the map with the given name in the background, so a later {@link MapManager#acquire(String)} does not have to wait for it.
+     * The loading is carried on by {@link MapManager#update(int)}, and once it finishes the map is cached without being in use,
+     * so it is unloaded like any other unused map if it is never acquired.
+     * Prefetching a map that is already cached marks it as recently used instead, so it is not evicted before it is needed.
+     *
+     * @param name The name of the map (the TMX file name without the extension).
+     * @return True if the map started loading, false if it was already cached or being prefetched.
+     * @throws IllegalArgumentException If no map with the given name is registered.
+     */
+    public static synchronized boolean prefetch(@NotNull String name) {
+        // Looking the map up moves it to the most recently used end of the cache
+        if (cache.get(name) != null || prefetching.contains(name)) return false;
+        GameAssets.getManager().load(getDescriptor(name));
+        prefetching.add(name);
+        return true;
+    }
+
+    /**
+     * Continues loading the prefetched maps for at most the given amount of time, and caches the ones that have finished.
+     * The TMX files are parsed on the asset manager's thread, so the time is mostly spent uploading tileset textures.
+     * This should be called once per frame on the render thread, and returns immediately if nothing is being prefetched.
+     *
+     * @param millis The maximum time to spend loading, in milliseconds.
+     * @return True if no map is still being prefetched, false otherwise.
+     */
+    public static synchronized boolean update(int millis) {
+        if (prefetching.isEmpty()) return true;
+        GameAssets.update(millis);
+
+        boolean cached = false;
+        Iterator<String> iterator = prefetching.iterator();
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            AssetDescriptor<TiledMap> descriptor = getDescriptor(name);
+            if (!GameAssets.getManager().isLoaded(descriptor.fileName)) continue;
+            // Hand the prefetch's reference in the asset manager to the cache, with nothing using the map yet
+            cache.put(name, new CachedMap(name, GameAssets.getManager().get(descriptor)));
+            iterator.remove();
+            cached = true;
+        }
+        if (cached) evictUnused();
+        return prefetching.isEmpty();
+    }
+
+    /**
+     * Releases a map previously returned by {@link MapManager#acquire(String)}.
+     * The map stays cached so it can be acquired again cheaply, unless too many unused maps are already cached.
+     *
+     * @param map The map to release.
+     * @throws IllegalStateException If the map is not held in the cache, or it has already been released as many times as it was acquired.
+     */
+    public static synchronized void release(@NotNull TiledMap map) {
+        for (CachedMap cachedMap : cache.values()) {
+            if (cachedMap.map != map) continue;
+            if (cachedMap.references <= 0) {
+                throw new IllegalStateException("Map has been released more times than it was acquired");
+            }
+            cachedMap.references--;
+            evictUnused();
+            return;
+        }
+        throw new IllegalStateException("Map was not acquired from the MapManager");
+    }
+
+    /**
+     * Unloads the least recently used maps that are not in use until at most {@link MapManager#MAX_UNUSED_MAPS} unused maps remain.
+     */
+    private static void evictUnused() {
+        int unused = 0;
+        for (CachedMap cachedMap : cache.values()) {
+            if (cachedMap.references == 0) unused++;
+        }
+
+        // Iterate from the least to the most recently used map
+        Iterator<Map.Entry<String, CachedMap>> iterator = cache.entrySet().iterator();
+        while (unused > MAX_UNUSED_MAPS && iterator.hasNext()) {
+            CachedMap cachedMap = iterator.next().getValue();
+            if (cachedMap.references > 0) continue;
+            // Drop the cache's reference in the asset manager, which disposes the map once nothing else holds it
+            GameAssets.getManager().unload(getDescriptor(cachedMap.name).fileName);
+            iterator.remove();
+            unused--;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package uk.ac.york.student.assets.map;
+
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link MapObjectGrid} class is a uniform-grid spatial index over the bounding boxes of {@link MapObject}s.
+ * The area covered by the added boxes is split into square cells of {@link MapObjectGrid#cellSize} units,
+ * and every box is registered in each cell it overlaps.
+ * A point lookup then only has to test the handful of boxes in a single cell, so the cost of a lookup
+ * stays roughly the same no matter how many objects the map contains.
+ * <p>
+ * Objects are added with {@link MapObjectGrid#add(MapObject, BoundingBox)} and the grid is then built once with {@link MapObjectGrid#build()}.
+ * Lookups through {@link MapObjectGrid#find(float, float)} do not allocate.
+ * If several boxes contain the same point, the object that was added first is returned.
+ */
+public final class MapObjectGrid {
+    /**
+     * The width and height of a single cell, in the same (scaled) units as the bounding boxes.
+     */
+    private final float cellSize;
+
+    /**
+     * The objects in the order they were added. The index of an object in this array is its id in the grid.
+     */
+    private final Array<MapObject> objects = new Array<>();
+
+    /**
+     * The bounds of every object, packed as minX, minY, maxX, maxY for each object id.
+     */
+    private float[] bounds = new float[16];
+
+    /**
+     * The ids of the objects overlapping each cell, indexed by {@code row * columns + column}.
+     * Cells that no object overlaps are left as null.
+     */
+    private IntArray[] cells = new IntArray[0];
+
+    /**
+     * The bottom-left corner of the grid, taken from the smallest added bounding box coordinates.
+     */
+    private float originX, originY;
+
+    /**
+     * The number of columns and rows of cells in the grid.
+     */
+    private int columns, rows;
+
+    /**
+     * Constructs a new, empty {@link MapObjectGrid}.
+     *
+     * @param cellSize The width and height of a single cell. Values that are not positive are replaced by 1.
+     */
+    public MapObjectGrid(float cellSize) {
+        // Guard against a zero map scale (e.g. in a headless environment with no window size)
+        this.cellSize = cellSize > 0 ? cellSize : 1;
+    }
+
+    /**
+     * Adds a map object and its bounding box to the grid.
+     * The object will not be returned by {@link MapObjectGrid#find(float, float)} until {@link MapObjectGrid#build()} is called.
+     *
+     * @param object The map object to add.
+     * @param boundingBox The bounding box of the map object.
+     */
+    public void add(@NotNull MapObject object, @NotNull BoundingBox boundingBox) {
+        int id = objects.size;
+        objects.add(object);
+
+        // Grow the packed bounds array if needed
+        if ((id + 1) * 4 > bounds.length) {
+            float[] newBounds = new float[bounds.length * 2];
+            System.arraycopy(bounds, 0, newBounds, 0, bounds.length);
+            bounds = newBounds;
+        }
+
+        bounds[id * 4] = boundingBox.min.x;
+        bounds[id * 4 + 1] = boundingBox.min.y;
+        bounds[id * 4 + 2] = boundingBox.max.x;
+        bounds[id * 4 + 3] = boundingBox.max.y;
+    }
+
+    /**
+     * Builds the cells of the grid from the objects added so far.
+     * This should be called once after all objects have been added.
+     */
+    public void build() {
+        if (objects.isEmpty()) {
+            columns = rows = 0;
+            cells = new IntArray[0];
+            return;
+        }
+
+        // Find the area covered by all the bounding boxes
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int id = 0; id < objects.size; id++) {
+            minX = Math.min(minX, bounds[id * 4]);
+            minY = Math.min(minY, bounds[id * 4 + 1]);
+            maxX = Math.max(maxX, bounds[id * 4 + 2]);
+            maxY = Math.max(maxY, bounds[id * 4 + 3]);
+        }
+
+        originX = minX;
+        originY = minY;
+        columns = (int) ((maxX - minX) / cellSize) + 1;
+        rows = (int) ((maxY - minY) / cellSize) + 1;
+        cells = new IntArray[columns * rows];
+
+        // Register every object in each cell its bounding box overlaps.
+        // Ids are added in increasing order, so each cell keeps the insertion order of the objects.
+        for (int id = 0; id < objects.size; id++) {
+            int fromColumn = column(bounds[id * 4]);
+            int fromRow = row(bounds[id * 4 + 1]);
+            int toColumn = column(bounds[id * 4 + 2]);
+            int toRow = row(bounds[id * 4 + 3]);
+            for (int row = fromRow; row <= toRow; row++) {
+                for (int column = fromColumn; column <= toColumn; column++) {
+                    int index = row * columns + column;
+                    if (cells[index] == null) cells[index] = new IntArray(4);
+                    cells[index].add(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the first added map object whose bounding box contains the given point.
+     * The bounds are inclusive, matching {@link BoundingBox#contains(com.badlogic.gdx.math.Vector3)}.
+     *
+     * @param x The x-coordinate of the point.
+     * @param y The y-coordinate of the point.
+     * @return The map object containing the point, or null if there is none.
+     */
+    public @Nullable MapObject find(float x, float y) {
+        if (cells.length == 0) return null;
+
+        // Points outside the grid cannot be inside any bounding box
+        if (x < originX || y < originY) return null;
+        int column = (int) ((x - originX) / cellSize);
+        int row = (int) ((y - originY) / cellSize);
+        if (column >= columns || row >= rows) return null;
+
+        IntArray cell = cells[row * columns + column];
+        if (cell == null) return null;
+
+        for (int i = 0; i < cell.size; i++) {
+            int id = cell.get(i);
+            if (bounds[id * 4] <= x && x <= bounds[id * 4 + 2]
+                    && bounds[id * 4 + 1] <= y && y <= bounds[id * 4 + 3]) {
+                return objects.get(id);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all objects and cells from the grid.
+     */
+    public void clear() {
+        objects.clear();
+        cells = new IntArray[0];
+        columns = rows = 0;
+    }
+
+    /**
+     * Returns the number of objects in the grid.
+     *
+     * @return The number of objects that have been added since the grid was last cleared.
+     */
+    public int size() {
+        return objects.size;
+    }
+
+    /**
+     * Converts an x-coordinate to a column of the grid, clamped to the grid.
+     *
+     * @param x The x-coordinate to convert.
+     * @return The column containing the x-coordinate.
+     */
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) ((x - originX) / cellSize)));
+    }
+
+    /**
+     * Converts a y-coordinate to a row of the grid, clamped to the grid.
+     *
+     * @param y The y-coordinate to convert.
+     * @return The row containing the y-coordinate.
+     */
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) ((y - originY) / cellSize)));
+    }
+}
@@ -1,34 +1,72 @@
 package uk.ac.york.student.assets.skins;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import lombok.Getter;
 import lombok.experimental.UtilityClass;
-import uk.ac.york.student.utils.EnumMapOfSuppliers;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.assets.GameAssets;
 
-import java.util.function.Supplier;
+import java.util.EnumMap;
 
 /**
- * This utility class manages the loading and storage of Skin objects.
- * It uses an EnumMapOfSuppliers to store the skins, allowing for lazy loading.
+ * This utility class manages the loading and sharing of Skin objects.
+ * <p>
+ * Each {@link Skins} value is loaded once through the {@link GameAssets} asset manager and the same {@link Skin} instance is
+ * handed to every user, so the skin JSON is only parsed, and its atlas only uploaded, once per process.
+ * Skins should be obtained with {@link SkinManager#acquire(Skins)} and handed back with {@link SkinManager#release(Skin)}
+ * instead of being disposed, as disposing a shared skin would break every other screen using it.
+ * <p>
+ * Skins stay loaded when nothing is holding them, as the next screen almost always needs the same skin again straight away.
+ * They are disposed with the rest of the assets by {@link GameAssets#dispose()} when the game closes.
  */
 @UtilityClass
 public class SkinManager {
     /**
-     * Supplier for the Craftacular skin
+     * The number of times each skin has been acquired and not yet released.
      */
-    private static final Supplier<Skin> craftacular = () -> new Skin(Gdx.files.internal("skins/craftacular/skin/craftacular-ui.json"));
+    private static final EnumMap<Skins, Integer> references = new EnumMap<>(Skins.class);
 
     /**
-     * EnumMapOfSuppliers that maps from Skins enum to Skin objects
-     * <p>
-     * Use {@link uk.ac.york.student.utils.EnumMapOfSuppliers#getResult(Enum)} to get the Skin object for a given skin
+     * Acquires the given skin, loading it if it has not been loaded yet.
+     * Every call should be paired with a call to {@link SkinManager#release(Skin)} once the skin is no longer needed.
+     * The returned skin is shared and must not be disposed by the caller.
+     *
+     * @param skin The skin to acquire.
+     * @return The loaded, shared skin.
      */
-    @Getter
-    private static final EnumMapOfSuppliers<Skins, Skin> skins = new EnumMapOfSuppliers<>(Skins.class);
+    public static synchronized @NotNull Skin acquire(@NotNull Skins skin) {
+        Skin loaded = GameAssets.get(skin.getDescriptor());
+        references.merge(skin, 1, Integer::sum);
+        return loaded;
+    }
+
+    /**
+     * Releases a skin previously returned by {@link SkinManager#acquire(Skins)}.
+     * The skin stays loaded so it can be acquired again without loading it from disk.
+     *
+     * @param skin The skin to release.
+     * @throws IllegalStateException If the skin was not acquired from the SkinManager, or it has already been released as many times as it was acquired.
+     */
+    public static synchronized void release(@NotNull Skin skin) {
+        for (Skins key : Skins.values()) {
+            // Only compare against skins that have been loaded, so releasing does not load anything
+            if (!GameAssets.getManager().isLoaded(key.getDescriptor().fileName, Skin.class)) continue;
+            if (GameAssets.getManager().get(key.getDescriptor()) != skin) continue;
 
-    // Static initializer block that loads the skins
-    static {
-        skins.put(Skins.CRAFTACULAR, craftacular);
+            int count = references.getOrDefault(key, 0);
+            if (count <= 0) {
+                throw new IllegalStateException("Skin " + key + " has been released more times than it was acquired");
+            }
+            references.put(key, count - 1);
+            return;
+        }
+        throw new IllegalStateException("Skin was not acquired from the SkinManager");
+    }
+
+    /**
+     * Called when the game is closing.
+     * Clears the reference counts; the skins themselves are disposed by {@link GameAssets#dispose()}.
+     */
+    public static synchronized void onDisable() {
+        references.clear();
     }
-}
\ No newline at end of file
+}
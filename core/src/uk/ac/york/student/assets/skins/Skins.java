@@ -1,8 +1,29 @@
 package uk.ac.york.student.assets.skins;
 
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import lombok.Getter;
+
 /**
  * This enum represents the different types of skins that can be used in the game.
+ * Each skin is associated with the {@link AssetDescriptor} used to load it through {@link uk.ac.york.student.assets.GameAssets}.
  */
+@Getter
 public enum Skins {
-    CRAFTACULAR
-}
\ No newline at end of file
+    CRAFTACULAR("skins/craftacular/skin/craftacular-ui.json");
+
+    /**
+     * The descriptor used to load the skin, containing the internal path to its JSON file (in the assets folder).
+     * The texture atlas with the same name next to the JSON file is loaded along with it.
+     */
+    private final AssetDescriptor<Skin> descriptor;
+
+    /**
+     * Constructs a new Skins enumeration value with the given path.
+     *
+     * @param path The internal path to the skin JSON file (in the assets folder).
+     */
+    Skins(String path) {
+        this.descriptor = new AssetDescriptor<>(path, Skin.class);
+    }
+}
@@ -0,0 +1,36 @@
+package uk.ac.york.student.assets.textures;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import lombok.Getter;
+
+/**
+ * This enum represents the texture atlases that the menu images are packed into at build time.
+ * Each atlas is packed by the {@code packTextures} Gradle task in the core module from the folder in {@code core/textures} with the same name,
+ * and is associated with the {@link AssetDescriptor} used to load it through {@link uk.ac.york.student.assets.GameAssets}.
+ */
+@Getter
+public enum TextureAtlases {
+    /**
+     * The images of the main menu, character and end screens, packed from {@code core/textures/menu}.
+     */
+    MENU("sprite-atlases/menu.atlas"),
+    /**
+     * The images of the preferences and tutorial screens, packed from {@code core/textures/settings}.
+     */
+    SETTINGS("sprite-atlases/settings.atlas");
+
+    /**
+     * The descriptor used to load the atlas, containing its internal path (in the assets folder).
+     */
+    private final AssetDescriptor<TextureAtlas> descriptor;
+
+    /**
+     * Constructs a new TextureAtlases enumeration value with the given path.
+     *
+     * @param path The internal path to the atlas file (in the assets folder).
+     */
+    TextureAtlases(String path) {
+        this.descriptor = new AssetDescriptor<>(path, TextureAtlas.class);
+    }
+}
@@ -0,0 +1,44 @@
+package uk.ac.york.student.assets.textures;
+
+import lombok.Getter;
+
+/**
+ * This enum represents the images used by the menu screens of the game.
+ * The images are packed into texture atlases at build time by the {@code packTextures} Gradle task in the core module,
+ * one atlas for each folder in {@code core/textures}, so a screen that only uses images from one atlas draws them all from a single texture.
+ * Each image is associated with its {@link TextureAtlases atlas} and the name of its region in that atlas,
+ * and is retrieved with {@link uk.ac.york.student.assets.GameAssets#getRegion(Textures)}.
+ */
+@Getter
+public enum Textures {
+    MAP_OVERVIEW(TextureAtlases.MENU, "MapOverview"),
+    VIGNETTE(TextureAtlases.MENU, "Vignette"),
+    LOGO(TextureAtlases.MENU, "logo"),
+    CLOUDS(TextureAtlases.MENU, "CloudsFormatted"),
+    CHARACTER_1(TextureAtlases.MENU, "character1"),
+    CHARACTER_2(TextureAtlases.MENU, "character2"),
+    CHARACTER_3(TextureAtlases.MENU, "character3"),
+    STONE_WALL(TextureAtlases.SETTINGS, "StoneWall"),
+    BOTTOM_UP_BLACK_GRADIENT(TextureAtlases.SETTINGS, "BottomUpBlackGradient");
+
+    /**
+     * The atlas the image is packed into.
+     */
+    private final TextureAtlases atlas;
+
+    /**
+     * The name of the image's region in its atlas, which is the image's file name without the extension.
+     */
+    private final String regionName;
+
+    /**
+     * Constructs a new Textures enumeration value with the given atlas and region name.
+     *
+     * @param atlas The atlas the image is packed into.
+     * @param regionName The name of the image's region in the atlas.
+     */
+    Textures(TextureAtlases atlas, String regionName) {
+        this.atlas = atlas;
+        this.regionName = regionName;
+    }
+}
@@ -1,8 +1,9 @@
 package uk.ac.york.student.audio.sound;
 
-import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.audio.Sound;
 import org.jetbrains.annotations.Range;
+import uk.ac.york.student.assets.GameAssets;
 import uk.ac.york.student.settings.GamePreferences;
 import uk.ac.york.student.settings.SoundPreferences;
 
@@ -12,17 +13,32 @@ import uk.ac.york.student.settings.SoundPreferences;
  */
 public abstract class GameSound implements Sound {
     /**
-     * Sound object that this GameSound wraps around
+     * Sound object that this GameSound wraps around.
+     * It is owned by the {@link GameAssets} asset manager and shared by every GameSound with the same file.
      */
     protected final Sound sound;
 
+    /**
+     * The sound preferences, which cache the volume and whether sound is enabled, so playing a sound does not read the preferences file.
+     */
+    protected static final SoundPreferences SOUND_PREFERENCES = (SoundPreferences) GamePreferences.SOUND.getPreference();
+
     /**
      * Constructor for the GameSound class.
      * It initialises the object with the given path to the sound file.
      * @param path The internal path to the sound file (in assets folder)
      */
     protected GameSound(final String path) {
-        sound = Gdx.audio.newSound(Gdx.files.internal(path));
+        this(new AssetDescriptor<>(path, Sound.class));
+    }
+
+    /**
+     * Constructor for the GameSound class.
+     * It initialises the object with the sound loaded from the given descriptor, loading it first if needed.
+     * @param descriptor The descriptor of the sound file
+     */
+    protected GameSound(final AssetDescriptor<Sound> descriptor) {
+        sound = GameAssets.get(descriptor);
     }
 
     /**
@@ -31,7 +47,7 @@ public abstract class GameSound implements Sound {
      */
     @Override
     public long play() {
-        return sound.play(((SoundPreferences) GamePreferences.SOUND.getPreference()).getVolume());
+        return sound.play(SOUND_PREFERENCES.getVolume());
     }
 
     /**
@@ -61,7 +77,7 @@ public abstract class GameSound implements Sound {
      */
     @Override
     public long loop() {
-        return sound.loop(((SoundPreferences) GamePreferences.SOUND.getPreference()).getVolume());
+        return sound.loop(SOUND_PREFERENCES.getVolume());
     }
 
     /**
@@ -111,12 +127,13 @@ public abstract class GameSound implements Sound {
     }
 
     /**
-     * Disposes of the sound.
-     * Needs to be called when the Sound is no longer needed.
+     * Releases this GameSound.
+     * The wrapped sound is shared through {@link GameAssets}, so it is not disposed here;
+     * it is disposed with the rest of the assets by {@link GameAssets#dispose()} when the game closes.
      */
     @Override
     public void dispose() {
-        sound.dispose();
+        // The shared sound is owned by the asset manager
     }
 
     /**
@@ -1,8 +1,7 @@
 package uk.ac.york.student.audio.sound.elements;
 
+import uk.ac.york.student.assets.GameAssets;
 import uk.ac.york.student.audio.sound.GameSound;
-import uk.ac.york.student.settings.GamePreferences;
-import uk.ac.york.student.settings.SoundPreferences;
 
 /**
  * This class extends GameSound and represents the sound effect for a button click in the game.
@@ -11,23 +10,22 @@ import uk.ac.york.student.settings.SoundPreferences;
 public class ButtonClickSound extends GameSound {
     /**
      * Default constructor for the ButtonClickSound class.
-     * It initialises the object with the default path to the button click sound file.
+     * It initialises the object with the button click sound loaded by {@link GameAssets}.
      */
     public ButtonClickSound() {
-        super("audio/sounds/mixkit-classic-click.mp3");
+        super(GameAssets.BUTTON_CLICK_SOUND);
     }
 
     /**
      * Plays the button click sound.
-     * It first checks if sound is enabled in the game preferences.
+     * It first checks if sound is enabled in the cached sound preferences.
      * If sound is enabled, it calls the play method of the superclass (GameSound).
      * If sound is not enabled, it returns -1.
      * @return The sound id if sound is enabled, -1 otherwise
      */
     @Override
     public long play() {
-        SoundPreferences soundPreferences = (SoundPreferences) GamePreferences.SOUND.getPreference();
-        if (soundPreferences.isEnabled()) {
+        if (SOUND_PREFERENCES.isEnabled()) {
             return super.play();
         } else {
             return -1;
@@ -0,0 +1,436 @@
+package uk.ac.york.student.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.assets.SharedBatch;
+import uk.ac.york.student.settings.DebugScreenPreferences;
+import uk.ac.york.student.settings.GamePreferences;
+import uk.ac.york.student.settings.PreferenceStore;
+import uk.ac.york.student.utils.DrawableUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * This utility class measures each frame and draws a profiler overlay over the current screen, while screen debugging is enabled
+ * in the {@link DebugScreenPreferences}. It is used to diagnose stutter on a player's machine without attaching an external profiler.
+ * <p>
+ * The overlay shows the CPU time of each {@link Phase} of the frame, the draw calls, texture binds and shader switches counted by a {@link GLProfiler},
+ * the heap in use and the rate the render thread allocates at, and a histogram of the recent frame times with the 1% and 0.1% lows.
+ * The figures are averaged and redrawn {@link FrameProfiler#UPDATE_INTERVAL_NANOS a few times a second}, so they can be read.
+ * <p>
+ * {@link uk.ac.york.student.GdxGame} calls {@link FrameProfiler#frameStarted()} and {@link FrameProfiler#frameEnded()} around each frame,
+ * and the screens wrap each phase in {@link FrameProfiler#begin(Phase)} and {@link FrameProfiler#end(Phase)}.
+ * While the overlay is disabled, these only check a boolean, and the {@link GLProfiler} is not installed.
+ */
+@UtilityClass
+public final class FrameProfiler {
+    /**
+     * A Phase is a part of the frame whose CPU time is shown on the overlay.
+     * A phase that runs more than once in a frame, such as drawing two stages, is shown as the total for the frame.
+     */
+    public enum Phase {
+        PLAYER_MOVE("player.move"),
+        MAP_RENDER("map render"),
+        PLAYER_DRAW("player draw"),
+        STAGE_DRAW("stage draw"),
+        STAGE_ACT("stage act"),
+        MAP_PREFETCH("map prefetch");
+
+        /**
+         * The label the phase is shown with on the overlay.
+         */
+        @Getter
+        private final String label;
+
+        /**
+         * Constructor for the {@link Phase} enum.
+         *
+         * @param label The label the phase is shown with on the overlay.
+         */
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * The phases, cached so timing a phase does not allocate a new array.
+     */
+    private static final Phase[] PHASES = Phase.values();
+
+    /**
+     * The time between updates of the figures on the overlay, in nanoseconds.
+     */
+    private static final long UPDATE_INTERVAL_NANOS = 250_000_000L;
+
+    /**
+     * The number of frames kept for the histogram and the lows. At least 1000 frames are needed for the 0.1% low.
+     */
+    private static final int FRAME_WINDOW = 2000;
+
+    /**
+     * The number of buckets in the histogram, and the width of each bucket in milliseconds.
+     * The last bucket counts every frame of {@code HISTOGRAM_BUCKETS * HISTOGRAM_BUCKET_WIDTH} milliseconds or more.
+     */
+    private static final int HISTOGRAM_BUCKETS = 25;
+    private static final float HISTOGRAM_BUCKET_WIDTH = 2f;
+
+    /**
+     * The size of the histogram and the margin around the overlay, in pixels.
+     */
+    private static final float HISTOGRAM_WIDTH = 250, HISTOGRAM_HEIGHT = 60, MARGIN = 8;
+
+    /**
+     * The width of the overlay's background, in pixels. This fits the longest line of text in the default font.
+     */
+    private static final float PANEL_WIDTH = 440;
+
+    /**
+     * The colours of the overlay's background, the histogram's bars and its bars that are slower than 60 frames per second.
+     */
+    private static final Color BACKGROUND = new Color(0, 0, 0, 0.7f);
+    private static final Color BAR = new Color(0.3f, 0.9f, 0.3f, 1f);
+    private static final Color SLOW_BAR = new Color(0.95f, 0.35f, 0.25f, 1f);
+
+    /**
+     * The frame time, in milliseconds, above which a bar of the histogram is drawn in {@link FrameProfiler#SLOW_BAR}.
+     */
+    private static final float SLOW_FRAME_MILLIS = 1000f / 60f;
+
+    /**
+     * Whether the overlay should be shown, as last read from the {@link DebugScreenPreferences}.
+     * It is set by the {@link FrameProfiler#preferenceListener}, which may run on another thread,
+     * and is applied at the start of the next frame, on the render thread.
+     */
+    private static volatile boolean requested = false;
+
+    /**
+     * Whether the overlay is being shown, and the frames are being measured.
+     */
+    @Getter
+    private static boolean enabled = false;
+
+    /**
+     * The listener that reads the {@link DebugScreenPreferences} again whenever a preference changes.
+     */
+    private static final PreferenceStore.Listener preferenceListener = key -> requested = isRequested();
+
+    /**
+     * The profiler counting the OpenGL calls, or null while the overlay is disabled.
+     */
+    private static @Nullable GLProfiler glProfiler;
+
+    /**
+     * The font and the projection the overlay is drawn with. The font is created when the overlay is enabled, and disposed when it is disabled.
+     * The background and bars are drawn with the shared white region from {@link DrawableUtils#getWhiteRegion()}.
+     */
+    private static @Nullable BitmapFont font;
+    private static final Matrix4 projection = new Matrix4();
+    private static final Matrix4 previousProjection = new Matrix4();
+
+    /**
+     * The frame times in the window, in milliseconds.
+     */
+    private static final FrameTimeHistogram histogram = new FrameTimeHistogram(FRAME_WINDOW, HISTOGRAM_BUCKETS, HISTOGRAM_BUCKET_WIDTH);
+
+    /**
+     * The time the current frame and the current phase of each type started at, from {@link System#nanoTime()}.
+     * The frame start is 0 until the first frame has been measured.
+     */
+    private static long frameStart = 0;
+    private static final long[] phaseStart = new long[PHASES.length];
+
+    /**
+     * The totals since the figures were last updated: the CPU time of each phase, in nanoseconds, and the OpenGL counts.
+     */
+    private static final long[] phaseTotals = new long[PHASES.length];
+    private static long drawCallTotal, textureBindTotal, shaderSwitchTotal;
+    private static int framesSinceUpdate = 0;
+
+    /**
+     * The time the figures were last updated at, and the bytes the render thread had allocated by then.
+     */
+    private static long lastUpdate = 0;
+    private static long lastAllocatedBytes = -1;
+
+    /**
+     * The text shown on the overlay, rebuilt when the figures are updated.
+     */
+    private static final StringBuilder text = new StringBuilder();
+
+    /**
+     * The height of the text on the overlay, in pixels, measured when the text is rebuilt.
+     */
+    private static float textHeight = 0;
+
+    /**
+     * Reads whether screen debugging is enabled, and starts listening for changes to it.
+     * This should be called once, when the game is created.
+     */
+    public static void onEnable() {
+        requested = isRequested();
+        PreferenceStore.addListener(preferenceListener);
+    }
+
+    /**
+     * Stops listening for preference changes, and disposes the overlay's resources.
+     * This should be called when the game is closing, on the render thread.
+     */
+    public static void onDisable() {
+        PreferenceStore.removeListener(preferenceListener);
+        requested = false;
+        stop();
+    }
+
+    /**
+     * Returns whether screen debugging is enabled in the {@link DebugScreenPreferences}.
+     *
+     * @return A boolean indicating whether the overlay should be shown.
+     */
+    private static boolean isRequested() {
+        return ((DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference()).isEnabled();
+    }
+
+    /**
+     * Called at the start of each frame, before the current screen is rendered.
+     * It shows or hides the overlay if the preference has changed, records the time of the previous frame and resets the OpenGL counts.
+     */
+    public static void frameStarted() {
+        if (requested != enabled) {
+            if (requested) start();
+            else stop();
+        }
+        if (!enabled) return;
+
+        long now = System.nanoTime();
+        if (frameStart != 0) {
+            histogram.add((now - frameStart) / 1_000_000f);
+        }
+        frameStart = now;
+        if (glProfiler != null) glProfiler.reset();
+    }
+
+    /**
+     * Marks the start of a phase of the frame.
+     *
+     * @param phase The phase that is starting.
+     */
+    public static void begin(@NotNull Phase phase) {
+        if (!enabled) return;
+        phaseStart[phase.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a phase of the frame, adding the time since {@link FrameProfiler#begin(Phase)} to the phase's total.
+     *
+     * @param phase The phase that has ended.
+     */
+    public static void end(@NotNull Phase phase) {
+        if (!enabled) return;
+        int index = phase.ordinal();
+        phaseTotals[index] += System.nanoTime() - phaseStart[index];
+    }
+
+    /**
+     * Called at the end of each frame, after the current screen has been rendered.
+     * It adds the frame's OpenGL counts to the totals, updates the figures if it is time to, and draws the overlay.
+     * The overlay's own draw calls are not counted, as the counts are read before it is drawn.
+     */
+    public static void frameEnded() {
+        if (!enabled) return;
+        if (glProfiler != null) {
+            drawCallTotal += glProfiler.getDrawCalls();
+            textureBindTotal += glProfiler.getTextureBindings();
+            shaderSwitchTotal += glProfiler.getShaderSwitches();
+        }
+        framesSinceUpdate++;
+
+        long now = System.nanoTime();
+        if (now - lastUpdate >= UPDATE_INTERVAL_NANOS) {
+            update(now);
+        }
+        draw();
+    }
+
+    /**
+     * Installs the {@link GLProfiler} and creates the overlay's resources.
+     */
+    private static void start() {
+        glProfiler = new GLProfiler(Gdx.graphics);
+        glProfiler.enable();
+
+        font = new BitmapFont();
+
+        // Start measuring from scratch, so the time the overlay was hidden is not counted as a frame
+        frameStart = 0;
+        lastUpdate = 0;
+        lastAllocatedBytes = -1;
+        histogram.clear();
+        resetTotals();
+        enabled = true;
+    }
+
+    /**
+     * Removes the {@link GLProfiler} and disposes the overlay's resources.
+     */
+    private static void stop() {
+        enabled = false;
+        if (glProfiler != null) {
+            glProfiler.disable();
+            glProfiler = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+
+    /**
+     * Clears the totals collected since the figures were last updated.
+     */
+    private static void resetTotals() {
+        for (int i = 0; i < phaseTotals.length; i++) {
+            phaseTotals[i] = 0;
+        }
+        drawCallTotal = textureBindTotal = shaderSwitchTotal = 0;
+        framesSinceUpdate = 0;
+    }
+
+    /**
+     * Averages the totals over the frames since the last update, and rebuilds the text of the overlay.
+     *
+     * @param now The current time, from {@link System#nanoTime()}.
+     */
+    private static void update(long now) {
+        int frames = Math.max(1, framesSinceUpdate);
+        histogram.updateLows();
+
+        text.setLength(0);
+        text.append("frame ");
+        appendMillis(lastUpdate == 0 ? 0 : (now - lastUpdate) / (frames * 1_000_000f));
+        text.append(" ms  (").append(Gdx.graphics.getFramesPerSecond()).append(" fps)\n");
+        text.append("1% low ");
+        appendMillis(histogram.getOnePercentLow());
+        text.append(" ms  0.1% low ");
+        appendMillis(histogram.getPointOnePercentLow());
+        text.append(" ms\n");
+
+        for (Phase phase : PHASES) {
+            text.append(phase.getLabel()).append(' ');
+            appendMillis(phaseTotals[phase.ordinal()] / (frames * 1_000_000f));
+            text.append(" ms\n");
+        }
+
+        text.append("draw calls ").append(drawCallTotal / frames)
+                .append("  texture binds ").append(textureBindTotal / frames)
+                .append("  shader switches ").append(shaderSwitchTotal / frames).append('\n');
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedBytes = runtime.totalMemory() - runtime.freeMemory();
+        text.append("heap ").append(usedBytes >> 20).append(" / ").append(runtime.maxMemory() >> 20).append(" MB");
+
+        long allocatedBytes = getAllocatedBytes();
+        if (allocatedBytes >= 0 && lastAllocatedBytes >= 0 && lastUpdate != 0) {
+            float seconds = (now - lastUpdate) / 1_000_000_000f;
+            text.append("  alloc ");
+            appendMillis((allocatedBytes - lastAllocatedBytes) / (seconds * 1024f * 1024f));
+            text.append(" MB/s");
+        }
+        lastAllocatedBytes = allocatedBytes;
+        lastUpdate = now;
+
+        if (font != null) {
+            textHeight = font.getLineHeight() * (countLines() + 1);
+        }
+        resetTotals();
+    }
+
+    /**
+     * Appends a number to the overlay's text with one decimal place, without allocating a string for it.
+     *
+     * @param value The number to append, which must not be negative.
+     */
+    private static void appendMillis(float value) {
+        int tenths = Math.round(Math.max(0, value) * 10);
+        text.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /**
+     * Counts the line breaks in the overlay's text.
+     *
+     * @return The number of line breaks.
+     */
+    private static int countLines() {
+        int lines = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the number of bytes the calling thread has allocated, if the JVM can measure it.
+     *
+     * @return The number of bytes allocated by the calling thread, or -1 if it cannot be measured.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return -1;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return -1;
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Draws the overlay in the top left corner of the screen, with the {@link SharedBatch}.
+     * The batch's colour and projection are restored afterwards, as the next frame may start drawing without setting them.
+     */
+    private static void draw() {
+        if (font == null) return;
+        Batch batch = SharedBatch.get();
+        TextureRegion pixel = DrawableUtils.getWhiteRegion();
+        float screenWidth = Gdx.graphics.getWidth();
+        float screenHeight = Gdx.graphics.getHeight();
+
+        previousProjection.set(batch.getProjectionMatrix());
+        float previousColor = batch.getPackedColor();
+        projection.setToOrtho2D(0, 0, screenWidth, screenHeight);
+        batch.setProjectionMatrix(projection);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        batch.begin();
+
+        float top = screenHeight - MARGIN;
+        float panelHeight = textHeight + HISTOGRAM_HEIGHT + MARGIN * 3;
+        batch.setColor(BACKGROUND);
+        batch.draw(pixel, MARGIN, top - panelHeight, PANEL_WIDTH, panelHeight);
+
+        font.draw(batch, text, MARGIN * 2, top - MARGIN);
+
+        // Draw the histogram below the text, scaled so the fullest bucket fills its height
+        float histogramBottom = top - panelHeight + MARGIN;
+        int largest = histogram.getLargestBucket();
+        float barWidth = HISTOGRAM_WIDTH / histogram.getBucketCount();
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            int frames = histogram.getBucket(i);
+            if (frames == 0) continue;
+            float height = Math.max(1, HISTOGRAM_HEIGHT * frames / largest);
+            batch.setColor(i * histogram.getBucketWidth() >= SLOW_FRAME_MILLIS ? SLOW_BAR : BAR);
+            batch.draw(pixel, MARGIN * 2 + i * barWidth, histogramBottom, barWidth - 1, height);
+        }
+
+        batch.end();
+        batch.setPackedColor(previousColor);
+        batch.setProjectionMatrix(previousProjection);
+    }
+}
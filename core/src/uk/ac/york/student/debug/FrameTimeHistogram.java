@@ -0,0 +1,175 @@
+package uk.ac.york.student.debug;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * The FrameTimeHistogram class keeps the times of the most recent frames, and summarises them for the {@link FrameProfiler} overlay.
+ * <p>
+ * The frame times are kept in a ring buffer, so adding a frame never allocates. The times are also counted into fixed-width buckets,
+ * which are updated as frames enter and leave the window, so drawing the histogram does not have to look at every frame.
+ * The lows (such as the 1% low) need the slowest frames in order, so they are computed from a sorted copy of the window,
+ * which is only done when {@link FrameTimeHistogram#updateLows()} is called.
+ */
+public class FrameTimeHistogram {
+    /**
+     * The width of each bucket of the histogram, in milliseconds.
+     */
+    @Getter
+    private final float bucketWidth;
+
+    /**
+     * The number of frames in each bucket. The last bucket also counts every frame slower than the buckets before it.
+     */
+    private final int[] buckets;
+
+    /**
+     * The frame times in the window, in milliseconds, in the order they were added.
+     * Once the window is full, {@link FrameTimeHistogram#next} is the index of the oldest frame.
+     */
+    private final float[] frames;
+
+    /**
+     * A copy of the frame times, sorted by {@link FrameTimeHistogram#updateLows()}.
+     * It is kept so that sorting does not allocate a new array each time.
+     */
+    private final float[] sorted;
+
+    /**
+     * The index the next frame time is written to.
+     */
+    private int next = 0;
+
+    /**
+     * The number of frames in the window. This is less than the size of the window until it has been filled.
+     */
+    @Getter
+    private int count = 0;
+
+    /**
+     * The frame time, in milliseconds, that 1% of the frames in the window are at least as slow as.
+     * This is only updated by {@link FrameTimeHistogram#updateLows()}.
+     */
+    @Getter
+    private float onePercentLow = 0;
+
+    /**
+     * The frame time, in milliseconds, that 0.1% of the frames in the window are at least as slow as.
+     * This is only updated by {@link FrameTimeHistogram#updateLows()}.
+     */
+    @Getter
+    private float pointOnePercentLow = 0;
+
+    /**
+     * Constructor for the {@link FrameTimeHistogram} class.
+     *
+     * @param window The number of most recent frames to keep. This should be at least 1000 for the 0.1% low to mean anything.
+     * @param bucketCount The number of buckets in the histogram.
+     * @param bucketWidth The width of each bucket, in milliseconds.
+     * @throws IllegalArgumentException If the window or the number of buckets is not positive, or the bucket width is not positive.
+     */
+    public FrameTimeHistogram(int window, int bucketCount, float bucketWidth) {
+        if (window <= 0) throw new IllegalArgumentException("The window must hold at least one frame");
+        if (bucketCount <= 0) throw new IllegalArgumentException("The histogram must have at least one bucket");
+        if (!(bucketWidth > 0)) throw new IllegalArgumentException("The bucket width must be positive");
+        this.frames = new float[window];
+        this.sorted = new float[window];
+        this.buckets = new int[bucketCount];
+        this.bucketWidth = bucketWidth;
+    }
+
+    /**
+     * Adds the time of a frame to the window, replacing the oldest frame if the window is full.
+     *
+     * @param millis The time the frame took, in milliseconds.
+     */
+    public void add(float millis) {
+        if (count == frames.length) {
+            // The oldest frame leaves the window
+            buckets[bucketOf(frames[next])]--;
+        } else {
+            count++;
+        }
+        frames[next] = millis;
+        buckets[bucketOf(millis)]++;
+        next = (next + 1) % frames.length;
+    }
+
+    /**
+     * Removes every frame from the window, and resets the lows.
+     */
+    public void clear() {
+        Arrays.fill(buckets, 0);
+        next = 0;
+        count = 0;
+        onePercentLow = 0;
+        pointOnePercentLow = 0;
+    }
+
+    /**
+     * Returns the bucket that a frame time is counted in.
+     *
+     * @param millis The frame time, in milliseconds.
+     * @return The index of the bucket.
+     */
+    private int bucketOf(float millis) {
+        int bucket = (int) (millis / bucketWidth);
+        return Math.max(0, Math.min(bucket, buckets.length - 1));
+    }
+
+    /**
+     * Returns the number of buckets in the histogram.
+     *
+     * @return The number of buckets.
+     */
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Returns the number of frames in a bucket of the histogram.
+     *
+     * @param bucket The index of the bucket.
+     * @return The number of frames in the window that are counted in the bucket.
+     */
+    public int getBucket(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Returns the number of frames in the fullest bucket, which is used to scale the histogram when it is drawn.
+     *
+     * @return The number of frames in the fullest bucket, or 0 if the window is empty.
+     */
+    public int getLargestBucket() {
+        int largest = 0;
+        for (int bucket : buckets) {
+            largest = Math.max(largest, bucket);
+        }
+        return largest;
+    }
+
+    /**
+     * Recomputes the {@link FrameTimeHistogram#onePercentLow} and {@link FrameTimeHistogram#pointOnePercentLow} from the frames in the window.
+     * This sorts the window, so it should be called a few times a second rather than every frame.
+     */
+    public void updateLows() {
+        if (count == 0) return;
+        System.arraycopy(frames, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        onePercentLow = slowest(0.01f);
+        pointOnePercentLow = slowest(0.001f);
+    }
+
+    /**
+     * Returns the fastest frame time among the given fraction of slowest frames in the sorted window.
+     *
+     * @param fraction The fraction of the slowest frames, such as 0.01 for the 1% low.
+     * @return The frame time, in milliseconds.
+     */
+    private float slowest(float fraction) {
+        int frameCount = Math.max(1, (int) Math.ceil(count * fraction));
+        return sorted[count - frameCount];
+    }
+}
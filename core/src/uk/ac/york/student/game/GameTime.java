@@ -77,6 +77,28 @@ public final class GameTime {
         // Create a new ProgressBar instance with the given parameters
         final ProgressBar progressBar = new ProgressBar(0, DAY_LENGTH, 1, false, style);
 
+        // Colour and size the ProgressBar
+        resizeProgressBar(progressBar, scaledWidth, scaledHeight);
+
+        // Set the duration of the animation of the ProgressBar
+        progressBar.setAnimateDuration(0.25f);
+
+        // Set the initial value of the ProgressBar to the current hour
+        progressBar.setValue(currentHour);
+
+        // Return the configured ProgressBar instance
+        return progressBar;
+    }
+
+    /**
+     * This method is used to set the drawables and size of a {@link ProgressBar} for the given dimensions.
+     * The drawables are shared tints of a single white region from {@link DrawableUtils}, so resizing the bar does not create any textures.
+     *
+     * @param progressBar The {@link ProgressBar} to resize.
+     * @param scaledWidth The width of the {@link ProgressBar}, scaled according to the game's scale factor.
+     * @param scaledHeight The height of the {@link ProgressBar}, scaled according to the game's scale factor.
+     */
+    private static void resizeProgressBar(@NotNull ProgressBar progressBar, int scaledWidth, int scaledHeight) {
         // Get the ProgressBar's style
         ProgressBar.ProgressBarStyle barStyle = progressBar.getStyle();
 
@@ -95,36 +117,16 @@ public final class GameTime {
         // Set the width and height of the ProgressBar
         progressBar.setWidth(scaledWidth);
         progressBar.setHeight(scaledHeight);
-
-        // Set the duration of the animation of the ProgressBar
-        progressBar.setAnimateDuration(0.25f);
-
-        // Set the initial value of the ProgressBar to the current hour
-        progressBar.setValue(currentHour);
-
-        // Return the configured ProgressBar instance
-        return progressBar;
-    }
-
-    /**
-     * This method is used to create a new {@link ProgressBar} instance with the given scale.
-     * It calls the {@link GameTime#getProgressBar(int, int)} method with the width and height scaled according to the given scale factor.
-     *
-     * @param scale The scale factor for the {@link ProgressBar}'s width and height.
-     * @return A new {@link ProgressBar} instance with the given scale.
-     */
-    private @NotNull ProgressBar getProgressBar(float scale) {
-        return getProgressBar((int) (WIDTH * scale), (int) (HEIGHT * scale));
     }
 
     /**
      * This method is used to update the {@link ProgressBar} instance with a new scale.
-     * It calls the {@link GameTime#getProgressBar(float)} method with the new scale, effectively resizing the {@link ProgressBar}.
+     * It resizes the existing {@link ProgressBar} in place, so the bar already shown on the screen keeps its value and position.
      *
      * @param scale The new scale factor for the {@link ProgressBar}'s width and height.
      */
     public void updateProgressBar(float scale) {
-        getProgressBar(scale);
+        resizeProgressBar(progressBar, (int) (WIDTH * scale), (int) (HEIGHT * scale));
     }
 
     /**
@@ -198,6 +200,16 @@ public final class GameTime {
         resetHour();
     }
 
+    /**
+     * This method is used to set the current day in the game, such as when a saved game is resumed.
+     * The day is clamped to the range [0, {@link GameTime#DAYS}-1]. Unlike {@link GameTime#incrementDay(int)}, it does not reset the current hour.
+     *
+     * @param day The new current day in the game.
+     */
+    public void setCurrentDay(int day) {
+        currentDay = Math.max(0, Math.min(DAYS - 1, day));
+    }
+
     /**
      * This method is used to reset the current day in the game to 0.
      * It sets the current day to 0 and then resets the current hour by calling the {@link GameTime#resetHour()} method.
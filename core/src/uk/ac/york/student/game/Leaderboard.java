@@ -1,188 +1,166 @@
 package uk.ac.york.student.game;
 
-import com.badlogic.gdx.scenes.scene2d.ui.Tree;
+import com.badlogic.gdx.Gdx;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.game.leaderboard.ScoreStore;
+import uk.ac.york.student.game.leaderboard.ScoreSubmission;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.FileWriter;
-import java.util.HashMap;
-import java.util.Scanner;
-import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 //Compare current score to top 10 previous scores
 //If better ask for name and save
 
-//File setup
-//position:name:score
-
 /**
  * The Leaderboard class add the functionality to save, load, and update the leaderboard
- * It includes methods to create, write, read, and save the leaderboard.
- * Also methods to add a score, and convert the leaderboard to text to be used.
+ * Scores are kept in a {@link ScoreStore}, which keeps every score ever saved and can rank them without reading them all.
+ * This class includes methods to save a score, find the rank of a score, and convert the top of the leaderboard to text to be used.
  */
 public class Leaderboard {
     /**
-     * The filePath and fileName of the leaderboard.
-     * Ensures the code knows where to save and find the leaderboard
+     * The filePath and fileName of the old text leaderboard.
+     * Its scores are imported into the {@link ScoreStore} the first time the store is opened.
+     * The old file format is one line per position: position, name and score, separated by a whitespace.
      */
     final static String filePath = "leaderboard.txt";
-    /**
-     * Boolean value to keep track of whether the player has saved the current score to the leaderboard
-     * Ensures the player can't save the same score twice {@link uk.ac.york.student.screens.EndScreen}
-     */
-    public static boolean scoreSaved = false;
 
     /**
-     * The ScoreSubmission class encapsulates all information related to submitting a score to the leaderboard
+     * The number of scores shown on the leaderboard.
      */
-    static public class ScoreSubmission {
-        String name;
-        float score;
-        public ScoreSubmission(String name, float score) {
-            this.name = name;
-            this.score = score;
-        }
-    }
+    private static final int DISPLAYED_SCORES = 10;
 
     /**
-     * Hashmap to contain each leaderboard entry and their current position on the leaderboard
+     * Boolean value to keep track of whether the player has saved the current score to the leaderboard
+     * Ensures the player can't save the same score twice {@link uk.ac.york.student.screens.EndScreen}
      */
-    static HashMap<Integer, ScoreSubmission> leaderboard;
+    public static boolean scoreSaved = false;
 
     /**
-     * Creates a leaderboard text file at the specified filepath.
-     * If a file already exits it does nothing.
-     *
-     * Catches IOException if an error occurs in the creation of the leaderboard
-     * and outputs a debug message
+     * The store holding every saved score, opened the first time it is needed.
      */
-    public static void createLeaderboard() {
-        try {
-            File file = new File(filePath);
-            System.out.println(file.getAbsolutePath());
-
-            if (file.createNewFile()) {
-                System.out.println("Leaderboard created: " + file.getName());
-            } else {
-                System.out.println("Leaderboard already exists.");
-            }
-        } catch (IOException e) {
-            System.out.println("An error occurred when creating the leaderboard.");
-        }
-    }
+    private static @Nullable ScoreStore store;
 
     /**
-     * Writes a string to the leaderboard
+     * Returns the score store, opening it in the working directory if it is not open yet.
+     * If the store is empty, the scores from the old text leaderboard are imported into it.
      *
-     * @param leaderboardText The current leaderboard in text form to be sent to the file
-     * Catches IOException if an error occurs and outputs a debug message
+     * @return The score store.
+     * @throws IOException If the store cannot be opened.
      */
-    public static void writeLeaderboard(String leaderboardText) {
-        try {
-            FileWriter myWriter = new FileWriter(filePath);
-            myWriter.write(leaderboardText);
-            myWriter.close();
-            System.out.println("Successfully wrote to the file.");
-        } catch (IOException e) {
-            System.out.println("An error occurred when writing to the file.");
+    private static synchronized @NotNull ScoreStore getStore() throws IOException {
+        if (store == null) {
+            ScoreStore opened = ScoreStore.open(Paths.get(""));
+            if (opened.size() == 0) {
+                importLegacyLeaderboard(opened);
+            }
+            store = opened;
         }
+        return store;
     }
 
     /**
-     * Reads the leaderboard and adds each score to the leaderboard hashmap
+     * Imports the scores from the old text leaderboard, if there is one.
+     * Lines that cannot be read are skipped.
      *
-     * Catches FileNotFoundException if no file is found and outputs a debug message
+     * @param store The store to import the scores into.
+     * @throws IOException If the old leaderboard cannot be read, or the scores cannot be saved.
      */
-    public static void readLeaderboard() {
-        //Creates a new hashmap to add to
-        leaderboard = new HashMap<>();
-
-        try {
-            File myObj = new File(filePath);
-            Scanner myReader = new Scanner(myObj);
-            while (myReader.hasNextLine()) {
-                String data = myReader.nextLine();
-                String[] info = data.split(" ");
-                try {
-                    //Creates a new score submission with the text and adds it with a key being the leaderboard position
-                    leaderboard.put(Integer.parseInt(info[0]), new ScoreSubmission(info[1], Float.parseFloat(info[2])));
-                } catch(Exception e) {
-                    System.out.println("Error occurred when reading from the leaderboard");
-                }
+    private static void importLegacyLeaderboard(@NotNull ScoreStore store) throws IOException {
+        Path legacy = Paths.get(filePath);
+        if (!Files.exists(legacy)) return;
+        // The lines are in position order, so the scores keep their order when they tie
+        for (String line : Files.readAllLines(legacy)) {
+            String[] info = line.split(" ");
+            try {
+                store.add(info[1], Float.parseFloat(info[2]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                Gdx.app.error("LetRonCooke", "Skipping invalid leaderboard line: " + line, e);
             }
-            myReader.close();
-        } catch (FileNotFoundException e) {
-            System.out.println("The file could not be found.");
         }
     }
 
     /**
-     * Adds a score to the leaderboard and updates the value of every key so that the positions on the leaderboard are correct
+     * Converts the top of the leaderboard to text and returns it
      *
-     * @param scoreSubmission
+     * @param top The highest ranked scores, in order.
+     * @return the leaderboard in text format
      */
-    public static void addScore(ScoreSubmission scoreSubmission) {
-        //Iterates over every score from lowest to highest and moves them down if the new score is greater
-        for (int i = leaderboard.size(); i > 0; i--) {
-            if (leaderboard.get(i).score > scoreSubmission.score) {
-                leaderboard.put(i+1, new ScoreSubmission(scoreSubmission.name, scoreSubmission.score));
-                break;
-            }
-            leaderboard.put(i+1, leaderboard.get(i));
-            //If the score is the highest score it is put in the first position
-            if (i == 1) leaderboard.put(i, new ScoreSubmission(scoreSubmission.name, scoreSubmission.score));
-        }
-        //Adds the score anyway if the leaderboard is empty
-        if (leaderboard.isEmpty()) {
-            leaderboard.put(1, new ScoreSubmission(scoreSubmission.name, scoreSubmission.score));
+    private static @NotNull String leaderboardToText(@NotNull List<ScoreSubmission> top) {
+        StringBuilder leaderboardText = new StringBuilder();
+        for (int i = 0; i < top.size(); i++) {
+            ScoreSubmission submission = top.get(i);
+            //Adds the position, name, and score separated by a whitespace
+            leaderboardText.append(i + 1).append(' ').append(submission.getName()).append(' ').append(submission.getScore()).append('\n');
         }
+        return leaderboardText.toString();
     }
 
     /**
-     * Converts the leaderboard hashmap to text and returns it
+     * Returns the top of the leaderboard as text
      *
-     * @return the leaderboard in text format
+     * @return the leaderboard in text format, or an empty string if it cannot be read
      */
-    public static String leaderboardToText() {
-        String leaderboardText = "";
-        for (int i = 1; i <= Math.min(leaderboard.size(), 10); i++) {
-            //Adds the positon, name, and score seperated by a whitespace
-            leaderboardText += i + " " + leaderboard.get(i).name + " " + leaderboard.get(i).score + "\n";
+    public static String getLeaderboard() {
+        try {
+            return leaderboardToText(getStore().top(DISPLAYED_SCORES));
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to read the leaderboard", e);
+            return "";
         }
-
-        return leaderboardText;
     }
 
     /**
-     * Encapsulates the methods required to get a text version of the leaderboard
+     * Returns the position a new score would have on the leaderboard, where the highest score is position 1.
      *
-     * @return the leaderboard in text format
+     * @param score The score to rank
+     * @return the position of the score, or -1 if the leaderboard cannot be read
      */
-    public static String getLeaderboard() {
-        createLeaderboard();
-        readLeaderboard();
-        return leaderboardToText();
+    public static int getRank(float score) {
+        try {
+            return getStore().rankOf(score);
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to read the leaderboard", e);
+            return -1;
+        }
     }
 
     /**
-     * Encapsulated the methods required to save a score to the leaderboard file
+     * Saves a score to the leaderboard
      *
      * @param name Name of the player saving the score
      * @param score Score they achieved
      */
     public static void saveScore(String name, float score) {
-
-        //Remove spaces which the leaderboard system uses to separate the position, name, and score
+        //Remove spaces which the text leaderboard uses to separate the position, name, and score
         name = name.replaceAll("\\s", "");
-        //Ensures an empty name doesn't get sent to the file
+        //Ensures an empty name doesn't get saved, and a long one fits in the store
         if (name.isEmpty()) {
             name = "Unknown";
+        } else if (name.length() > ScoreStore.MAX_NAME_LENGTH) {
+            name = name.substring(0, ScoreStore.MAX_NAME_LENGTH);
+        }
+        try {
+            getStore().add(name, score);
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to save the score to the leaderboard", e);
         }
-        createLeaderboard();
-        readLeaderboard();
-        addScore(new ScoreSubmission(name, score));
-        String newLeaderboard = leaderboardToText();
-        writeLeaderboard(newLeaderboard);
     }
-}
 
+    /**
+     * Closes the score store, if it has been opened.
+     * This should only be called when the game is closing.
+     */
+    public static synchronized void close() {
+        if (store == null) return;
+        try {
+            store.close();
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to close the leaderboard", e);
+        }
+        store = null;
+    }
+}
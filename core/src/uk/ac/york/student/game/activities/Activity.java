@@ -83,37 +83,23 @@ public enum Activity {
 
     /**
      * Returns the {@link PlayerMetrics.MetricEffect} of the activity on the specified {@link PlayerMetrics.MetricType}.
-     * This method iterates over {@link Activity#effects}.
-     * If a {@link PlayerMetrics.MetricEffect} with the specified {@link PlayerMetrics.MetricType} is found, the {@link PlayerMetrics.MetricEffect} is returned.
-     * If no {@link PlayerMetrics.MetricEffect} with the specified {@link PlayerMetrics.MetricType} is found, null is returned.
+     * The effect is looked up in the table compiled by {@link ActivityEffects}, rather than by searching {@link Activity#effects}.
      *
      * @param metricType the {@link PlayerMetrics.MetricType} to get the {@link PlayerMetrics.MetricEffect} for
      * @return the {@link PlayerMetrics.MetricEffect} of the activity on the specified {@link PlayerMetrics.MetricType}, or null if no {@link PlayerMetrics.MetricEffect} is found
      */
     public @Nullable PlayerMetrics.MetricEffect getEffect(PlayerMetrics.MetricType metricType) {
-        for (Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect> effect : effects) {
-            if (effect.getLeft() == metricType) {
-                return effect.getRight();
-            }
-        }
-        return null;
+        return ActivityEffects.getEffect(this, metricType);
     }
 
     /**
      * Returns the index of the first occurrence of the specified {@link PlayerMetrics.MetricType} in {@link Activity#effects}.
-     * This method iterates over {@link Activity#effects}.
-     * If an effect with the specified {@link PlayerMetrics.MetricType} is found, the index of the effect in {@link Activity#effects} is returned.
-     * If no effect with the specified {@link PlayerMetrics.MetricType} is found, -1 is returned.
+     * The index is looked up in the table compiled by {@link ActivityEffects}, rather than by searching {@link Activity#effects}.
      *
      * @param metricType the {@link PlayerMetrics.MetricType} to find in {@link Activity#effects}
      * @return the index of the first occurrence of the specified {@link PlayerMetrics.MetricType} in {@link Activity#effects}, or -1 if the {@link PlayerMetrics.MetricType} is not found
      */
     public int indexOf(PlayerMetrics.MetricType metricType) {
-        for (int i = 0; i < effects.size(); i++) {
-            if (effects.get(i).getLeft() == metricType) {
-                return i;
-            }
-        }
-        return -1;
+        return ActivityEffects.getEffectIndex(this, metricType);
     }
 }
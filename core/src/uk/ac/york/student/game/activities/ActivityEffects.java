@@ -0,0 +1,209 @@
+package uk.ac.york.student.game.activities;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.player.MetricStore;
+import uk.ac.york.student.player.PlayerMetrics;
+import uk.ac.york.student.utils.Pair;
+
+import java.util.List;
+
+/**
+ * This utility class holds the effects of every {@link Activity} on every {@link PlayerMetrics.MetricType} in a dense table,
+ * indexed by the ordinals of the activity and the metric, so finding an effect is an array lookup rather than a search of {@link Activity#getEffects()}.
+ * <p>
+ * The table is compiled once from {@link Activity#getEffects()}. The change amounts of an activity on the map, which are listed in the order of its effects,
+ * are compiled into a row of the same shape by {@link ActivityEffects#compileChangeAmounts(Activity, float[])},
+ * so checking and applying an activity are loops over the metrics that do not allocate or box.
+ */
+@UtilityClass
+public final class ActivityEffects {
+    /**
+     * The code of a metric the activity has no effect on.
+     */
+    public static final byte NONE = 0;
+
+    /**
+     * The code of a metric the activity increases, see {@link PlayerMetrics.MetricEffect#INCREASE}.
+     */
+    public static final byte INCREASE = 1;
+
+    /**
+     * The code of a metric the activity decreases, see {@link PlayerMetrics.MetricEffect#DECREASE}.
+     */
+    public static final byte DECREASE = 2;
+
+    /**
+     * The code of a metric the activity resets, see {@link PlayerMetrics.MetricEffect#RESET}.
+     */
+    public static final byte RESET = 3;
+
+    /**
+     * The metric types, indexed by ordinal.
+     */
+    private static final PlayerMetrics.MetricType[] METRIC_TYPES = PlayerMetrics.MetricType.values();
+
+    /**
+     * The metric effects, indexed by their code minus one.
+     */
+    private static final PlayerMetrics.MetricEffect[] METRIC_EFFECTS = {
+        PlayerMetrics.MetricEffect.INCREASE, PlayerMetrics.MetricEffect.DECREASE, PlayerMetrics.MetricEffect.RESET
+    };
+
+    /**
+     * The number of metrics, which is the length of each row of the table.
+     */
+    private static final int METRICS = METRIC_TYPES.length;
+
+    /**
+     * The code of the effect of each activity on each metric, at {@code activity * METRICS + metric}.
+     */
+    private static final byte[] CODES;
+
+    /**
+     * The index in {@link Activity#getEffects()} of the effect of each activity on each metric, or -1 if there is none,
+     * at {@code activity * METRICS + metric}.
+     */
+    private static final int[] EFFECT_INDICES;
+
+    static {
+        Activity[] activities = Activity.values();
+        CODES = new byte[activities.length * METRICS];
+        EFFECT_INDICES = new int[activities.length * METRICS];
+        for (Activity activity : activities) {
+            int row = activity.ordinal() * METRICS;
+            for (int metric = 0; metric < METRICS; metric++) {
+                EFFECT_INDICES[row + metric] = -1;
+            }
+            List<Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect>> effects = activity.getEffects();
+            // Go backwards so the first effect on a metric wins, as it did when the effects were searched
+            for (int i = effects.size() - 1; i >= 0; i--) {
+                Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect> effect = effects.get(i);
+                int cell = row + effect.getLeft().ordinal();
+                CODES[cell] = toCode(effect.getRight());
+                EFFECT_INDICES[cell] = i;
+            }
+        }
+    }
+
+    /**
+     * Converts a {@link PlayerMetrics.MetricEffect} to its code.
+     *
+     * @param effect The effect to convert.
+     * @return The code of the effect.
+     * @throws IllegalArgumentException If the effect has no code.
+     */
+    private static byte toCode(@NotNull PlayerMetrics.MetricEffect effect) throws IllegalArgumentException {
+        switch (effect) {
+            case INCREASE:
+                return INCREASE;
+            case DECREASE:
+                return DECREASE;
+            case RESET:
+                return RESET;
+            default:
+                throw new IllegalArgumentException("Invalid metric effect: " + effect);
+        }
+    }
+
+    /**
+     * Returns the code of the effect of an activity on a metric.
+     *
+     * @param activity The activity.
+     * @param metricType The metric.
+     * @return {@link ActivityEffects#INCREASE}, {@link ActivityEffects#DECREASE}, {@link ActivityEffects#RESET}, or {@link ActivityEffects#NONE} if the activity has no effect on the metric.
+     */
+    public static byte getCode(@NotNull Activity activity, @NotNull PlayerMetrics.MetricType metricType) {
+        return CODES[activity.ordinal() * METRICS + metricType.ordinal()];
+    }
+
+    /**
+     * Returns the effect of an activity on a metric.
+     *
+     * @param activity The activity.
+     * @param metricType The metric.
+     * @return The effect of the activity on the metric, or null if it has none.
+     */
+    public static @Nullable PlayerMetrics.MetricEffect getEffect(@NotNull Activity activity, @NotNull PlayerMetrics.MetricType metricType) {
+        byte code = getCode(activity, metricType);
+        return code == NONE ? null : METRIC_EFFECTS[code - 1];
+    }
+
+    /**
+     * Returns the index in {@link Activity#getEffects()} of the effect of an activity on a metric.
+     *
+     * @param activity The activity.
+     * @param metricType The metric.
+     * @return The index of the effect, or -1 if the activity has no effect on the metric.
+     */
+    public static int getEffectIndex(@NotNull Activity activity, @NotNull PlayerMetrics.MetricType metricType) {
+        return EFFECT_INDICES[activity.ordinal() * METRICS + metricType.ordinal()];
+    }
+
+    /**
+     * Compiles the change amounts of an activity, listed in the order of {@link Activity#getEffects()},
+     * into a row indexed by {@link PlayerMetrics.MetricType#ordinal()}. Metrics the activity has no effect on are given 0.
+     *
+     * @param activity The activity.
+     * @param changeAmounts The change amounts, one for each effect of the activity. Any extra amounts are ignored.
+     * @return The change amount of each metric.
+     * @throws IllegalArgumentException If there are fewer change amounts than effects.
+     */
+    public static float @NotNull [] compileChangeAmounts(@NotNull Activity activity, float @NotNull [] changeAmounts) throws IllegalArgumentException {
+        int effects = activity.getEffects().size();
+        if (changeAmounts.length < effects) {
+            throw new IllegalArgumentException("Activity " + activity + " has " + effects + " effects, but " + changeAmounts.length + " change amounts were given");
+        }
+        float[] row = new float[METRICS];
+        int base = activity.ordinal() * METRICS;
+        for (int metric = 0; metric < METRICS; metric++) {
+            int index = EFFECT_INDICES[base + metric];
+            if (index >= 0) row[metric] = changeAmounts[index];
+        }
+        return row;
+    }
+
+    /**
+     * Checks whether there is enough of every metric an activity decreases to perform it.
+     *
+     * @param activity The activity.
+     * @param changeAmounts The change amount of each metric, compiled by {@link ActivityEffects#compileChangeAmounts(Activity, float[])}.
+     * @param store The metrics to check.
+     * @return True if every decreased metric is at least its change amount, false otherwise.
+     */
+    public static boolean hasEnough(@NotNull Activity activity, float @NotNull [] changeAmounts, @NotNull MetricStore store) {
+        int base = activity.ordinal() * METRICS;
+        for (int metric = 0; metric < METRICS; metric++) {
+            if (CODES[base + metric] == DECREASE && store.get(METRIC_TYPES[metric]) < changeAmounts[metric]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the effects of an activity to the metrics.
+     *
+     * @param activity The activity.
+     * @param changeAmounts The change amount of each metric, compiled by {@link ActivityEffects#compileChangeAmounts(Activity, float[])}.
+     * @param store The metrics to change.
+     */
+    public static void apply(@NotNull Activity activity, float @NotNull [] changeAmounts, @NotNull MetricStore store) {
+        int base = activity.ordinal() * METRICS;
+        for (int metric = 0; metric < METRICS; metric++) {
+            PlayerMetrics.MetricType type = METRIC_TYPES[metric];
+            switch (CODES[base + metric]) {
+                case INCREASE:
+                    store.increase(type, changeAmounts[metric]);
+                    break;
+                case DECREASE:
+                    store.decrease(type, changeAmounts[metric]);
+                    break;
+                case RESET:
+                    store.set(type, type.getDefaultValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package uk.ac.york.student.game.leaderboard;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * The {@link ScoreIndex} class keeps score submissions sorted in leaderboard order, as given by {@link ScoreSubmission#compare(ScoreSubmission, ScoreSubmission)}.
+ * <p>
+ * It is a treap (a binary search tree balanced with random priorities) in which every node also stores the size of its subtree,
+ * so adding a submission and finding the rank of a score both take logarithmic time on average,
+ * and the top N submissions are found in logarithmic time plus N.
+ * It is not thread-safe; the {@link ScoreStore} synchronises access to it.
+ */
+final class ScoreIndex {
+    /**
+     * A node in the tree, holding one submission.
+     */
+    private static final class Node {
+        /**
+         * The submission held by this node.
+         */
+        private final ScoreSubmission submission;
+
+        /**
+         * The random priority of this node. A node always has a higher priority than its children.
+         */
+        private final int priority;
+
+        /**
+         * The children of this node. Submissions ranked above this one are on the left, and ones ranked below it are on the right.
+         */
+        private @Nullable Node left, right;
+
+        /**
+         * The number of nodes in the subtree rooted at this node, including this node.
+         */
+        private int size = 1;
+
+        /**
+         * Constructs a new {@link Node} with no children.
+         *
+         * @param submission The submission held by the node.
+         * @param priority The random priority of the node.
+         */
+        private Node(ScoreSubmission submission, int priority) {
+            this.submission = submission;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * The random number generator used to give each node its priority.
+     */
+    private final SplittableRandom random = new SplittableRandom();
+
+    /**
+     * The root of the tree, or null if the index is empty.
+     */
+    private @Nullable Node root;
+
+    /**
+     * Returns the number of submissions in the index.
+     *
+     * @return The number of submissions.
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Adds a submission to the index.
+     *
+     * @param submission The submission to add.
+     */
+    void add(@NotNull ScoreSubmission submission) {
+        root = insert(root, new Node(submission, random.nextInt()));
+    }
+
+    /**
+     * Counts the submissions with a strictly higher score than the given one.
+     * A new submission of this score would be ranked one place below this count.
+     *
+     * @param score The score to compare against.
+     * @return The number of submissions with a higher score.
+     */
+    int countAbove(float score) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.submission.getScore() > score) {
+                // This node and everything ranked above it have a higher score
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the highest ranked submissions, in leaderboard order.
+     *
+     * @param limit The maximum number of submissions to return.
+     * @return Up to {@code limit} submissions, from the highest ranked down.
+     */
+    @NotNull List<ScoreSubmission> top(int limit) {
+        List<ScoreSubmission> top = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        // In-order traversal, stopping as soon as enough submissions have been found
+        while (top.size() < limit && (node != null || !stack.isEmpty())) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            top.add(node.submission);
+            node = node.right;
+        }
+        return top;
+    }
+
+    /**
+     * Calls the given action for every submission, in leaderboard order.
+     *
+     * @param action The action to call for every submission.
+     */
+    void forEach(@NotNull Consumer<ScoreSubmission> action) {
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            action.accept(node.submission);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Inserts a node into the subtree rooted at the given node, rotating it up while its priority is higher than its parent's.
+     *
+     * @param node The root of the subtree, or null if the subtree is empty.
+     * @param entry The node to insert.
+     * @return The new root of the subtree.
+     */
+    private static @NotNull Node insert(@Nullable Node node, @NotNull Node entry) {
+        if (node == null) return entry;
+        if (ScoreSubmission.compare(entry.submission, node.submission) < 0) {
+            node.left = insert(node.left, entry);
+            if (node.left.priority > node.priority) return rotateRight(node);
+        } else {
+            node.right = insert(node.right, entry);
+            if (node.right.priority > node.priority) return rotateLeft(node);
+        }
+        node.size++;
+        return node;
+    }
+
+    /**
+     * Rotates the subtree rooted at the given node to the right, making its left child the new root.
+     *
+     * @param node The root of the subtree, which must have a left child.
+     * @return The new root of the subtree.
+     */
+    private static @NotNull Node rotateRight(@NotNull Node node) {
+        Node left = node.left;
+        assert left != null;
+        node.left = left.right;
+        left.right = node;
+        node.size = size(node.left) + size(node.right) + 1;
+        left.size = size(left.left) + node.size + 1;
+        return left;
+    }
+
+    /**
+     * Rotates the subtree rooted at the given node to the left, making its right child the new root.
+     *
+     * @param node The root of the subtree, which must have a right child.
+     * @return The new root of the subtree.
+     */
+    private static @NotNull Node rotateLeft(@NotNull Node node) {
+        Node right = node.right;
+        assert right != null;
+        node.right = right.left;
+        right.left = node;
+        node.size = size(node.left) + size(node.right) + 1;
+        right.size = node.size + size(right.right) + 1;
+        return right;
+    }
+
+    /**
+     * Returns the size of a subtree.
+     *
+     * @param node The root of the subtree, or null if the subtree is empty.
+     * @return The number of nodes in the subtree.
+     */
+    private static int size(@Nullable Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,374 @@
+package uk.ac.york.student.game.leaderboard;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The {@link ScoreStore} class persists every score ever submitted to the leaderboard, and answers top-N and rank queries
+ * from a sorted in-memory {@link ScoreIndex}.
+ * <p>
+ * Scores are stored in two files in the store's directory:
+ * <ul>
+ *     <li>{@link ScoreStore#SNAPSHOT_FILE}, a checksummed snapshot of every submission up to a sequence number, in leaderboard order.
+ *     It is only ever replaced atomically, by writing a temporary file and moving it over the old one.</li>
+ *     <li>{@link ScoreStore#JOURNAL_FILE}, an append-only journal of the submissions made since the snapshot was written.
+ *     Every record carries its own checksum and is forced to disk before {@link ScoreStore#add(String, float)} returns,
+ *     so a record torn by a crash is detected and dropped when the store is next opened.</li>
+ * </ul>
+ * Once the journal holds {@link ScoreStore#COMPACTION_THRESHOLD} records, it is compacted into a new snapshot and emptied.
+ * The snapshot records the last sequence number it contains, so journal records that were already compacted are skipped
+ * if the game stops between writing the snapshot and emptying the journal.
+ * <p>
+ * All methods are synchronised, so a store can be shared between the render thread and background threads.
+ */
+public final class ScoreStore implements Closeable {
+    /**
+     * The name of the snapshot file.
+     */
+    public static final String SNAPSHOT_FILE = "leaderboard.dat";
+
+    /**
+     * The name of the journal file.
+     */
+    public static final String JOURNAL_FILE = "leaderboard.journal";
+
+    /**
+     * The longest name that can be stored, in characters.
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+
+    /**
+     * The number of journal records after which the journal is compacted into the snapshot.
+     */
+    static final int COMPACTION_THRESHOLD = 4096;
+
+    /**
+     * The value at the start of every snapshot file, used to recognise it.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x4C524353;
+
+    /**
+     * The version of the snapshot format.
+     */
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /**
+     * The largest valid size of a journal record's payload, in bytes.
+     * Anything larger can only come from a torn or corrupted record.
+     */
+    private static final int MAX_RECORD_SIZE = 8 + 4 + 2 + MAX_NAME_LENGTH * 3;
+
+    /**
+     * The path of the snapshot file.
+     */
+    private final Path snapshot;
+
+    /**
+     * The path of the journal file.
+     */
+    private final Path journal;
+
+    /**
+     * The sorted index of every submission in the store.
+     */
+    private final ScoreIndex index = new ScoreIndex();
+
+    /**
+     * The open channel to the journal file, positioned at its end.
+     */
+    private final FileChannel journalChannel;
+
+    /**
+     * The sequence number given to the next submission.
+     */
+    private long nextSequence = 1;
+
+    /**
+     * The number of records in the journal.
+     */
+    private int journalRecords = 0;
+
+    /**
+     * Constructs a new {@link ScoreStore}, loading the snapshot and the journal from the given directory.
+     *
+     * @param directory The directory holding the store's files.
+     * @throws IOException If the files cannot be read, or the snapshot is corrupted.
+     */
+    private ScoreStore(@NotNull Path directory) throws IOException {
+        snapshot = directory.resolve(SNAPSHOT_FILE);
+        journal = directory.resolve(JOURNAL_FILE);
+
+        long snapshotSequence = readSnapshot();
+        journalChannel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            readJournal(snapshotSequence);
+        } catch (IOException e) {
+            journalChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the store in the given directory, creating the directory and the store's files if they do not exist.
+     * The store must be closed with {@link ScoreStore#close()} when it is no longer needed.
+     *
+     * @param directory The directory holding the store's files.
+     * @return The opened store.
+     * @throws IOException If the files cannot be read or created, or the snapshot is corrupted.
+     */
+    public static @NotNull ScoreStore open(@NotNull Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new ScoreStore(directory);
+    }
+
+    /**
+     * Reads the snapshot into the index, if there is one.
+     *
+     * @return The last sequence number contained in the snapshot, or 0 if there is no snapshot.
+     * @throws IOException If the snapshot cannot be read or is corrupted.
+     */
+    private long readSnapshot() throws IOException {
+        if (!Files.exists(snapshot)) return 0;
+
+        CRC32 crc = new CRC32();
+        try (InputStream file = Files.newInputStream(snapshot);
+             CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file), crc);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Not a leaderboard snapshot: " + snapshot);
+            }
+            long lastSequence = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                index.add(new ScoreSubmission(in.readLong(), in.readUTF(), in.readFloat()));
+            }
+            // The checksum covers everything before it, so read its value before reading it from the stream
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Leaderboard snapshot is corrupted: " + snapshot);
+            }
+            nextSequence = lastSequence + 1;
+            return lastSequence;
+        }
+    }
+
+    /**
+     * Reads the journal into the index, skipping records that are already in the snapshot.
+     * If the journal ends with a torn or corrupted record, the journal is truncated to the last valid record.
+     *
+     * @param snapshotSequence The last sequence number contained in the snapshot.
+     * @throws IOException If the journal cannot be read or truncated.
+     */
+    private void readJournal(long snapshotSequence) throws IOException {
+        long validLength = 0;
+        journalChannel.position(0);
+        // The stream is not closed, as that would close the channel; the channel is repositioned once the journal has been read
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(journalChannel)));
+        CRC32 crc = new CRC32();
+        while (true) {
+            byte[] payload;
+            try {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE) break;
+                payload = new byte[length];
+                in.readFully(payload);
+                crc.reset();
+                crc.update(payload);
+                if (in.readInt() != (int) crc.getValue()) break;
+            } catch (EOFException e) {
+                // The journal ends here, possibly in the middle of a record that was being written
+                break;
+            }
+            validLength += 4 + payload.length + 4;
+
+            DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+            ScoreSubmission submission = new ScoreSubmission(record.readLong(), record.readUTF(), record.readFloat());
+            journalRecords++;
+            nextSequence = Math.max(nextSequence, submission.getSequence() + 1);
+            // Skip records that were compacted into the snapshot before the journal was emptied
+            if (submission.getSequence() > snapshotSequence) {
+                index.add(submission);
+            }
+        }
+
+        // Drop anything after the last valid record, so new records are appended after it
+        if (journalChannel.size() > validLength) {
+            journalChannel.truncate(validLength);
+            journalChannel.force(true);
+        }
+        journalChannel.position(validLength);
+    }
+
+    /**
+     * Adds a score to the store. The score is written to the journal and forced to disk before this method returns.
+     *
+     * @param name The name of the player who submitted the score. It must not be empty or longer than {@link ScoreStore#MAX_NAME_LENGTH} characters.
+     * @param score The score that was submitted.
+     * @return The stored submission.
+     * @throws IllegalArgumentException If the name is empty or too long, or the score is not a number.
+     * @throws IOException If the score cannot be written.
+     */
+    public synchronized @NotNull ScoreSubmission add(@NotNull String name, float score) throws IOException {
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Name must be between 1 and " + MAX_NAME_LENGTH + " characters: " + name);
+        }
+        if (Float.isNaN(score)) {
+            throw new IllegalArgumentException("Score must be a number");
+        }
+
+        ScoreSubmission submission = new ScoreSubmission(nextSequence, name, score);
+        appendToJournal(submission);
+        nextSequence++;
+        journalRecords++;
+        index.add(submission);
+
+        if (journalRecords >= COMPACTION_THRESHOLD) {
+            compact();
+        }
+        return submission;
+    }
+
+    /**
+     * Appends a record for the given submission to the journal, and forces it to disk.
+     *
+     * @param submission The submission to append.
+     * @throws IOException If the record cannot be written.
+     */
+    private void appendToJournal(@NotNull ScoreSubmission submission) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(MAX_RECORD_SIZE);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeLong(submission.getSequence());
+        payload.writeUTF(submission.getName());
+        payload.writeFloat(submission.getScore());
+        byte[] bytes = payloadBytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ByteBuffer record = ByteBuffer.allocate(4 + bytes.length + 4);
+        record.putInt(bytes.length).put(bytes).putInt((int) crc.getValue()).flip();
+
+        long start = journalChannel.position();
+        try {
+            while (record.hasRemaining()) {
+                journalChannel.write(record);
+            }
+            journalChannel.force(false);
+        } catch (IOException e) {
+            // Drop the partial record, so the next record is not appended after it
+            journalChannel.truncate(start);
+            journalChannel.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes every submission to a new snapshot, which atomically replaces the old one, then empties the journal.
+     *
+     * @throws IOException If the snapshot cannot be written or the journal cannot be emptied.
+     */
+    public synchronized void compact() throws IOException {
+        Path temporary = snapshot.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(temporary);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), crc);
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(nextSequence - 1);
+            out.writeInt(index.size());
+            IOException[] error = new IOException[1];
+            index.forEach(submission -> {
+                if (error[0] != null) return;
+                try {
+                    out.writeLong(submission.getSequence());
+                    out.writeUTF(submission.getName());
+                    out.writeFloat(submission.getScore());
+                } catch (IOException e) {
+                    error[0] = e;
+                }
+            });
+            if (error[0] != null) throw error[0];
+            out.writeLong(crc.getValue());
+            out.flush();
+        }
+        // Make sure the new snapshot is on disk before it replaces the old one
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Every record in the journal is now in the snapshot
+        journalChannel.truncate(0);
+        journalChannel.position(0);
+        journalChannel.force(true);
+        journalRecords = 0;
+    }
+
+    /**
+     * Returns the highest ranked submissions, in leaderboard order.
+     *
+     * @param limit The maximum number of submissions to return.
+     * @return Up to {@code limit} submissions, from the highest ranked down.
+     */
+    public synchronized @NotNull List<ScoreSubmission> top(int limit) {
+        return index.top(limit);
+    }
+
+    /**
+     * Returns the rank that a new submission of the given score would have, where the highest score is rank 1.
+     * A new submission is ranked below any earlier submission with the same score.
+     *
+     * @param score The score to rank.
+     * @return The rank of the score.
+     */
+    public synchronized int rankOf(float score) {
+        // Earlier submissions with the same score are also ranked above a new one
+        return index.countAbove(Math.nextDown(score)) + 1;
+    }
+
+    /**
+     * Returns the number of submissions in the store.
+     *
+     * @return The number of submissions.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Closes the journal. The store cannot be used after it has been closed.
+     *
+     * @throws IOException If the journal cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        journalChannel.close();
+    }
+}
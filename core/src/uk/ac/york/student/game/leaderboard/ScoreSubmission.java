@@ -0,0 +1,52 @@
+package uk.ac.york.student.game.leaderboard;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The ScoreSubmission class encapsulates all information related to submitting a score to the leaderboard.
+ * Every submission has a sequence number, given by the {@link ScoreStore} in the order the scores were saved,
+ * which breaks ties between equal scores so that the earlier submission is ranked higher.
+ */
+@Getter
+public final class ScoreSubmission {
+    /**
+     * The sequence number of the submission, unique within a {@link ScoreStore}.
+     */
+    private final long sequence;
+
+    /**
+     * The name of the player who submitted the score.
+     */
+    private final String name;
+
+    /**
+     * The score that was submitted.
+     */
+    private final float score;
+
+    /**
+     * Constructs a new {@link ScoreSubmission}.
+     *
+     * @param sequence The sequence number of the submission.
+     * @param name The name of the player who submitted the score.
+     * @param score The score that was submitted.
+     */
+    public ScoreSubmission(long sequence, @NotNull String name, float score) {
+        this.sequence = sequence;
+        this.name = name;
+        this.score = score;
+    }
+
+    /**
+     * Compares two submissions in leaderboard order: higher scores first, then earlier submissions first.
+     *
+     * @param a The first submission.
+     * @param b The second submission.
+     * @return A negative number if a is ranked above b, a positive number if b is ranked above a, or 0 if they are the same submission.
+     */
+    static int compare(@NotNull ScoreSubmission a, @NotNull ScoreSubmission b) {
+        int byScore = Float.compare(b.score, a.score);
+        return byScore != 0 ? byScore : Long.compare(a.sequence, b.sequence);
+    }
+}
@@ -0,0 +1,275 @@
+package uk.ac.york.student.game.replay;
+
+import com.badlogic.gdx.utils.IntArray;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The {@link InputJournal} class holds the key presses and releases of one session of the game,
+ * stamped with the simulation step they took effect in, so the session can be played back exactly.
+ * <p>
+ * The game simulates in fixed steps, so stamping events with the step rather than the frame makes the journal independent of the frame rate:
+ * replaying it on a faster or slower machine runs the same steps with the same input.
+ * The journal also records everything else the simulation depends on: the seed of the random number generator,
+ * and the size of the screen, which decides how far the player moves in each step.
+ * A checksum of the state at the end of the session is recorded, so a replay that ends in a different state can be detected.
+ * <p>
+ * On disk, the journal is a header, the events, and a CRC32 checksum of everything before it.
+ * Each event is two variable-length integers: the number of steps since the previous event, and the keycode shifted left by one,
+ * with the lowest bit set for a press. A typical event therefore takes two or three bytes.
+ */
+public final class InputJournal {
+    /**
+     * The value at the start of every journal file, used to recognise it.
+     */
+    private static final int MAGIC = 0x4C52434A;
+
+    /**
+     * The version of the journal format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The seed of the random number generator at the start of the session.
+     */
+    @Getter
+    private final long seed;
+
+    /**
+     * The size of the screen during the session, in pixels.
+     */
+    @Getter
+    private final int screenWidth, screenHeight;
+
+    /**
+     * The step of each event.
+     */
+    private final IntArray steps = new IntArray();
+
+    /**
+     * The keycode of each event, shifted left by one, with the lowest bit set for a press.
+     */
+    private final IntArray keys = new IntArray();
+
+    /**
+     * The number of steps in the session, set when the session finishes.
+     */
+    @Getter
+    private int length = -1;
+
+    /**
+     * The checksum of the state at the end of the session, set when the session finishes.
+     */
+    @Getter
+    private int endChecksum;
+
+    /**
+     * Constructor for the {@link InputJournal} class, for a new session.
+     *
+     * @param seed The seed of the random number generator at the start of the session.
+     * @param screenWidth The width of the screen, in pixels.
+     * @param screenHeight The height of the screen, in pixels.
+     */
+    public InputJournal(long seed, int screenWidth, int screenHeight) {
+        this.seed = seed;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    /**
+     * Adds a key event to the journal.
+     *
+     * @param step The simulation step the event takes effect in. This must not be before the step of the previous event.
+     * @param keycode The keycode of the key, from {@link com.badlogic.gdx.Input.Keys}.
+     * @param down True if the key was pressed, false if it was released.
+     * @throws IllegalArgumentException If the step is before the step of the previous event, or the keycode is negative.
+     * @throws IllegalStateException If the session has already finished.
+     */
+    public void add(int step, int keycode, boolean down) {
+        if (isFinished()) throw new IllegalStateException("The session has already finished");
+        if (keycode < 0) throw new IllegalArgumentException("Invalid keycode: " + keycode);
+        if (step < 0 || (steps.notEmpty() && step < steps.peek())) {
+            throw new IllegalArgumentException("Event at step " + step + " is before the previous event");
+        }
+        steps.add(step);
+        keys.add(keycode << 1 | (down ? 1 : 0));
+    }
+
+    /**
+     * Finishes the session, recording its length and the checksum of its final state.
+     *
+     * @param length The number of steps in the session.
+     * @param endChecksum The checksum of the state at the end of the session.
+     * @throws IllegalArgumentException If an event is after the end of the session.
+     */
+    public void finish(int length, int endChecksum) {
+        if (steps.notEmpty() && length < steps.peek()) {
+            throw new IllegalArgumentException("The session ends at step " + length + ", before its last event");
+        }
+        this.length = length;
+        this.endChecksum = endChecksum;
+    }
+
+    /**
+     * Checks whether the session has finished, so its length and end checksum are known.
+     *
+     * @return True if the session has finished, false otherwise.
+     */
+    public boolean isFinished() {
+        return length >= 0;
+    }
+
+    /**
+     * Gets the number of events in the journal.
+     *
+     * @return The number of events.
+     */
+    public int getEventCount() {
+        return steps.size;
+    }
+
+    /**
+     * Gets the step of an event.
+     *
+     * @param event The index of the event.
+     * @return The simulation step the event takes effect in.
+     */
+    public int getStep(int event) {
+        return steps.get(event);
+    }
+
+    /**
+     * Gets the keycode of an event.
+     *
+     * @param event The index of the event.
+     * @return The keycode of the key, from {@link com.badlogic.gdx.Input.Keys}.
+     */
+    public int getKeycode(int event) {
+        return keys.get(event) >>> 1;
+    }
+
+    /**
+     * Checks whether an event is a key press.
+     *
+     * @param event The index of the event.
+     * @return True if the key was pressed, false if it was released.
+     */
+    public boolean isDown(int event) {
+        return (keys.get(event) & 1) != 0;
+    }
+
+    /**
+     * Writes the journal to a file, replacing it if it exists.
+     *
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     * @throws IllegalStateException If the session has not finished.
+     */
+    public void write(@NotNull Path path) throws IOException {
+        if (!isFinished()) throw new IllegalStateException("The session has not finished");
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(path);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), crc);
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeShort(screenWidth);
+            out.writeShort(screenHeight);
+            writeVarInt(out, length);
+            out.writeInt(endChecksum);
+            writeVarInt(out, steps.size);
+            int previousStep = 0;
+            for (int i = 0; i < steps.size; i++) {
+                writeVarInt(out, steps.get(i) - previousStep);
+                writeVarInt(out, keys.get(i));
+                previousStep = steps.get(i);
+            }
+            // The checksum covers everything before it, so read its value before writing it to the stream
+            out.writeLong(crc.getValue());
+        }
+    }
+
+    /**
+     * Reads a journal from a file.
+     *
+     * @param path The file to read from.
+     * @return The journal.
+     * @throws IOException If the file cannot be read, is not a journal, or is corrupted.
+     */
+    public static @NotNull InputJournal read(@NotNull Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream file = Files.newInputStream(path);
+             CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file), crc);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an input journal: " + path);
+            }
+            InputJournal journal = new InputJournal(in.readLong(), in.readUnsignedShort(), in.readUnsignedShort());
+            int length = readVarInt(in);
+            int endChecksum = in.readInt();
+            int count = readVarInt(in);
+            int step = 0;
+            for (int i = 0; i < count; i++) {
+                step += readVarInt(in);
+                int key = readVarInt(in);
+                journal.add(step, key >>> 1, (key & 1) != 0);
+            }
+            journal.finish(length, endChecksum);
+            // The checksum covers everything before it, so read its value before reading it from the stream
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Input journal is corrupted: " + path);
+            }
+            return journal;
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Input journal is corrupted: " + path, e);
+        }
+    }
+
+    /**
+     * Writes a non-negative integer in as few bytes as possible, seven bits at a time, lowest bits first.
+     * The highest bit of each byte is set if more bytes follow.
+     *
+     * @param out The stream to write to.
+     * @param value The value to write.
+     * @throws IOException If the value cannot be written.
+     */
+    private static void writeVarInt(@NotNull DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads an integer written by {@link InputJournal#writeVarInt(DataOutputStream, int)}.
+     *
+     * @param in The stream to read from.
+     * @return The value read.
+     * @throws IOException If the value cannot be read, or is longer than an integer.
+     */
+    private static int readVarInt(@NotNull DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Variable-length integer is too long");
+    }
+}
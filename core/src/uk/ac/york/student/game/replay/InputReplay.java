@@ -0,0 +1,105 @@
+package uk.ac.york.student.game.replay;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * This utility class holds how the input of the next game should be handled: played live as normal,
+ * played live and recorded to an {@link InputJournal}, or replayed from one.
+ * <p>
+ * The mode is chosen by the launcher before the game starts, and is used by the first game screen,
+ * which starts an {@link InputSession} with {@link InputReplay#startSession(int, int)}. Later games are played live.
+ */
+@UtilityClass
+public final class InputReplay {
+    /**
+     * How the input of the next game is handled.
+     */
+    public enum Mode {
+        /**
+         * The game is played live, and nothing is recorded.
+         */
+        OFF,
+        /**
+         * The game is played live, and its input is recorded to a journal.
+         */
+        RECORD,
+        /**
+         * The input of the game is replayed from a journal, and live input is ignored.
+         */
+        REPLAY
+    }
+
+    /**
+     * How the input of the next game is handled.
+     */
+    private static Mode mode = Mode.OFF;
+
+    /**
+     * The journal file to record to or replay from, or null if the mode is {@link Mode#OFF}.
+     */
+    private static @Nullable Path path;
+
+    /**
+     * The journal to replay, read when replaying is requested so the launcher can match its screen size, or null if not replaying.
+     */
+    private static @Nullable InputJournal journal;
+
+    /**
+     * Records the input of the next game to the given file, which is written when the game ends or the application is closed.
+     *
+     * @param file The file to record the journal to.
+     */
+    public static void record(@NotNull Path file) {
+        mode = Mode.RECORD;
+        path = file;
+        journal = null;
+    }
+
+    /**
+     * Replays the input of the next game from the given file.
+     * The journal is read straight away, so the launcher can open a window of the size it was recorded at.
+     *
+     * @param file The file to replay the journal from.
+     * @return The journal that will be replayed.
+     * @throws IOException If the journal cannot be read.
+     */
+    public static @NotNull InputJournal replay(@NotNull Path file) throws IOException {
+        InputJournal replayed = InputJournal.read(file);
+        mode = Mode.REPLAY;
+        path = file;
+        journal = replayed;
+        return replayed;
+    }
+
+    /**
+     * Checks whether the next game will be replayed, so the menus can be skipped.
+     *
+     * @return True if the next game will be replayed, false otherwise.
+     */
+    public static boolean isReplaying() {
+        return mode == Mode.REPLAY;
+    }
+
+    /**
+     * Starts the input session of a new game, if recording or replaying was requested. Later games are played live.
+     *
+     * @param screenWidth The width of the screen, in pixels.
+     * @param screenHeight The height of the screen, in pixels.
+     * @return The session, or null if the game is played live without recording.
+     */
+    public static @Nullable InputSession startSession(int screenWidth, int screenHeight) {
+        if (mode == Mode.OFF || path == null) return null;
+        InputSession session = mode == Mode.REPLAY && journal != null
+                ? InputSession.replay(path, journal)
+                : InputSession.record(path, screenWidth, screenHeight);
+        mode = Mode.OFF;
+        path = null;
+        journal = null;
+        return session;
+    }
+}
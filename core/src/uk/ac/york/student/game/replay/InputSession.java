@@ -0,0 +1,174 @@
+package uk.ac.york.student.game.replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The {@link InputSession} class records or replays the input of a single game, started by {@link InputReplay#startSession(int, int)}.
+ * <p>
+ * While recording, every key event is added to an {@link InputJournal}, stamped with the simulation step it takes effect in,
+ * and the journal is written when the session finishes.
+ * While replaying, the events of the journal are sent to the game at the start of the step they were recorded in,
+ * the time of every frame is measured, and when the journal ends, the {@link ReplayStats} are written next to the journal.
+ */
+public final class InputSession {
+    /**
+     * The file the journal is recorded to or replayed from.
+     */
+    private final Path path;
+
+    /**
+     * The journal being recorded or replayed.
+     */
+    private final InputJournal journal;
+
+    /**
+     * The statistics of the replay, or null if recording.
+     */
+    private final @Nullable ReplayStats stats;
+
+    /**
+     * The index of the next event to replay.
+     */
+    private int nextEvent = 0;
+
+    /**
+     * Whether the session has finished.
+     */
+    @Getter
+    private boolean finished = false;
+
+    /**
+     * Constructor for the {@link InputSession} class.
+     *
+     * @param path The file the journal is recorded to or replayed from.
+     * @param journal The journal being recorded or replayed.
+     * @param stats The statistics of the replay, or null if recording.
+     */
+    private InputSession(@NotNull Path path, @NotNull InputJournal journal, @Nullable ReplayStats stats) {
+        this.path = path;
+        this.journal = journal;
+        this.stats = stats;
+    }
+
+    /**
+     * Starts recording a new journal, with a new seed for the random number generator.
+     *
+     * @param path The file to write the journal to.
+     * @param screenWidth The width of the screen, in pixels.
+     * @param screenHeight The height of the screen, in pixels.
+     * @return The session.
+     */
+    static @NotNull InputSession record(@NotNull Path path, int screenWidth, int screenHeight) {
+        return new InputSession(path, new InputJournal(System.nanoTime(), screenWidth, screenHeight), null);
+    }
+
+    /**
+     * Starts replaying a journal.
+     *
+     * @param path The file the journal was read from, next to which the statistics are written.
+     * @param journal The journal to replay.
+     * @return The session.
+     */
+    static @NotNull InputSession replay(@NotNull Path path, @NotNull InputJournal journal) {
+        ReplayStats stats = new ReplayStats();
+        stats.start();
+        return new InputSession(path, journal, stats);
+    }
+
+    /**
+     * Gets the seed the random number generator should be given at the start of the game.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return journal.getSeed();
+    }
+
+    /**
+     * Checks whether the session replays a journal, in which case live input should be ignored.
+     *
+     * @return True if replaying, false if recording.
+     */
+    public boolean isReplaying() {
+        return stats != null;
+    }
+
+    /**
+     * Records a live key event, if recording.
+     *
+     * @param step The simulation step the event takes effect in, which is the next step to run.
+     * @param keycode The keycode of the key.
+     * @param down True if the key was pressed, false if it was released.
+     */
+    public void record(int step, int keycode, boolean down) {
+        if (isReplaying() || finished) return;
+        journal.add(step, keycode, down);
+    }
+
+    /**
+     * Sends the events recorded for the given step to the game, if replaying.
+     * This should be called at the start of every simulation step, before the step runs.
+     *
+     * @param step The simulation step about to run.
+     * @param processor The processor the events were sent to when they were recorded.
+     * @return True if the journal has more steps to replay, false if it has ended and the session should be finished.
+     */
+    public boolean dispatch(int step, @NotNull InputProcessor processor) {
+        if (!isReplaying() || finished) return true;
+        while (nextEvent < journal.getEventCount() && journal.getStep(nextEvent) <= step) {
+            if (journal.isDown(nextEvent)) {
+                processor.keyDown(journal.getKeycode(nextEvent));
+            } else {
+                processor.keyUp(journal.getKeycode(nextEvent));
+            }
+            nextEvent++;
+        }
+        return step < journal.getLength();
+    }
+
+    /**
+     * Records the time of a frame, if replaying.
+     *
+     * @param deltaTime The time since the previous frame, in seconds.
+     */
+    public void frame(float deltaTime) {
+        if (stats != null && !finished) stats.frame(deltaTime);
+    }
+
+    /**
+     * Finishes the session. When recording, the journal is written. When replaying, the statistics are written and logged,
+     * along with an error if the game did not end in the state it was recorded in. Calling this more than once has no effect.
+     * This must be called on the render thread.
+     *
+     * @param steps The number of simulation steps that were run.
+     * @param checksum The checksum of the state of the game at the end of the session.
+     */
+    public void finish(int steps, int checksum) {
+        if (finished) return;
+        finished = true;
+        try {
+            if (stats == null) {
+                journal.finish(steps, checksum);
+                journal.write(path);
+                Gdx.app.log("LetRonCooke", "Recorded " + journal.getEventCount() + " key events over " + steps + " steps to " + path);
+                return;
+            }
+            // Only the state is compared, as a game that ends on the end screen may be closed a few steps earlier or later than when it was recorded
+            boolean desynced = checksum != journal.getEndChecksum();
+            if (desynced) {
+                Gdx.app.error("LetRonCooke", "Replay of " + path + " ended in a different state from the recording");
+            }
+            String json = stats.write(path.resolveSibling(path.getFileName() + ".stats.json"), journal, desynced);
+            Gdx.app.log("LetRonCooke", "Replay statistics: " + json);
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to write the input journal or replay statistics for " + path, e);
+        }
+    }
+}
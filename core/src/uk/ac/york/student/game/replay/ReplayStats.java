@@ -0,0 +1,144 @@
+package uk.ac.york.student.game.replay;
+
+import com.badlogic.gdx.utils.FloatArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The {@link ReplayStats} class collects the frame times and allocations of a replay,
+ * so runs of the same journal on different builds can be compared.
+ * <p>
+ * Every frame time is kept, so the percentiles are exact rather than estimated from a histogram.
+ * Allocations are measured on the render thread, which is where the game allocates, and garbage collections are counted for the whole JVM.
+ */
+public final class ReplayStats {
+    /**
+     * The time of each frame, in milliseconds.
+     */
+    private final FloatArray frameMillis = new FloatArray(1 << 16);
+
+    /**
+     * The bytes allocated by the render thread, and the number and total time of garbage collections, when the replay started.
+     */
+    private long startAllocatedBytes = -1, startCollections, startCollectionMillis;
+
+    /**
+     * Starts measuring. This must be called on the render thread, before the first frame of the replay.
+     */
+    public void start() {
+        frameMillis.clear();
+        startAllocatedBytes = getAllocatedBytes();
+        startCollections = getCollections();
+        startCollectionMillis = getCollectionMillis();
+    }
+
+    /**
+     * Records the time of a frame.
+     *
+     * @param deltaTime The time since the previous frame, in seconds.
+     */
+    public void frame(float deltaTime) {
+        frameMillis.add(deltaTime * 1000);
+    }
+
+    /**
+     * Gets the number of frames recorded.
+     *
+     * @return The number of frames.
+     */
+    public int getFrameCount() {
+        return frameMillis.size;
+    }
+
+    /**
+     * Writes the statistics as a single JSON object, so they can be compared by a script.
+     * This must be called on the render thread, as the allocations are measured on it.
+     *
+     * @param path The file to write to.
+     * @param journal The journal that was replayed.
+     * @param desynced True if the replay ended in a different state from the recording.
+     * @return The JSON that was written, which can also be logged.
+     * @throws IOException If the file cannot be written.
+     */
+    public @NotNull String write(@NotNull Path path, @NotNull InputJournal journal, boolean desynced) throws IOException {
+        float[] sorted = Arrays.copyOf(frameMillis.items, frameMillis.size);
+        Arrays.sort(sorted);
+        double total = 0;
+        for (float millis : sorted) total += millis;
+        int frames = sorted.length;
+        long allocatedBytes = startAllocatedBytes < 0 ? -1 : getAllocatedBytes() - startAllocatedBytes;
+
+        String json = String.format(Locale.ROOT,
+                "{\"steps\":%d,\"events\":%d,\"frames\":%d,\"desynced\":%b,"
+                        + "\"meanFrameMs\":%.4f,\"p50FrameMs\":%.4f,\"p99FrameMs\":%.4f,\"p999FrameMs\":%.4f,\"maxFrameMs\":%.4f,"
+                        + "\"allocatedBytes\":%d,\"allocatedBytesPerFrame\":%.1f,\"gcCount\":%d,\"gcMillis\":%d}",
+                journal.getLength(), journal.getEventCount(), frames, desynced,
+                frames == 0 ? 0 : total / frames, percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                frames == 0 ? 0 : sorted[frames - 1],
+                allocatedBytes, frames == 0 || allocatedBytes < 0 ? 0 : (double) allocatedBytes / frames,
+                getCollections() - startCollections, getCollectionMillis() - startCollectionMillis);
+        Files.write(path, (json + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+        return json;
+    }
+
+    /**
+     * Gets a percentile of the sorted frame times, using the nearest rank.
+     *
+     * @param sorted The frame times, sorted in ascending order.
+     * @param fraction The percentile, from 0 to 1.
+     * @return The frame time at the percentile, or 0 if there are no frames.
+     */
+    private static float percentile(float @NotNull [] sorted, double fraction) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread, if the JVM supports measuring it.
+     *
+     * @return The number of bytes allocated, or -1 if it cannot be measured.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return -1;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return -1;
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Gets the number of garbage collections since the JVM started, over every collector.
+     *
+     * @return The number of collections.
+     */
+    private static long getCollections() {
+        long collections = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += Math.max(0, collector.getCollectionCount());
+        }
+        return collections;
+    }
+
+    /**
+     * Gets the total time spent in garbage collection since the JVM started, over every collector.
+     *
+     * @return The time spent, in milliseconds.
+     */
+    private static long getCollectionMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+}
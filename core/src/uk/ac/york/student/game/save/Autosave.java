@@ -0,0 +1,268 @@
+package uk.ac.york.student.game.save;
+
+import com.badlogic.gdx.Gdx;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.player.PlayerMetrics;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This utility class saves the game in the background, and hands a saved game to the next game screen when it is resumed.
+ * <p>
+ * {@link Autosave#save(GameSnapshot)} only queues the snapshot on the background thread, so the render thread never waits for the disk.
+ * If several snapshots are saved before the thread gets to them, only the latest is written.
+ * The file is written to a temporary file, forced to disk and moved over the old one, so a crash never leaves a half-written save.
+ * <p>
+ * Saving and deleting run on the same thread, in the order they were requested, and each queued save carries its own request,
+ * so a game that has ended is never saved again by a late write, and a delete only removes the saves requested before it.
+ * <p>
+ * Whether there is a save is tracked in memory as saves and deletes are requested, so {@link Autosave#exists()} never waits for the
+ * background thread. Only {@link Autosave#load()} waits for it, as the save it reads must have been written.
+ */
+@UtilityClass
+public final class Autosave {
+    /**
+     * The file the game is saved to, in the working directory.
+     */
+    private static final Path SAVE_FILE = Paths.get("autosave.dat");
+
+    /**
+     * The file a save is written to before it replaces {@link Autosave#SAVE_FILE}.
+     */
+    private static final Path TEMPORARY_FILE = SAVE_FILE.resolveSibling(SAVE_FILE.getFileName() + ".tmp");
+
+    /**
+     * The thread saves are written on.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * A request to save a snapshot. Every call to {@link Autosave#save(GameSnapshot)} makes a new request,
+     * so a queued write can tell whether it is still the latest request even if the same snapshot is saved again.
+     */
+    private static final class SaveRequest {
+        /**
+         * The snapshot to save.
+         */
+        private final GameSnapshot snapshot;
+
+        /**
+         * Constructs a new {@link SaveRequest}.
+         *
+         * @param snapshot The snapshot to save.
+         */
+        private SaveRequest(GameSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * The latest save request that has not been written yet, or null if there is none, or if the save has been deleted since.
+     */
+    private static final AtomicReference<SaveRequest> pending = new AtomicReference<>();
+
+    /**
+     * Whether there will be a saved game once the queued saves and deletes have run,
+     * or null if none have been requested since the game started and the save file has not been checked yet.
+     */
+    private static final AtomicReference<Boolean> hasSave = new AtomicReference<>();
+
+    /**
+     * The snapshot the next game screen should resume from, or null if it should start a new game.
+     */
+    private static @Nullable GameSnapshot resume;
+
+    /**
+     * Saves a snapshot in the background. This returns straight away, and can be called on the render thread.
+     *
+     * @param snapshot The snapshot to save.
+     */
+    public static void save(@NotNull GameSnapshot snapshot) {
+        SaveRequest request = new SaveRequest(snapshot);
+        pending.set(request);
+        hasSave.set(Boolean.TRUE);
+        run(() -> writeRequest(request));
+    }
+
+    /**
+     * Deletes the saved game in the background, along with any snapshot that has not been written yet.
+     * Snapshots saved after this is called are still written.
+     * This should be called when the game ends, so it cannot be resumed.
+     */
+    public static void delete() {
+        pending.set(null);
+        hasSave.set(Boolean.FALSE);
+        run(Autosave::deleteFile);
+    }
+
+    /**
+     * Runs a task on the background thread, after the tasks already queued.
+     *
+     * @param task The task to run.
+     */
+    private static void run(@NotNull Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // The game is closing and the background thread has stopped, so run the task straight away
+            task.run();
+        }
+    }
+
+    /**
+     * Checks whether there is a saved game to resume, counting the saves and deletes that have been requested but not run yet.
+     * This does not wait for the background thread, so it can be called on the render thread.
+     * The save file is only checked the first time, if no save or delete has been requested since the game started.
+     *
+     * @return True if there is a saved game, false otherwise.
+     */
+    public static boolean exists() {
+        Boolean known = hasSave.get();
+        if (known != null) return known;
+        // Nothing has been queued yet, so the file on disk is up to date
+        hasSave.compareAndSet(null, Files.isRegularFile(SAVE_FILE));
+        return hasSave.get();
+    }
+
+    /**
+     * Loads the saved game, after any saves or deletes that are still running.
+     * This waits for the background thread for up to a second, so it should only be called when the player chooses to resume.
+     *
+     * @return The saved game, or null if there is none or it cannot be read.
+     */
+    public static @Nullable GameSnapshot load() {
+        awaitWrites();
+        if (!Files.isRegularFile(SAVE_FILE)) {
+            // The save failed, or was not written in time, so stop offering to resume it
+            hasSave.compareAndSet(Boolean.TRUE, Boolean.FALSE);
+            return null;
+        }
+        try {
+            return GameSnapshot.read(SAVE_FILE, PlayerMetrics.MetricType.values().length, Activity.values().length);
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to load the saved game", e);
+            return null;
+        }
+    }
+
+    /**
+     * Sets the snapshot the next game screen should resume from, instead of starting a new game.
+     *
+     * @param snapshot The snapshot to resume from.
+     */
+    public static void resumeNextGame(@NotNull GameSnapshot snapshot) {
+        resume = snapshot;
+    }
+
+    /**
+     * Gets and clears the snapshot set by {@link Autosave#resumeNextGame(GameSnapshot)}, so only the next game screen resumes from it.
+     *
+     * @return The snapshot to resume from, or null if a new game should be started.
+     */
+    public static @Nullable GameSnapshot takeResume() {
+        GameSnapshot snapshot = resume;
+        resume = null;
+        return snapshot;
+    }
+
+    /**
+     * Writes any snapshot that is still waiting, and stops the background thread.
+     * This should only be called when the game is closing.
+     */
+    public static void onDisable() {
+        executor.shutdown();
+        try {
+            // Wait for the writes that have already been requested
+            executor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Write anything the thread did not get to in time
+        writePending();
+    }
+
+    /**
+     * Waits for the saves and deletes that have already been requested, for up to a second.
+     */
+    private static void awaitWrites() {
+        try {
+            executor.submit(() -> { }).get(1, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException | ExecutionException | TimeoutException e) {
+            // The thread has stopped or is stuck, so use the file as it is
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the snapshot of a save request, unless a later save or delete has replaced it since it was queued.
+     * A later save writes its own snapshot when its task runs, and a later delete must not be undone by this write.
+     *
+     * @param request The save request.
+     */
+    private static synchronized void writeRequest(@NotNull SaveRequest request) {
+        if (pending.compareAndSet(request, null)) write(request.snapshot);
+    }
+
+    /**
+     * Writes the latest snapshot that has not been written yet, if there is one.
+     */
+    private static synchronized void writePending() {
+        SaveRequest request = pending.getAndSet(null);
+        if (request != null) write(request.snapshot);
+    }
+
+    /**
+     * Writes a snapshot to the save file. Only one write runs at a time, as it is only called while holding the class lock.
+     *
+     * @param snapshot The snapshot to write.
+     */
+    private static void write(@NotNull GameSnapshot snapshot) {
+        try {
+            snapshot.write(TEMPORARY_FILE);
+            // Make sure the new save is on disk before it replaces the old one
+            try (FileChannel channel = FileChannel.open(TEMPORARY_FILE, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            try {
+                Files.move(TEMPORARY_FILE, SAVE_FILE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(TEMPORARY_FILE, SAVE_FILE, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to save the game", e);
+        }
+    }
+
+    /**
+     * Deletes the saved game, if there is one.
+     */
+    private static synchronized void deleteFile() {
+        try {
+            Files.deleteIfExists(SAVE_FILE);
+        } catch (IOException e) {
+            Gdx.app.error("LetRonCooke", "Failed to delete the saved game", e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package uk.ac.york.student.game.save;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.player.PlayerStreaks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * The {@link GameSnapshot} class holds everything needed to resume a game: the chosen character, the day and hour,
+ * the player's metrics and their totals, the history of the activity streaks, the activities performed today,
+ * the number of days without studying, and the map the player is on and where.
+ * <p>
+ * A snapshot is captured on the render thread by copying a few small arrays, so it can be taken after every activity
+ * without a visible cost, and it never changes afterwards, so it can be written by {@link Autosave} on a background thread.
+ * <p>
+ * On disk, a snapshot is a versioned header, the values, and a CRC32 checksum of everything before it.
+ * Every array is written with its length, so a snapshot stays readable if metrics or activities are added later:
+ * missing values keep their defaults, and values for types that no longer exist are skipped.
+ */
+@Getter
+public final class GameSnapshot {
+    /**
+     * The value at the start of every snapshot file, used to recognise it.
+     */
+    private static final int MAGIC = 0x4C524347;
+
+    /**
+     * The version of the snapshot format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * The largest streak history that is read, in longs, which is far more than any game lasts.
+     */
+    private static final int MAX_HISTORY_WORDS = 1 << 20;
+
+    /**
+     * The character the player chose.
+     */
+    private final int character;
+
+    /**
+     * The current day and hour of the game.
+     */
+    private final int day, hour;
+
+    /**
+     * The value and total of each metric, indexed by {@link uk.ac.york.student.player.PlayerMetrics.MetricType#ordinal()}.
+     */
+    private final float[] metricValues, metricTotals;
+
+    /**
+     * The number of times each activity has been performed today, indexed by {@link uk.ac.york.student.game.activities.Activity#ordinal()}.
+     */
+    private final int[] activitiesToday;
+
+    /**
+     * The activities performed on each day, as returned by {@link uk.ac.york.student.player.PlayerStreaks#copyHistory()},
+     * from which the streaks are rebuilt.
+     */
+    private final long[] streakHistory;
+
+    /**
+     * The number of days the player has gone to sleep without studying.
+     */
+    private final int notStudiedCounter;
+
+    /**
+     * The name of the map the player is on.
+     */
+    private final String mapName;
+
+    /**
+     * The position of the player on the map, in map pixels, so it does not depend on the size of the screen.
+     */
+    private final float x, y;
+
+    /**
+     * The position the player returns to on the main map when leaving a building, in map pixels of the main map,
+     * so it does not depend on the size of the screen either.
+     */
+    private final float returnX, returnY;
+
+    /**
+     * Constructor for the {@link GameSnapshot} class. The arrays are kept, not copied, so they must not be changed afterwards.
+     *
+     * @param character The character the player chose.
+     * @param day The current day of the game.
+     * @param hour The current hour of the game.
+     * @param metricValues The value of each metric.
+     * @param metricTotals The total of each metric.
+     * @param activitiesToday The number of times each activity has been performed today.
+     * @param streakHistory The activities performed on each day.
+     * @param notStudiedCounter The number of days the player has gone to sleep without studying.
+     * @param mapName The name of the map the player is on.
+     * @param x The x-coordinate of the player, in map pixels.
+     * @param y The y-coordinate of the player, in map pixels.
+     * @param returnX The x-coordinate the player returns to when leaving a building, in map pixels of the main map.
+     * @param returnY The y-coordinate the player returns to when leaving a building, in map pixels of the main map.
+     */
+    public GameSnapshot(int character, int day, int hour, float @NotNull [] metricValues, float @NotNull [] metricTotals,
+                        int @NotNull [] activitiesToday, long @NotNull [] streakHistory, int notStudiedCounter, @NotNull String mapName, float x, float y, float returnX, float returnY) {
+        this.character = character;
+        this.day = day;
+        this.hour = hour;
+        this.metricValues = metricValues;
+        this.metricTotals = metricTotals;
+        this.activitiesToday = activitiesToday;
+        this.streakHistory = streakHistory;
+        this.notStudiedCounter = notStudiedCounter;
+        this.mapName = mapName;
+        this.x = x;
+        this.y = y;
+        this.returnX = returnX;
+        this.returnY = returnY;
+    }
+
+    /**
+     * Writes the snapshot to a file, replacing it if it exists.
+     * The file is not replaced atomically, so {@link Autosave} writes to a temporary file and moves it into place.
+     *
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(@NotNull Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(path);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), crc);
+             DataOutputStream out = new DataOutputStream(checked)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeByte(character);
+            out.writeShort(day);
+            out.writeByte(hour);
+            writeFloats(out, metricValues);
+            writeFloats(out, metricTotals);
+            writeInts(out, activitiesToday);
+            out.writeShort(PlayerStreaks.getHistoryWordsPerDay());
+            out.writeInt(streakHistory.length);
+            for (long word : streakHistory) out.writeLong(word);
+            out.writeInt(notStudiedCounter);
+            out.writeUTF(mapName);
+            out.writeFloat(x);
+            out.writeFloat(y);
+            out.writeFloat(returnX);
+            out.writeFloat(returnY);
+            // The checksum covers everything before it, so read its value before writing it to the stream
+            out.writeLong(crc.getValue());
+        }
+    }
+
+    /**
+     * Reads a snapshot from a file.
+     *
+     * @param path The file to read from.
+     * @param metrics The number of metrics in this version of the game.
+     * @param activities The number of activities in this version of the game.
+     * @return The snapshot.
+     * @throws IOException If the file cannot be read, is not a snapshot, or is corrupted.
+     */
+    public static @NotNull GameSnapshot read(@NotNull Path path, int metrics, int activities) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream file = Files.newInputStream(path);
+             CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file), crc);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a saved game: " + path);
+            }
+            int character = in.readUnsignedByte();
+            int day = in.readUnsignedShort();
+            int hour = in.readUnsignedByte();
+            float[] metricValues = readFloats(in, metrics);
+            float[] metricTotals = readFloats(in, metrics);
+            int[] activitiesToday = readInts(in, activities);
+            long[] streakHistory = readHistory(in);
+            int notStudiedCounter = in.readInt();
+            String mapName = in.readUTF();
+            float x = in.readFloat();
+            float y = in.readFloat();
+            float returnX = in.readFloat();
+            float returnY = in.readFloat();
+            // The checksum covers everything before it, so read its value before reading it from the stream
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Saved game is corrupted: " + path);
+            }
+            return new GameSnapshot(character, day, hour, metricValues, metricTotals, activitiesToday, streakHistory,
+                    notStudiedCounter, mapName, x, y, returnX, returnY);
+        }
+    }
+
+    /**
+     * Writes an array of floats, preceded by its length.
+     *
+     * @param out The stream to write to.
+     * @param values The values to write.
+     * @throws IOException If the values cannot be written.
+     */
+    private static void writeFloats(@NotNull DataOutputStream out, float @NotNull [] values) throws IOException {
+        out.writeByte(values.length);
+        for (float value : values) out.writeFloat(value);
+    }
+
+    /**
+     * Writes an array of ints, preceded by its length.
+     *
+     * @param out The stream to write to.
+     * @param values The values to write.
+     * @throws IOException If the values cannot be written.
+     */
+    private static void writeInts(@NotNull DataOutputStream out, int @NotNull [] values) throws IOException {
+        out.writeByte(values.length);
+        for (int value : values) out.writeInt(value);
+    }
+
+    /**
+     * Reads the streak history, converting it to the number of longs per day used by this version of the game.
+     * Days are kept, and activities that no longer fit in a day are dropped.
+     *
+     * @param in The stream to read from.
+     * @return The streak history.
+     * @throws IOException If the history cannot be read.
+     */
+    private static long @NotNull [] readHistory(@NotNull DataInputStream in) throws IOException {
+        int storedWordsPerDay = in.readUnsignedShort();
+        int length = in.readInt();
+        // The checksum is only checked at the end, so make sure a damaged length cannot allocate a huge array first
+        if (storedWordsPerDay == 0 || length < 0 || length > MAX_HISTORY_WORDS || length % storedWordsPerDay != 0) {
+            throw new IOException("Saved game has an invalid streak history");
+        }
+        int wordsPerDay = PlayerStreaks.getHistoryWordsPerDay();
+        long[] history = new long[length / storedWordsPerDay * wordsPerDay];
+        for (int i = 0; i < length; i++) {
+            long word = in.readLong();
+            int day = i / storedWordsPerDay;
+            int wordOfDay = i % storedWordsPerDay;
+            if (wordOfDay < wordsPerDay) history[day * wordsPerDay + wordOfDay] = word;
+        }
+        return history;
+    }
+
+    /**
+     * Reads an array of floats written by {@link GameSnapshot#writeFloats(DataOutputStream, float[])},
+     * resized to the given length. Missing values are left at 0, and extra values are skipped.
+     *
+     * @param in The stream to read from.
+     * @param length The length of the array to return.
+     * @return The values read.
+     * @throws IOException If the values cannot be read.
+     */
+    private static float @NotNull [] readFloats(@NotNull DataInputStream in, int length) throws IOException {
+        float[] values = new float[length];
+        int stored = in.readUnsignedByte();
+        for (int i = 0; i < stored; i++) {
+            float value = in.readFloat();
+            if (i < length) values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Reads an array of ints written by {@link GameSnapshot#writeInts(DataOutputStream, int[])},
+     * resized to the given length. Missing values are left at 0, and extra values are skipped.
+     *
+     * @param in The stream to read from.
+     * @param length The length of the array to return.
+     * @return The values read.
+     * @throws IOException If the values cannot be read.
+     */
+    private static int @NotNull [] readInts(@NotNull DataInputStream in, int length) throws IOException {
+        int[] values = new int[length];
+        int stored = in.readUnsignedByte();
+        for (int i = 0; i < stored; i++) {
+            int value = in.readInt();
+            if (i < length) values[i] = value;
+        }
+        return values;
+    }
+}
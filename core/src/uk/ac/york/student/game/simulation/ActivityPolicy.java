@@ -0,0 +1,50 @@
+package uk.ac.york.student.game.simulation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * An {@link ActivityPolicy} decides which activity a simulated player performs next.
+ * It is called repeatedly by the {@link GameSimulator} until the {@link SimulatedGame} is finished.
+ * Policies are shared between threads, so they must not keep any state between calls;
+ * all randomness should come from the given {@link SplittableRandom}, which is seeded for each game.
+ */
+@FunctionalInterface
+public interface ActivityPolicy {
+    /**
+     * Chooses the next activity to perform.
+     *
+     * @param game The game being simulated.
+     * @param activities The activities available in the game.
+     * @param random The random number generator of the game.
+     * @return The activity to perform next, or null to end the game early.
+     */
+    @Nullable SimulatedActivity next(@NotNull SimulatedGame game, @NotNull List<SimulatedActivity> activities, @NotNull SplittableRandom random);
+
+    /**
+     * A policy that performs a random activity out of the ones that can currently be performed, sleeping included.
+     * If no activity can be performed at all, the game ends early.
+     *
+     * @return The random policy.
+     */
+    static @NotNull ActivityPolicy random() {
+        return (game, activities, random) -> {
+            // Pick uniformly out of the performable activities without allocating a filtered list
+            SimulatedActivity chosen = null;
+            int performable = 0;
+            for (int i = 0; i < activities.size(); i++) {
+                SimulatedActivity activity = activities.get(i);
+                if (!game.canPerform(activity)) continue;
+                performable++;
+                // Reservoir sampling: keep the activity with probability 1 / performable
+                if (random.nextInt(performable) == 0) {
+                    chosen = activity;
+                }
+            }
+            return chosen;
+        };
+    }
+}
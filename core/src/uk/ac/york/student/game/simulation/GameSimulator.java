@@ -0,0 +1,182 @@
+package uk.ac.york.student.game.simulation;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@link GameSimulator} class plays large batches of {@link SimulatedGame}s to find the distribution of scores
+ * for a set of activities and an {@link ActivityPolicy}, for example to balance the change amounts of the activities.
+ * <p>
+ * The games are split between the threads of a {@link ForkJoinPool}, and every thread collects its scores into its own
+ * {@link SimulationResult}, which are merged at the end, so the threads do not share any state while simulating.
+ * Each game is seeded from the batch seed and its index in the batch, so a batch gives the same result
+ * no matter how many threads it runs on. The two are mixed by {@link GameSimulator#gameSeed(long, long)},
+ * so batches with nearby seeds play unrelated games rather than mostly the same ones shifted by an index.
+ */
+public final class GameSimulator {
+    /**
+     * The maximum number of activities a single game may attempt before it is counted as unfinished.
+     * This stops a policy that never ends the game from running forever.
+     */
+    private static final int MAX_ATTEMPTS_PER_GAME = 10_000;
+
+    /**
+     * The number of games a task simulates itself instead of splitting them between two subtasks.
+     */
+    private static final int GAMES_PER_TASK = 1024;
+
+    /**
+     * The increment of the SplitMix64 generator, the odd integer closest to 2^64 divided by the golden ratio.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The activities available in the simulated games.
+     */
+    @Getter
+    private final @Unmodifiable List<SimulatedActivity> activities;
+
+    /**
+     * The policy that chooses which activity is performed next.
+     */
+    @Getter
+    private final ActivityPolicy policy;
+
+    /**
+     * Constructs a new {@link GameSimulator}.
+     *
+     * @param activities The activities available in the simulated games.
+     * @param policy The policy that chooses which activity is performed next. It must not keep state between calls.
+     */
+    public GameSimulator(@NotNull List<SimulatedActivity> activities, @NotNull ActivityPolicy policy) {
+        this.activities = List.copyOf(activities);
+        this.policy = policy;
+    }
+
+    /**
+     * Plays a single game with the given seed until it is finished, the policy ends it, or it runs out of attempts.
+     *
+     * @param seed The seed of the game.
+     * @return The game, in the state it was left in.
+     */
+    public @NotNull SimulatedGame play(long seed) {
+        SimulatedGame game = new SimulatedGame();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_GAME && !game.isFinished(); attempt++) {
+            SimulatedActivity activity = policy.next(game, activities, random);
+            if (activity == null) break;
+            game.perform(activity);
+        }
+        return game;
+    }
+
+    /**
+     * Derives the seed of a game from the seed of its batch and its index in the batch.
+     * The batch seed is scrambled before the index is added, and the sum is scrambled again, as in a SplitMix64 step,
+     * so consecutive batch seeds do not give overlapping sequences of game seeds.
+     *
+     * @param seed The seed of the batch.
+     * @param index The index of the game in the batch.
+     * @return The seed of the game.
+     */
+    public static long gameSeed(long seed, long index) {
+        return mix(mix(seed) + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Scrambles the bits of a value with the finaliser of SplitMix64, so that nearby values give unrelated results.
+     *
+     * @param z The value to scramble.
+     * @return The scrambled value.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Simulates a batch of games on the common {@link ForkJoinPool}, which uses every available core.
+     *
+     * @param games The number of games to simulate.
+     * @param seed The seed of the batch.
+     * @return The distribution of the scores of the games.
+     */
+    public @NotNull SimulationResult simulate(long games, long seed) {
+        return simulate(games, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulates a batch of games on the given {@link ForkJoinPool}.
+     *
+     * @param games The number of games to simulate.
+     * @param seed The seed of the batch.
+     * @param pool The pool to run the games on.
+     * @return The distribution of the scores of the games.
+     * @throws IllegalArgumentException If the number of games is negative.
+     */
+    public @NotNull SimulationResult simulate(long games, long seed, @NotNull ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("The number of games cannot be negative: " + games);
+        }
+        return pool.invoke(new SimulationTask(seed, 0, games));
+    }
+
+    /**
+     * A {@link RecursiveTask} that simulates the games with indexes in a range, splitting the range in two while it is large.
+     */
+    private final class SimulationTask extends RecursiveTask<SimulationResult> {
+        /**
+         * The seed of the batch.
+         */
+        private final long seed;
+
+        /**
+         * The index of the first game to simulate (inclusive) and of the last game (exclusive).
+         */
+        private final long from, to;
+
+        /**
+         * Constructs a new {@link SimulationTask}.
+         *
+         * @param seed The seed of the batch.
+         * @param from The index of the first game to simulate (inclusive).
+         * @param to The index of the last game to simulate (exclusive).
+         */
+        private SimulationTask(long seed, long from, long to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult();
+                for (long index = from; index < to; index++) {
+                    // Every game gets its own seed, mixed from the batch seed and its index
+                    SimulatedGame game = play(gameSeed(seed, index));
+                    if (game.isFinished()) {
+                        result.add(game.getScore());
+                    } else {
+                        result.addUnfinished();
+                    }
+                }
+                return result;
+            }
+
+            // Split the range in two, simulating the second half in this thread while the first half can be stolen
+            long middle = from + (to - from) / 2;
+            SimulationTask left = new SimulationTask(seed, from, middle);
+            left.fork();
+            SimulationResult right = new SimulationTask(seed, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package uk.ac.york.student.game.simulation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.assets.map.ActivityMapObject;
+import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.game.activities.ActivityEffects;
+import uk.ac.york.student.player.MetricStore;
+import uk.ac.york.student.player.PlayerMetrics;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@link SimulatedActivity} class describes an activity that can be performed in a {@link SimulatedGame}.
+ * It holds the same values as an {@link ActivityMapObject} (the type, the time it takes and the change amounts),
+ * without depending on a loaded map, so that different change amounts can be tried out when balancing the game.
+ */
+@Getter
+public final class SimulatedActivity {
+    /**
+     * The type of the activity.
+     */
+    private final Activity type;
+
+    /**
+     * How long the activity takes, in hours.
+     */
+    private final int time;
+
+    /**
+     * The amounts by which the player's metrics change when performing the activity.
+     * Each amount corresponds to the effect at the same index in {@link Activity#getEffects()}.
+     */
+    private final float[] changeAmounts;
+
+    /**
+     * The change amount of each metric, indexed by {@link PlayerMetrics.MetricType#ordinal()},
+     * compiled from {@link SimulatedActivity#changeAmounts} by {@link ActivityEffects#compileChangeAmounts(Activity, float[])}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final float[] metricChangeAmounts;
+
+    /**
+     * Constructs a new {@link SimulatedActivity}.
+     *
+     * @param type The type of the activity.
+     * @param time How long the activity takes, in hours.
+     * @param changeAmounts The amounts by which the player's metrics change, one for each effect of the activity in the order of {@link Activity#getEffects()}.
+     * @throws IllegalArgumentException If the number of change amounts does not match the number of effects of the activity.
+     */
+    public SimulatedActivity(@NotNull Activity type, int time, float @NotNull ... changeAmounts) {
+        if (changeAmounts.length != type.getEffects().size()) {
+            throw new IllegalArgumentException("Activity " + type + " has " + type.getEffects().size() + " effects, but " + changeAmounts.length + " change amounts were given");
+        }
+        this.type = type;
+        this.time = time;
+        this.changeAmounts = changeAmounts.clone();
+        this.metricChangeAmounts = ActivityEffects.compileChangeAmounts(type, changeAmounts);
+    }
+
+    /**
+     * Creates a {@link SimulatedActivity} with the same values as an activity on a map.
+     *
+     * @param object The activity on the map.
+     * @return A new {@link SimulatedActivity} with the type, time and change amounts of the given activity.
+     */
+    @Contract("_ -> new")
+    public static @NotNull SimulatedActivity of(@NotNull ActivityMapObject object) {
+        List<Float> amounts = object.getChangeAmounts();
+        float[] changeAmounts = new float[amounts.size()];
+        for (int i = 0; i < changeAmounts.length; i++) {
+            changeAmounts[i] = amounts.get(i);
+        }
+        return new SimulatedActivity(object.getType(), object.getTime(), changeAmounts);
+    }
+
+    /**
+     * Returns the change amount for the specified {@link PlayerMetrics.MetricType}.
+     *
+     * @param metricType the {@link PlayerMetrics.MetricType} to get the change amount for
+     * @return the change amount for the specified {@link PlayerMetrics.MetricType}
+     */
+    public float getChangeAmount(PlayerMetrics.MetricType metricType) {
+        return metricChangeAmounts[metricType.ordinal()];
+    }
+
+    /**
+     * Checks whether there is enough of every metric the activity decreases to perform it.
+     *
+     * @param store The metrics to check.
+     * @return True if every decreased metric is at least its change amount, false otherwise.
+     */
+    public boolean hasEnough(@NotNull MetricStore store) {
+        return ActivityEffects.hasEnough(type, metricChangeAmounts, store);
+    }
+
+    /**
+     * Applies the effects of the activity to the metrics.
+     *
+     * @param store The metrics to change.
+     */
+    public void apply(@NotNull MetricStore store) {
+        ActivityEffects.apply(type, metricChangeAmounts, store);
+    }
+
+    /**
+     * Returns the change amount of the effect at the given index in {@link Activity#getEffects()}.
+     *
+     * @param effectIndex the index of the effect
+     * @return the change amount of the effect
+     */
+    public float getChangeAmount(int effectIndex) {
+        return changeAmounts[effectIndex];
+    }
+
+    /**
+     * Returns a copy of the change amounts, so the activity cannot be changed while games are being simulated.
+     *
+     * @return The amounts by which the player's metrics change, in the order of {@link Activity#getEffects()}.
+     */
+    public float[] getChangeAmounts() {
+        return changeAmounts.clone();
+    }
+
+    @Override
+    public String toString() {
+        return type + " (" + time + " hours, " + Arrays.toString(changeAmounts) + ")";
+    }
+}
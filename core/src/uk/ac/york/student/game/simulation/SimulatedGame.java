@@ -0,0 +1,175 @@
+package uk.ac.york.student.game.simulation;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.game.GameTime;
+import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.player.MetricStore;
+import uk.ac.york.student.player.PlayerMetrics;
+import uk.ac.york.student.player.PlayerScore;
+import uk.ac.york.student.player.PlayerStreaks;
+import uk.ac.york.student.screens.GameScreen;
+
+import java.util.Arrays;
+
+/**
+ * The {@link SimulatedGame} class plays a single game without a {@link com.badlogic.gdx.scenes.scene2d.Stage}, progress bars or a GL context.
+ * It applies the same rules as {@link GameScreen} when an activity is performed: the time of day, the metric requirements and effects,
+ * the streaks and the days on which the player did not study. At the end of the game, it is scored with
+ * {@link PlayerScore#calculateScore(float, float, float, float, PlayerStreaks, int)}, like the end screen does.
+ * <p>
+ * The metrics are kept in a {@link MetricStore}, the same primitive store used by the player's metrics in the game,
+ * so they follow the same defaults and limits without creating any progress bars.
+ * A {@link SimulatedGame} is not thread-safe, but separate instances share no state, so many games can be simulated at once.
+ */
+public final class SimulatedGame {
+    /**
+     * The current and total values of each metric.
+     * Like in the game, the current value of each metric is added to its total whenever the player sleeps.
+     */
+    @Getter
+    private final MetricStore metrics = new MetricStore();
+
+    /**
+     * The number of times each activity has been attempted today, indexed by {@link Activity#ordinal()}.
+     */
+    private final int[] performedToday = new int[Activity.values().length];
+
+    /**
+     * The streaks of this game, separate from the shared instance used by the game itself.
+     */
+    @Getter
+    private final PlayerStreaks streaks = new PlayerStreaks();
+
+    /**
+     * The current hour of the day, from 0 to {@link GameTime#getDayLength()}.
+     */
+    @Getter
+    private int currentHour = 0;
+
+    /**
+     * The current day, from 0 to {@link GameTime#getDays()}-1.
+     */
+    @Getter
+    private int currentDay = 0;
+
+    /**
+     * The number of days on which the player did not study.
+     */
+    @Getter
+    private int daysNotStudied = 0;
+
+    /**
+     * Whether the player has slept on the last day, which ends the game.
+     */
+    @Getter
+    private boolean finished = false;
+
+    /**
+     * Returns the current value of a metric.
+     *
+     * @param type The type of the metric.
+     * @return The current value of the metric.
+     */
+    public float getMetric(@NotNull PlayerMetrics.MetricType type) {
+        return metrics.get(type);
+    }
+
+    /**
+     * Returns the total accumulated value of a metric.
+     *
+     * @param type The type of the metric.
+     * @return The total accumulated value of the metric.
+     */
+    public float getTotal(@NotNull PlayerMetrics.MetricType type) {
+        return metrics.getTotal(type);
+    }
+
+    /**
+     * Checks whether an activity can be performed right now, without changing the state of the game.
+     * The checks are the same as the ones made by {@link #perform(SimulatedActivity)}.
+     *
+     * @param activity The activity to check.
+     * @return True if performing the activity would succeed, false otherwise.
+     */
+    public boolean canPerform(@NotNull SimulatedActivity activity) {
+        if (finished) return false;
+        Activity type = activity.getType();
+        if (type != Activity.SLEEP) {
+            // It's the end of the day, or there is not enough time left today
+            if (currentHour == GameTime.getDayLength()) return false;
+            if (currentHour + activity.getTime() > GameTime.getDayLength()) return false;
+        }
+        return hasEnough(activity);
+    }
+
+    /**
+     * Checks whether the player has enough of every metric that the activity decreases.
+     *
+     * @param activity The activity to check.
+     * @return True if the player has enough of every decreased metric, false otherwise.
+     */
+    private boolean hasEnough(@NotNull SimulatedActivity activity) {
+        return activity.hasEnough(metrics);
+    }
+
+    /**
+     * Attempts to perform an activity, following the same rules as the game screen.
+     * Like in the game, the attempt counts towards the number of times the activity was performed today even if it fails,
+     * which affects the streaks and whether the player has studied today.
+     *
+     * @param activity The activity to perform.
+     * @return True if the activity was performed, false if it could not be performed or the game is already finished.
+     */
+    public boolean perform(@NotNull SimulatedActivity activity) {
+        if (finished) return false;
+        Activity type = activity.getType();
+
+        // Count the attempt, as the game does before checking whether the activity can be performed
+        performedToday[type.ordinal()]++;
+
+        if (!canPerform(activity)) return false;
+
+        // The streak only counts the first time the activity is performed each day
+        if (performedToday[type.ordinal()] == 1) {
+            streaks.incrementStreak(type, currentDay);
+        }
+
+        if (type == Activity.SLEEP) {
+            if (performedToday[Activity.STUDY.ordinal()] == 0) {
+                daysNotStudied++;
+            }
+            Arrays.fill(performedToday, 0);
+
+            // Add the current value of every metric to its total
+            metrics.accumulateTotals();
+
+            // Sleeping on the last day ends the game before the effects of sleeping are applied
+            if (currentDay == GameTime.getDays() - 1) {
+                finished = true;
+                return true;
+            }
+            currentDay = Math.min(GameTime.getDays() - 1, currentDay + 1);
+            currentHour = 0;
+        } else {
+            currentHour = Math.min(GameTime.getDayLength(), currentHour + activity.getTime());
+        }
+
+        // Apply the effects of the activity to the metrics
+        activity.apply(metrics);
+        return true;
+    }
+
+    /**
+     * Calculates the score of the game, in the same way as the end screen.
+     *
+     * @return The score, between 0 and 100.
+     */
+    public float getScore() {
+        return PlayerScore.calculateScore(
+            metrics.getTotal(PlayerMetrics.MetricType.STUDY_LEVEL), GameTime.getDays(),
+            metrics.getTotal(PlayerMetrics.MetricType.HAPPINESS), GameTime.getDays(),
+            streaks, daysNotStudied
+        );
+    }
+}
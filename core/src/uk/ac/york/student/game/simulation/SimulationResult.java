@@ -0,0 +1,136 @@
+package uk.ac.york.student.game.simulation;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link SimulationResult} class holds the distribution of the scores of a batch of simulated games.
+ * Scores are counted in a histogram with one bucket per whole percentage point, so the result has a fixed size
+ * no matter how many games were simulated, and results of separate batches can be merged.
+ */
+public final class SimulationResult {
+    /**
+     * The number of buckets in the histogram, one for each whole score from 0 to 100.
+     */
+    private static final int BUCKETS = 101;
+
+    /**
+     * The number of games that finished and were scored.
+     */
+    @Getter
+    private long games = 0;
+
+    /**
+     * The number of games that did not finish, because the policy stopped early or the game ran out of actions.
+     * These games are not included in the scores.
+     */
+    @Getter
+    private long unfinishedGames = 0;
+
+    /**
+     * The sum of the scores and of their squares, used to calculate the mean and standard deviation.
+     */
+    private double sum = 0, sumOfSquares = 0;
+
+    /**
+     * The lowest and highest scores.
+     */
+    @Getter
+    private float min = Float.POSITIVE_INFINITY, max = Float.NEGATIVE_INFINITY;
+
+    /**
+     * The number of games for each whole score, where the score of a game is rounded down.
+     */
+    private final long[] histogram = new long[BUCKETS];
+
+    /**
+     * Adds the score of a finished game to the result.
+     *
+     * @param score The score of the game, between 0 and 100.
+     */
+    void add(float score) {
+        games++;
+        sum += score;
+        sumOfSquares += (double) score * score;
+        min = Math.min(min, score);
+        max = Math.max(max, score);
+        histogram[Math.max(0, Math.min(BUCKETS - 1, (int) score))]++;
+    }
+
+    /**
+     * Counts a game that did not finish.
+     */
+    void addUnfinished() {
+        unfinishedGames++;
+    }
+
+    /**
+     * Merges another result into this one.
+     *
+     * @param other The result to merge into this one.
+     * @return This result, for chaining.
+     */
+    @NotNull SimulationResult merge(@NotNull SimulationResult other) {
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the mean score of the finished games.
+     *
+     * @return The mean score, or NaN if no game finished.
+     */
+    public double getMean() {
+        return games == 0 ? Double.NaN : sum / games;
+    }
+
+    /**
+     * Returns the standard deviation of the scores of the finished games.
+     *
+     * @return The standard deviation of the scores, or NaN if no game finished.
+     */
+    public double getStandardDeviation() {
+        if (games == 0) return Double.NaN;
+        double mean = sum / games;
+        return Math.sqrt(Math.max(0, sumOfSquares / games - mean * mean));
+    }
+
+    /**
+     * Returns the number of games for each whole score.
+     *
+     * @return A copy of the histogram, where index {@code i} holds the number of games that scored at least {@code i} and less than {@code i + 1}.
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Returns the number of finished games that scored at least the given whole score.
+     * With the degree class boundaries of {@link uk.ac.york.student.player.PlayerScore#convertScoreToString(float)},
+     * this gives the number of games that reached each degree class.
+     *
+     * @param score The whole score, from 0 to 100.
+     * @return The number of games that scored at least the given score.
+     */
+    public long countAtLeast(int score) {
+        long count = 0;
+        for (int i = Math.max(0, score); i < BUCKETS; i++) {
+            count += histogram[i];
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games (%d unfinished), mean %.2f, sd %.2f, min %.2f, max %.2f",
+            games, unfinishedGames, getMean(), getStandardDeviation(), min, max);
+    }
+}
@@ -0,0 +1,58 @@
+package uk.ac.york.student.game.world;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The CreatureAnimations class holds the moving and standing animations of a {@link CreatureType}, facing left and right.
+ * One instance is created for each type of creature in a {@link World}, and shared by every creature of that type.
+ */
+public final class CreatureAnimations {
+    /**
+     * The animations, for moving and standing still, facing left and right.
+     */
+    private final Animation<TextureRegion> moveLeft, moveRight, idleLeft, idleRight;
+
+    /**
+     * Constructor for the {@link CreatureAnimations} class.
+     * It splits the sprite sheet into cells, and builds the animations from the rows described by the {@link CreatureType}.
+     *
+     * @param type The type of creature.
+     * @param sheet The creature's sprite sheet, owned by the {@link uk.ac.york.student.assets.GameAssets}.
+     */
+    public CreatureAnimations(@NotNull CreatureType type, @NotNull Texture sheet) {
+        TextureRegion[][] cells = TextureRegion.split(sheet, type.getCellSize(), type.getCellSize());
+        moveLeft = createAnimation(cells[type.getMoveRow()], type.getMoveFrames(), CreatureType.MOVE_FRAME_DURATION);
+        moveRight = createAnimation(cells[type.getMoveRow() + 1], type.getMoveFrames(), CreatureType.MOVE_FRAME_DURATION);
+        idleLeft = createAnimation(cells[type.getIdleRow()], type.getIdleFrames(), CreatureType.IDLE_FRAME_DURATION);
+        idleRight = createAnimation(cells[type.getIdleRow() + 1], type.getIdleFrames(), CreatureType.IDLE_FRAME_DURATION);
+    }
+
+    /**
+     * Creates a looping animation from the first frames of a row of the sprite sheet.
+     *
+     * @param row The row of cells.
+     * @param frames The number of frames in the animation.
+     * @param frameDuration The time in seconds each frame is shown for.
+     * @return The animation.
+     */
+    private static @NotNull Animation<TextureRegion> createAnimation(TextureRegion @NotNull [] row, int frames, float frameDuration) {
+        TextureRegion[] keyFrames = new TextureRegion[frames];
+        System.arraycopy(row, 0, keyFrames, 0, frames);
+        return new Animation<>(frameDuration, keyFrames);
+    }
+
+    /**
+     * Returns the animation for a creature that is moving or standing still, and facing left or right.
+     *
+     * @param moving Whether the creature is moving.
+     * @param facingLeft Whether the creature is facing left.
+     * @return The animation.
+     */
+    public @NotNull Animation<TextureRegion> get(boolean moving, boolean facingLeft) {
+        if (moving) return facingLeft ? moveLeft : moveRight;
+        return facingLeft ? idleLeft : idleRight;
+    }
+}
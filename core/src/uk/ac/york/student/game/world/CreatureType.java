@@ -0,0 +1,90 @@
+package uk.ac.york.student.game.world;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.graphics.Texture;
+import lombok.Getter;
+
+/**
+ * The CreatureType enum lists the ambient creatures that wander around the campus, and describes their sprite sheets in {@code assets/map/animals}.
+ * <p>
+ * Each sheet is a grid of square cells. Every animation takes two rows, the first facing left and the second facing right,
+ * with its frames from the left of the row. A creature has an animation for moving and one for standing still.
+ * Birds fly, so they are not stopped by walls; the other creatures walk around them.
+ */
+@Getter
+public enum CreatureType {
+    ROBIN("map/animals/bird_robin_animations.png", 16, 6, 4, 0, 3, 40f, false),
+    BLACKBIRD("map/animals/bird_common_black_animations.png", 16, 6, 4, 0, 3, 40f, false),
+    SQUIRREL("map/animals/squirrel_animations.png", 19, 0, 6, 2, 2, 24f, true),
+    GREY_SQUIRREL("map/animals/squirrel_grey_animations.png", 19, 0, 6, 2, 2, 24f, true),
+    RAT("map/animals/rat_animations.png", 18, 0, 4, 2, 2, 16f, true),
+    WHITE_RAT("map/animals/rat_white_animations.png", 18, 0, 4, 2, 2, 16f, true);
+
+    /**
+     * The time in seconds each frame of the moving animation is shown for.
+     */
+    public static final float MOVE_FRAME_DURATION = 0.1f;
+
+    /**
+     * The time in seconds each frame of the standing animation is shown for.
+     */
+    public static final float IDLE_FRAME_DURATION = 0.25f;
+
+    /**
+     * The descriptor of the creature's sprite sheet. The sheet is filtered with {@link Texture.TextureFilter#Nearest},
+     * like the maps, so the pixel art stays sharp when it is scaled up.
+     */
+    private final AssetDescriptor<Texture> descriptor;
+
+    /**
+     * The width and height of each cell of the sprite sheet, in pixels.
+     */
+    private final int cellSize;
+
+    /**
+     * The first row of the moving animation, and its number of frames.
+     */
+    private final int moveRow, moveFrames;
+
+    /**
+     * The first row of the standing animation, and its number of frames.
+     */
+    private final int idleRow, idleFrames;
+
+    /**
+     * The speed the creature moves at, in map pixels per second.
+     */
+    private final float speed;
+
+    /**
+     * Whether the creature is stopped by walls and interactables.
+     */
+    private final boolean solid;
+
+    /**
+     * Constructor for the {@link CreatureType} enum.
+     *
+     * @param sheet The internal path of the creature's sprite sheet.
+     * @param cellSize The width and height of each cell of the sprite sheet, in pixels.
+     * @param moveRow The first row of the moving animation.
+     * @param moveFrames The number of frames of the moving animation.
+     * @param idleRow The first row of the standing animation.
+     * @param idleFrames The number of frames of the standing animation.
+     * @param speed The speed the creature moves at, in map pixels per second.
+     * @param solid Whether the creature is stopped by walls and interactables.
+     */
+    CreatureType(String sheet, int cellSize, int moveRow, int moveFrames, int idleRow, int idleFrames, float speed, boolean solid) {
+        TextureLoader.TextureParameter parameter = new TextureLoader.TextureParameter();
+        parameter.minFilter = Texture.TextureFilter.Nearest;
+        parameter.magFilter = Texture.TextureFilter.Nearest;
+        this.descriptor = new AssetDescriptor<>(sheet, Texture.class, parameter);
+        this.cellSize = cellSize;
+        this.moveRow = moveRow;
+        this.moveFrames = moveFrames;
+        this.idleRow = idleRow;
+        this.idleFrames = idleFrames;
+        this.speed = speed;
+        this.solid = solid;
+    }
+}
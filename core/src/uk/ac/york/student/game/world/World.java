@@ -0,0 +1,420 @@
+package uk.ac.york.student.game.world;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.map.ActionMapObject;
+import uk.ac.york.student.assets.map.ActivityMapObject;
+import uk.ac.york.student.assets.map.MapObjectGrid;
+import uk.ac.york.student.assets.map.TransitionMapObject;
+import uk.ac.york.student.game.world.components.AnimationComponent;
+import uk.ac.york.student.game.world.components.ColliderComponent;
+import uk.ac.york.student.game.world.components.InteractableComponent;
+import uk.ac.york.student.game.world.components.Mappers;
+import uk.ac.york.student.game.world.components.PositionComponent;
+import uk.ac.york.student.game.world.components.SpriteComponent;
+import uk.ac.york.student.game.world.components.VelocityComponent;
+import uk.ac.york.student.game.world.components.WanderComponent;
+import uk.ac.york.student.game.world.systems.AnimationSystem;
+import uk.ac.york.student.game.world.systems.MovementSystem;
+import uk.ac.york.student.game.world.systems.RenderSystem;
+import uk.ac.york.student.game.world.systems.WanderSystem;
+import uk.ac.york.student.player.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@link World} holds the entities of a single map in an Ashley {@link PooledEngine}:
+ * the activities and doors the player can act on, and the creatures that wander around the map.
+ * <p>
+ * Every entity is made of plain components, and is updated by the system for each family of components,
+ * so adding more creatures costs a pass over their components rather than another object to update and draw.
+ * The engine pools its entities and components, so spawning creatures does not allocate once the pools are warm,
+ * and {@link World#dispose()} hands everything back when the map changes.
+ * <p>
+ * Positions are kept in map pixels, and scaled to the screen when the entities are drawn.
+ * The player is still a scene2d actor, drawn by the game screen, and the world only tells it which action it is standing on.
+ */
+public final class World implements Disposable {
+    /**
+     * The name of the int map property holding the number of creatures to spawn on the map. Maps without it have no creatures.
+     */
+    public static final String CREATURES_PROPERTY = "creatures";
+
+    /**
+     * The name of the float map property holding how close, in tiles, the player has to get to a door before the map behind it is prefetched.
+     * Maps without it use {@link World#DEFAULT_PREFETCH_RADIUS}.
+     */
+    public static final String PREFETCH_RADIUS_PROPERTY = "prefetchRadius";
+
+    /**
+     * The distance in tiles from a door within which the map behind it is prefetched, unless the map sets {@link World#PREFETCH_RADIUS_PROPERTY}.
+     */
+    private static final float DEFAULT_PREFETCH_RADIUS = 6f;
+
+    /**
+     * The number of tiles along each side of a cell of the obstacle grid, matching the player's grid.
+     */
+    private static final int GRID_CELL_TILES = 4;
+
+    /**
+     * The properties the TMX loader sets for the position and size of every map object.
+     */
+    private static final String[] BOUNDS_PROPERTIES = {"x", "y", "width", "height"};
+
+    /**
+     * The number of random positions tried for each creature before it is not spawned, so a crowded map cannot stall loading.
+     */
+    private static final int SPAWN_ATTEMPTS = 20;
+
+    /**
+     * The longest time in seconds a creature waits after spawning before it first moves, so they do not all move at once.
+     */
+    private static final float MAX_SPAWN_DELAY = 3f;
+
+    /**
+     * The priorities of the systems. The creatures choose where to go, then move, then are animated for where they ended up.
+     */
+    private static final int WANDER_PRIORITY = 0, MOVEMENT_PRIORITY = 1, ANIMATION_PRIORITY = 2;
+
+    /**
+     * The types of creature, cached so spawning does not allocate a new array for each creature.
+     */
+    private static final CreatureType[] CREATURE_TYPES = CreatureType.values();
+
+    /**
+     * The engine holding the entities and systems.
+     */
+    private final PooledEngine engine = new PooledEngine();
+
+    /**
+     * The system drawing the entities, which is called when the screen is drawn rather than when the engine is updated.
+     */
+    private final RenderSystem renderSystem = new RenderSystem();
+
+    /**
+     * The interactable entities, keyed by the map object they were created from, so the player's current map object can be looked up directly.
+     */
+    private final ObjectMap<MapObject, Entity> interactables = new ObjectMap<>();
+
+    /**
+     * The doors of the map, so the one nearest the player can be found without going through every interactable.
+     */
+    private final Array<TransitionMapObject> transitions = new Array<>();
+
+    /**
+     * The bounding boxes of the {@link World#transitions}, in map pixels, at the same indices.
+     */
+    private final Array<BoundingBox> transitionBounds = new Array<>();
+
+    /**
+     * The square of the distance from a door within which the map behind it is prefetched, in map pixels.
+     */
+    private final float prefetchRadius2;
+
+    /**
+     * The collision objects and interactables of the map, in map pixels, which solid creatures cannot walk into.
+     */
+    private final MapObjectGrid obstacles;
+
+    /**
+     * The animations of each type of creature, created the first time a creature of that type is spawned.
+     */
+    private final Map<CreatureType, CreatureAnimations> animations = new EnumMap<>(CreatureType.class);
+
+    /**
+     * The size of the map, in map pixels.
+     */
+    private final float mapWidth, mapHeight;
+
+    /**
+     * Constructor for the {@link World} class.
+     * It creates an entity for every activity and door on the map's "gameObjects" layer,
+     * builds the grid of obstacles, and spawns the number of creatures given by the map's {@link World#CREATURES_PROPERTY} property.
+     * The distance at which doors are prefetched is read from the map's {@link World#PREFETCH_RADIUS_PROPERTY} property.
+     *
+     * @param map The map the world is on.
+     */
+    public World(@NotNull TiledMap map) {
+        TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
+        mapWidth = layer.getWidth() * layer.getTileWidth();
+        mapHeight = layer.getHeight() * layer.getTileHeight();
+        obstacles = new MapObjectGrid(Math.max(layer.getTileWidth(), layer.getTileHeight()) * GRID_CELL_TILES);
+        Float radius = map.getProperties().get(PREFETCH_RADIUS_PROPERTY, Float.class);
+        float prefetchRadius = (radius == null ? DEFAULT_PREFETCH_RADIUS : radius) * Math.max(layer.getTileWidth(), layer.getTileHeight());
+        prefetchRadius2 = prefetchRadius * prefetchRadius;
+
+        MapLayer gameObjects = map.getLayers().get("gameObjects");
+        if (gameObjects != null) {
+            for (MapObject object : gameObjects.getObjects()) {
+                boolean collision = Boolean.TRUE.equals(object.getProperties().get("isCollision", Boolean.class));
+                Player.Transition transition = collision ? null : Player.getTransition(object);
+                if (!collision && transition == null) continue;
+                String missing = getMissingProperty(object, transition);
+                if (missing != null) {
+                    Gdx.app.error("LetRonCooke", "Skipping map object " + object.getName() + ", which has no " + missing + " property");
+                    continue;
+                }
+                if (collision) {
+                    obstacles.add(object, getBoundingBox(object));
+                    continue;
+                }
+                try {
+                    addInteractable(object, getActionMapObject(transition, object));
+                } catch (IllegalArgumentException e) {
+                    // The properties are present but hold an unknown activity type or an unparsable change amount
+                    Gdx.app.error("LetRonCooke", "Invalid action map object: " + object.getName(), e);
+                }
+            }
+        }
+        obstacles.build();
+
+        engine.addSystem(new WanderSystem(WANDER_PRIORITY));
+        engine.addSystem(new MovementSystem(MOVEMENT_PRIORITY, obstacles, mapWidth, mapHeight));
+        engine.addSystem(new AnimationSystem(ANIMATION_PRIORITY));
+        engine.addSystem(renderSystem);
+
+        Integer creatures = map.getProperties().get(CREATURES_PROPERTY, Integer.class);
+        if (creatures != null) spawnCreatures(creatures);
+    }
+
+    /**
+     * Finds a property a map object needs but does not have.
+     * Every object needs its position and size. Activities also need a type, a time and the amounts they change the metrics by,
+     * and doors need the map they lead to.
+     *
+     * @param object The map object.
+     * @param transition The transition of the map object, or null if it is only an obstacle.
+     * @return The name of the first missing property, or null if the object has every property it needs.
+     */
+    private static @Nullable String getMissingProperty(@NotNull MapObject object, @Nullable Player.Transition transition) {
+        MapProperties properties = object.getProperties();
+        for (String property : BOUNDS_PROPERTIES) {
+            if (properties.get(property, Float.class) == null) return property;
+        }
+        if (transition == Player.Transition.ACTIVITY) {
+            if (object.getName() == null) return "name";
+            if (properties.get("activityType", String.class) == null) return "activityType";
+            if (properties.get("activityTime", Integer.class) == null) return "activityTime";
+            if (properties.get("changeAmount", String.class) == null) return "changeAmount";
+        } else if (transition == Player.Transition.NEW_MAP) {
+            if (properties.get("newMap", String.class) == null) return "newMap";
+        }
+        return null;
+    }
+
+    /**
+     * Gets the bounding box of a map object, in map pixels, from the properties set by the TMX loader.
+     *
+     * @param object The map object.
+     * @return The bounding box of the map object.
+     */
+    private static @NotNull BoundingBox getBoundingBox(@NotNull MapObject object) {
+        MapProperties properties = object.getProperties();
+        float x = properties.get("x", Float.class);
+        float y = properties.get("y", Float.class);
+        float width = properties.get("width", Float.class);
+        float height = properties.get("height", Float.class);
+        return new BoundingBox(new Vector3(x, y, 0), new Vector3(x + width, y + height, 0));
+    }
+
+    /**
+     * Creates an entity the player can act on, and adds it to the obstacles so creatures do not walk over it.
+     *
+     * @param object The map object the entity is created from.
+     * @param action The action the player can take on it.
+     */
+    private void addInteractable(@NotNull MapObject object, @NotNull ActionMapObject action) {
+        BoundingBox boundingBox = getBoundingBox(object);
+
+        Entity entity = engine.createEntity();
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.set(boundingBox.min.x, boundingBox.min.y);
+        entity.add(position);
+        ColliderComponent collider = engine.createComponent(ColliderComponent.class);
+        collider.width = boundingBox.getWidth();
+        collider.height = boundingBox.getHeight();
+        entity.add(collider);
+        InteractableComponent interactable = engine.createComponent(InteractableComponent.class);
+        interactable.object = object;
+        interactable.action = action;
+        entity.add(interactable);
+        engine.addEntity(entity);
+
+        interactables.put(object, entity);
+        obstacles.add(object, boundingBox);
+        if (action instanceof TransitionMapObject) {
+            transitions.add((TransitionMapObject) action);
+            transitionBounds.add(boundingBox);
+        }
+    }
+
+    /**
+     * This method builds an {@link ActionMapObject} based on a transition tile and the associated map object.
+     * If the transition tile is an {@link Player.Transition#ACTIVITY}, it returns an {@link ActivityMapObject}.
+     * If the transition tile is a {@link Player.Transition#NEW_MAP}, it returns a {@link TransitionMapObject}.
+     * If the transition tile is neither an {@link Player.Transition#ACTIVITY} nor a {@link Player.Transition#NEW_MAP}, it throws an {@link IllegalStateException}.
+     *
+     * @param transitionTile The transition of the map object.
+     * @param tileObject The map object associated with the transition tile.
+     * @return An {@link ActionMapObject} based on the transition tile and map object.
+     * @throws IllegalStateException If the transition tile is neither an {@link Player.Transition#ACTIVITY} nor a {@link Player.Transition#NEW_MAP}.
+     */
+    @NotNull
+    private static ActionMapObject getActionMapObject(Player.@NotNull Transition transitionTile, MapObject tileObject) {
+        ActionMapObject actionMapObject;
+        if (transitionTile.equals(Player.Transition.ACTIVITY)) {
+            actionMapObject = new ActivityMapObject(tileObject);
+        } else if (transitionTile.equals(Player.Transition.NEW_MAP)) {
+            actionMapObject = new TransitionMapObject(tileObject);
+        } else {
+            throw new IllegalStateException("Unexpected value: " + transitionTile);
+        }
+        return actionMapObject;
+    }
+
+    /**
+     * Spawns creatures of random types at random positions on the map.
+     * Solid creatures are only spawned where they are not on an obstacle. A creature that cannot be placed is skipped.
+     *
+     * @param count The number of creatures to spawn.
+     */
+    private void spawnCreatures(int count) {
+        for (int i = 0; i < count; i++) {
+            CreatureType type = CREATURE_TYPES[MathUtils.random(CREATURE_TYPES.length - 1)];
+            float size = type.getCellSize();
+            for (int attempt = 0; attempt < SPAWN_ATTEMPTS; attempt++) {
+                float x = MathUtils.random(mapWidth - size);
+                float y = MathUtils.random(mapHeight - size);
+                if (type.isSolid() && obstacles.find(x + size / 2, y + size / 2) != null) continue;
+                spawnCreature(type, x, y);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Creates a creature entity of the given type at the given position.
+     *
+     * @param type The type of creature.
+     * @param x The x-coordinate of the creature, in map pixels.
+     * @param y The y-coordinate of the creature, in map pixels.
+     */
+    private void spawnCreature(@NotNull CreatureType type, float x, float y) {
+        float size = type.getCellSize();
+
+        Entity entity = engine.createEntity();
+        PositionComponent position = engine.createComponent(PositionComponent.class);
+        position.set(x, y);
+        entity.add(position);
+        entity.add(engine.createComponent(VelocityComponent.class));
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.width = size;
+        sprite.height = size;
+        entity.add(sprite);
+        AnimationComponent animation = engine.createComponent(AnimationComponent.class);
+        animation.animations = animations.computeIfAbsent(type, t -> new CreatureAnimations(t, GameAssets.get(t.getDescriptor())));
+        animation.facingLeft = MathUtils.randomBoolean();
+        entity.add(animation);
+        WanderComponent wander = engine.createComponent(WanderComponent.class);
+        wander.speed = type.getSpeed();
+        wander.timer = MathUtils.random(MAX_SPAWN_DELAY);
+        entity.add(wander);
+        if (type.isSolid()) {
+            ColliderComponent collider = engine.createComponent(ColliderComponent.class);
+            collider.width = size;
+            collider.height = size;
+            entity.add(collider);
+        }
+        engine.addEntity(entity);
+    }
+
+    /**
+     * Advances the world by the given time, moving and animating the creatures.
+     *
+     * @param delta The time in seconds to advance by.
+     */
+    public void update(float delta) {
+        engine.update(delta);
+    }
+
+    /**
+     * Gets the action the player can take on the given map object.
+     *
+     * @param object The map object the player is on.
+     * @return The action on the map object, or null if the map object is not an interactable entity of this world.
+     */
+    public @Nullable ActionMapObject getAction(@NotNull MapObject object) {
+        Entity entity = interactables.get(object);
+        return entity == null ? null : Mappers.INTERACTABLE.get(entity).action;
+    }
+
+    /**
+     * Finds the map behind the door nearest the given position, if the position is close enough to it for the map to be prefetched.
+     *
+     * @param x The x-coordinate of the position, in map pixels.
+     * @param y The y-coordinate of the position, in map pixels.
+     * @return The name of the map behind the nearest door, or null if no door is within the prefetch radius.
+     */
+    public @Nullable String getNearbyMap(float x, float y) {
+        String nearest = null;
+        float nearestDistance2 = prefetchRadius2;
+        for (int i = 0; i < transitions.size; i++) {
+            // Measure to the nearest point of the door rather than its corner, so large doors are not reached late
+            BoundingBox bounds = transitionBounds.get(i);
+            float dx = Math.max(Math.max(bounds.min.x - x, x - bounds.max.x), 0);
+            float dy = Math.max(Math.max(bounds.min.y - y, y - bounds.max.y), 0);
+            float distance2 = dx * dx + dy * dy;
+            if (distance2 <= nearestDistance2) {
+                nearest = transitions.get(i).getType();
+                nearestDistance2 = distance2;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Draws the entities of the world with the given batch, which must have been begun with the projection of the map's camera.
+     *
+     * @param batch The batch to draw with.
+     * @param scale The scale of the map, from map pixels to the camera's units.
+     * @param alpha The opacity to draw the entities with, so they fade with the map.
+     * @param interpolation How far between their last two positions to draw the entities, from 0 to 1.
+     * @param view The part of the map the camera can see, in the camera's units.
+     * @see RenderSystem#render(Batch, float, float, float, Rectangle)
+     */
+    public void render(@NotNull Batch batch, float scale, float alpha, float interpolation, @NotNull Rectangle view) {
+        renderSystem.render(batch, scale, alpha, interpolation, view);
+    }
+
+    /**
+     * Removes every entity, returning them and their components to the engine's pools, and then clears the pools.
+     * The creatures' textures are owned by the {@link GameAssets}, so they are not disposed.
+     */
+    @Override
+    public void dispose() {
+        engine.removeAllEntities();
+        engine.clearPools();
+        interactables.clear();
+        transitions.clear();
+        transitionBounds.clear();
+        obstacles.clear();
+    }
+}
@@ -0,0 +1,43 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.game.world.CreatureAnimations;
+
+/**
+ * The {@link AnimationComponent} animates an entity's {@link SpriteComponent}, choosing the animation from whether the entity is moving
+ * and which way it is facing.
+ */
+public class AnimationComponent implements Component, Pool.Poolable {
+    /**
+     * The animations of the entity, shared between every entity of the same kind.
+     */
+    public @Nullable CreatureAnimations animations;
+
+    /**
+     * The time in seconds the current animation has been playing for.
+     */
+    public float stateTime;
+
+    /**
+     * Whether the entity was moving the last time it was animated, used to restart the animation when it starts or stops moving.
+     */
+    public boolean moving;
+
+    /**
+     * Whether the entity is facing left.
+     */
+    public boolean facingLeft;
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        animations = null;
+        stateTime = 0;
+        moving = false;
+        facingLeft = false;
+    }
+}
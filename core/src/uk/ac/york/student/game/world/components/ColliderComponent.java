@@ -0,0 +1,24 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * The {@link ColliderComponent} gives an entity a solid box, starting at its {@link PositionComponent}, in map pixels.
+ * A moving entity with a collider is stopped before it walks into an obstacle, such as a wall or an interactable.
+ */
+public class ColliderComponent implements Component, Pool.Poolable {
+    /**
+     * The size of the box.
+     */
+    public float width, height;
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        width = 0;
+        height = 0;
+    }
+}
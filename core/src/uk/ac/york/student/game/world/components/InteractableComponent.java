@@ -0,0 +1,31 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.utils.Pool;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.assets.map.ActionMapObject;
+
+/**
+ * The {@link InteractableComponent} marks an entity as something the player can act on, such as an activity or a door to another map.
+ */
+public class InteractableComponent implements Component, Pool.Poolable {
+    /**
+     * The map object the entity was created from.
+     */
+    public @Nullable MapObject object;
+
+    /**
+     * The action the player can take on the entity.
+     */
+    public @Nullable ActionMapObject action;
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        object = null;
+        action = null;
+    }
+}
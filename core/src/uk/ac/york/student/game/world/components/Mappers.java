@@ -0,0 +1,18 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import lombok.experimental.UtilityClass;
+
+/**
+ * This utility class holds a {@link ComponentMapper} for each component, so the systems can read components without a map lookup.
+ */
+@UtilityClass
+public final class Mappers {
+    public static final ComponentMapper<PositionComponent> POSITION = ComponentMapper.getFor(PositionComponent.class);
+    public static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<SpriteComponent> SPRITE = ComponentMapper.getFor(SpriteComponent.class);
+    public static final ComponentMapper<ColliderComponent> COLLIDER = ComponentMapper.getFor(ColliderComponent.class);
+    public static final ComponentMapper<InteractableComponent> INTERACTABLE = ComponentMapper.getFor(InteractableComponent.class);
+    public static final ComponentMapper<AnimationComponent> ANIMATION = ComponentMapper.getFor(AnimationComponent.class);
+    public static final ComponentMapper<WanderComponent> WANDER = ComponentMapper.getFor(WanderComponent.class);
+}
@@ -0,0 +1,39 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * The {@link PositionComponent} holds the position of an entity in the world, in map pixels (before the map is scaled to the screen).
+ * The position before the last update is kept too, so the entity can be drawn between its last two positions.
+ */
+public class PositionComponent implements Component, Pool.Poolable {
+    /**
+     * The position of the bottom left corner of the entity.
+     */
+    public float x, y;
+
+    /**
+     * The position of the bottom left corner of the entity before the last update.
+     */
+    public float previousX, previousY;
+
+    /**
+     * Sets the position of the entity, and its previous position, so it is drawn exactly there.
+     *
+     * @param x The x-coordinate of the bottom left corner.
+     * @param y The y-coordinate of the bottom left corner.
+     */
+    public void set(float x, float y) {
+        this.x = previousX = x;
+        this.y = previousY = y;
+    }
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        set(0, 0);
+    }
+}
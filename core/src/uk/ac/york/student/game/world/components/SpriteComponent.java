@@ -0,0 +1,32 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link SpriteComponent} holds the region an entity is drawn with, and the size it is drawn at, in map pixels.
+ * The region is owned by the {@link uk.ac.york.student.assets.GameAssets} and is shared between entities.
+ */
+public class SpriteComponent implements Component, Pool.Poolable {
+    /**
+     * The region the entity is drawn with, or null if it is not drawn.
+     */
+    public @Nullable TextureRegion region;
+
+    /**
+     * The size the entity is drawn at.
+     */
+    public float width, height;
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        region = null;
+        width = 0;
+        height = 0;
+    }
+}
@@ -0,0 +1,39 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * The {@link VelocityComponent} holds the velocity of a moving entity, in map pixels per second.
+ */
+public class VelocityComponent implements Component, Pool.Poolable {
+    /**
+     * The velocity along each axis.
+     */
+    public float x, y;
+
+    /**
+     * Stops the entity.
+     */
+    public void stop() {
+        x = 0;
+        y = 0;
+    }
+
+    /**
+     * Returns whether the entity is moving.
+     *
+     * @return True if the velocity is not zero, false otherwise.
+     */
+    public boolean isMoving() {
+        return x != 0 || y != 0;
+    }
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        stop();
+    }
+}
@@ -0,0 +1,28 @@
+package uk.ac.york.student.game.world.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * The {@link WanderComponent} makes an entity wander around on its own, alternating between standing still and moving in a random direction.
+ */
+public class WanderComponent implements Component, Pool.Poolable {
+    /**
+     * The speed the entity moves at, in map pixels per second.
+     */
+    public float speed;
+
+    /**
+     * The time in seconds until the entity decides what to do next.
+     */
+    public float timer;
+
+    /**
+     * Resets the component before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        speed = 0;
+        timer = 0;
+    }
+}
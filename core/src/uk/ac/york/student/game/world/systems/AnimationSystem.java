@@ -0,0 +1,50 @@
+package uk.ac.york.student.game.world.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import uk.ac.york.student.game.world.components.AnimationComponent;
+import uk.ac.york.student.game.world.components.Mappers;
+import uk.ac.york.student.game.world.components.SpriteComponent;
+import uk.ac.york.student.game.world.components.VelocityComponent;
+
+/**
+ * The {@link AnimationSystem} advances the animation of every entity with an {@link AnimationComponent},
+ * and sets the region of its {@link SpriteComponent} to the current frame.
+ * The animation is chosen from whether the entity is moving, and which way it last moved.
+ */
+public class AnimationSystem extends IteratingSystem {
+    /**
+     * Constructor for the {@link AnimationSystem} class.
+     *
+     * @param priority The priority of the system. Systems with a lower priority are updated first.
+     */
+    public AnimationSystem(int priority) {
+        super(Family.all(AnimationComponent.class, SpriteComponent.class, VelocityComponent.class).get(), priority);
+    }
+
+    /**
+     * Advances the entity's animation, restarting it if the entity has started or stopped moving, and shows the current frame.
+     *
+     * @param entity The entity to animate.
+     * @param deltaTime The time in seconds since the last update.
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        AnimationComponent animation = Mappers.ANIMATION.get(entity);
+        if (animation.animations == null) return;
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+
+        boolean moving = velocity.isMoving();
+        if (moving != animation.moving) {
+            animation.moving = moving;
+            animation.stateTime = 0;
+        }
+        // Keep facing the same way when moving straight up or down, or standing still
+        if (velocity.x < 0) animation.facingLeft = true;
+        else if (velocity.x > 0) animation.facingLeft = false;
+
+        animation.stateTime += deltaTime;
+        Mappers.SPRITE.get(entity).region = animation.animations.get(moving, animation.facingLeft).getKeyFrame(animation.stateTime, true);
+    }
+}
@@ -0,0 +1,86 @@
+package uk.ac.york.student.game.world.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.assets.map.MapObjectGrid;
+import uk.ac.york.student.game.world.components.ColliderComponent;
+import uk.ac.york.student.game.world.components.Mappers;
+import uk.ac.york.student.game.world.components.PositionComponent;
+import uk.ac.york.student.game.world.components.SpriteComponent;
+import uk.ac.york.student.game.world.components.VelocityComponent;
+import uk.ac.york.student.game.world.components.WanderComponent;
+
+/**
+ * The {@link MovementSystem} moves every entity with a {@link PositionComponent} and a {@link VelocityComponent}.
+ * <p>
+ * An entity is stopped instead of leaving the map. An entity that also has a {@link ColliderComponent} is stopped instead of
+ * walking into an obstacle, which is checked by looking up the centre of its collider in a {@link MapObjectGrid} of the map's obstacles.
+ * When an entity is stopped, its {@link WanderComponent} (if it has one) is told to choose a new direction.
+ */
+public class MovementSystem extends IteratingSystem {
+    /**
+     * The obstacles on the map, in map pixels.
+     */
+    private final MapObjectGrid obstacles;
+
+    /**
+     * The size of the map, in map pixels.
+     */
+    private final float mapWidth, mapHeight;
+
+    /**
+     * Constructor for the {@link MovementSystem} class.
+     *
+     * @param priority The priority of the system. Systems with a lower priority are updated first.
+     * @param obstacles The obstacles on the map, in map pixels.
+     * @param mapWidth The width of the map, in map pixels.
+     * @param mapHeight The height of the map, in map pixels.
+     */
+    public MovementSystem(int priority, @NotNull MapObjectGrid obstacles, float mapWidth, float mapHeight) {
+        super(Family.all(PositionComponent.class, VelocityComponent.class).get(), priority);
+        this.obstacles = obstacles;
+        this.mapWidth = mapWidth;
+        this.mapHeight = mapHeight;
+    }
+
+    /**
+     * Remembers the entity's position, so it can be drawn between its last two positions, then moves it by its velocity unless it is blocked.
+     *
+     * @param entity The entity to move.
+     * @param deltaTime The time in seconds since the last update.
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent position = Mappers.POSITION.get(entity);
+        position.previousX = position.x;
+        position.previousY = position.y;
+
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        if (!velocity.isMoving()) return;
+
+        float x = position.x + velocity.x * deltaTime;
+        float y = position.y + velocity.y * deltaTime;
+
+        // The size of the entity, from its collider, or how it is drawn if it has no collider
+        ColliderComponent collider = Mappers.COLLIDER.get(entity);
+        SpriteComponent sprite = Mappers.SPRITE.get(entity);
+        float width = collider != null ? collider.width : sprite != null ? sprite.width : 0;
+        float height = collider != null ? collider.height : sprite != null ? sprite.height : 0;
+
+        boolean blocked = x < 0 || y < 0 || x + width > mapWidth || y + height > mapHeight;
+        if (!blocked && collider != null) {
+            blocked = obstacles.find(x + width / 2, y + height / 2) != null;
+        }
+
+        if (blocked) {
+            velocity.stop();
+            WanderComponent wander = Mappers.WANDER.get(entity);
+            if (wander != null) wander.timer = 0;
+            return;
+        }
+        position.x = x;
+        position.y = y;
+    }
+}
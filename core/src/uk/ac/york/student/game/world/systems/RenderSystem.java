@@ -0,0 +1,82 @@
+package uk.ac.york.student.game.world.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.game.world.components.Mappers;
+import uk.ac.york.student.game.world.components.PositionComponent;
+import uk.ac.york.student.game.world.components.SpriteComponent;
+
+/**
+ * The {@link RenderSystem} draws every entity with a {@link PositionComponent} and a {@link SpriteComponent}.
+ * <p>
+ * The world is updated at a fixed rate but drawn every frame, so this system is not processed when the engine is updated.
+ * Instead, {@link RenderSystem#render(Batch, float, float, float, Rectangle)} is called when the screen is drawn,
+ * and draws each entity between its last two positions. Entities outside the camera's view are skipped.
+ */
+public class RenderSystem extends EntitySystem {
+    /**
+     * The family of entities that are drawn.
+     */
+    private static final Family FAMILY = Family.all(PositionComponent.class, SpriteComponent.class).get();
+
+    /**
+     * The entities that are drawn, kept up to date by the engine.
+     */
+    private ImmutableArray<Entity> entities;
+
+    /**
+     * Constructor for the {@link RenderSystem} class.
+     */
+    public RenderSystem() {
+        setProcessing(false);
+    }
+
+    /**
+     * Gets the entities to draw when the system is added to the engine.
+     *
+     * @param engine The engine the system was added to.
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(FAMILY);
+    }
+
+    /**
+     * Draws the entities with the given batch, which must have been begun.
+     * The colour of the batch is restored afterwards.
+     *
+     * @param batch The batch to draw with, using the projection of the map's camera.
+     * @param scale The scale of the map, from map pixels to the camera's units.
+     * @param alpha The opacity to draw the entities with, so they fade with the map.
+     * @param interpolation How far between their last two positions to draw the entities, from 0 (the previous position) to 1 (the current position).
+     * @param view The part of the map the camera can see, in the camera's units.
+     */
+    public void render(@NotNull Batch batch, float scale, float alpha, float interpolation, @NotNull Rectangle view) {
+        if (entities == null || entities.size() == 0) return;
+        float previousColor = batch.getPackedColor();
+        batch.setColor(1, 1, 1, alpha);
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            SpriteComponent sprite = Mappers.SPRITE.get(entity);
+            TextureRegion region = sprite.region;
+            if (region == null) continue;
+
+            PositionComponent position = Mappers.POSITION.get(entity);
+            float x = (position.previousX + (position.x - position.previousX) * interpolation) * scale;
+            float y = (position.previousY + (position.y - position.previousY) * interpolation) * scale;
+            float width = sprite.width * scale;
+            float height = sprite.height * scale;
+            if (x + width < view.x || y + height < view.y || x > view.x + view.width || y > view.y + view.height) continue;
+
+            batch.draw(region, x, y, width, height);
+        }
+        batch.setPackedColor(previousColor);
+    }
+}
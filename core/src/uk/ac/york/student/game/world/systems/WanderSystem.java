@@ -0,0 +1,59 @@
+package uk.ac.york.student.game.world.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.MathUtils;
+import uk.ac.york.student.game.world.components.Mappers;
+import uk.ac.york.student.game.world.components.VelocityComponent;
+import uk.ac.york.student.game.world.components.WanderComponent;
+
+/**
+ * The {@link WanderSystem} moves every entity with a {@link WanderComponent} around on its own.
+ * Each entity stands still for a while, then moves in a random direction for a while, and so on.
+ * An entity that is stopped by the {@link MovementSystem} decides what to do again straight away, so it turns away from the obstacle.
+ */
+public class WanderSystem extends IteratingSystem {
+    /**
+     * The shortest and longest time in seconds an entity stands still for.
+     */
+    private static final float MIN_IDLE_TIME = 1f, MAX_IDLE_TIME = 5f;
+
+    /**
+     * The shortest and longest time in seconds an entity moves for.
+     */
+    private static final float MIN_MOVE_TIME = 0.5f, MAX_MOVE_TIME = 2f;
+
+    /**
+     * Constructor for the {@link WanderSystem} class.
+     *
+     * @param priority The priority of the system. Systems with a lower priority are updated first.
+     */
+    public WanderSystem(int priority) {
+        super(Family.all(WanderComponent.class, VelocityComponent.class).get(), priority);
+    }
+
+    /**
+     * Counts down the entity's timer, and when it runs out, stops the entity if it was moving, or starts it moving in a random direction if it was not.
+     *
+     * @param entity The entity to update.
+     * @param deltaTime The time in seconds since the last update.
+     */
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        WanderComponent wander = Mappers.WANDER.get(entity);
+        wander.timer -= deltaTime;
+        if (wander.timer > 0) return;
+
+        VelocityComponent velocity = Mappers.VELOCITY.get(entity);
+        if (velocity.isMoving()) {
+            velocity.stop();
+            wander.timer = MathUtils.random(MIN_IDLE_TIME, MAX_IDLE_TIME);
+        } else {
+            float angle = MathUtils.random(MathUtils.PI2);
+            velocity.x = MathUtils.cos(angle) * wander.speed;
+            velocity.y = MathUtils.sin(angle) * wander.speed;
+            wander.timer = MathUtils.random(MIN_MOVE_TIME, MAX_MOVE_TIME);
+        }
+    }
+}
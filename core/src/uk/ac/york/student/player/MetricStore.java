@@ -0,0 +1,225 @@
+package uk.ac.york.student.player;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * The {@link MetricStore} class holds the value and total of every player metric as plain floats,
+ * indexed by {@link PlayerMetrics.MetricType#ordinal()}.
+ * <p>
+ * It has no dependency on scene2d or a GL context, so it can be used by tests and headless simulations as well as by the game.
+ * Anything that needs to react to a metric changing, such as the {@link com.badlogic.gdx.scenes.scene2d.ui.ProgressBar}
+ * of a {@link StoredPlayerMetric}, registers a {@link Listener}, which is only notified when the value actually changes.
+ * Reading and updating a metric never allocates.
+ */
+public final class MetricStore {
+    /**
+     * The metric types, cached so they are not copied whenever the store is reset.
+     */
+    private static final PlayerMetrics.MetricType[] METRIC_TYPES = PlayerMetrics.MetricType.values();
+
+    /**
+     * A {@link Listener} is notified whenever the value of a metric changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called after the value of a metric has changed.
+         *
+         * @param type The type of the metric that changed.
+         * @param value The new value of the metric.
+         */
+        void changed(@NotNull PlayerMetrics.MetricType type, float value);
+    }
+
+    /**
+     * An empty array of listeners, shared by every metric that has no listeners.
+     */
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    /**
+     * The current value of each metric, indexed by {@link PlayerMetrics.MetricType#ordinal()}.
+     */
+    private final float[] values = new float[METRIC_TYPES.length];
+
+    /**
+     * The total accumulated value of each metric, indexed by {@link PlayerMetrics.MetricType#ordinal()}.
+     */
+    private final float[] totals = new float[METRIC_TYPES.length];
+
+    /**
+     * The listeners of each metric, indexed by {@link PlayerMetrics.MetricType#ordinal()}.
+     * The arrays are copied when a listener is added or removed, which is rare, so notifying the listeners
+     * never allocates and is safe even if a listener removes itself.
+     */
+    private final Listener[][] listeners = new Listener[METRIC_TYPES.length][];
+
+    /**
+     * Constructs a new {@link MetricStore} with every metric at its default value and every total at 0.
+     */
+    public MetricStore() {
+        Arrays.fill(listeners, NO_LISTENERS);
+        reset();
+    }
+
+    /**
+     * Sets every metric back to its default value and every total back to 0, without notifying the listeners.
+     */
+    public void reset() {
+        for (PlayerMetrics.MetricType type : METRIC_TYPES) {
+            values[type.ordinal()] = type.getDefaultValue();
+        }
+        Arrays.fill(totals, 0f);
+    }
+
+    /**
+     * Returns the current value of a metric.
+     *
+     * @param type The type of the metric.
+     * @return The current value of the metric, between {@link PlayerMetric#PROGRESS_BAR_MINIMUM} and 1.
+     */
+    public float get(@NotNull PlayerMetrics.MetricType type) {
+        return values[type.ordinal()];
+    }
+
+    /**
+     * Sets the current value of a metric, keeping it between {@link PlayerMetric#PROGRESS_BAR_MINIMUM} and 1.
+     * The listeners of the metric are only notified if its value changes.
+     *
+     * @param type The type of the metric.
+     * @param value The new value of the metric.
+     */
+    public void set(@NotNull PlayerMetrics.MetricType type, float value) {
+        int index = type.ordinal();
+        float clamped = Math.max(PlayerMetric.PROGRESS_BAR_MINIMUM, Math.min(1, value));
+        if (values[index] == clamped) return;
+        values[index] = clamped;
+
+        Listener[] metricListeners = listeners[index];
+        for (Listener listener : metricListeners) {
+            listener.changed(type, clamped);
+        }
+    }
+
+    /**
+     * Increases the current value of a metric by the given amount, up to a maximum of 1.
+     *
+     * @param type The type of the metric.
+     * @param amount The amount to add to the metric.
+     */
+    public void increase(@NotNull PlayerMetrics.MetricType type, float amount) {
+        set(type, Math.min(1, get(type) + amount));
+    }
+
+    /**
+     * Decreases the current value of a metric by the given amount, down to a minimum of {@link PlayerMetric#PROGRESS_BAR_MINIMUM}.
+     *
+     * @param type The type of the metric.
+     * @param amount The amount to subtract from the metric.
+     */
+    public void decrease(@NotNull PlayerMetrics.MetricType type, float amount) {
+        set(type, Math.max(PlayerMetric.PROGRESS_BAR_MINIMUM, get(type) - amount));
+    }
+
+    /**
+     * Applies an effect to a metric.
+     *
+     * @param type The type of the metric to change.
+     * @param effect The effect to apply to the metric.
+     * @param amount The amount by which to change the metric. This is used when the effect is either {@link PlayerMetrics.MetricEffect#INCREASE} or {@link PlayerMetrics.MetricEffect#DECREASE}.
+     * @throws IllegalArgumentException If an invalid metric effect is provided.
+     */
+    public void change(@NotNull PlayerMetrics.MetricType type, @NotNull PlayerMetrics.MetricEffect effect, float amount) throws IllegalArgumentException {
+        switch (effect) {
+            case INCREASE:
+                increase(type, amount);
+                break;
+            case DECREASE:
+                decrease(type, amount);
+                break;
+            case RESET:
+                set(type, type.getDefaultValue());
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid metric effect: " + effect);
+        }
+    }
+
+    /**
+     * Returns the total accumulated value of a metric.
+     *
+     * @param type The type of the metric.
+     * @return The total accumulated value of the metric.
+     */
+    public float getTotal(@NotNull PlayerMetrics.MetricType type) {
+        return totals[type.ordinal()];
+    }
+
+    /**
+     * Sets the total accumulated value of a metric.
+     *
+     * @param type The type of the metric.
+     * @param total The new total accumulated value of the metric.
+     */
+    public void setTotal(@NotNull PlayerMetrics.MetricType type, float total) {
+        totals[type.ordinal()] = total;
+    }
+
+    /**
+     * Increases the total accumulated value of a metric by the given amount.
+     *
+     * @param type The type of the metric.
+     * @param amount The amount to add to the total.
+     */
+    public void increaseTotal(@NotNull PlayerMetrics.MetricType type, float amount) {
+        totals[type.ordinal()] += amount;
+    }
+
+    /**
+     * Adds the current value of every metric to its total, as happens whenever the player sleeps.
+     */
+    public void accumulateTotals() {
+        for (int i = 0; i < values.length; i++) {
+            totals[i] += values[i];
+        }
+    }
+
+    /**
+     * Registers a listener to be notified whenever the value of a metric changes.
+     *
+     * @param type The type of the metric to listen to.
+     * @param listener The listener to add.
+     */
+    public void addListener(@NotNull PlayerMetrics.MetricType type, @NotNull Listener listener) {
+        int index = type.ordinal();
+        Listener[] current = listeners[index];
+        Listener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners[index] = updated;
+    }
+
+    /**
+     * Removes a listener previously added with {@link MetricStore#addListener(PlayerMetrics.MetricType, Listener)}.
+     * Nothing happens if the listener is not registered for the metric.
+     *
+     * @param type The type of the metric the listener was added to.
+     * @param listener The listener to remove.
+     */
+    public void removeListener(@NotNull PlayerMetrics.MetricType type, @NotNull Listener listener) {
+        int index = type.ordinal();
+        Listener[] current = listeners[index];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != listener) continue;
+            if (current.length == 1) {
+                listeners[index] = NO_LISTENERS;
+                return;
+            }
+            Listener[] updated = new Listener[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, i);
+            System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+            listeners[index] = updated;
+            return;
+        }
+    }
+}
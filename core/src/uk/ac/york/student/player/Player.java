@@ -20,10 +20,11 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.map.MapObjectGrid;
 import uk.ac.york.student.screens.CharacterScreen;
 
 import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -38,6 +39,11 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
      */
     private final PlayerMetrics metrics = new PlayerMetrics();
 
+    /**
+     * PlayerStreaks object to track the streaks of the activities the player performs in this game.
+     */
+    private final PlayerStreaks streaks = new PlayerStreaks();
+
     /**
      * Scale of the map relative to the screen size.
      */
@@ -48,6 +54,13 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
      */
     private Sprite sprite;
 
+    /**
+     * The position of the player's sprite before the last call to {@link Player#move()}.
+     * The player is drawn between this position and the current one by {@link Player#draw(Batch, float, float)},
+     * so it moves smoothly when the screen is drawn more or less often than the player moves.
+     */
+    private float previousX, previousY;
+
     /**
      * Sprite objects for each direction to face in.
      *<p>
@@ -69,8 +82,9 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
 
     /**
      * TextureAtlas object containing the textures for the player's sprite.
+     * The atlas is owned by {@link GameAssets} and is not disposed by the player.
      */
-    private final TextureAtlas textureAtlas = new TextureAtlas("sprite-atlases/character-sprites.atlas");
+    private final TextureAtlas textureAtlas = GameAssets.get(GameAssets.CHARACTER_ATLAS);
     /**
      * Constructor for the Player class.
      *
@@ -127,6 +141,7 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
         sprite.setAlpha(1);
         sprite.setSize(sprite.getWidth() * mapScale, sprite.getHeight() * mapScale);
         setBounds(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight());
+        resetPreviousPosition();
 
 
         // Create a sprite for the player and set its position, opacity, and size
@@ -142,6 +157,15 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
         selectedCharacter = character;
     }
 
+    /**
+     * Gets the character chosen on the character selection screen, so it can be saved with the game.
+     *
+     * @return The selected character.
+     */
+    public static int getSelectedCharacter() {
+        return selectedCharacter;
+    }
+
 
     /**
      * Sets the current game map for the player and updates related properties.
@@ -188,6 +212,7 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
 
         // Set the bounds of the player
         setBounds(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight());
+        resetPreviousPosition();
 
         // Clear the existing bounding boxes of the map objects
         tileObjectBoundingBoxes.clear();
@@ -234,13 +259,28 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
         }
     }
 
+    /**
+     * Stops every movement of the player, as if every movement key had been released.
+     * The movements are shared by every player, so this should be called when a new game starts,
+     * so a key held down when the previous game ended does not keep the new player moving.
+     */
+    public void stopMoving() {
+        for (Movement movement : Movement.values()) {
+            movement.set(false);
+        }
+    }
+
     /**
      * Moves the player's sprite on the game map.
      * The movement is based on the current active movements (UP, DOWN, LEFT, RIGHT) and BOOST.
      * The sprite's position is updated and the player's bounds are set to the new position.
      * The sprite cannot move outside the bounds of the game map.
+     * The player moves the same distance on every call, so this should be called at a fixed rate, rather than once per frame.
      */
     public void move() {
+        // Remember where the sprite was, so it can be drawn between its old and new positions
+        resetPreviousPosition();
+
         // Get the first layer of the map (the bottom layer)
         final TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
 
@@ -386,6 +426,18 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
      */
     private final HashMap<MapObject, BoundingBox> tileObjectBoundingBoxes = new HashMap<>();
 
+    /**
+     * The number of map tiles along each side of a cell in the {@link Player#mapObjectGrid}.
+     */
+    private static final int GRID_CELL_TILES = 4;
+
+    /**
+     * A uniform-grid spatial index over the bounding boxes in {@link Player#tileObjectBoundingBoxes}.
+     * This is used so that finding the map object under a point does not have to scan every map object.
+     * It is rebuilt by {@link Player#loadMapObjectBoundingBoxes()} whenever the map changes.
+     */
+    private MapObjectGrid mapObjectGrid;
+
     /**
      * Returns the bounding box of a given map object.
      * The bounding box is calculated based on the object's properties (x, y, width, height) scaled to the map scale.
@@ -435,6 +487,10 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
         // Retrieve the game objects from the map
         MapObjects objects = getMapObjects();
 
+        // Size the grid cells from the tile size of the bottom layer, scaled to the screen
+        TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
+        MapObjectGrid grid = new MapObjectGrid(Math.max(layer.getTileWidth(), layer.getTileHeight()) * mapScale * GRID_CELL_TILES);
+
         // Iterate over each game object
         for (MapObject object : objects) {
             // Check if the game object is actionable
@@ -449,62 +505,53 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
 
             // Store the bounding box in the tileObjectBoundingBoxes HashMap
             tileObjectBoundingBoxes.put(object, boundingBox);
+
+            // Register the bounding box in the spatial index
+            grid.add(object, boundingBox);
         }
+
+        // Build the cells of the spatial index once all objects have been added
+        grid.build();
+        mapObjectGrid = grid;
     }
 
     /**
      * Returns the current map object that the player's sprite is on.
-     * This is determined by checking if the player's center position is within the bounding box of each map object.
+     * This is determined by looking up the player's center position in the {@link Player#mapObjectGrid}.
      * If the player's sprite is not on any map object, null is returned.
      *
      * @return The MapObject that the player's sprite is currently on, or null if the sprite is not on any map object.
      */
     public @Nullable MapObject getCurrentMapObject() {
-        // Iterate over each entry in the tileObjectBoundingBoxes HashMap
-        for (Map.Entry<MapObject, BoundingBox> entry : tileObjectBoundingBoxes.entrySet()) {
-            // Get the center position of the player's sprite
-            Vector2 center = getCenter();
-
-            // Check if the bounding box of the map object contains the center position of the player's sprite
-            if (entry.getValue().contains(new Vector3(center.x, center.y, 0))) {
-                // If it does, return the map object
-                return entry.getKey();
-            }
-        }
-
-        // If the player's sprite is not on any map object, return null
-        return null;
+        // Look up the center position of the player's sprite in the spatial index
+        return mapObjectGrid.find(sprite.getX() + sprite.getWidth() / 2, sprite.getY() + sprite.getHeight() / 2);
     }
     /**
      * Returns the future map object that the player's sprite will be in.
-     * This is determined by checking if the player's center position is within the bounding box of each map object.
+     * This is determined by looking up the player's center position after the current movement in the {@link Player#mapObjectGrid}.
      * If the player's sprite is not on any map object, null is returned.
      *
      * @return The MapObject that the player's sprite will be on, or null if the sprite will not be on any map object.
      */
     public @Nullable MapObject getFutureMapObject() {
-        Vector2 center = getCenter();
-        // Iterate over each entry in the tileObjectBoundingBoxes HashMap
-        for (Map.Entry<MapObject, BoundingBox> entry : tileObjectBoundingBoxes.entrySet()) {
-            // Get the center position of the player's sprite after a movement
-            if (Movement.UP.is) {
-                center = getCenterUp();
-            } else if (Movement.DOWN.is) {
-                center = getCenterDown();
-            } else if (Movement.LEFT.is) {
-                center = getCenterLeft();
-            }  else if (Movement.RIGHT.is) {
-                center = getCenterRight();
-            }
+        // Get the center position of the player's sprite
+        float centerX = sprite.getX() + sprite.getWidth() / 2;
+        float centerY = sprite.getY() + sprite.getHeight() / 2;
 
-            // Check if the bounding box of the map object contains the center position of the player's sprite
-            if (entry.getValue().contains(new Vector3(center.x, center.y, 0))) {
-                // If it does, return the map object
-                return entry.getKey();
-            }
+        // Offset the center position by the current movement, in the same priority as getCenterUp/Down/Left/Right
+        final float amount = (Movement.BOOST.is ? 2 : 1) * mapScale;
+        if (Movement.UP.is) {
+            centerY += amount;
+        } else if (Movement.DOWN.is) {
+            centerY -= amount;
+        } else if (Movement.LEFT.is) {
+            centerX -= amount;
+        } else if (Movement.RIGHT.is) {
+            centerX += amount;
         }
-        // If the player's sprite is not on any map object, return null
-        return null;
+
+        // Look up the future center position in the spatial index
+        return mapObjectGrid.find(centerX, centerY);
     }
 
     /**
@@ -516,6 +563,35 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
     public void setPosition(@NotNull Vector2 position) {
         sprite.setPosition(position.x, position.y); // Set the sprite's position
         setPosition(position.x, position.y); // Set the player's bounds to the new position
+        resetPreviousPosition(); // The player jumps to the new position, rather than moving to it
+    }
+
+    /**
+     * Sets the previous position of the player's sprite to its current position, so it is drawn exactly where it is.
+     */
+    private void resetPreviousPosition() {
+        previousX = sprite.getX();
+        previousY = sprite.getY();
+    }
+
+    /**
+     * Returns the x-coordinate of the player's sprite, between its position before the last call to {@link Player#move()} and its current position.
+     *
+     * @param interpolation How far between the two positions, from 0 (the previous position) to 1 (the current position).
+     * @return The interpolated x-coordinate.
+     */
+    public float getInterpolatedX(float interpolation) {
+        return previousX + (sprite.getX() - previousX) * interpolation;
+    }
+
+    /**
+     * Returns the y-coordinate of the player's sprite, between its position before the last call to {@link Player#move()} and its current position.
+     *
+     * @param interpolation How far between the two positions, from 0 (the previous position) to 1 (the current position).
+     * @return The interpolated y-coordinate.
+     */
+    public float getInterpolatedY(float interpolation) {
+        return previousY + (sprite.getY() - previousY) * interpolation;
     }
 
     /**
@@ -534,6 +610,19 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
         // If the player's sprite is not on any map object, return null
         if (tileObject == null) return null;
 
+        return getTransition(tileObject);
+    }
+
+    /**
+     * Returns the transition of the given map object.
+     * If the map object has the "isNewMap" property set to true, the NEW_MAP transition is returned.
+     * If the map object has the "isActivity" property set to true, the ACTIVITY transition is returned.
+     * Otherwise, null is returned.
+     *
+     * @param tileObject The map object to check.
+     * @return The Transition of the map object, or null if it is not a transition tile.
+     */
+    public static @Nullable Transition getTransition(@NotNull MapObject tileObject) {
         // If the map object has the "isNewMap" property set to true, return the NEW_MAP transition
         if (Boolean.TRUE.equals(tileObject.getProperties().get("isNewMap", Boolean.class))) {
             return Transition.NEW_MAP;
@@ -587,6 +676,22 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
         super.draw(batch, parentAlpha); // Call the parent's draw method
     }
 
+    /**
+     * Draws the player's sprite between its position before the last call to {@link Player#move()} and its current position.
+     * The sprite is put back in its current position afterwards, so collisions and map objects are still checked from there.
+     *
+     * @param batch The Batch object used to draw the sprite.
+     * @param parentAlpha The parent's alpha value, used to handle transparency.
+     * @param interpolation How far between the two positions to draw the sprite, from 0 (the previous position) to 1 (the current position).
+     */
+    public void draw(final Batch batch, final float parentAlpha, final float interpolation) {
+        final float x = sprite.getX();
+        final float y = sprite.getY();
+        sprite.setPosition(getInterpolatedX(interpolation), getInterpolatedY(interpolation));
+        draw(batch, parentAlpha);
+        sprite.setPosition(x, y);
+    }
+
     /**
      * Handles the key press events for the player's movement.
      * This method is called when a key is pressed.
@@ -772,9 +877,9 @@ public class Player extends Actor implements PlayerScore, InputProcessor {
     /**
      * Disposes of the resources used by the player.
      * This method is called when the player is no longer needed, to free up memory.
+     * The {@link TextureAtlas} is shared through {@link GameAssets}, so it is not disposed here.
      */
     public void dispose() {
-        textureAtlas.dispose(); // Dispose of the TextureAtlas
         metrics.dispose(); // Dispose of the PlayerMetrics
     }
 
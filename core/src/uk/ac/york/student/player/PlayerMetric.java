@@ -1,9 +1,6 @@
 package uk.ac.york.student.player;
 
 import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
-import com.badlogic.gdx.scenes.scene2d.ui.Skin;
-import uk.ac.york.student.assets.skins.SkinManager;
-import uk.ac.york.student.assets.skins.Skins;
 
 /**
  * The PlayerMetric interface provides a contract for player metrics in the game.
@@ -15,11 +12,6 @@ public interface PlayerMetric {
      */
     float PROGRESS_BAR_MINIMUM = 0.1f;
 
-    /**
-     * The skin for the player metric, obtained from the SkinManager.
-     */
-    Skin skin = SkinManager.getSkins().getResult(Skins.CRAFTACULAR);
-
     /**
      * Get the progress bar for the player metric.
      * @return ProgressBar object representing the player's progress.
@@ -97,9 +89,9 @@ public interface PlayerMetric {
 
     /**
      * Dispose resources when they are no longer needed.
-     * By default, it disposes the skin.
+     * By default, there is nothing to dispose.
      */
     default void dispose() {
-        skin.dispose();
+
     }
 }
\ No newline at end of file
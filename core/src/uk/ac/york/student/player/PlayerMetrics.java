@@ -18,14 +18,29 @@ public final class PlayerMetrics {
     /**
      * The {@link MetricType} enum represents the types of metrics related to a player.
      * It includes {@link MetricType#ENERGY}, {@link MetricType#HAPPINESS}, and {@link MetricType#STUDY_LEVEL}.
+     * Each type holds the value its metric starts at, and is reset to by {@link MetricEffect#RESET}.
      */
     @Getter
     public enum MetricType {
-        ENERGY,       // Represents the energy level of the player
-        HAPPINESS,    // Represents the happiness level of the player
-        STUDY_LEVEL,
-        HEALTH;       // Represents the health level of the player
+        ENERGY(1f),         // Represents the energy level of the player
+        HAPPINESS(1f),      // Represents the happiness level of the player
+        STUDY_LEVEL(0.1f),
+        HEALTH(0.6f);       // Represents the health level of the player
 //        STREAKS// Represents the study level of the player
+
+        /**
+         * The default value of the metric, between {@link PlayerMetric#PROGRESS_BAR_MINIMUM} and 1.
+         */
+        private final float defaultValue;
+
+        /**
+         * Constructs a new {@link MetricType} with the given default value.
+         *
+         * @param defaultValue The default value of the metric.
+         */
+        MetricType(float defaultValue) {
+            this.defaultValue = defaultValue;
+        }
     }
 
     /**
@@ -38,27 +53,33 @@ public final class PlayerMetrics {
         RESET      // Represents resetting a player's metric to its initial value
     }
 
+    /**
+     * The store holding the values and totals of every metric of the player.
+     * The metric objects below are views over this store, so reading and changing the metrics does not go through their progress bars.
+     */
+    private final MetricStore store = new MetricStore();
+
     /**
      * The energy metric of the player.
      */
-    private final PlayerEnergy energy = new PlayerEnergy();
+    private final PlayerEnergy energy = new PlayerEnergy(store);
 
     /**
      * The happiness metric of the player.
      */
-    private final PlayerHappiness happiness = new PlayerHappiness();
+    private final PlayerHappiness happiness = new PlayerHappiness(store);
 
     /**
      * The study level metric of the player.
      */
-    private final PlayerStudyLevel studyLevel = new PlayerStudyLevel();
+    private final PlayerStudyLevel studyLevel = new PlayerStudyLevel(store);
 
 //    private final PlayerStreaks streaks = new PlayerStreaks();
 
     /**
      * The health level metric of the player.
      */
-    private final PlayerHealth health = new PlayerHealth();
+    private final PlayerHealth health = new PlayerHealth(store);
 
     /**
      * Changes the specified player metric based on the given effect and change amount.
@@ -69,39 +90,8 @@ public final class PlayerMetrics {
      * @throws IllegalArgumentException If an invalid metric type or effect is provided.
      */
     public void changeMetric(@NotNull MetricType type, MetricEffect effect, float changeAmount) throws IllegalArgumentException {
-        PlayerMetric metric;
-        // Determine the metric to change based on the provided type
-        switch (type) {
-            case ENERGY:
-                metric = energy;
-                break;
-            case HAPPINESS:
-                metric = happiness;
-                break;
-            case STUDY_LEVEL:
-                metric = studyLevel;
-                break;
-            case HEALTH: // new metric adding extra functionality
-                metric = health;
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid metric type: " + type);
-        }
-
-        // Apply the specified effect to the determined metric
-        switch (effect) {
-            case INCREASE:
-                metric.increase(changeAmount);
-                break;
-            case DECREASE:
-                metric.decrease(changeAmount);
-                break;
-            case RESET:
-                metric.set(metric.getDefault());
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid metric effect: " + effect);
-        }
+        // Apply the specified effect directly to the store, which updates any progress bar bound to the metric
+        store.change(type, effect, changeAmount);
     }
 
     /**
@@ -25,6 +25,25 @@ public interface PlayerScore {
      * @return The player's score, calculated based on the provided parameters and weightings.
      */
     default float calculateScore(float energy, float maxEnergy, float studyLevel, float maxStudyLevel, float happiness, float maxHappiness, PlayerStreaks streaks) {
+        if (GameScreen.notStudiedCounter > 1) {
+            System.out.println("Study fail");
+        }
+        return calculateScore(studyLevel, maxStudyLevel, happiness, maxHappiness, streaks, GameScreen.notStudiedCounter);
+    }
+
+    /**
+     * Calculate a score for a player based on their study level, happiness, streaks and the number of days they did not study.
+     * This holds the scoring rules without depending on the state of a {@link GameScreen}, so it can also be used to score simulated games.
+     *
+     * @param studyLevel The player's study level.
+     * @param maxStudyLevel The maximum possible study level.
+     * @param happiness The player's happiness level.
+     * @param maxHappiness The maximum possible happiness level.
+     * @param streaks The player's activity streaks.
+     * @param daysNotStudied The number of days on which the player did not study.
+     * @return The player's score, between 0 and 100.
+     */
+    static float calculateScore(float studyLevel, float maxStudyLevel, float happiness, float maxHappiness, @NotNull PlayerStreaks streaks, int daysNotStudied) {
         float studyWeighting = 1f;
         float happinessWeighting = 0.25f;
         float streakScore = 0;
@@ -46,9 +65,8 @@ public interface PlayerScore {
         float totalScore = studyScore + happinessScore + streakScore;
         float maxPossibleScore = studyWeighting + happinessWeighting;
 
-        if (GameScreen.notStudiedCounter > 1) {
+        if (daysNotStudied > 1) {
             totalScore = Math.max(0, totalScore - 61); //Forced fail if 2 or more days are missed when studying
-            System.out.println("Study fail");
         }
 
         return Math.min((totalScore / maxPossibleScore) * 100, 100f);
@@ -1,9 +1,10 @@
 package uk.ac.york.student.player;
 
+import org.jetbrains.annotations.NotNull;
+import uk.ac.york.student.game.GameTime;
 import uk.ac.york.student.game.activities.Activity;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * UPDATED FROM ASSESSMENT 1
@@ -14,65 +15,102 @@ import java.util.Map;
  */
 
 /**
- * Singleton class that tracks the streaks of various activities performed by the player.
- * It maintains the count of consecutive days an activity has been performed and the last day it was performed.
+ * Tracks the streaks of the activities performed in a single game.
+ * It maintains the count of consecutive days an activity has been performed, the longest such run, the last day it was performed,
+ * and a history of which activities were performed on each day.
+ * <p>
+ * Each game has its own streaks, held by its {@link Player}. Everything is kept in primitive arrays indexed by {@link Activity#ordinal()},
+ * and the history holds one bit per activity per day, so every query is O(1) and recording an activity does not allocate,
+ * except to grow the history when a game runs for more days than it was created for.
  */
 public class PlayerStreaks {
-    private static PlayerStreaks instance;
+    /**
+     * The activities, indexed by ordinal.
+     */
+    private static final Activity[] ACTIVITIES = Activity.values();
+
+    /**
+     * The number of longs in the history for each day, with one bit per activity.
+     */
+    private static final int WORDS_PER_DAY = (ACTIVITIES.length + Long.SIZE - 1) / Long.SIZE;
+
+    /** The streak count of each activity. */
+    private final int[] streakCounts = new int[ACTIVITIES.length];
 
-    /** A map storing the streak counts for each activity. */
-    private Map<String, Integer> activityStreakCounts;
+    /** The longest streak each activity has had. */
+    private final int[] longestStreaks = new int[ACTIVITIES.length];
 
-    /** A map storing the last day each activity was performed. */
-    private Map<String, Integer> lastPerformedDay;
+    /** The last day each activity was performed, or -1 if it has not been performed. */
+    private final int[] lastPerformedDays = new int[ACTIVITIES.length];
 
     /**
-     * Private constructor to prevent direct instantiation.
-     * Initializes the maps to store streak counts and last performed days for each activity.
+     * The activities performed on each day, as {@link PlayerStreaks#WORDS_PER_DAY} longs per day,
+     * where bit {@code ordinal % 64} of long {@code ordinal / 64} is set if the activity was performed on that day.
      */
-    private PlayerStreaks() {
-        activityStreakCounts = new HashMap<>();
-        lastPerformedDay = new HashMap<>();
-        for (Activity activity : Activity.values()) {
-            activityStreakCounts.put(activity.name(), 0);
-            lastPerformedDay.put(activity.name(), -1);
-        }
+    private long[] history;
+
+    /**
+     * The number of days in the {@link PlayerStreaks#history}, which is one more than the latest day an activity was performed on.
+     */
+    private int dayCount = 0;
+
+    /**
+     * Creates a new, empty set of streaks, with room for the history of a game of {@link GameTime#getDays()} days.
+     */
+    public PlayerStreaks() {
+        this(GameTime.getDays());
     }
 
     /**
-     * Retrieves the single instance of PlayerStreaks.
+     * Creates a new, empty set of streaks, with room for the history of a game of the given length.
+     * The history grows if activities are recorded on later days.
      *
-     * @return The single instance of PlayerStreaks.
+     * @param days The number of days the game is expected to last.
+     * @throws IllegalArgumentException If the number of days is negative.
      */
-    public static PlayerStreaks getInstance() {
-        if (instance == null) {
-            instance = new PlayerStreaks();
-        }
-        return instance;
+    public PlayerStreaks(int days) {
+        if (days < 0) throw new IllegalArgumentException("The number of days cannot be negative: " + days);
+        history = new long[days * WORDS_PER_DAY];
+        Arrays.fill(lastPerformedDays, -1);
     }
 
     /**
-     * Increment the streak count for the specified activity if it was last performed on the previous day.
+     * Increment the streak count for the specified activity if it was last performed on the previous day,
+     * or start a new streak if it was not, and record that it was performed on the current day.
      *
      * @param activity The activity for which to increment the streak count.
      * @param currentDay The current day in the game.
+     * @throws IllegalArgumentException If the day is negative.
      */
-    public void incrementStreak(Activity activity, int currentDay) {
-        String activityName = activity.name();
-        Integer lastDayPerformed = lastPerformedDay.get(activityName);
+    public void incrementStreak(@NotNull Activity activity, int currentDay) {
+        if (currentDay < 0) throw new IllegalArgumentException("The day cannot be negative: " + currentDay);
+        int index = activity.ordinal();
 
-        if (lastDayPerformed != null && (currentDay - lastDayPerformed) == 1) {
+        if (lastPerformedDays[index] >= 0 && currentDay - lastPerformedDays[index] == 1) {
             // Activity was last performed on the previous day, so increment the streak
-            activityStreakCounts.put(activityName, activityStreakCounts.getOrDefault(activityName, 0) + 1);
+            streakCounts[index]++;
         } else {
             // Reset the streak if there's a gap in the days
-            activityStreakCounts.put(activityName, 1);
+            streakCounts[index] = 1;
         }
+        longestStreaks[index] = Math.max(longestStreaks[index], streakCounts[index]);
 
-        // Update the last performed day to the current day
-        lastPerformedDay.put(activityName, currentDay);
+        // Update the last performed day to the current day, and record it in the history
+        lastPerformedDays[index] = currentDay;
+        ensureDays(currentDay + 1);
+        history[currentDay * WORDS_PER_DAY + index / Long.SIZE] |= 1L << index;
+    }
 
-        System.out.print(activityName + " streak " + getStreakCount(activity) + " days");
+    /**
+     * Makes sure the history has room for the given number of days, doubling its size if it does not.
+     *
+     * @param days The number of days the history must hold.
+     */
+    private void ensureDays(int days) {
+        if (days * WORDS_PER_DAY > history.length) {
+            history = Arrays.copyOf(history, Math.max(days, dayCount * 2) * WORDS_PER_DAY);
+        }
+        dayCount = Math.max(dayCount, days);
     }
 
     /**
@@ -81,17 +119,107 @@ public class PlayerStreaks {
      * @param activity The activity for which to get the streak count.
      * @return The streak count for the specified activity.
      */
-    public int getStreakCount(Activity activity) {
-        return activityStreakCounts.getOrDefault(activity.name(), 0);
+    public int getStreakCount(@NotNull Activity activity) {
+        return streakCounts[activity.ordinal()];
+    }
+
+    /**
+     * Get the longest streak the specified activity has had in this game, even if it has since been broken.
+     *
+     * @param activity The activity for which to get the longest streak.
+     * @return The longest streak of the specified activity.
+     */
+    public int getLongestStreak(@NotNull Activity activity) {
+        return longestStreaks[activity.ordinal()];
+    }
+
+    /**
+     * Get the last day the specified activity was performed on.
+     *
+     * @param activity The activity for which to get the last performed day.
+     * @return The last day the activity was performed on, or -1 if it has not been performed.
+     */
+    public int getLastPerformedDay(@NotNull Activity activity) {
+        return lastPerformedDays[activity.ordinal()];
+    }
+
+    /**
+     * Checks whether the specified activity was performed on the given day.
+     *
+     * @param activity The activity to check.
+     * @param day The day to check.
+     * @return True if the activity was performed on the day, false otherwise.
+     */
+    public boolean wasPerformedOn(@NotNull Activity activity, int day) {
+        if (day < 0 || day >= dayCount) return false;
+        int index = activity.ordinal();
+        return (history[day * WORDS_PER_DAY + index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    /**
+     * Get the number of days in the history, which is one more than the latest day an activity was performed on.
+     *
+     * @return The number of days in the history.
+     */
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Copies the history, so it can be saved and later given to {@link PlayerStreaks#restore(long[])}.
+     *
+     * @return The history, as {@link PlayerStreaks#getHistoryWordsPerDay()} longs for each of the {@link PlayerStreaks#getDayCount()} days.
+     */
+    public long @NotNull [] copyHistory() {
+        return Arrays.copyOf(history, dayCount * WORDS_PER_DAY);
+    }
+
+    /**
+     * Get the number of longs each day takes up in the history returned by {@link PlayerStreaks#copyHistory()}.
+     *
+     * @return The number of longs per day.
+     */
+    public static int getHistoryWordsPerDay() {
+        return WORDS_PER_DAY;
+    }
+
+    /**
+     * Replaces the streaks with those of a saved history, such as when a saved game is resumed.
+     * The streak counts, longest streaks and last performed days are rebuilt by recording every activity in the history, day by day.
+     *
+     * @param savedHistory A history returned by {@link PlayerStreaks#copyHistory()}.
+     */
+    public void restore(long @NotNull [] savedHistory) {
+        reset();
+        int days = savedHistory.length / WORDS_PER_DAY;
+        for (int day = 0; day < days; day++) {
+            for (int index = 0; index < ACTIVITIES.length; index++) {
+                if ((savedHistory[day * WORDS_PER_DAY + index / Long.SIZE] & (1L << index)) != 0) {
+                    incrementStreak(ACTIVITIES[index], day);
+                }
+            }
+        }
     }
 
     /**
      * Reset the streak count for the specified activity.
+     * The activity's longest streak and history are kept.
      *
      * @param activity The activity for which to reset the streak count.
      */
-    public void resetStreak(Activity activity) {
-        activityStreakCounts.put(activity.name(), 0);
-        lastPerformedDay.put(activity.name(), -1);
+    public void resetStreak(@NotNull Activity activity) {
+        streakCounts[activity.ordinal()] = 0;
+        lastPerformedDays[activity.ordinal()] = -1;
+    }
+
+    /**
+     * Clears every streak and the whole history, keeping the memory for reuse.
+     */
+    public void reset() {
+        Arrays.fill(streakCounts, 0);
+        Arrays.fill(longestStreaks, 0);
+        Arrays.fill(lastPerformedDays, -1);
+        Arrays.fill(history, 0, dayCount * WORDS_PER_DAY, 0L);
+        dayCount = 0;
     }
 }
@@ -0,0 +1,194 @@
+package uk.ac.york.student.player;
+
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import uk.ac.york.student.assets.skins.SkinManager;
+import uk.ac.york.student.assets.skins.Skins;
+import uk.ac.york.student.game.GameTime;
+
+/**
+ * The StoredPlayerMetric class is the base of the player metrics whose values are kept in a {@link MetricStore}.
+ * It implements the PlayerMetric interface by reading and writing the value and total of its {@link PlayerMetrics.MetricType} in the store.
+ * <p>
+ * The {@link ProgressBar} for the metric is only created the first time {@link StoredPlayerMetric#getProgressBar()} is called,
+ * and is then bound to the store as a {@link MetricStore.Listener}, so it is only updated when the value of the metric changes.
+ * Until then, the metric does not need scene2d, a skin or a GL context.
+ */
+public abstract class StoredPlayerMetric implements PlayerMetric, MetricStore.Listener {
+    /**
+     * The store holding the value and total of the metric.
+     */
+    @Getter
+    private final MetricStore store;
+
+    /**
+     * The type of the metric in the store.
+     */
+    @Getter
+    private final PlayerMetrics.MetricType type;
+
+    /**
+     * The Craftacular skin used by the ProgressBar, acquired from the {@link SkinManager} when the ProgressBar is created.
+     */
+    private @Nullable Skin skin;
+
+    /**
+     * The ProgressBar representing the metric, or null if it has not been created yet.
+     * The minimum value is 0, the maximum value is 1, and the step size is 0.1.
+     */
+    private @Nullable ProgressBar progressBar;
+
+    /**
+     * Constructor for the StoredPlayerMetric class.
+     *
+     * @param store the store holding the value and total of the metric
+     * @param type the type of the metric in the store
+     */
+    protected StoredPlayerMetric(@NotNull MetricStore store, @NotNull PlayerMetrics.MetricType type) {
+        this.store = store;
+        this.type = type;
+    }
+
+    /**
+     * Returns the maximum total that a player can accumulate for the metric.
+     * This is equivalent to the number of days in the game, as represented by {@link GameTime#getDays()}.
+     *
+     * @return the maximum total that a player can accumulate
+     */
+    @Override
+    public float getMaxTotal() {
+        return GameTime.getDays();
+    }
+
+    /**
+     * Returns the total accumulated value of the metric.
+     *
+     * @return the total accumulated value of the metric
+     */
+    @Override
+    public float getTotal() {
+        return store.getTotal(type);
+    }
+
+    /**
+     * Sets the total accumulated value of the metric.
+     *
+     * @param total the new total accumulated value of the metric
+     */
+    @Override
+    public void setTotal(float total) {
+        store.setTotal(type, total);
+    }
+
+    /**
+     * Increases the total accumulated value of the metric by a specified amount.
+     *
+     * @param amount the amount to add to the total
+     */
+    @Override
+    public void increaseTotal(float amount) {
+        store.increaseTotal(type, amount);
+    }
+
+    /**
+     * Returns the default value of the metric, as given by {@link PlayerMetrics.MetricType#getDefaultValue()}.
+     *
+     * @return the default value of the metric
+     */
+    @Override
+    public float getDefault() {
+        return type.getDefaultValue();
+    }
+
+    /**
+     * Get the current value of the metric.
+     *
+     * @return the current value of the metric, between {@link PlayerMetric#PROGRESS_BAR_MINIMUM} and 1
+     */
+    @Override
+    public float get() {
+        return store.get(type);
+    }
+
+    /**
+     * Set the current value of the metric.
+     * The value is kept between {@link PlayerMetric#PROGRESS_BAR_MINIMUM} and 1 by the store.
+     *
+     * @param value the new value of the metric
+     */
+    @Override
+    public void set(float value) {
+        store.set(type, value);
+    }
+
+    /**
+     * Increase the current value of the metric, up to a maximum of 1.
+     *
+     * @param amount the amount to add to the metric
+     */
+    @Override
+    public void increase(float amount) {
+        store.increase(type, amount);
+    }
+
+    /**
+     * Decrease the current value of the metric, down to a minimum of {@link PlayerMetric#PROGRESS_BAR_MINIMUM}.
+     *
+     * @param amount the amount to subtract from the metric
+     */
+    @Override
+    public void decrease(float amount) {
+        store.decrease(type, amount);
+    }
+
+    /**
+     * Get the ProgressBar representing the metric.
+     * The ProgressBar is created the first time this method is called, and then follows the value of the metric in the store.
+     *
+     * @return the ProgressBar representing the metric
+     */
+    @Override
+    public ProgressBar getProgressBar() {
+        if (progressBar == null) {
+            skin = SkinManager.acquire(Skins.CRAFTACULAR);
+            progressBar = new ProgressBar(0, 1, 0.1f, false, skin);
+            progressBar.setWidth(200); // Set the width of the ProgressBar to 200
+            progressBar.setHeight(50); // Set the height of the ProgressBar to 50
+            progressBar.setAnimateDuration(0.25f); // Set the animation duration of the ProgressBar to 0.25 seconds
+            progressBar.setValue(get());
+            store.addListener(type, this);
+        }
+        return progressBar;
+    }
+
+    /**
+     * Called by the store when the value of the metric changes, and moves the ProgressBar to the new value.
+     *
+     * @param type the type of the metric that changed
+     * @param value the new value of the metric
+     */
+    @Override
+    public void changed(@NotNull PlayerMetrics.MetricType type, float value) {
+        if (progressBar != null) {
+            progressBar.setValue(value);
+        }
+    }
+
+    /**
+     * Unbinds the ProgressBar from the store and releases the skin, if the ProgressBar has been created.
+     * The value and total of the metric stay in the store.
+     */
+    @Override
+    public void dispose() {
+        if (progressBar == null) return;
+        store.removeListener(type, this);
+        progressBar = null;
+        if (skin != null) {
+            SkinManager.release(skin);
+            skin = null;
+        }
+    }
+}
@@ -6,6 +6,9 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.SharedBatch;
+import uk.ac.york.student.debug.FrameProfiler;
 import uk.ac.york.student.game.Leaderboard;
 import uk.ac.york.student.game.activities.Activity;
 import uk.ac.york.student.player.Player;
@@ -16,7 +19,6 @@ import uk.ac.york.student.player.PlayerStreaks;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
@@ -32,6 +34,7 @@ import org.jetbrains.annotations.NotNull;
 import uk.ac.york.student.GdxGame;
 import uk.ac.york.student.assets.skins.SkinManager;
 import uk.ac.york.student.assets.skins.Skins;
+import uk.ac.york.student.assets.textures.Textures;
 import uk.ac.york.student.audio.sound.GameSound;
 import uk.ac.york.student.audio.sound.SoundManager;
 import uk.ac.york.student.audio.sound.Sounds;
@@ -78,12 +81,12 @@ public class EndScreen extends BaseScreen {
     private final boolean shouldFadeIn;
     private final float fadeInTime;
 
-    private final Texture backgroundTexture = new Texture(Gdx.files.internal("images/MapOverview.png"));
-    private final Texture vignetteTexture = new Texture(Gdx.files.internal("images/Vignette.png"));
-    private final Texture cookeLogo = new Texture(Gdx.files.internal("images/logo/b/logo.png"));
-    private final Texture clouds = new Texture(Gdx.files.internal("images/CloudsFormatted.png"));
-    private final Image cloudsImage = new Image(new TextureRegionDrawable(new TextureRegion(clouds)));
-    private final Skin craftacularSkin = SkinManager.getSkins().getResult(Skins.CRAFTACULAR);
+    private final TextureRegion backgroundTexture = GameAssets.getRegion(Textures.MAP_OVERVIEW);
+    private final TextureRegion vignetteTexture = GameAssets.getRegion(Textures.VIGNETTE);
+    private final TextureRegion cookeLogo = GameAssets.getRegion(Textures.LOGO);
+    private final TextureRegion clouds = GameAssets.getRegion(Textures.CLOUDS);
+    private final Image cloudsImage = new Image(new TextureRegionDrawable(clouds));
+    private final Skin craftacularSkin = SkinManager.acquire(Skins.CRAFTACULAR);
     private final GameSound buttonClick = SoundManager.getSupplierSounds().getResult(Sounds.BUTTON_CLICK);
     private final boolean cloudsEnabled = ((MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference()).isEnabled();
     private final float cloudsSpeed = ((MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference()).getSpeed();
@@ -104,7 +107,7 @@ public class EndScreen extends BaseScreen {
      */
     public EndScreen(GdxGame game, boolean shouldFadeIn, float fadeInTime, Object @NotNull [] args) {
         super(game);
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
         player = (Player) args[0];
         Gdx.input.setInputProcessor(processor);
 
@@ -122,7 +125,7 @@ public class EndScreen extends BaseScreen {
         float happinessMax = metrics.getHappiness().getMaxTotal();
 
         executorService = Executors.newSingleThreadScheduledExecutor();
-        playerStreaks = PlayerStreaks.getInstance();
+        playerStreaks = player.getStreaks();
 
     }
 
@@ -356,8 +359,8 @@ public class EndScreen extends BaseScreen {
         float ratio = getRatio();
 
         // Calculate the new width and height for the background texture based on the ratio
-        width = backgroundTexture.getWidth() * ratio;
-        height = backgroundTexture.getHeight() * ratio;
+        width = backgroundTexture.getRegionWidth() * ratio;
+        height = backgroundTexture.getRegionHeight() * ratio;
 
         // Set the size of the clouds image to the new width and height
         cloudsImage.setSize(width, height);
@@ -380,10 +383,10 @@ public class EndScreen extends BaseScreen {
         float screenHeight = Gdx.graphics.getHeight();
 
         // Calculate the ratio of the screen width to the background texture width
-        float widthRatio = screenWidth / backgroundTexture.getWidth();
+        float widthRatio = screenWidth / backgroundTexture.getRegionWidth();
 
         // Calculate the ratio of the screen height to the background texture height
-        float heightRatio = screenHeight / backgroundTexture.getHeight();
+        float heightRatio = screenHeight / backgroundTexture.getRegionHeight();
 
         // Return the maximum ratio to maintain the aspect ratio of the background texture
         return Math.max(widthRatio, heightRatio);
@@ -422,8 +425,8 @@ public class EndScreen extends BaseScreen {
         float ratio = getRatio();
 
         // Calculate the new width and height for the background texture based on the ratio.
-        float width = backgroundTexture.getWidth() * ratio;
-        float height = backgroundTexture.getHeight() * ratio;
+        float width = backgroundTexture.getRegionWidth() * ratio;
+        float height = backgroundTexture.getRegionHeight() * ratio;
 
         // Draw the background texture.
         batch.draw(backgroundTexture, 0, 0, width, height);
@@ -452,8 +455,12 @@ public class EndScreen extends BaseScreen {
         batch.end();
 
         // Update the stage's actors and draw the stage.
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_ACT);
         processor.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_ACT);
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
         processor.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
     }
 
 
@@ -475,8 +482,8 @@ public class EndScreen extends BaseScreen {
         float ratio = getRatio();
 
         // Calculate the new width and height for the background texture based on the ratio.
-        float newWidth = backgroundTexture.getWidth() * ratio;
-        float newHeight = backgroundTexture.getHeight() * ratio;
+        float newWidth = backgroundTexture.getRegionWidth() * ratio;
+        float newHeight = backgroundTexture.getRegionHeight() * ratio;
 
         // Set the size of the clouds image to the new width and height.
         cloudsImage.setSize(newWidth, newHeight);
@@ -508,14 +515,11 @@ public class EndScreen extends BaseScreen {
 
     /**
      * Disposes of the resources used by the game to free up memory.
-     * This includes textures, skins, sounds, and shutting down the executor service.
+     * This includes skins, sounds, and shutting down the executor service.
+     * The textures are owned by {@link GameAssets} and are not disposed here.
      * Resources disposed:
      * - Stage processor
-     * - Background texture
-     * - Vignette texture
-     * - Craftacular skin
-     * - Cooke logo texture
-     * - Clouds texture
+     * - Craftacular skin (released back to the {@link SkinManager})
      * - Button click sound
      * - Executor service
      */
@@ -523,16 +527,8 @@ public class EndScreen extends BaseScreen {
     public void dispose() {
         // Dispose of the processor
         processor.dispose();
-        // Dispose of the background texture
-        backgroundTexture.dispose();
-        // Dispose of the vignette texture
-        vignetteTexture.dispose();
-        // Dispose of the craftacular skin
-        craftacularSkin.dispose();
-        // Dispose of the cooke logo
-        cookeLogo.dispose();
-        // Dispose of the clouds texture
-        clouds.dispose();
+        // Release the craftacular skin
+        SkinManager.release(craftacularSkin);
         // Dispose of the button click sound
         buttonClick.dispose();
         // Shutdown the executor service
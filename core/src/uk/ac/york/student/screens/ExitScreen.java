@@ -5,6 +5,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import lombok.Getter;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.SharedBatch;
 import uk.ac.york.student.assets.fonts.FontManager;
 
 @Deprecated(forRemoval = true)
@@ -13,7 +14,7 @@ public class ExitScreen extends BaseScreen {
     private final Stage processor;
     public ExitScreen(GdxGame game) {
         super(game);
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
     }
 
     @Override
@@ -8,7 +8,7 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.maps.*;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.*;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -25,24 +25,32 @@ import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.SharedBatch;
 import uk.ac.york.student.assets.skins.SkinManager;
 import uk.ac.york.student.assets.skins.Skins;
 import uk.ac.york.student.assets.map.ActionMapObject;
 import uk.ac.york.student.assets.map.ActivityMapObject;
+import uk.ac.york.student.assets.map.ChunkedTiledMapRenderer;
 import uk.ac.york.student.assets.map.MapManager;
 import uk.ac.york.student.assets.map.TransitionMapObject;
+import uk.ac.york.student.debug.FrameProfiler;
 import uk.ac.york.student.game.GameTime;
 import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.game.activities.ActivityEffects;
+import uk.ac.york.student.game.replay.InputReplay;
+import uk.ac.york.student.game.replay.InputSession;
+import uk.ac.york.student.game.save.Autosave;
+import uk.ac.york.student.game.save.GameSnapshot;
+import uk.ac.york.student.game.world.World;
+import uk.ac.york.student.player.MetricStore;
 import uk.ac.york.student.player.Player;
 import uk.ac.york.student.player.PlayerMetric;
 import uk.ac.york.student.player.PlayerMetrics;
 import uk.ac.york.student.player.PlayerStreaks;
-import uk.ac.york.student.utils.MapOfSuppliers;
-import uk.ac.york.student.utils.Pair;
-import uk.ac.york.student.utils.StreamUtils;
 import uk.ac.york.student.utils.Wait;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -69,6 +77,10 @@ import java.util.Map;
  */
 public class GameScreen extends BaseScreen implements InputProcessor {
 
+    /**
+     * The position the player returns to on the main map when leaving a building, in map pixels,
+     * so it is still right if the screen, and with it the map scale, changes before the player returns.
+     */
     private static Vector2 prevPos = new Vector2();
     private static String currentMapName = "map";
 
@@ -87,6 +99,14 @@ public class GameScreen extends BaseScreen implements InputProcessor {
     @Getter
     private final Stage processor;
 
+    /**
+     * The stage for the heads-up display, holding the action, metrics and time tables.
+     * It has its own screen-space viewport that never moves with the camera of the {@link GameScreen#processor},
+     * so the tables only have to be laid out again when their contents or the size of the screen change.
+     * It shares the batch of the {@link GameScreen#processor}.
+     */
+    private final Stage hud;
+
     /**
      * The player of the game. This is the main character that the user controls.
      */
@@ -98,9 +118,10 @@ public class GameScreen extends BaseScreen implements InputProcessor {
     private final GameTime gameTime;
 
     /**
-     * The map for the game. This is loaded from the {@link MapManager} with {@link MapManager#getMaps()} then {@link MapOfSuppliers#getResult(Object)}.
+     * The map for the game. This is acquired from the {@link MapManager} with {@link MapManager#acquire(String)},
+     * and must be handed back with {@link MapManager#release(TiledMap)} rather than disposed.
      */
-    private TiledMap map = MapManager.getMaps().getResult("map");
+    private TiledMap map = MapManager.acquire("map");
 
     /**
      * The scale of the map. This is used to adjust the size of the map to fit the screen.
@@ -109,13 +130,20 @@ public class GameScreen extends BaseScreen implements InputProcessor {
 
     /**
      * The renderer for the map. This is used to draw the map on the screen.
+     * It bakes the map's tiles once when it is created, so it is only recreated when the map changes, and is disposed when it is replaced.
      */
-    private TiledMapRenderer renderer;
+    private ChunkedTiledMapRenderer renderer;
+
+    /**
+     * The fade alpha last applied to the {@link GameScreen#renderer} and the player by {@link GameScreen#applyFade()}.
+     * It is set to NaN whenever the renderer is recreated, so the fade is applied again on the next frame.
+     */
+    private float appliedFade = Float.NaN;
 
     /**
      * The skin for the game. This is used to style the game's UI elements.
      */
-    private final Skin craftacularSkin = SkinManager.getSkins().getResult(Skins.CRAFTACULAR);
+    private final Skin craftacularSkin = SkinManager.acquire(Skins.CRAFTACULAR);
 
     /**
      * The table for the action UI. This is where the action label is added.
@@ -160,6 +188,7 @@ public class GameScreen extends BaseScreen implements InputProcessor {
 
     /**
      * An instance of PlayerStreaks that tracks the player's streaks for various activities.
+     * It is held by the {@link GameScreen#player}, so every game starts with no streaks.
      */
     private PlayerStreaks playerStreaks;
 
@@ -172,7 +201,27 @@ public class GameScreen extends BaseScreen implements InputProcessor {
     public GameScreen(GdxGame game) {
         super(game);
 
-        playerStreaks = PlayerStreaks.getInstance();
+        // Start recording or replaying the input of this game, if the launcher asked for it.
+        // The creatures are placed and moved at random, so the random number generator is seeded from the journal.
+        inputSession = InputReplay.startSession(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        if (inputSession != null) {
+            MathUtils.random.setSeed(inputSession.getSeed());
+        }
+
+        // Resume the saved game if the main menu asked for it. A recorded or replayed game always starts from the beginning,
+        // so it plays out the same way, and it is not saved, so it never replaces the player's own game.
+        GameSnapshot resume = Autosave.takeResume();
+        if (inputSession != null) resume = null;
+        currentMapName = resume == null ? "map" : resume.getMapName();
+        if (resume != null) {
+            Player.setSelectedCharacter(resume.getCharacter());
+            prevPos.set(resume.getReturnX(), resume.getReturnY());
+            if (!currentMapName.equals("map")) {
+                // Swap the map acquired for a new game for the one the game was saved on
+                MapManager.release(map);
+                map = MapManager.acquire(currentMapName);
+            }
+        }
 
         // Set up the tilemap
         // Note: cannot extract into a method because class variables are set as final
@@ -187,8 +236,9 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         mapScale = Math.max(Gdx.graphics.getWidth() / (layer.getWidth() * tileWidth), Gdx.graphics.getHeight() / (layer.getHeight() * tileHeight));
         // Initialize the game time
         gameTime = new GameTime(mapScale);
-        // Initialize the map renderer
-        renderer = new OrthogonalTiledMapRenderer(map, mapScale);
+        // Initialize the map renderer, which bakes the map's tiles
+        renderer = new ChunkedTiledMapRenderer(map, mapScale);
+        appliedFade = Float.NaN;
         //#endregion
 
         // Initialize the starting point of the player
@@ -210,24 +260,56 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             startingPoint = new Vector2(rectangle.getX() * mapScale, rectangle.getY() * mapScale);
             break;
         }
+        // A resumed game starts where it was saved, scaled to the current screen
+        if (resume != null) {
+            startingPoint = new Vector2(resume.getX() * mapScale, resume.getY() * mapScale);
+        }
 
         // Initialize the player at the starting point
         player = new Player(map, startingPoint);
+        // Release any movement key held down when the previous game ended
+        player.stopMoving();
+        // Track the streaks of this game, which start empty for every new player
+        playerStreaks = player.getStreaks();
+        // Create the entities of the map
+        world = new World(map);
 
         // Initialize the stage and set it as the input processor
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
         renderer.setView((OrthographicCamera) processor.getCamera());
         Gdx.input.setInputProcessor(processor);
 
-        // Add a listener to the stage to handle key events
+        // Initialize the HUD stage, which draws in screen space with the same batch
+        hud = new Stage(new ScreenViewport(), SharedBatch.get());
+
+        // Mark the action label as outdated whenever one of the player's metrics changes
+        MetricStore store = player.getMetrics().getStore();
+        for (PlayerMetrics.MetricType type : METRIC_TYPES) {
+            store.addListener(type, metricsListener);
+        }
+        if (resume != null) {
+            restoreSnapshot(resume);
+        }
+
+        // Add a listener to the stage to handle key events.
+        // While a journal is replayed, live key events are ignored. While one is recorded, each event is stamped with the next simulation step,
+        // which is the first step it has an effect on, so it can be replayed at the same point whatever the frame rate.
         processor.addListener(new InputListener() {
             @Override
             public boolean keyDown(InputEvent event, int keycode) {
+                if (inputSession != null) {
+                    if (inputSession.isReplaying()) return false;
+                    inputSession.record(simulationSteps, keycode, true);
+                }
                 return GameScreen.this.keyDown(keycode);
             }
 
             @Override
             public boolean keyUp(InputEvent event, int keycode) {
+                if (inputSession != null) {
+                    if (inputSession.isReplaying()) return false;
+                    inputSession.record(simulationSteps, keycode, false);
+                }
                 return GameScreen.this.keyUp(keycode);
             }
         });
@@ -245,10 +327,10 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         SequenceAction sequenceAction = new SequenceAction();
         sequenceAction.addAction(Actions.fadeOut(0.5f));
         sequenceAction.addAction(Actions.run(() -> {
-            // Dispose of the current map
-            map.dispose();
-            // Load the new map
-            map = MapManager.getMaps().getResult(mapName);
+            // Release the current map back to the map cache
+            MapManager.release(map);
+            // Load the new map (or reuse it if it is still cached)
+            map = MapManager.acquire(mapName);
             // Get the first layer of the new map
             TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
             // Get the width and height of a tile in the new map
@@ -256,8 +338,10 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             int tileHeight = layer.getTileHeight();
             // Calculate the scale of the new map based on the screen size and tile size
             mapScale = Math.max(Gdx.graphics.getWidth() / (layer.getWidth() * tileWidth), Gdx.graphics.getHeight() / (layer.getHeight() * tileHeight));
-            // Initialize the map renderer for the new map
-            renderer = new OrthogonalTiledMapRenderer(map, mapScale);
+            // Replace the map renderer with one that bakes the new map's tiles
+            renderer.dispose();
+            renderer = new ChunkedTiledMapRenderer(map, mapScale);
+            appliedFade = Float.NaN;
 
             // Initialize the starting point of the player for the new map
             Vector2 startingPoint = new Vector2(25, 25);
@@ -282,11 +366,15 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             }
             //Changes starting point to prev map position
             if (mapName.equals("map")) {
-                startingPoint = prevPos;
+                startingPoint = new Vector2(prevPos).scl(mapScale);
             }
 
             // Set the new map and starting point for the player
             player.setMap(map, startingPoint);
+            // Replace the entities of the old map with those of the new map
+            world.dispose();
+            world = new World(map);
+            labelActionMapObject = null;
             // Update the game time progress bar for the new map
             gameTime.updateProgressBar(mapScale);
 
@@ -323,7 +411,7 @@ public class GameScreen extends BaseScreen implements InputProcessor {
 
         // Set up the action table
         actionTable.setFillParent(true);
-        processor.addActor(actionTable);
+        hud.addActor(actionTable);
         actionLabel.setVisible(false);
         actionTable.add(actionLabel);
         actionTable.bottom();
@@ -332,7 +420,7 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         // Set up the metrics table
         metricsTable.setFillParent(true);
         metricsTable.setWidth(500);
-        processor.addActor(metricsTable);
+        hud.addActor(metricsTable);
         PlayerMetrics metrics = player.getMetrics();
         List<ProgressBar> playerMetrics = metrics.getMetrics().stream().map(PlayerMetric::getProgressBar).collect(Collectors.toList());
         List<String> metricLabels = metrics.getMetrics().stream().map(PlayerMetric::getLabel).collect(Collectors.toList());
@@ -353,7 +441,7 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         String currentDay = "Day " + (gameTime.getCurrentDay() + 1);
         String time = currentDay + " " + currentHour;
         timeTable.setFillParent(true);
-        processor.addActor(timeTable);
+        hud.addActor(timeTable);
         timeTable.setWidth(500);
         timeLabel.setText(time);
         timeTable.add(timeLabel);
@@ -362,8 +450,9 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         timeTable.top();
         timeTable.padTop(10);
 
-        // Update the viewport of the stage
+        // Update the viewports of the stages
         processor.getViewport().update((int) width, (int) height);
+        hud.getViewport().update((int) width, (int) height, true);
     }
 
     /**
@@ -397,17 +486,161 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         return currentHour; // Return the current hour
     }
 
+    /**
+     * Applies the current alpha of the stage, which is animated when the screen fades in or out, to the player and the map.
+     * The map is faded through the renderer's tint rather than by changing the opacity of each layer,
+     * as the layers belong to a map that is shared through the {@link MapManager} cache.
+     * Nothing is changed when the alpha is the same as on the previous frame, so this costs nothing while no fade is running.
+     */
+    private void applyFade() {
+        float alpha = processor.getRoot().getColor().a;
+        if (alpha == appliedFade) return;
+        appliedFade = alpha;
+
+        // The renderer multiplies every tile by this alpha when drawing the map
+        renderer.setAlpha(alpha);
+
+        // Set the opacity of the player. This determines how transparent the player is.
+        player.setOpacity(alpha);
+    }
+
     /**
      * An {@link AtomicReference} to an {@link ActionMapObject}. This object represents the current action that the player can perform.
      * It is nullable, meaning it can be null if there is no current action.
      * {@link AtomicReference} is used to ensure thread-safety when accessing and updating this variable.
      */
     private final AtomicReference<@Nullable ActionMapObject> currentActionMapObject = new AtomicReference<>(null);
+
+    /**
+     * The {@link World} holding the entities of the current map: the activities and doors the player can act on, and the creatures wandering around it.
+     * It is replaced whenever the map changes, so standing on an interaction tile does not parse the properties of its map object every frame.
+     */
+    private World world;
+
+    /**
+     * The part of the map the camera can see, in the camera's units, so the {@link GameScreen#world} only draws the entities on screen.
+     */
+    private final Rectangle cameraView = new Rectangle();
+
+    /**
+     * The metric types, cached so binding the {@link GameScreen#metricsListener} does not allocate a new array.
+     */
+    private static final PlayerMetrics.MetricType[] METRIC_TYPES = PlayerMetrics.MetricType.values();
+
+    /**
+     * The activities, cached so capturing a {@link GameSnapshot} does not allocate a new array.
+     */
+    private static final Activity[] ACTIVITIES = Activity.values();
+
+    /**
+     * The {@link ActionMapObject} the action label was last built for, or null if the label is hidden.
+     */
+    private @Nullable ActionMapObject labelActionMapObject = null;
+
+    /**
+     * The hour and day of the {@link GameScreen#gameTime} when the action label was last built.
+     */
+    private int labelHour, labelDay;
+
+    /**
+     * Whether any of the player's metrics has changed since the action label was last built.
+     * It is set by the {@link GameScreen#metricsListener}, so the metrics do not have to be compared every frame.
+     */
+    private boolean labelMetricsChanged = true;
+
+    /**
+     * The listener bound to the player's {@link MetricStore}, which marks the action label as outdated whenever a metric changes.
+     */
+    private final MetricStore.Listener metricsListener = (type, value) -> labelMetricsChanged = true;
+
+    /**
+     * The time in seconds between updates of the simulation. The player moves once per update,
+     * so it moves at the same speed however often the screen is drawn.
+     */
+    private static final float SIMULATION_STEP = 1 / 60f;
+
+    /**
+     * The largest number of updates run in a single frame. If a frame takes longer than this many steps,
+     * for example while the window is being dragged, the rest of the time is dropped rather than caught up on later.
+     */
+    private static final int MAX_STEPS_PER_FRAME = 5;
+
+    /**
+     * The longest time in milliseconds spent each frame uploading the textures of a map being prefetched, see {@link MapManager#update(int)}.
+     */
+    private static final int PREFETCH_BUDGET_MILLIS = 4;
+
+    /**
+     * The name of the map behind the door the player was last near, or null if they are not near one,
+     * so the map is only handed to {@link MapManager#prefetch(String)} once as the player walks up to its door.
+     */
+    private @Nullable String prefetchedMapName = null;
+
+    /**
+     * The time in seconds that has passed but has not been simulated yet, which is always less than {@link GameScreen#SIMULATION_STEP} after a frame.
+     */
+    private float accumulator = 0;
+
+    /**
+     * The number of simulation steps run since the game started, used to stamp the key events of the {@link GameScreen#inputSession}.
+     */
+    private int simulationSteps = 0;
+
+    /**
+     * The session recording or replaying the input of this game, or null if the game is played live without recording.
+     */
+    private final @Nullable InputSession inputSession;
+
+    /**
+     * Advances the simulation by one {@link GameScreen#SIMULATION_STEP}.
+     * It sends the key events recorded for this step if a journal is being replayed, moves the player, checking for collisions,
+     * and the entities of the {@link GameScreen#world}, prefetches the map behind a door the player is close to, and runs the fade actions of the stage,
+     * and then checks whether the player is on an activity or transition tile, updating the action label to reflect the possible action.
+     * The stage is updated here rather than once per frame, so map changes finish after the same number of steps whatever the frame rate.
+     */
+    private void update() {
+        // Replay the key events of this step, or finish the replay if the journal has ended
+        if (inputSession != null && !inputSession.isFinished() && !inputSession.dispatch(simulationSteps, this)) {
+            finishInputSession();
+            return;
+        }
+        simulationSteps++;
+
+        // Move the player. This updates the player's position based on their current movement, unless they would move into a collision tile.
+        player.move();
+
+        // Move and animate the creatures of the map
+        world.update(SIMULATION_STEP);
+
+        // Start loading the map behind the nearest door if the player is getting close to it
+        String nearbyMap = world.getNearbyMap((player.getX() + player.getWidth() / 2) / mapScale, (player.getY() + player.getHeight() / 2) / mapScale);
+        if (nearbyMap != null && !nearbyMap.equals(prefetchedMapName) && !nearbyMap.equals(currentMapName)) {
+            MapManager.prefetch(nearbyMap);
+        }
+        prefetchedMapName = nearbyMap;
+
+        // Update the stage. This runs the fade actions on the root of the stage.
+        processor.act(SIMULATION_STEP);
+
+        // Check if the player is in a transition tile. If they are, update the action label to reflect the possible action.
+        MapObject tileObject = player.getCurrentMapObject();
+        ActionMapObject actionMapObject = tileObject == null ? null : world.getAction(tileObject);
+        if (actionMapObject != null) {
+            setActionLabel(actionMapObject);
+        } else {
+            // If the player is not in a transition tile, hide the action label.
+            currentActionMapObject.set(null);
+            labelActionMapObject = null;
+            if (actionLabel.isVisible()) actionLabel.setVisible(false);
+        }
+    }
+
     /**
      * This method is called every frame to render the game screen.
-     * It clears the screen, updates the player's position, sets the opacity of the player and map layers,
-     * calculates and sets the camera's position, updates the positions of the UI tables, renders the map,
-     * draws the player, updates the action label, and updates and draws the stage.
+     * It clears the screen, runs as many fixed steps of the simulation as the time since the last frame covers (see {@link GameScreen#update()}),
+     * continues loading any map being prefetched for up to {@link GameScreen#PREFETCH_BUDGET_MILLIS},
+     * applies the fade to the player and map, calculates and sets the camera's position, renders the map, draws the player
+     * between its last two positions, and updates and draws the stage and the HUD.
      *
      * @param v The time in seconds since the last frame.
      */
@@ -425,14 +658,28 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         // Set the clear color to black. This is the color that the screen is cleared to when glClear is called.
         Gdx.gl.glClearColor(0, 0, 0, 1);
 
-        // Move the player. This updates the player's position based on their current velocity and the elapsed time since the last frame.
-        player.move();
+        // Measure the frame if a journal is being replayed
+        if (inputSession != null) inputSession.frame(Gdx.graphics.getDeltaTime());
 
-        // Set the opacity of the player. This determines how transparent the player is. A value of 1 means fully opaque, and a value of 0 means fully transparent.
-        player.setOpacity(processor.getRoot().getColor().a);
+        // Run the simulation in fixed steps for the time since the last frame, carrying over any time left that is less than a step
+        FrameProfiler.begin(FrameProfiler.Phase.PLAYER_MOVE);
+        accumulator += Math.min(Gdx.graphics.getDeltaTime(), SIMULATION_STEP * MAX_STEPS_PER_FRAME);
+        while (accumulator >= SIMULATION_STEP) {
+            update();
+            accumulator -= SIMULATION_STEP;
+        }
+        FrameProfiler.end(FrameProfiler.Phase.PLAYER_MOVE);
+
+        // Carry on loading any map being prefetched, within a small part of the frame
+        FrameProfiler.begin(FrameProfiler.Phase.MAP_PREFETCH);
+        MapManager.update(PREFETCH_BUDGET_MILLIS);
+        FrameProfiler.end(FrameProfiler.Phase.MAP_PREFETCH);
+
+        // How far the simulation is between its last step and the next one, used to draw the player between its last two positions
+        float interpolation = accumulator / SIMULATION_STEP;
 
-        // Set the opacity of all layers in the map. This determines how transparent the layers are. A value of 1 means fully opaque, and a value of 0 means fully transparent.
-        StreamUtils.parallelFromIterator(map.getLayers().iterator()).forEach(l -> l.setOpacity(processor.getRoot().getColor().a));
+        // Apply the fade of the stage to the player and the map. A value of 1 means fully opaque, and a value of 0 means fully transparent.
+        applyFade();
 
         // Get the first layer of the map. This is typically the background layer.
         TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(0);
@@ -440,9 +687,9 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         // Get the camera for the stage. This determines what part of the game world is visible on the screen.
         OrthographicCamera camera = (OrthographicCamera) processor.getCamera();
 
-        // Calculate the player's position (center of the player's sprite)
-        float playerCenterX = player.getX() + player.getWidth() / 2;
-        float playerCenterY = player.getY() + player.getHeight() / 2;
+        // Calculate the player's position (center of the player's sprite), where it is drawn this frame
+        float playerCenterX = player.getInterpolatedX(interpolation) + player.getWidth() / 2;
+        float playerCenterY = player.getInterpolatedY(interpolation) + player.getHeight() / 2;
 
         // Calculate the minimum and maximum x and y coordinates for the camera
         float cameraMinX = camera.viewportWidth / 2;
@@ -454,57 +701,87 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         camera.position.set(Math.min(Math.max(playerCenterX, cameraMinX), cameraMaxX), Math.min(Math.max(playerCenterY, cameraMinY), cameraMaxY), 0);
         camera.update();
 
-        // Set the positions of the action, metrics, and time tables. These are UI elements that display information to the player.
-        actionTable.setPosition(camera.position.x - camera.viewportWidth / 2, camera.position.y - camera.viewportHeight / 2);
-        metricsTable.setPosition(camera.position.x + camera.viewportWidth / 2 - metricsTable.getWidth(), camera.position.y - camera.viewportHeight / 2);
-        timeTable.setPosition(camera.position.x - camera.viewportWidth / 2, camera.position.y + camera.viewportHeight / 2 - timeTable.getHeight());
-
         // Set the view of the map renderer to the camera. This determines what part of the map is drawn to the screen.
         renderer.setView(camera);
 
         // Render the map. This draws the map to the screen.
+        FrameProfiler.begin(FrameProfiler.Phase.MAP_RENDER);
         renderer.render();
+        FrameProfiler.end(FrameProfiler.Phase.MAP_RENDER);
 
         // Get the batch for the stage. This is used to draw the player and other game objects.
+        // The batch is shared with the HUD, which drew last, so it is given the camera's projection before the player is drawn.
+        FrameProfiler.begin(FrameProfiler.Phase.PLAYER_DRAW);
         Batch batch = processor.getBatch();
+        batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
+        // Draw the creatures of the map below the player, skipping those the camera cannot see
+        float alpha = processor.getRoot().getColor().a;
+        cameraView.set(camera.position.x - camera.viewportWidth * camera.zoom / 2, camera.position.y - camera.viewportHeight * camera.zoom / 2,
+            camera.viewportWidth * camera.zoom, camera.viewportHeight * camera.zoom);
+        world.render(batch, mapScale, alpha, interpolation, cameraView);
+
         // Draw the player. This renders the player sprite to the screen.
-        player.draw(batch, processor.getRoot().getColor().a);
+        player.draw(batch, alpha, interpolation);
         batch.end();
+        FrameProfiler.end(FrameProfiler.Phase.PLAYER_DRAW);
 
-        // Check if the player is in a transition tile. If they are, update the action label to reflect the possible action.
-        Player.Transition transitionTile = player.isInTransitionTile();
-        if (transitionTile != null) {
-            setActionLabel(transitionTile);
-        } else {
-            // If the player is not in a transition tile, hide the action label.
-            currentActionMapObject.set(null);
-            actionLabel.setVisible(false);
-        }
-
-        // Draw the stage. This renders all actors added to the stage, including the player and UI elements.
+        // Draw the stage. This renders all actors added to the stage.
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
         processor.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
+
+        // Fade the HUD with the rest of the screen. Changing the colour of the root does not lay out the tables again.
+        hud.getRoot().getColor().a = processor.getRoot().getColor().a;
+
+        // Update and draw the HUD. Its tables are fixed to the screen, so they only lay out again when their contents change.
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_ACT);
+        hud.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_ACT);
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
+        hud.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
+    }
 
-        // Update the stage. This updates the state of all actors added to the stage, including the player and UI elements.
-        processor.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+    /**
+     * Checks whether the action label has to be rebuilt for the given {@link ActionMapObject}.
+     * The label only depends on the object, the current hour and day, and the player's metrics,
+     * so it is rebuilt only when one of them has changed since the label was last built.
+     * If the label has to be rebuilt, the new state is recorded.
+     *
+     * @param actionMapObject The {@link ActionMapObject} the player is standing on.
+     * @return True if the action label has to be rebuilt, false if it is still up to date.
+     */
+    private boolean isActionLabelOutdated(@NotNull ActionMapObject actionMapObject) {
+        boolean outdated = actionMapObject != labelActionMapObject
+                || gameTime.getCurrentHour() != labelHour
+                || gameTime.getCurrentDay() != labelDay
+                || labelMetricsChanged;
+
+        labelActionMapObject = actionMapObject;
+        labelMetricsChanged = false;
+        labelHour = gameTime.getCurrentHour();
+        labelDay = gameTime.getCurrentDay();
+        return outdated;
     }
 
     /**
-     * This method sets the action label based on the player's current transition tile.
-     * It first gets the {@link ActionMapObject} associated with the transition tile and the player's current map object.
-     * Then it constructs the action text based on the type of the {@link ActionMapObject}.
+     * This method sets the action label based on the {@link ActionMapObject} of the player's current transition tile.
+     * If nothing the label depends on has changed since the last frame, the label is left as it is.
+     * Otherwise, it constructs the action text based on the type of the {@link ActionMapObject}.
      * If the {@link ActionMapObject} is an {@link ActivityMapObject}, it checks if the player has enough time and resources to perform the activity.
      * If the player does not have enough time or resources, the action text is updated to reflect this.
      * Finally, the action text is set as the text of the action label, and the action label is made visible.
      *
-     * @param transitionTile The player's current transition tile.
+     * @param actionMapObject The {@link ActionMapObject} of the player's current transition tile.
      */
-    private void setActionLabel(Player.Transition transitionTile) {
-        // Get the ActionMapObject associated with the transition tile and the player's current map object
-        ActionMapObject actionMapObject = getActionMapObject(transitionTile, player.getCurrentMapObject());
+    private void setActionLabel(@NotNull ActionMapObject actionMapObject) {
         currentActionMapObject.set(actionMapObject);
 
+        // Keep the current text if nothing it depends on has changed
+        if (!isActionLabelOutdated(actionMapObject)) return;
+
         // Construct the action text based on the type of the ActionMapObject
         StringBuilder actionText = new StringBuilder(getActionText(actionMapObject));
 
@@ -519,40 +796,25 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             // Get the type of the activity
             Activity activity = activityMapObject.getType();
 
-            // Get a list of negative effects from the activity's effects
-            // Negative effects are those that decrease a player metric
-            List<Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect>> negativeEffects = activity.getEffects()
-                    .stream().filter(x -> x.getRight().equals(PlayerMetrics.MetricEffect.DECREASE))
-                    .collect(Collectors.toList());
-
             // Initialize a boolean to track if the player has enough resources for the activity
             boolean hasEnough = true;
 
             // Initialize a list to store the names of the metrics that the player does not have enough of
             List<String> negativeEffectNames = new ArrayList<>();
 
-            // Iterate over the negative effects
-            for (Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect> negativeEffect : negativeEffects) {
-                // Get the type of the metric
-                PlayerMetrics.MetricType metricType = negativeEffect.getLeft();
+            // Iterate over the metrics the activity decreases, using the activity's compiled effects and change amounts
+            for (PlayerMetrics.MetricType metricType : METRIC_TYPES) {
+                if (ActivityEffects.getCode(activity, metricType) != ActivityEffects.DECREASE) continue;
 
                 // Get the amount by which the activity changes the metric
                 float changeAmount = activityMapObject.getChangeAmount(metricType);
 
                 // Get the current value of the metric for the player
                 PlayerMetric metric = player.getMetrics().getMetric(metricType);
-                float currentMetric = metric.get();
-
-                // Check if the player has enough of the metric for the activity
-                boolean tempEnough = currentMetric >= changeAmount;
-
-                // Update the hasEnough boolean if the player does not have enough of the metric
-                if (hasEnough) {
-                    hasEnough = tempEnough;
-                }
 
                 // If the player does not have enough of the metric, add the metric's label to the list of negative effect names
-                if (!tempEnough) {
+                if (metric.get() < changeAmount) {
+                    hasEnough = false;
                     negativeEffectNames.add(metric.getLabel());
                 }
             }
@@ -569,7 +831,7 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             }
             // If there are negative effects and the player does not have enough resources and the activity is not sleeping,
             // set the action text to "You don't have enough [resource] to do this activity."
-            else if (!negativeEffects.isEmpty() && !hasEnough && !activity.equals(Activity.SLEEP)) {
+            else if (!hasEnough && !activity.equals(Activity.SLEEP)) {
                 actionText = new StringBuilder("You don't have enough ");
                 // If there is only one resource the player does not have enough of, append the name of that resource to the action text
                 if (negativeEffectNames.size() == 1) {
@@ -626,33 +888,9 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         return actionText;
     }
 
-    /**
-     * This method returns an {@link ActionMapObject} based on the player's current transition tile and the associated map object.
-     * If the transition tile is an {@link Player.Transition#ACTIVITY}, it returns an {@link ActivityMapObject}.
-     * If the transition tile is a {@link Player.Transition#NEW_MAP}, it returns a {@link TransitionMapObject}.
-     * If the transition tile is neither an {@link Player.Transition#ACTIVITY} nor a {@link Player.Transition#NEW_MAP}, it throws an {@link IllegalStateException}.
-     *
-     * @param transitionTile The player's current transition tile.
-     * @param tileObject The map object associated with the transition tile.
-     * @return An {@link ActionMapObject} based on the transition tile and map object.
-     * @throws IllegalStateException If the transition tile is neither an {@link Player.Transition#ACTIVITY} nor a {@link Player.Transition#NEW_MAP}.
-     */
-    @NotNull
-    private static ActionMapObject getActionMapObject(Player.@NotNull Transition transitionTile, MapObject tileObject) {
-        ActionMapObject actionMapObject;
-        if (transitionTile.equals(Player.Transition.ACTIVITY)) {
-            actionMapObject = new ActivityMapObject(tileObject);
-        } else if (transitionTile.equals(Player.Transition.NEW_MAP)) {
-            actionMapObject = new TransitionMapObject(tileObject);
-        } else {
-            throw new IllegalStateException("Unexpected value: " + transitionTile);
-        }
-        return actionMapObject;
-    }
-
     /**
      * This method is called when the screen size changes. It resizes the game screen to fit the new screen size.
-     * It recalculates the scale of the map based on the new screen size and tile size, and initializes the map renderer with the new map scale.
+     * It recalculates the scale of the map based on the new screen size and tile size, and applies the new map scale to the map renderer.
      * It also updates the viewport of the stage with the new screen width and height, and sets the camera's position to the player's position,
      * but constrained within the minimum and maximum x and y coordinates. Finally, it sets the view of the map renderer to the camera.
      *
@@ -668,8 +906,8 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         int tileHeight = layer.getTileHeight();
         // Calculate the scale of the map based on the screen size and tile size
         mapScale = Math.max(Gdx.graphics.getWidth() / (float)(layer.getWidth() * tileWidth), Gdx.graphics.getHeight() / (float)(layer.getHeight() * tileHeight));
-        // Initialize the map renderer with the new map scale
-        renderer = new OrthogonalTiledMapRenderer(map, mapScale);
+        // Scale the map renderer to the new map scale. The baked tiles are kept, as they are only scaled when drawn
+        renderer.setUnitScale(mapScale);
 
         // Get the camera for the stage
         OrthographicCamera camera = (OrthographicCamera) processor.getCamera();
@@ -700,6 +938,9 @@ public class GameScreen extends BaseScreen implements InputProcessor {
 
         // Update the viewport of the stage with the new screen width and height
         processor.getViewport().update(screenWidth, screenHeight, true);
+
+        // Update the viewport of the HUD, which lays out the tables for the new screen size
+        hud.getViewport().update(screenWidth, screenHeight, true);
     }
 
     /**
@@ -729,15 +970,86 @@ public class GameScreen extends BaseScreen implements InputProcessor {
 
     }
 
+    /**
+     * Captures the state of the game that is needed to resume it, so it can be saved by {@link Autosave} in the background.
+     * This only copies a few small arrays, so it can be called after every activity.
+     * The player's position is stored in map pixels, so the game can be resumed on a screen of a different size.
+     *
+     * @return The snapshot of the game.
+     */
+    private @NotNull GameSnapshot captureSnapshot() {
+        MetricStore store = player.getMetrics().getStore();
+        float[] metricValues = new float[METRIC_TYPES.length];
+        float[] metricTotals = new float[METRIC_TYPES.length];
+        for (PlayerMetrics.MetricType type : METRIC_TYPES) {
+            metricValues[type.ordinal()] = store.get(type);
+            metricTotals[type.ordinal()] = store.getTotal(type);
+        }
+        int[] activitiesToday = new int[ACTIVITIES.length];
+        for (Activity activity : ACTIVITIES) {
+            activitiesToday[activity.ordinal()] = activitiesPerformedToday.getOrDefault(activity, 0);
+        }
+        return new GameSnapshot(Player.getSelectedCharacter(), gameTime.getCurrentDay(), gameTime.getCurrentHour(),
+                metricValues, metricTotals, activitiesToday, playerStreaks.copyHistory(), notStudiedCounter,
+                currentMapName, player.getX() / mapScale, player.getY() / mapScale, prevPos.x, prevPos.y);
+    }
+
+    /**
+     * Restores the metrics, time, streaks and daily activities of a saved game.
+     * The map, the player's position and the selected character are restored by the constructor, before the player is created.
+     *
+     * @param snapshot The snapshot to restore.
+     */
+    private void restoreSnapshot(@NotNull GameSnapshot snapshot) {
+        MetricStore store = player.getMetrics().getStore();
+        for (PlayerMetrics.MetricType type : METRIC_TYPES) {
+            store.set(type, snapshot.getMetricValues()[type.ordinal()]);
+            store.setTotal(type, snapshot.getMetricTotals()[type.ordinal()]);
+        }
+        gameTime.setCurrentDay(snapshot.getDay());
+        gameTime.setCurrentHour(snapshot.getHour());
+        activitiesPerformedToday.clear();
+        for (Activity activity : ACTIVITIES) {
+            int count = snapshot.getActivitiesToday()[activity.ordinal()];
+            if (count > 0) activitiesPerformedToday.put(activity, count);
+        }
+        playerStreaks.restore(snapshot.getStreakHistory());
+        notStudiedCounter = snapshot.getNotStudiedCounter();
+    }
+
+    /**
+     * Finishes the {@link GameScreen#inputSession}, if there is one, writing the recorded journal or the statistics of the replay.
+     * The session is finished with a checksum of the player's position and the game time,
+     * so a replay that does not end where the recording did is reported.
+     * A replay closes the game once it has finished, so replays can be run one after another by a script.
+     */
+    private void finishInputSession() {
+        if (inputSession == null || inputSession.isFinished()) return;
+        int checksum = Arrays.hashCode(new int[] {
+            Float.floatToIntBits(player.getX()), Float.floatToIntBits(player.getY()), gameTime.getCurrentDay(), gameTime.getCurrentHour()
+        });
+        inputSession.finish(simulationSteps, checksum);
+        if (inputSession.isReplaying()) Gdx.app.exit();
+    }
+
     /**
      * This method is called when the game screen is being disposed of.
-     * It disposes of the {@link GameScreen#map}, {@link GameScreen#processor}, {@link GameScreen#craftacularSkin}, and {@link GameScreen#player} to free up resources and prevent memory leaks.
+     * It finishes the {@link GameScreen#inputSession}, disposes of the {@link GameScreen#renderer} and the {@link GameScreen#world}, and releases the {@link GameScreen#map} back to the {@link MapManager},
+     * disposes of the {@link GameScreen#hud}, {@link GameScreen#processor} and {@link GameScreen#player}, and releases the {@link GameScreen#craftacularSkin} back to the {@link SkinManager}, to free up resources and prevent memory leaks.
      */
     @Override
     public void dispose() {
-        map.dispose();
+        finishInputSession();
+        renderer.dispose();
+        world.dispose();
+        MapManager.release(map);
+        MetricStore store = player.getMetrics().getStore();
+        for (PlayerMetrics.MetricType type : METRIC_TYPES) {
+            store.removeListener(type, metricsListener);
+        }
+        hud.dispose();
         processor.dispose();
-        craftacularSkin.dispose();
+        SkinManager.release(craftacularSkin);
         player.dispose();
     }
 
@@ -789,8 +1101,8 @@ public class GameScreen extends BaseScreen implements InputProcessor {
     private boolean doMapChange(@NotNull TransitionMapObject actionMapObject) {
         String mapName = actionMapObject.getType();
         if (currentMapName.equals("map")) {
-            prevPos.x = player.getX();
-            prevPos.y = player.getY();
+            // Still on the main map, so mapScale is its scale
+            prevPos.set(player.getX() / mapScale, player.getY() / mapScale);
         }
         changeMap(mapName);
         currentMapName = mapName;
@@ -853,43 +1165,11 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         // If it is, return false to indicate that the activity cannot be performed
         if (gameTime.getCurrentHour() + requiredTime > GameTime.getDayLength() && !type.equals(Activity.SLEEP)) return false;
 
-        // Get the effects of the activity from the ActivityMapObject
-        // These effects represent how the activity will change the player's metrics
-        List<Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect>> effects = type.getEffects();
-
-        // Filter the effects to get only the negative effects
-        // Negative effects are those that decrease a player metric
-        List<Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect>> negativeEffects = effects.stream().filter(x -> x.getRight().equals(PlayerMetrics.MetricEffect.DECREASE)).collect(Collectors.toList());
-
         // Get the player's current metrics
         PlayerMetrics metrics = player.getMetrics();
-        // Check if there are any negative effects from the activity
-        if (!negativeEffects.isEmpty()) {
-            // Initialize a boolean to track if the player has enough resources for the activity
-            boolean hasEnough = true;
-
-            // Iterate over the negative effects
-            for (Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect> negativeEffect : negativeEffects) {
-                // Get the type of the metric
-                PlayerMetrics.MetricType metricType = negativeEffect.getLeft();
-
-                // Get the amount by which the activity changes the metric
-                float changeAmount = actionMapObject.getChangeAmount(metricType);
-
-                // Get the current value of the metric for the player
-                PlayerMetric metric = metrics.getMetric(metricType);
-                float currentMetric = metric.get();
-
-                // Check if the player has enough of the metric for the activity
-                hasEnough = currentMetric >= changeAmount;
-
-                // If the player does not have enough of the metric, break the loop
-                if (!hasEnough) break;
-            }
-
-            // If the player does not have enough resources to perform the activity, return false
-            if (!hasEnough) return false;
-        }
+        // Check if the player has enough of every metric the activity decreases, using the activity's compiled effects and change amounts
+        // If not, return false to indicate that the activity cannot be performed
+        if (!actionMapObject.hasEnough(metrics.getStore())) return false;
 
         int currentDayCounter = gameTime.getCurrentDay();
         if (activitiesPerformedToday.get(type) == 1) {
@@ -919,7 +1199,8 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             }
             // Check if the current day plus one equals the total number of days
             if (gameTime.isEndOfDays()) {
-                // If it does, transition the screen to the end screen and return true
+                // If it does, the game is over and can no longer be resumed, so delete the save and transition the screen to the end screen
+                if (inputSession == null) Autosave.delete();
                 game.transitionScreen(Screens.END, player, true, 0.5f);
                 return true;
             } else {
@@ -930,17 +1211,8 @@ public class GameScreen extends BaseScreen implements InputProcessor {
             // If the activity is not sleeping, increment the current hour by the required time for the activity
             gameTime.incrementHour(requiredTime);
         }
-        // Iterate over the effects of the activity
-        for (Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect> effect : effects) {
-            // Get the type of the metric from the effect
-            PlayerMetrics.MetricType metricType = effect.getLeft();
-            // Get the effect on the metric (increase or decrease)
-            PlayerMetrics.MetricEffect metricEffect = effect.getRight();
-            // Get the amount by which the activity changes the metric
-            float changeAmount = actionMapObject.getChangeAmount(metricType);
-            // Apply the effect to the metric
-            metrics.changeMetric(metricType, metricEffect, changeAmount);
-        }
+        // Apply the effects of the activity to the player's metrics
+        actionMapObject.apply(metrics.getStore());
         // Check if the activity is sleeping
 
         // Get the current hour as a string using the getCurrentHourString method
@@ -955,6 +1227,9 @@ public class GameScreen extends BaseScreen implements InputProcessor {
         // Set the text of the timeLabel to the constructed time string
         timeLabel.setText(time);
 
+        // Save the game in the background, unless this game is being recorded or replayed
+        if (inputSession == null) Autosave.save(captureSnapshot());
+
 //        updateStreakCount(type);
 
         // Return true indicating the operation was successful
@@ -1,61 +1,145 @@
 package uk.ac.york.student.screens;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.SharedBatch;
+import uk.ac.york.student.debug.FrameProfiler;
+import uk.ac.york.student.game.replay.InputReplay;
+import uk.ac.york.student.utils.DrawableUtils;
 
 /**
  * The LoadingScreen class extends the BaseScreen class and represents the loading screen of the game.
  * It contains a Stage object, which is used to handle input events and draw the elements of the screen.
  * The class overrides the methods of the Screen interface, which are called at different points in the game's lifecycle.
+ * <p>
+ * While this screen is shown, the assets queued by {@link GameAssets#queue()} are loaded a little at a time every frame,
+ * and a {@link ProgressBar} shows how much has been loaded. Once everything is loaded, the game moves on to the main menu.
  */
 @Getter
 public class LoadingScreen extends BaseScreen {
+    /**
+     * The maximum time, in milliseconds, spent loading assets in a single frame.
+     * This keeps the loading screen responsive while the assets are being loaded.
+     */
+    private static final int LOAD_BUDGET_MILLIS = 16;
+
     /**
      * The Stage instance for the LoadingScreen class.
      * This instance is used to handle input events and draw the elements of the screen.
      */
     private final Stage processor;
 
+    /**
+     * The ProgressBar showing how much of the queued assets have been loaded.
+     */
+    private final ProgressBar progressBar;
+
+    /**
+     * Whether the assets have finished loading and the main menu has been requested.
+     * This prevents the main menu from being requested more than once while the fade is in progress.
+     */
+    private boolean finished = false;
+
     /**
      * Constructor for the LoadingScreen class.
-     * This constructor initializes the BaseScreen with the provided game and creates a new Stage with a ScreenViewport.
+     * This constructor initializes the BaseScreen with the provided game, creates a new Stage with a ScreenViewport,
+     * and queues the game's assets to be loaded.
      * @param game the GdxGame instance representing the game
      */
     public LoadingScreen(GdxGame game) {
         super(game);
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
+
+        // Queue the assets, which are then loaded over several frames in render
+        GameAssets.queue();
+
+        progressBar = getProgressBar(Gdx.graphics.getWidth() / 2, 20);
+    }
+
+    /**
+     * Creates the {@link ProgressBar} used to show the loading progress.
+     *
+     * @param width The width of the {@link ProgressBar}.
+     * @param height The height of the {@link ProgressBar}.
+     * @return A new {@link ProgressBar} instance.
+     */
+    @NotNull
+    private ProgressBar getProgressBar(int width, int height) {
+        // Create a new ProgressBarStyle instance with a gray background and a green bar
+        ProgressBar.ProgressBarStyle style = new ProgressBar.ProgressBarStyle();
+        style.background = DrawableUtils.getColouredDrawable(width, height, Color.GRAY);
+        style.knobBefore = DrawableUtils.getColouredDrawable(width, height, Color.GREEN);
+        style.knob = DrawableUtils.getColouredDrawable(0, height, Color.GREEN);
+
+        // The progress goes from 0 (nothing loaded) to 1 (everything loaded)
+        ProgressBar bar = new ProgressBar(0, 1, 0.01f, false, style);
+        bar.setWidth(width);
+        bar.setHeight(height);
+        return bar;
     }
 
     /**
      * This method is called when the screen becomes the current screen for the game.
-     * It is empty in the LoadingScreen class.
+     * It adds the progress bar to the middle of the stage.
      */
     @Override
     public void show() {
-
+        Table table = new Table();
+        table.setFillParent(true);
+        table.add(progressBar).width(progressBar.getWidth()).height(progressBar.getHeight());
+        processor.addActor(table);
     }
 
     /**
      * This method is called by the game's render loop.
-     * In the LoadingScreen class, it sets the current screen of the game to the main menu screen.
+     * In the LoadingScreen class, it loads the queued assets for up to {@link LoadingScreen#LOAD_BUDGET_MILLIS} milliseconds,
+     * updates the progress bar, and sets the current screen of the game to the main menu screen once every asset is loaded.
      * @param v the time in seconds since the last render
      */
     @Override
     public void render(float v) {
-        game.setScreen(Screens.MAIN_MENU, true);
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        boolean done = GameAssets.update(LOAD_BUDGET_MILLIS);
+        progressBar.setValue(GameAssets.getProgress());
+
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_ACT);
+        processor.act(v);
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_ACT);
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
+        processor.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
+
+        if (done && !finished) {
+            finished = true;
+            // A replayed game starts straight away, as the menus are not part of the journal
+            if (InputReplay.isReplaying()) {
+                game.setScreen(Screens.GAME);
+            } else {
+                game.setScreen(Screens.MAIN_MENU, true);
+            }
+        }
     }
 
     /**
      * This method is called when the screen should resize itself.
-     * It is empty in the LoadingScreen class.
-     * @param i the new width in pixels
-     * @param i1 the new height in pixels
+     * It updates the viewport of the stage to the new size.
+     * @param width the new width in pixels
+     * @param height the new height in pixels
      */
     @Override
-    public void resize(int i, int i1) {
-
+    public void resize(int width, int height) {
+        processor.getViewport().update(width, height, true);
     }
 
     /**
@@ -87,10 +171,10 @@ public class LoadingScreen extends BaseScreen {
 
     /**
      * This method is called when the screen should release all resources.
-     * It is empty in the LoadingScreen class.
+     * It disposes of the stage.
      */
     @Override
     public void dispose() {
-
+        processor.dispose();
     }
-}
\ No newline at end of file
+}
@@ -3,13 +3,13 @@ package uk.ac.york.student.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.scenes.scene2d.ui.Cell;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -21,11 +21,17 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.SharedBatch;
 import uk.ac.york.student.assets.skins.SkinManager;
 import uk.ac.york.student.assets.skins.Skins;
+import uk.ac.york.student.assets.textures.Textures;
 import uk.ac.york.student.audio.sound.GameSound;
 import uk.ac.york.student.audio.sound.SoundManager;
 import uk.ac.york.student.audio.sound.Sounds;
+import uk.ac.york.student.debug.FrameProfiler;
+import uk.ac.york.student.game.save.Autosave;
+import uk.ac.york.student.game.save.GameSnapshot;
 import uk.ac.york.student.settings.DebugScreenPreferences;
 import uk.ac.york.student.settings.GamePreferences;
 import uk.ac.york.student.settings.MainMenuCloudsPreferences;
@@ -47,7 +53,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeIn;
  * It provides three constructors that allow for different levels of customization of the fade-in effect when the main menu screen is shown.
  * The class also includes several methods for handling the rendering and animation of the main menu screen, as well as the actions performed when different buttons are clicked.
  */
-public class MainMenuScreen extends BaseScreen {
+public class MainMenuScreen extends BaseScreen implements ReusableScreen {
     /**
      * The {@link Stage} instance for the {@link MainMenuScreen} class.
      * This instance is used to handle input events and draw the elements of the screen.
@@ -59,50 +65,50 @@ public class MainMenuScreen extends BaseScreen {
      * A boolean value that determines whether the screen should fade in when it is shown.
      * If true, the screen will fade in; if false, it will not.
      */
-    private final boolean shouldFadeIn;
+    private boolean shouldFadeIn;
 
     /**
      * The time in seconds for the fade-in effect when the screen is shown.
      * This value is used only if {@link MainMenuScreen#shouldFadeIn} is true.
      */
-    private final float fadeInTime;
+    private float fadeInTime;
 
     /**
-     * The Texture instance for the background of the {@link MainMenuScreen}.
-     * This texture is loaded from the "images/MapOverview.png" file.
+     * The TextureRegion for the background of the {@link MainMenuScreen}.
+     * This region is packed from "core/textures/menu/MapOverview.png" into the menu atlas, which is loaded by {@link GameAssets} and is not disposed by this screen.
      */
-    private final Texture backgroundTexture = new Texture(Gdx.files.internal("images/MapOverview.png"));
+    private final TextureRegion backgroundTexture = GameAssets.getRegion(Textures.MAP_OVERVIEW);
 
     /**
-     * The Texture instance for the vignette effect on the {@link MainMenuScreen}.
-     * This texture is loaded from the "images/Vignette.png" file.
+     * The TextureRegion for the vignette effect on the {@link MainMenuScreen}.
+     * This region is packed from "core/textures/menu/Vignette.png" into the menu atlas, which is loaded by {@link GameAssets} and is not disposed by this screen.
      */
-    private final Texture vignetteTexture = new Texture(Gdx.files.internal("images/Vignette.png"));
+    private final TextureRegion vignetteTexture = GameAssets.getRegion(Textures.VIGNETTE);
 
     /**
-     * The Texture instance for the logo on the {@link MainMenuScreen}.
-     * This texture is loaded from the "images/logo/b/logo.png" file.
-     * The subfolder is "b" to represent version B of the logo
+     * The TextureRegion for the logo on the {@link MainMenuScreen}.
+     * This region is packed from "core/textures/menu/logo.png" into the menu atlas, which is loaded by {@link GameAssets} and is not disposed by this screen.
+     * This is version B of the logo
      */
-    private final Texture cookeLogo = new Texture(Gdx.files.internal("images/logo/b/logo.png"));
+    private final TextureRegion cookeLogo = GameAssets.getRegion(Textures.LOGO);
 
     /**
-     * The Texture instance for the clouds on the {@link MainMenuScreen}.
-     * This texture is loaded from the "images/CloudsFormatted.png" file.
+     * The TextureRegion for the clouds on the {@link MainMenuScreen}.
+     * This region is packed from "core/textures/menu/CloudsFormatted.png" into the menu atlas, which is loaded by {@link GameAssets} and is not disposed by this screen.
      */
-    private final Texture clouds = new Texture(Gdx.files.internal("images/CloudsFormatted.png"));
+    private final TextureRegion clouds = GameAssets.getRegion(Textures.CLOUDS);
 
     /**
      * The Image instance for the clouds on the {@link MainMenuScreen}.
      * This image is created from the clouds texture.
      */
-    private final Image cloudsImage = new Image(new TextureRegionDrawable(new TextureRegion(clouds)));
+    private final Image cloudsImage = new Image(new TextureRegionDrawable(clouds));
 
     /**
      * The Skin instance for the {@link MainMenuScreen}.
-     * This skin is loaded from the {@link SkinManager} using the {@link Skins#CRAFTACULAR} skin.
+     * This skin is acquired from the {@link SkinManager} using the {@link Skins#CRAFTACULAR} skin and released when the screen is disposed.
      */
-    private final Skin craftacularSkin = SkinManager.getSkins().getResult(Skins.CRAFTACULAR);
+    private final Skin craftacularSkin = SkinManager.acquire(Skins.CRAFTACULAR);
 
     /**
      * The GameSound instance for the button click sound on the {@link MainMenuScreen}.
@@ -112,17 +118,35 @@ public class MainMenuScreen extends BaseScreen {
 
     /**
      * A boolean value that determines whether the clouds are enabled on the {@link MainMenuScreen}.
-     * This value is retrieved from the {@link MainMenuCloudsPreferences} in the {@link GamePreferences}.
+     * This value is retrieved from the {@link MainMenuCloudsPreferences} in the {@link GamePreferences},
+     * and is read again by {@link MainMenuScreen#reset(boolean, float)} so changes made in the settings apply when the player returns.
      * If true, the clouds will be displayed on the {@link MainMenuScreen}; if false, they will not.
      */
-    private final boolean cloudsEnabled = ((MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference()).isEnabled();
+    private boolean cloudsEnabled = ((MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference()).isEnabled();
 
     /**
      * The speed of the clouds on the {@link MainMenuScreen}.
-     * This value is retrieved from the {@link MainMenuCloudsPreferences} in the {@link GamePreferences}.
+     * This value is retrieved from the {@link MainMenuCloudsPreferences} in the {@link GamePreferences},
+     * and is read again by {@link MainMenuScreen#reset(boolean, float)} so changes made in the settings apply when the player returns.
      * It represents the speed at which the clouds move across the {@link MainMenuScreen}.
      */
-    private final float cloudsSpeed = ((MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference()).getSpeed();
+    private float cloudsSpeed = ((MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference()).getSpeed();
+
+    /**
+     * The table holding the logo and the buttons. It is built the first time the screen is shown and kept while the screen is cached,
+     * so showing the screen again only refreshes it, see {@link MainMenuScreen#refreshTable()}.
+     */
+    private Table table;
+
+    /**
+     * The button that resumes the saved game. It is only placed in the {@link MainMenuScreen#table} while there is a saved game to resume.
+     */
+    private TextButton continueButton;
+
+    /**
+     * The cells of the {@link MainMenuScreen#continueButton} and of the play button, whose padding depends on whether the continue button is shown.
+     */
+    private Cell<TextButton> continueCell, playCell;
     /**
      * Constructor for the {@link MainMenuScreen} class.
      * This constructor initializes the {@link MainMenuScreen} with the provided game.
@@ -141,7 +165,7 @@ public class MainMenuScreen extends BaseScreen {
      * @param shouldFadeIn a boolean value that determines whether the screen should fade in when it is shown
      */
     public MainMenuScreen(GdxGame game, boolean shouldFadeIn) {
-        this(game, shouldFadeIn, 0.75f);
+        this(game, shouldFadeIn, DEFAULT_FADE_IN_TIME);
     }
 
     /**
@@ -157,7 +181,7 @@ public class MainMenuScreen extends BaseScreen {
         super(game);
         this.shouldFadeIn = shouldFadeIn;
         this.fadeInTime = fadeInTime;
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
         Gdx.input.setInputProcessor(processor);
         executorService = Executors.newSingleThreadScheduledExecutor();
     }
@@ -259,9 +283,33 @@ public class MainMenuScreen extends BaseScreen {
         executorService.schedule(() -> scheduledFuture.cancel(true), duration, timeUnit);
     }
 
+    /**
+     * Resets the {@link MainMenuScreen} so that it can be shown again by {@link GdxGame}, rather than constructing a new one.
+     * The table and its buttons are kept. This only stops any unfinished actions, restores the alpha of the root actor and of the clouds,
+     * applies the new fade-in settings, reads the cloud preferences again in case they were changed in the settings,
+     * and sets the {@link MainMenuScreen#processor} as the input processor for {@link Gdx} again.
+     *
+     * @param shouldFadeIn a boolean value that determines whether the screen should fade in when it is shown
+     * @param fadeInTime the time in seconds for the fade-in effect when the screen is shown
+     */
+    @Override
+    public void reset(boolean shouldFadeIn, float fadeInTime) {
+        this.shouldFadeIn = shouldFadeIn;
+        this.fadeInTime = fadeInTime;
+        // Stop any unfinished actions, such as the fade-out to the last screen
+        processor.getRoot().clearActions();
+        processor.getRoot().getColor().a = 1;
+        alpha.set(1f);
+        MainMenuCloudsPreferences cloudsPreferences = (MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference();
+        cloudsEnabled = cloudsPreferences.isEnabled();
+        cloudsSpeed = cloudsPreferences.getSpeed();
+        Gdx.input.setInputProcessor(processor);
+    }
+
     /**
      * This method is called when the {@link MainMenuScreen} is shown.
-     * It sets up the UI elements and their actions for the main menu screen.
+     * It builds the UI elements and their actions for the main menu screen if {@link MainMenuScreen#prepare()} has not already done so,
+     * and then refreshes them for the current state, see {@link MainMenuScreen#refreshTable()}.
      * It also sets up the fade-in effect if {@link MainMenuScreen#shouldFadeIn} is true.
      */
     @Override
@@ -272,13 +320,48 @@ public class MainMenuScreen extends BaseScreen {
             processor.getRoot().addAction(fadeIn(fadeInTime));
         }
 
+        prepare();
+        refreshTable();
+
+        // Get the width and height of the screen
+        float ratio = getRatio();
+
+        // Calculate the new width and height for the background texture based on the ratio,
+        // and set the size of the clouds image to it
+        cloudsImage.setSize(backgroundTexture.getRegionWidth() * ratio, backgroundTexture.getRegionHeight() * ratio);
+    }
+
+    /**
+     * Refreshes the parts of the {@link MainMenuScreen#table} that can change while the screen is cached:
+     * the continue button is only placed in the table while there is a saved game to resume, and the debug lines follow the debug screen preference.
+     * The cells around the continue button are padded as they would be if the table were built without it.
+     */
+    private void refreshTable() {
+        boolean canContinue = Autosave.exists();
+        continueButton.setDisabled(false);
+        continueCell.setActor(canContinue ? continueButton : null);
+        playCell.padTop(canContinue ? 10 : 0).padBottom(canContinue ? 5 : 0);
+        // If debug screen preferences are enabled, set the table to debug mode.
+        table.setDebug(((DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference()).isEnabled());
+        table.invalidateHierarchy();
+    }
+
+    /**
+     * Builds the {@link MainMenuScreen#table} if it has not been built yet, see {@link MainMenuScreen#buildTable()}.
+     */
+    @Override
+    public void prepare() {
+        if (table == null) buildTable();
+    }
+
+    /**
+     * Builds the {@link MainMenuScreen#table} with the logo and the buttons, and adds the listeners of the buttons.
+     * This is only done once, as the screen is cached and the table is kept with it.
+     */
+    private void buildTable() {
         // Create a new Table and add it to the stage.
-        Table table = new Table();
+        table = new Table();
         table.setFillParent(true);
-        // If debug screen preferences are enabled, set the table to debug mode.
-        if (((DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference()).isEnabled()) {
-            table.setDebug(true);
-        }
         processor.addActor(table);
 
         // Create the buttons and the logo image for the main menu screen.
@@ -288,10 +371,15 @@ public class MainMenuScreen extends BaseScreen {
         TextButton exitButton = new TextButton("Exit", craftacularSkin);
         Image cookeLogoImage = new Image(cookeLogo);
 
+        // The continue button is only placed in its cell if there is a saved game to resume, see refreshTable().
+        continueButton = new TextButton("Continue", craftacularSkin);
+
         // Add the buttons and the logo image to the table.
         table.add(cookeLogoImage).fillX().uniformX().pad(0, 0, 150, 0);
         table.row();
-        table.add(playButton).fillX().uniformX();
+        continueCell = table.add((TextButton) null).fillX().uniformX();
+        table.row();
+        playCell = table.add(playButton).fillX().uniformX();
         table.row().pad(10, 0, 5, 0);
         table.add(tutorialButton).fillX().uniformX();
         table.row().pad(10, 0, 5, 0);
@@ -340,6 +428,30 @@ public class MainMenuScreen extends BaseScreen {
             }
         });
 
+        // The continue button plays the button click sound and resumes the saved game, skipping the character screen.
+        continueButton.addListener(new ChangeListener() {
+            /**
+             * This method is triggered when a change event occurs on the actor, in this case, when the continue button is clicked.
+             * It first plays the button click sound.
+             * Then, it loads the saved game and transitions the screen to the game screen, which resumes from it.
+             * If the saved game cannot be loaded, the button is disabled instead.
+             *
+             * @param event The {@link com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent} triggered by the actor. This is not used in the method.
+             * @param actor The actor that triggered the {@link com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent}. This is not used in the method.
+             */
+            @Override
+            public void changed(ChangeEvent event, Actor actor) {
+                SoundManager.getSounds().get(Sounds.BUTTON_CLICK).play();
+                GameSnapshot snapshot = Autosave.load();
+                if (snapshot == null) {
+                    continueButton.setDisabled(true);
+                    return;
+                }
+                Autosave.resumeNextGame(snapshot);
+                game.transitionScreen(Screens.GAME);
+            }
+        });
+
         // The preferences button plays the button click sound and transitions to the preferences screen.
         preferencesButton.addListener(new ChangeListener() {
             /**
@@ -374,19 +486,6 @@ public class MainMenuScreen extends BaseScreen {
             }
         });
 
-        // Declare variables for width and height
-        float width;
-        float height;
-
-        // Get the width and height of the screen
-        float ratio = getRatio();
-
-        // Calculate the new width and height for the background texture based on the ratio
-        width = backgroundTexture.getWidth() * ratio;
-        height = backgroundTexture.getHeight() * ratio;
-
-        // Set the size of the clouds image to the new width and height
-        cloudsImage.setSize(width, height);
     }
 
     /**
@@ -404,10 +503,10 @@ public class MainMenuScreen extends BaseScreen {
         float screenHeight = Gdx.graphics.getHeight();
 
         // Calculate the ratio of the screen width to the background texture width
-        float widthRatio = screenWidth / backgroundTexture.getWidth();
+        float widthRatio = screenWidth / backgroundTexture.getRegionWidth();
 
         // Calculate the ratio of the screen height to the background texture height
-        float heightRatio = screenHeight / backgroundTexture.getHeight();
+        float heightRatio = screenHeight / backgroundTexture.getRegionHeight();
 
         // Return the maximum ratio to maintain the aspect ratio of the background texture
         return Math.max(widthRatio, heightRatio);
@@ -452,8 +551,8 @@ public class MainMenuScreen extends BaseScreen {
         float ratio = getRatio();
 
         // Calculate the new width and height for the background texture based on the ratio.
-        float width = backgroundTexture.getWidth() * ratio;
-        float height = backgroundTexture.getHeight() * ratio;
+        float width = backgroundTexture.getRegionWidth() * ratio;
+        float height = backgroundTexture.getRegionHeight() * ratio;
 
         // Draw the background texture.
         batch.draw(backgroundTexture, 0, 0, width, height);
@@ -482,8 +581,12 @@ public class MainMenuScreen extends BaseScreen {
         batch.end();
 
         // Update the stage's actors and draw the stage.
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_ACT);
         processor.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_ACT);
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
         processor.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
     }
 
     /**
@@ -506,8 +609,8 @@ public class MainMenuScreen extends BaseScreen {
         float ratio = getRatio();
 
         // Calculate the new width and height for the background texture based on the ratio.
-        float newWidth = backgroundTexture.getWidth() * ratio;
-        float newHeight = backgroundTexture.getHeight() * ratio;
+        float newWidth = backgroundTexture.getRegionWidth() * ratio;
+        float newHeight = backgroundTexture.getRegionHeight() * ratio;
 
         // Set the size of the clouds image to the new width and height.
         cloudsImage.setSize(newWidth, newHeight);
@@ -544,23 +647,16 @@ public class MainMenuScreen extends BaseScreen {
     /**
      * This method is called when the {@link MainMenuScreen} is being disposed of.
      * It is responsible for freeing up resources and stopping any processes that were started in the MainMenuScreen.
-     * It disposes of the {@link MainMenuScreen#processor}, {@link MainMenuScreen#backgroundTexture}, {@link MainMenuScreen#vignetteTexture}, {@link MainMenuScreen#craftacularSkin}, {@link MainMenuScreen#cookeLogo}, {@link MainMenuScreen#clouds}, and {@link MainMenuScreen#buttonClick}.
+     * It disposes of the {@link MainMenuScreen#processor}, {@link MainMenuScreen#craftacularSkin}, and {@link MainMenuScreen#buttonClick}.
+     * The textures are owned by {@link GameAssets} and are not disposed here.
      * It also shuts down the {@link MainMenuScreen#executorService}.
      */
     @Override
     public void dispose() {
         // Dispose of the processor
         processor.dispose();
-        // Dispose of the background texture
-        backgroundTexture.dispose();
-        // Dispose of the vignette texture
-        vignetteTexture.dispose();
-        // Dispose of the craftacular skin
-        craftacularSkin.dispose();
-        // Dispose of the cooke logo
-        cookeLogo.dispose();
-        // Dispose of the clouds texture
-        clouds.dispose();
+        // Release the craftacular skin
+        SkinManager.release(craftacularSkin);
         // Dispose of the button click sound
         buttonClick.dispose();
         // Shutdown the executor service
@@ -2,8 +2,8 @@ package uk.ac.york.student.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
@@ -13,12 +13,16 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.SharedBatch;
 import uk.ac.york.student.assets.skins.SkinManager;
 import uk.ac.york.student.assets.skins.Skins;
+import uk.ac.york.student.assets.textures.Textures;
 import uk.ac.york.student.audio.music.MusicManager;
 import uk.ac.york.student.audio.sound.GameSound;
 import uk.ac.york.student.audio.sound.SoundManager;
 import uk.ac.york.student.audio.sound.Sounds;
+import uk.ac.york.student.debug.FrameProfiler;
 import uk.ac.york.student.settings.*;
 
 import java.util.function.Supplier;
@@ -35,7 +39,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeIn;
  * The UI elements are organized in a {@link Table} for layout purposes.
  * The class also uses the Singleton pattern for the {@link MusicManager} and {@link SoundManager} classes.
  */
-public class PreferencesScreen extends BaseScreen {
+public class PreferencesScreen extends BaseScreen implements ReusableScreen {
     /**
      * The main processor for the stage where the UI elements are drawn and managed.
      */
@@ -45,13 +49,13 @@ public class PreferencesScreen extends BaseScreen {
     /**
      * A flag indicating whether the screen should fade in when shown.
      */
-    private final boolean shouldFadeIn;
+    private boolean shouldFadeIn;
 
     /**
      * The time it takes for the screen to fade in, in seconds.
      * This variable is only used if {@link PreferencesScreen#shouldFadeIn} is true.
      */
-    private final float fadeInTime;
+    private float fadeInTime;
 
     /**
      * An instance of the {@link ScreenData} class that holds references to the UI elements.
@@ -73,17 +77,17 @@ public class PreferencesScreen extends BaseScreen {
      * The skin used for the UI elements.
      * By default, this is {@link Skins#CRAFTACULAR} from {@link SkinManager}.
      */
-    private final Skin craftacularSkin = SkinManager.getSkins().getResult(Skins.CRAFTACULAR);
+    private final Skin craftacularSkin = SkinManager.acquire(Skins.CRAFTACULAR);
 
     /**
-     * The texture used for the background of the screen.
+     * The region used for the background of the screen, from the settings atlas.
      */
-    private final Texture stoneWallTexture = new Texture(Gdx.files.internal("images/StoneWall.png"));
+    private final TextureRegion stoneWallTexture = GameAssets.getRegion(Textures.STONE_WALL);
 
     /**
-     * The texture used for the gradient at the bottom of the screen.
+     * The region used for the gradient at the bottom of the screen, from the settings atlas.
      */
-    private final Texture bottomUpBlackGradient = new Texture(Gdx.files.internal("images/BottomUpBlackGradient.png"));
+    private final TextureRegion bottomUpBlackGradient = GameAssets.getRegion(Textures.BOTTOM_UP_BLACK_GRADIENT);
     /**
      * This is an enumeration of labels used in the {@link PreferencesScreen} class.
      * Each label is associated with a {@link Supplier<String>} that provides the label's text.
@@ -257,7 +261,7 @@ public class PreferencesScreen extends BaseScreen {
      * @param shouldFadeIn A flag indicating whether the screen should fade in when shown.
      */
     public PreferencesScreen(GdxGame game, boolean shouldFadeIn) {
-        this(game, shouldFadeIn, 0.75f);
+        this(game, shouldFadeIn, DEFAULT_FADE_IN_TIME);
     }
 
     /**
@@ -274,22 +278,36 @@ public class PreferencesScreen extends BaseScreen {
         super(game);
         this.shouldFadeIn = shouldFadeIn;
         this.fadeInTime = fadeInTime;
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
         Gdx.input.setInputProcessor(processor);
     }
 
     /**
-     * This method is called when the {@link PreferencesScreen} is shown.
-     * It initializes the UI elements and sets up the listeners for the UI elements.
-     * If the {@link PreferencesScreen#shouldFadeIn} flag is true, it also sets up a fade-in animation for the screen.
+     * Resets the {@link PreferencesScreen} so that it can be shown again by {@link GdxGame}, rather than constructing a new one.
+     * The UI elements built by {@link PreferencesScreen#show()} are kept in the {@link PreferencesScreen#table}. This only stops any unfinished actions,
+     * restores the alpha of the root actor, applies the new fade-in settings,
+     * and sets the {@link PreferencesScreen#processor} as the {@link Gdx} input processor again.
+     *
+     * @param shouldFadeIn A flag indicating whether the screen should fade in when shown.
+     * @param fadeInTime The time it takes for the screen to fade in, in seconds.
      */
     @Override
-    public void show() {
-        // If the screen should fade in when shown, set the alpha of the root actor to 0 and add a fade-in action.
-        if (shouldFadeIn) {
-            processor.getRoot().getColor().a = 0;
-            processor.getRoot().addAction(fadeIn(fadeInTime));
-        }
+    public void reset(boolean shouldFadeIn, float fadeInTime) {
+        this.shouldFadeIn = shouldFadeIn;
+        this.fadeInTime = fadeInTime;
+        // Stop any unfinished actions, such as the fade-out to the last screen
+        processor.getRoot().clearActions();
+        processor.getRoot().getColor().a = 1;
+        Gdx.input.setInputProcessor(processor);
+    }
+
+    /**
+     * Initializes the UI elements, sets up their listeners and lays them out in the {@link PreferencesScreen#table}, unless this has already been done.
+     * The table is then kept on the {@link PreferencesScreen#processor} while the screen is cached.
+     */
+    @Override
+    public void prepare() {
+        if (table.hasParent()) return;
 
         // Create and initialize the music toggle button and its listener.
         createMusicToggleButton();
@@ -330,6 +348,55 @@ public class PreferencesScreen extends BaseScreen {
         setupTable();
     }
 
+    /**
+     * This method is called when the {@link PreferencesScreen} is shown.
+     * It initializes the UI elements and sets up their listeners if {@link PreferencesScreen#prepare()} has not already done so.
+     * They are kept while the screen is cached, so every time it is shown they are only refreshed from the preferences, see {@link PreferencesScreen#refreshWidgets()}.
+     * If the {@link PreferencesScreen#shouldFadeIn} flag is true, it also sets up a fade-in animation for the screen.
+     */
+    @Override
+    public void show() {
+        // If the screen should fade in when shown, set the alpha of the root actor to 0 and add a fade-in action.
+        if (shouldFadeIn) {
+            processor.getRoot().getColor().a = 0;
+            processor.getRoot().addAction(fadeIn(fadeInTime));
+        }
+
+        prepare();
+
+        // Show the current preferences, which may have changed since the screen was last shown
+        refreshWidgets();
+    }
+
+    /**
+     * This method updates the UI elements to show the current {@link GamePreferences}: the text of the toggle buttons,
+     * the values of the sliders and their labels, and whether the table's debug lines are shown.
+     * Sliders only fire their listeners if their value changes, and the listeners write back the same value, so this does not change any preference.
+     */
+    private void refreshWidgets() {
+        MusicPreferences music = (MusicPreferences) GamePreferences.MUSIC.getPreference();
+        SoundPreferences sound = (SoundPreferences) GamePreferences.SOUND.getPreference();
+        DebugScreenPreferences debugScreen = (DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference();
+        MainMenuCloudsPreferences clouds = (MainMenuCloudsPreferences) GamePreferences.MAIN_MENU_CLOUDS.getPreference();
+
+        screenData.musicToggleButton.setText(Labels.MUSIC_ENABLED.getLabel(music.isEnabled() ? "ON" : "OFF"));
+        screenData.musicVolumeSlider.setValue(music.getVolume());
+        screenData.musicVolumeLabel.setText(Labels.MUSIC_VOLUME.getLabel(Math.round(screenData.musicVolumeSlider.getValue() * 100) + "%"));
+
+        screenData.soundToggleButton.setText(Labels.SOUND_ENABLED.getLabel(sound.isEnabled() ? "ON" : "OFF"));
+        screenData.soundVolumeSlider.setValue(sound.getVolume());
+        screenData.soundVolumeLabel.setText(Labels.SOUND_VOLUME.getLabel(Math.round(screenData.soundVolumeSlider.getValue() * 100) + "%"));
+
+        screenData.debugScreenToggleButton.setText(Labels.DEBUG_SCREEN_ENABLED.getLabel(debugScreen.isEnabled() ? "ON" : "OFF"));
+
+        screenData.cloudsToggleButton.setText(Labels.MAIN_MENU_CLOUDS_ENABLED.getLabel(clouds.isEnabled() ? "ON" : "OFF"));
+        screenData.cloudsSpeedSlider.setValue(clouds.getSpeed());
+        screenData.cloudsSpeedLabel.setText(Labels.MAIN_MENU_CLOUDS_SPEED.getLabel(Math.round(screenData.cloudsSpeedSlider.getValue() * 100) + "%"));
+
+        // If the debug screen is enabled, show the table's debug lines
+        table.setDebug(debugScreen.isEnabled());
+    }
+
     /**
      * This method sets up a listener for the {@link ScreenData#cloudsSpeedSlider}
      * When the slider value changes, it updates the speed of the main menu clouds in the {@link MainMenuCloudsPreferences} in the {@link GamePreferences},
@@ -560,7 +627,6 @@ public class PreferencesScreen extends BaseScreen {
      * It creates a grid layout and adds the UI elements to the grid.
      * The UI elements are retrieved from the {@link PreferencesScreen#screenData} object.
      * The table is set to fill the parent actor and its skin is set to {@link PreferencesScreen#craftacularSkin}.
-     * If the debug screen is enabled in the {@link GamePreferences#DEBUG_SCREEN}, the table's debug lines are shown.
      * The table is then added to the {@link PreferencesScreen#processor} {@link Stage}.
      * The UI elements are added to the table in a specific order and layout to create the desired appearance for the {@link PreferencesScreen}.
      * The method also sets up some properties for the UI elements, such as the alignment of the labels and the touchable state of the sliders.
@@ -581,10 +647,6 @@ public class PreferencesScreen extends BaseScreen {
 
         // Set the table to fill the parent actor and set its skin
         table.setFillParent(true);
-        // If the debug screen is enabled, show the table's debug lines
-        if (((DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference()).isEnabled()) {
-            table.setDebug(true);
-        }
         table.setSkin(craftacularSkin);
         // Add the table to the stage
         processor.addActor(table);
@@ -665,9 +727,8 @@ public class PreferencesScreen extends BaseScreen {
     /**
      * This method sets up a listener for the {@link ScreenData#debugScreenToggleButton}.
      * When the debug screen toggle button is clicked, it plays a button click sound, retrieves the current state of the debug screen from the {@link GamePreferences#DEBUG_SCREEN},
-     * toggles the enabled state of the debug screen, and transitions the game to the preferences screen.
+     * toggles the enabled state of the debug screen, and updates the text of the toggle button and the table's debug lines to reflect the new state.
      * The new state is obtained by negating the current state (i.e., if the debug screen was enabled, it is now disabled, and vice versa).
-     * The transition to the preferences screen is performed by calling the {@link GdxGame#setScreen(Class)} method with the {@link Screens#PREFERENCES} parameter.
      */
     private void listenDebugScreenToggle() {
         TextButton debugScreenToggleButton = screenData.debugScreenToggleButton;
@@ -675,9 +736,8 @@ public class PreferencesScreen extends BaseScreen {
             /**
             * This method is triggered when the debug screen toggle button is clicked.
             * It plays a button click sound, retrieves the current state of the debug screen from the {@link GamePreferences#DEBUG_SCREEN},
-            * toggles the enabled state of the debug screen, and transitions the game to the preferences screen.
+            * toggles the enabled state of the debug screen, and updates the text of the toggle button and the table's debug lines to reflect the new state.
             * The new state is obtained by negating the current state (i.e., if the debug screen was enabled, it is now disabled, and vice versa).
-            * The transition to the preferences screen is performed by calling the {@link GdxGame#setScreen(Class)} method with the {@link Screens#PREFERENCES} parameter.
             *
             * @param event The {@link com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent} triggered by the click.
             * @param actor The {@link Actor} that was clicked.
@@ -688,7 +748,8 @@ public class PreferencesScreen extends BaseScreen {
                 DebugScreenPreferences preference = (DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference();
                 boolean nowEnabled = !preference.isEnabled();
                 preference.setEnabled(nowEnabled);
-                game.setScreen(Screens.PREFERENCES);
+                debugScreenToggleButton.setText(Labels.DEBUG_SCREEN_ENABLED.getLabel(nowEnabled ? "ON" : "OFF"));
+                table.setDebug(nowEnabled);
             }
         });
     }
@@ -829,8 +890,8 @@ public class PreferencesScreen extends BaseScreen {
 
         // Draws the stone wall texture in a grid pattern across the entire screen
         // The size of each tile in the grid is determined by dividing the width and height of the texture by 6
-        int width = stoneWallTexture.getWidth() / 6;
-        int height = stoneWallTexture.getHeight() / 6;
+        int width = stoneWallTexture.getRegionWidth() / 6;
+        int height = stoneWallTexture.getRegionHeight() / 6;
         for (int x = 0; x < Gdx.graphics.getWidth(); x += width) {
             for (int y = 0; y < Gdx.graphics.getHeight(); y += height) {
                 batch.draw(stoneWallTexture, x, y, width, height);
@@ -846,8 +907,12 @@ public class PreferencesScreen extends BaseScreen {
 
         // Updates and draws the stage
         // The stage is updated with a fixed time step, which is the smaller of the actual time passed and 1/30 seconds
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_ACT);
         processor.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_ACT);
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
         processor.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
     }
 
     /**
@@ -896,13 +961,13 @@ public class PreferencesScreen extends BaseScreen {
      * It disposes of the resources that were created in the {@link PreferencesScreen} class to free up memory.
      * The resources that are disposed of include:
      * - The {@link PreferencesScreen#processor} {@link Stage}, which is used to manage and render the UI elements.
-     * - The {@link PreferencesScreen#craftacularSkin} {@link Skin}, which is used for the UI elements.
+     * - The {@link PreferencesScreen#craftacularSkin} {@link Skin}, which is used for the UI elements. It is released back to the {@link SkinManager} rather than disposed.
      * - The {@link PreferencesScreen#buttonClick} {@link GameSound}, which is the sound that is played when a button is clicked.
      */
     @Override
     public void dispose() {
         processor.dispose();
-        craftacularSkin.dispose();
+        SkinManager.release(craftacularSkin);
         buttonClick.dispose();
     }
 }
@@ -0,0 +1,37 @@
+package uk.ac.york.student.screens;
+
+import uk.ac.york.student.GdxGame;
+
+/**
+ * The ReusableScreen interface is implemented by screens that the player comes back to often, such as the main menu.
+ * <p>
+ * {@link GdxGame} keeps one instance of each reusable screen once it has been created, and hides it rather than disposing it
+ * when another screen is shown. When the screen is shown again, it is reset with {@link ReusableScreen#reset(boolean, float)}
+ * instead of being constructed again, so its {@link com.badlogic.gdx.scenes.scene2d.Stage}, widgets, skin and sounds are only created once.
+ * The instance is disposed when the game is closed.
+ */
+public interface ReusableScreen {
+    /**
+     * The time in seconds for the fade-in effect, used when a reusable screen should fade in but no time is given.
+     */
+    float DEFAULT_FADE_IN_TIME = 0.75f;
+
+    /**
+     * Resets the screen so that it can be shown again, as if it had just been constructed with the given fade-in settings.
+     * This is called before {@link com.badlogic.gdx.Screen#show()}. The widgets built the first time the screen was shown are kept,
+     * so this should only stop unfinished actions, restore the alpha of the stage, refresh any state that may have changed while the screen was hidden,
+     * and make the screen's {@link com.badlogic.gdx.scenes.scene2d.Stage} the input processor again.
+     *
+     * @param shouldFadeIn A boolean indicating whether the screen should fade in when it is shown.
+     * @param fadeInTime The time in seconds for the fade-in effect. This is only used if shouldFadeIn is true.
+     */
+    void reset(boolean shouldFadeIn, float fadeInTime);
+
+    /**
+     * Builds the widgets that {@link com.badlogic.gdx.Screen#show()} would otherwise build the first time the screen is shown.
+     * {@link GdxGame} calls this a frame after the screen has been created or reset, while the previous screen is still fading out,
+     * so the work is spread over the frames of the fade rather than done in the frame the screen is shown.
+     * It must do nothing if the widgets have already been built, and {@link com.badlogic.gdx.Screen#show()} must still build them if it was not called.
+     */
+    void prepare();
+}
@@ -2,8 +2,8 @@ package uk.ac.york.student.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
@@ -12,11 +12,15 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import uk.ac.york.student.GdxGame;
+import uk.ac.york.student.assets.GameAssets;
+import uk.ac.york.student.assets.SharedBatch;
 import uk.ac.york.student.assets.skins.SkinManager;
 import uk.ac.york.student.assets.skins.Skins;
+import uk.ac.york.student.assets.textures.Textures;
 import uk.ac.york.student.audio.sound.GameSound;
 import uk.ac.york.student.audio.sound.SoundManager;
 import uk.ac.york.student.audio.sound.Sounds;
+import uk.ac.york.student.debug.FrameProfiler;
 import uk.ac.york.student.settings.DebugScreenPreferences;
 import uk.ac.york.student.settings.GamePreferences;
 
@@ -38,7 +42,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.fadeIn;
  * The screen is designed using the libGDX framework and uses a {@link Stage} to manage and render the UI elements.
  * The UI elements are organized in a {@link Table} for layout purposes.
  */
-public class TutorialScreen extends BaseScreen{
+public class TutorialScreen extends BaseScreen implements ReusableScreen {
     /**
      * The main processor for the stage where the UI elements are drawn and managed.
      */
@@ -48,13 +52,13 @@ public class TutorialScreen extends BaseScreen{
     /**
      * A flag indicating whether the screen should fade in when shown.
      */
-    private final boolean shouldFadeIn;
+    private boolean shouldFadeIn;
 
     /**
      * The time it takes for the screen to fade in, in seconds.
      * This variable is only used if {@link TutorialScreen#shouldFadeIn} is true.
      */
-    private final float fadeInTime;
+    private float fadeInTime;
 
     /**
      * An instance of the {@link TutorialScreen.ScreenData} class that holds references to the UI elements.
@@ -76,17 +80,17 @@ public class TutorialScreen extends BaseScreen{
      * The skin used for the UI elements.
      * By default, this is {@link Skins#CRAFTACULAR} from {@link SkinManager}.
      */
-    private final Skin craftacularSkin = SkinManager.getSkins().getResult(Skins.CRAFTACULAR);
+    private final Skin craftacularSkin = SkinManager.acquire(Skins.CRAFTACULAR);
 
     /**
-     * The texture used for the background of the screen.
+     * The region used for the background of the screen, from the settings atlas.
      */
-    private final Texture stoneWallTexture = new Texture(Gdx.files.internal("images/StoneWall.png"));
+    private final TextureRegion stoneWallTexture = GameAssets.getRegion(Textures.STONE_WALL);
 
     /**
-     * The texture used for the gradient at the bottom of the screen.
+     * The region used for the gradient at the bottom of the screen, from the settings atlas.
      */
-    private final Texture bottomUpBlackGradient = new Texture(Gdx.files.internal("images/BottomUpBlackGradient.png"));
+    private final TextureRegion bottomUpBlackGradient = GameAssets.getRegion(Textures.BOTTOM_UP_BLACK_GRADIENT);
     /**
      * This is an enumeration of labels used in the {@link TutorialScreen} class.
      * Each label is associated with a {@link Supplier <String>} that provides the label's text.
@@ -181,7 +185,7 @@ public class TutorialScreen extends BaseScreen{
      * @param shouldFadeIn A flag indicating whether the screen should fade in when shown.
      */
     public TutorialScreen(GdxGame game, boolean shouldFadeIn) {
-        this(game, shouldFadeIn, 0.75f);
+        this(game, shouldFadeIn, DEFAULT_FADE_IN_TIME);
     }
 
     /**
@@ -198,13 +202,49 @@ public class TutorialScreen extends BaseScreen{
         super(game);
         this.shouldFadeIn = shouldFadeIn;
         this.fadeInTime = fadeInTime;
-        processor = new Stage(new ScreenViewport());
+        processor = new Stage(new ScreenViewport(), SharedBatch.get());
         Gdx.input.setInputProcessor(processor);
     }
 
+    /**
+     * Resets the {@link TutorialScreen} so that it can be shown again by {@link GdxGame}, rather than constructing a new one.
+     * The UI elements built by {@link TutorialScreen#show()} are kept in the {@link TutorialScreen#table}. This only stops any unfinished actions,
+     * restores the alpha of the root actor, applies the new fade-in settings,
+     * and sets the {@link TutorialScreen#processor} as the {@link Gdx} input processor again.
+     *
+     * @param shouldFadeIn A flag indicating whether the screen should fade in when shown.
+     * @param fadeInTime The time it takes for the screen to fade in, in seconds.
+     */
+    @Override
+    public void reset(boolean shouldFadeIn, float fadeInTime) {
+        this.shouldFadeIn = shouldFadeIn;
+        this.fadeInTime = fadeInTime;
+        // Stop any unfinished actions, such as the fade-out to the last screen
+        processor.getRoot().clearActions();
+        processor.getRoot().getColor().a = 1;
+        Gdx.input.setInputProcessor(processor);
+    }
+
+    /**
+     * Initializes the UI elements, sets up their listeners and lays them out in the {@link TutorialScreen#table}, unless this has already been done.
+     * The table is then kept on the {@link TutorialScreen#processor} while the screen is cached.
+     */
+    @Override
+    public void prepare() {
+        if (table.hasParent()) return;
+
+        // Create and initialize the back button and its listener.
+        createBackButton();
+        listenBackButton();
+
+        // Set up the layout of the UI elements in the table.
+        setupTable();
+    }
+
     /**
      * This method is called when the {@link TutorialScreen} is shown.
-     * It initializes the UI elements and sets up the listeners for the UI elements.
+     * It initializes the UI elements and sets up their listeners if {@link TutorialScreen#prepare()} has not already done so.
+     * They are kept while the screen is cached, so later it only updates the table's debug lines from the {@link GamePreferences#DEBUG_SCREEN}.
      * If the {@link TutorialScreen#shouldFadeIn} flag is true, it also sets up a fade-in animation for the screen.
      */
     @Override
@@ -215,12 +255,10 @@ public class TutorialScreen extends BaseScreen{
             processor.getRoot().addAction(fadeIn(fadeInTime));
         }
 
-        // Create and initialize the back button and its listener.
-        createBackButton();
-        listenBackButton();
+        prepare();
 
-        // Set up the layout of the UI elements in the table.
-        setupTable();
+        // If the debug screen is enabled, show the table's debug lines
+        table.setDebug(((DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference()).isEnabled());
     }
     /**
      * This method creates a back button for the preferences screen.
@@ -263,7 +301,6 @@ public class TutorialScreen extends BaseScreen{
      * It creates a grid layout and adds the UI elements to the grid.
      * The UI elements are retrieved from the {@link TutorialScreen#screenData} object.
      * The table is set to fill the parent actor and its skin is set to {@link TutorialScreen#craftacularSkin}.
-     * If the debug screen is enabled in the {@link GamePreferences#DEBUG_SCREEN}, the table's debug lines are shown.
      * The table is then added to the {@link TutorialScreen#processor} {@link Stage}.
      * The UI elements are added to the table in a specific order and layout to create the desired appearance for the {@link TutorialScreen}.
      * The method also sets up some properties for the UI elements, such as the alignment of the labels and the touchable state of the sliders.
@@ -274,10 +311,6 @@ public class TutorialScreen extends BaseScreen{
 
         // Set the table to fill the parent actor and set its skin
         table.setFillParent(true);
-        // If the debug screen is enabled, show the table's debug lines
-        if (((DebugScreenPreferences) GamePreferences.DEBUG_SCREEN.getPreference()).isEnabled()) {
-            table.setDebug(true);
-        }
         table.setSkin(craftacularSkin);
         // Add the table to the stage
         processor.addActor(table);
@@ -336,8 +369,8 @@ public class TutorialScreen extends BaseScreen{
 
         // Draws the stone wall texture in a grid pattern across the entire screen
         // The size of each tile in the grid is determined by dividing the width and height of the texture by 6
-        int width = stoneWallTexture.getWidth() / 6;
-        int height = stoneWallTexture.getHeight() / 6;
+        int width = stoneWallTexture.getRegionWidth() / 6;
+        int height = stoneWallTexture.getRegionHeight() / 6;
         for (int x = 0; x < Gdx.graphics.getWidth(); x += width) {
             for (int y = 0; y < Gdx.graphics.getHeight(); y += height) {
                 batch.draw(stoneWallTexture, x, y, width, height);
@@ -353,8 +386,12 @@ public class TutorialScreen extends BaseScreen{
 
         // Updates and draws the stage
         // The stage is updated with a fixed time step, which is the smaller of the actual time passed and 1/30 seconds
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_ACT);
         processor.act(Math.min(Gdx.graphics.getDeltaTime(), 1 / 30f));
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_ACT);
+        FrameProfiler.begin(FrameProfiler.Phase.STAGE_DRAW);
         processor.draw();
+        FrameProfiler.end(FrameProfiler.Phase.STAGE_DRAW);
     }
 
     /**
@@ -403,13 +440,13 @@ public class TutorialScreen extends BaseScreen{
      * It disposes of the resources that were created in the {@link TutorialScreen} class to free up memory.
      * The resources that are disposed of include:
      * - The {@link TutorialScreen#processor} {@link Stage}, which is used to manage and render the UI elements.
-     * - The {@link TutorialScreen#craftacularSkin} {@link Skin}, which is used for the UI elements.
+     * - The {@link TutorialScreen#craftacularSkin} {@link Skin}, which is used for the UI elements. It is released back to the {@link SkinManager} rather than disposed.
      * - The {@link TutorialScreen#buttonClick} {@link GameSound}, which is the sound that is played when a button is clicked.
      */
     @Override
     public void dispose() {
         processor.dispose();
-        craftacularSkin.dispose();
+        SkinManager.release(craftacularSkin);
         buttonClick.dispose();
     }
 }
@@ -4,6 +4,8 @@ package uk.ac.york.student.settings;
  * The {@link DebugScreenPreferences} class implements the {@link Preference} interface.
  * This class is used to manage the preferences related to screen debugging.
  * It provides methods to enable or disable screen debugging and to get the current status of screen debugging.
+ * While screen debugging is enabled, the menu screens draw their table debug lines,
+ * and the {@link uk.ac.york.student.debug.FrameProfiler} draws its profiler overlay over every screen.
  * The preferences are stored using the {@link GamePreferences} class.
  */
 public class DebugScreenPreferences implements Preference {
@@ -19,13 +21,11 @@ public class DebugScreenPreferences implements Preference {
 
     /**
      * Constructor for the {@link DebugScreenPreferences} class.
-     * It initializes the preferences related to screen debugging.
-     * The enabled status of screen debugging is set to the default value ({@link DebugScreenPreferences#DEFAULT_ENABLED}) using the {@link GamePreferences} class.
-     * The preferences are then saved to the persistent storage.
+     * It does not store anything in the game's preferences file, so a saved value is kept.
+     * Until the preference is set, screen debugging uses the default value ({@link DebugScreenPreferences#DEFAULT_ENABLED}).
      */
     public DebugScreenPreferences() {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), DEFAULT_ENABLED);
-        GamePreferences.getPreferences().flush();
+
     }
 
     /**
@@ -37,7 +37,7 @@ public class DebugScreenPreferences implements Preference {
      * @return A boolean value indicating whether screen debugging is enabled.
      */
     public boolean isEnabled() {
-        return GamePreferences.getPreferences().getBoolean(getKey(ENABLED));
+        return PreferenceStore.getBoolean(getKey(ENABLED), DEFAULT_ENABLED);
     }
 
     /**
@@ -45,13 +45,12 @@ public class DebugScreenPreferences implements Preference {
      * It takes a boolean parameter 'b' which indicates the desired status of screen debugging.
      * The method stores the preference related to the enabled status of screen debugging using the key {@link DebugScreenPreferences#ENABLED}.
      * The preference is stored using the {@link GamePreferences} class.
-     * After storing the preference, the method saves the changes to the persistent storage.
+     * The change is written to the persistent storage in the background by the {@link PreferenceStore}.
      *
      * @param b A boolean value indicating the desired status of screen debugging.
      */
     public void setEnabled(boolean b) {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), b);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putBoolean(getKey(ENABLED), b);
     }
 
     /**
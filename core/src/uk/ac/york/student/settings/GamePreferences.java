@@ -54,13 +54,14 @@ public enum GamePreferences {
      * It represents the name of the preferences file where the game settings are stored.
      * The value of this field is used in the {@link GamePreferences#getPreferences()} method to retrieve the {@link Preferences} object from the application.
      */
-    private static final String NAME = "settings";
+    static final String NAME = "settings";
 
     /**
      * This is a static method that retrieves the {@link Preferences} object from the application.
      * The method uses the {@link com.badlogic.gdx.Application#getPreferences(String)} method to retrieve the {@link Preferences} object.
      * The name of the preferences file, stored in the static field {@link GamePreferences#NAME}, is passed as a parameter to the {@link GamePreferences#getPreferences()} method.
      * The {@link Preferences} object contains the game settings which are stored in the preferences file.
+     * It is only read once, by the {@link PreferenceStore}, which should be used to read and change the settings.
      *
      * @return A {@link Preferences} object which contains the game settings.
      */
@@ -30,14 +30,11 @@ public class MainMenuCloudsPreferences implements Preference {
 
     /**
      * This is the constructor for the {@link MainMenuCloudsPreferences} class.
-     * It initializes the preferences for the main menu clouds with their default values.
-     * The preferences are stored in the game's preferences file and are retrieved using the {@link GamePreferences} class.
-     * The preferences are then flushed to ensure they are saved.
+     * It does not store anything in the game's preferences file, so any values the player has saved are kept.
+     * Until a preference is set, its getter returns the default value.
      */
     public MainMenuCloudsPreferences() {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), DEFAULT_ENABLED);
-        GamePreferences.getPreferences().putFloat(getKey(SPEED), DEFAULT_SPEED);
-        GamePreferences.getPreferences().flush();
+
     }
 
     /**
@@ -47,19 +44,18 @@ public class MainMenuCloudsPreferences implements Preference {
      * @return boolean - returns true if the main menu clouds are enabled, false otherwise.
      */
     public boolean isEnabled() {
-        return GamePreferences.getPreferences().getBoolean(getKey(ENABLED));
+        return PreferenceStore.getBoolean(getKey(ENABLED), DEFAULT_ENABLED);
     }
 
     /**
      * This method sets the enabled status of the main menu clouds.
      * It stores the value of the {@link MainMenuCloudsPreferences#ENABLED} preference in the game's preferences file using the {@link GamePreferences} class.
      * The key for the 'enabled' preference is obtained using the {@link MainMenuCloudsPreferences#getKey(String)} method with {@link MainMenuCloudsPreferences#ENABLED} as the argument.
-     * After setting the value, the preferences are flushed to ensure they are saved.
+     * The change is written to the preferences file in the background by the {@link PreferenceStore}.
      * @param b - the boolean value to set the {@link MainMenuCloudsPreferences#ENABLED} preference to.
      */
     public void setEnabled(boolean b) {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), b);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putBoolean(getKey(ENABLED), b);
     }
 
     /**
@@ -69,19 +65,18 @@ public class MainMenuCloudsPreferences implements Preference {
      * @return float - returns the speed of the main menu clouds.
      */
     public float getSpeed() {
-        return GamePreferences.getPreferences().getFloat(getKey(SPEED));
+        return PreferenceStore.getFloat(getKey(SPEED), DEFAULT_SPEED);
     }
 
     /**
      * This method sets the speed of the main menu clouds.
      * It stores the value of the {@link MainMenuCloudsPreferences#SPEED} preference in the game's preferences file using the {@link GamePreferences} class.
      * The key for the 'speed' preference is obtained using the {@link MainMenuCloudsPreferences#getKey(String)} method with {@link MainMenuCloudsPreferences#SPEED} as the argument.
-     * After setting the value, the preferences are flushed to ensure they are saved.
+     * The change is written to the preferences file in the background by the {@link PreferenceStore}.
      * @param speed - the float value to set the {@link MainMenuCloudsPreferences#SPEED} preference to.
      */
     public void setSpeed(float speed) {
-        GamePreferences.getPreferences().putFloat(getKey(SPEED), speed);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putFloat(getKey(SPEED), speed);
     }
 
     /**
@@ -7,7 +7,7 @@ import lombok.Getter;
  * It includes preferences for whether the music is enabled and the volume of the music.
  * The class uses the {@link GamePreferences} class to store and retrieve the preferences from the game's preferences file.
  * The keys for the preferences are generated using the {@link MusicPreferences#getKey(String)} method with the specific part of the key related to a preference as the argument.
- * The default values for the preferences are set in the constructor of the class.
+ * The default values for the preferences are used until the preferences are set.
  * The constant string {@link MusicPreferences#ENABLED} is the key for the 'enabled' preference of the music settings.
  * The constant boolean {@link MusicPreferences#DEFAULT_ENABLED} is the default value for the 'enabled' preference of the music settings.
  * The constant string {@link MusicPreferences#VOLUME} is the key for the 'volume' preference of the music settings.
@@ -22,15 +22,11 @@ public class MusicPreferences implements Preference {
 
     /**
      * The constructor for the {@link MusicPreferences} class.
-     * It sets the default values for the {@link MusicPreferences#ENABLED} and {@link MusicPreferences#VOLUME} preferences of the music settings.
-     * The default values are stored in the game's preferences file using the {@link GamePreferences} class.
-     * The keys for the preferences are obtained using the {@link MusicPreferences#getKey(String)} method with {@link MusicPreferences#ENABLED} and {@link MusicPreferences#VOLUME} as the arguments.
-     * After setting the values, the preferences are flushed to ensure they are saved.
+     * It does not store anything in the game's preferences file, so any values the player has saved are kept.
+     * Until a preference is set, its getter returns {@link MusicPreferences#DEFAULT_ENABLED} or {@link MusicPreferences#DEFAULT_VOLUME}.
      */
     public MusicPreferences() {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), DEFAULT_ENABLED);
-        GamePreferences.getPreferences().putFloat(getKey(VOLUME), DEFAULT_VOLUME);
-        GamePreferences.getPreferences().flush();
+
     }
 
     /**
@@ -40,19 +36,18 @@ public class MusicPreferences implements Preference {
      * @return boolean - returns true if the music is enabled, false otherwise.
      */
     public boolean isEnabled() {
-        return GamePreferences.getPreferences().getBoolean(getKey(ENABLED));
+        return PreferenceStore.getBoolean(getKey(ENABLED), DEFAULT_ENABLED);
     }
 
     /**
      * This method sets the {@link MusicPreferences#ENABLED} preference of the music settings to the provided value.
      * It stores the value in the game's preferences file using the {@link GamePreferences} class.
      * The key for the {@link MusicPreferences#ENABLED} preference is obtained using the {@link MusicPreferences#getKey(String)} method with {@link MusicPreferences#ENABLED} as the argument.
-     * After setting the value, the preferences are flushed to ensure the change is saved.
+     * The change is written to the preferences file in the background by the {@link PreferenceStore}.
      * @param b - the new value for the {@link MusicPreferences#ENABLED} preference. If true, the music is enabled; if false, the music is disabled.
      */
     public void setEnabled(boolean b) {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), b);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putBoolean(getKey(ENABLED), b);
     }
 
     /**
@@ -62,19 +57,18 @@ public class MusicPreferences implements Preference {
      * @return float - returns the current volume level of the music settings.
      */
     public float getVolume() {
-        return GamePreferences.getPreferences().getFloat(getKey(VOLUME));
+        return PreferenceStore.getFloat(getKey(VOLUME), DEFAULT_VOLUME);
     }
 
     /**
      * This method sets the {@link MusicPreferences#VOLUME} preference of the music settings to the provided value.
      * It stores the value in the game's preferences file using the {@link GamePreferences} class.
      * The key for the {@link MusicPreferences#VOLUME} preference is obtained using the {@link MusicPreferences#getKey(String)} method with {@link MusicPreferences#VOLUME} as the argument.
-     * After setting the value, the preferences are flushed to ensure the change is saved.
+     * The change is written to the preferences file in the background by the {@link PreferenceStore}.
      * @param vol - the new value for the {@link MusicPreferences#VOLUME} preference. It represents the volume level of the music settings.
      */
     public void setVolume(float vol) {
-        GamePreferences.getPreferences().putFloat(getKey(VOLUME), vol);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putFloat(getKey(VOLUME), vol);
     }
 
     /**
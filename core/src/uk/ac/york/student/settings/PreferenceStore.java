@@ -0,0 +1,326 @@
+package uk.ac.york.student.settings;
+
+import com.badlogic.gdx.Gdx;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This utility class holds an in-memory snapshot of the game's preferences, and writes it back to disk in the background.
+ * <p>
+ * The snapshot is loaded from the {@link com.badlogic.gdx.Preferences} returned by {@link GamePreferences#getPreferences()} the first time it is used.
+ * After that, reading a preference is a map lookup, and changing one only updates the snapshot, notifies the {@link Listener}s
+ * and schedules a flush. Changes made within {@link PreferenceStore#FLUSH_DELAY_MILLIS} of each other are written together,
+ * so dragging a slider writes the file once rather than on every frame.
+ * <p>
+ * The file is written on a background thread, in the same XML format and location as the desktop backend's preferences,
+ * by writing a temporary file and moving it over the old one, so the preferences are never left half written.
+ * The snapshot is copied under a short lock, and the file is written under a separate lock, so changing a preference
+ * never waits for a write that is in progress.
+ * Values that have never been set are not written at all, so the defaults in each {@link Preference} class never overwrite saved values.
+ */
+@UtilityClass
+public final class PreferenceStore {
+    /**
+     * A {@link Listener} is notified whenever a preference changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * Called on the thread that changed the preference, after the snapshot has been updated.
+         *
+         * @param key The key of the preference that changed.
+         */
+        void changed(@NotNull String key);
+    }
+
+    /**
+     * The time to wait after a change before the preferences are written, in milliseconds.
+     * Any further change made in this time is written by the same flush.
+     */
+    private static final long FLUSH_DELAY_MILLIS = 500;
+
+    /**
+     * The directory the desktop backend keeps preferences in, relative to the user's home directory.
+     */
+    private static final String PREFERENCES_DIRECTORY = ".prefs";
+
+    /**
+     * The in-memory snapshot of the preferences, keyed by preference key.
+     * Like the desktop backend, every value is kept as a string.
+     */
+    private static final Map<String, String> values = new ConcurrentHashMap<>();
+
+    /**
+     * The listeners notified when a preference changes.
+     */
+    private static final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The thread the preferences are written on.
+     */
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Preferences flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The flush that has been scheduled but has not started yet, or null if there is none.
+     */
+    private static @Nullable ScheduledFuture<?> pendingFlush;
+
+    /**
+     * Held while the preferences file is written, so only one write runs at a time.
+     * It is never taken by {@link PreferenceStore#put(String, String)} or {@link PreferenceStore#scheduleFlush()},
+     * and is always taken before the class lock, never while holding it.
+     */
+    private static final Object writeLock = new Object();
+
+    /**
+     * Whether the snapshot has been loaded from the preferences.
+     */
+    private static volatile boolean loaded = false;
+
+    /**
+     * The file the preferences are read from and written to, set by {@link PreferenceStore#useFile(Path)},
+     * or null to use the desktop backend's preferences file.
+     */
+    private static @Nullable Path file;
+
+    /**
+     * The number of times the preferences file has been written.
+     */
+    private static volatile int writeCount = 0;
+
+    /**
+     * Loads the snapshot from the preferences, if it has not been loaded yet.
+     */
+    private static void load() {
+        if (loaded) return;
+        synchronized (PreferenceStore.class) {
+            if (loaded) return;
+            for (Map.Entry<String, ?> entry : GamePreferences.getPreferences().get().entrySet()) {
+                values.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+            loaded = true;
+        }
+    }
+
+    /**
+     * Makes the store read and write the given file instead of the game's preferences file.
+     * Any change that has not been written yet is discarded, and the snapshot is reloaded from the new file.
+     * This lets the tests use the store without changing the player's settings.
+     *
+     * @param file The preferences file to use, which does not have to exist yet.
+     */
+    public static void useFile(@NotNull Path file) {
+        synchronized (writeLock) {
+            synchronized (PreferenceStore.class) {
+                if (pendingFlush != null) pendingFlush.cancel(false);
+                pendingFlush = null;
+                PreferenceStore.file = file;
+                values.clear();
+                if (Files.exists(file)) {
+                    Properties properties = new Properties();
+                    try (InputStream in = Files.newInputStream(file)) {
+                        properties.loadFromXML(in);
+                    } catch (IOException e) {
+                        Gdx.app.error("LetRonCooke", "Failed to load the preferences", e);
+                    }
+                    for (String key : properties.stringPropertyNames()) {
+                        values.put(key, properties.getProperty(key));
+                    }
+                }
+                loaded = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of times the preferences file has been written since the game started.
+     *
+     * @return The number of writes.
+     */
+    public static int getWriteCount() {
+        return writeCount;
+    }
+
+    /**
+     * Returns the value of a boolean preference.
+     *
+     * @param key The key of the preference.
+     * @param defaultValue The value to return if the preference has never been set.
+     * @return The value of the preference.
+     */
+    public static boolean getBoolean(@NotNull String key, boolean defaultValue) {
+        load();
+        String value = values.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Returns the value of a float preference.
+     *
+     * @param key The key of the preference.
+     * @param defaultValue The value to return if the preference has never been set, or is not a number.
+     * @return The value of the preference.
+     */
+    public static float getFloat(@NotNull String key, float defaultValue) {
+        load();
+        String value = values.get(key);
+        if (value == null) return defaultValue;
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Sets the value of a boolean preference, and schedules the preferences to be written.
+     *
+     * @param key The key of the preference.
+     * @param value The new value of the preference.
+     */
+    public static void putBoolean(@NotNull String key, boolean value) {
+        put(key, Boolean.toString(value));
+    }
+
+    /**
+     * Sets the value of a float preference, and schedules the preferences to be written.
+     *
+     * @param key The key of the preference.
+     * @param value The new value of the preference.
+     */
+    public static void putFloat(@NotNull String key, float value) {
+        put(key, Float.toString(value));
+    }
+
+    /**
+     * Sets the value of a preference. If the value has changed, the listeners are notified and a flush is scheduled.
+     *
+     * @param key The key of the preference.
+     * @param value The new value of the preference, as a string.
+     */
+    private static void put(@NotNull String key, @NotNull String value) {
+        load();
+        if (value.equals(values.put(key, value))) return;
+        for (Listener listener : listeners) {
+            listener.changed(key);
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * Adds a listener to be notified whenever a preference changes.
+     *
+     * @param listener The listener to add.
+     */
+    public static void addListener(@NotNull Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link PreferenceStore#addListener(Listener)}.
+     *
+     * @param listener The listener to remove.
+     */
+    public static void removeListener(@NotNull Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Schedules the preferences to be written, unless a flush is already waiting to start.
+     */
+    private static void scheduleFlush() {
+        synchronized (PreferenceStore.class) {
+            if (pendingFlush != null) return;
+            try {
+                pendingFlush = executor.schedule(() -> {
+                    synchronized (PreferenceStore.class) {
+                        pendingFlush = null;
+                    }
+                    write();
+                }, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException e) {
+                // The game is closing and the background thread has stopped, so the change is written below instead
+            }
+        }
+        // Written outside the class lock, as the write lock must never be taken while holding it
+        write();
+    }
+
+    /**
+     * Writes any pending changes straight away, on the calling thread, and stops the background thread.
+     * This should only be called when the game is closing.
+     */
+    public static void onDisable() {
+        boolean pending;
+        synchronized (PreferenceStore.class) {
+            pending = pendingFlush != null && pendingFlush.cancel(false);
+            pendingFlush = null;
+        }
+        executor.shutdown();
+        try {
+            // Wait for a flush that had already started
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending) write();
+    }
+
+    /**
+     * Writes the snapshot to the preferences file, replacing the old file atomically.
+     * Only one write runs at a time. The snapshot is copied under the class lock, which is only held for the copy,
+     * and the file is written under {@link PreferenceStore#writeLock}. As the copy is taken after the write lock,
+     * a later write always copies a snapshot at least as new as an earlier one.
+     */
+    private static void write() {
+        synchronized (writeLock) {
+            Properties properties = new Properties();
+            Path target;
+            synchronized (PreferenceStore.class) {
+                properties.putAll(values);
+                target = file != null ? file
+                        : new File(Gdx.files.getExternalStoragePath(), PREFERENCES_DIRECTORY + File.separator + GamePreferences.NAME).toPath();
+            }
+
+            Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = Files.newOutputStream(temporary)) {
+                    properties.storeToXML(out, null);
+                }
+                try {
+                    Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                writeCount++;
+            } catch (IOException e) {
+                Gdx.app.error("LetRonCooke", "Failed to save the preferences", e);
+            }
+        }
+    }
+}
@@ -7,7 +7,7 @@ import lombok.Getter;
  * It implements the {@link Preference} interface and provides methods to get and set the {@link SoundPreferences#ENABLED} and {@link SoundPreferences#VOLUME} preferences for the sound settings.
  * The {@link SoundPreferences#ENABLED} preference determines whether the sound is enabled or disabled.
  * The {@link SoundPreferences#VOLUME} preference determines the volume level of the sound.
- * The default values for the {@link SoundPreferences#ENABLED} and {@link SoundPreferences#VOLUME} preferences are set in the constructor.
+ * The default values for the {@link SoundPreferences#ENABLED} and {@link SoundPreferences#VOLUME} preferences are used until the preferences are set.
  * The values of the preferences are stored in the game's preferences file using the {@link GamePreferences} class.
  * The keys for the preferences are generated using the {@link #getKey(String)} method.
  */
@@ -18,62 +18,76 @@ public class SoundPreferences implements Preference {
     private static final String VOLUME = "volume";
     private static final float DEFAULT_VOLUME = 1f;
 
+    /**
+     * The cached value of the {@link SoundPreferences#ENABLED} preference, read every time a sound is played.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * The cached value of the {@link SoundPreferences#VOLUME} preference, read every time a sound is played.
+     */
+    private volatile float volume;
 
     /**
      * This is the constructor for the {@link SoundPreferences} class.
-     * It sets the default values for the {@link SoundPreferences#ENABLED} and {@link SoundPreferences#VOLUME} preferences in the game's preferences file.
-     * The {@link SoundPreferences#ENABLED} preference is set to {@link SoundPreferences#DEFAULT_ENABLED} and the {@link SoundPreferences#VOLUME} preference is set to {@link SoundPreferences#DEFAULT_VOLUME}.
-     * The keys for the preferences are generated using the {@link #getKey(String)} method with {@link SoundPreferences#ENABLED} and {@link SoundPreferences#VOLUME} as the arguments.
-     * After setting the values, the preferences are flushed to ensure the changes are saved.
+     * It does not store anything in the game's preferences file, so any values the player has saved are kept.
+     * Instead, it caches the current values of the {@link SoundPreferences#ENABLED} and {@link SoundPreferences#VOLUME} preferences,
+     * which are {@link SoundPreferences#DEFAULT_ENABLED} and {@link SoundPreferences#DEFAULT_VOLUME} until they are set,
+     * and keeps the cache up to date with a {@link PreferenceStore.Listener}.
      */
     public SoundPreferences() {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), DEFAULT_ENABLED);
-        GamePreferences.getPreferences().putFloat(getKey(VOLUME), DEFAULT_VOLUME);
-        GamePreferences.getPreferences().flush();
+        updateCache();
+        PreferenceStore.addListener(key -> {
+            if (key.startsWith(getKey(""))) updateCache();
+        });
+    }
+
+    /**
+     * Reads the current values of the sound preferences from the {@link PreferenceStore} into the cache.
+     */
+    private void updateCache() {
+        enabled = PreferenceStore.getBoolean(getKey(ENABLED), DEFAULT_ENABLED);
+        volume = PreferenceStore.getFloat(getKey(VOLUME), DEFAULT_VOLUME);
     }
 
     /**
-     * This method retrieves the {@link SoundPreferences#ENABLED} preference of the sound settings from the game's preferences file.
-     * It uses the {@link GamePreferences} class to get the value of the preference.
+     * This method retrieves the {@link SoundPreferences#ENABLED} preference of the sound settings from the cache.
      * The key for the {@link SoundPreferences#ENABLED} preference is obtained using the {@link SoundPreferences#getKey(String)} method with {@link SoundPreferences#ENABLED} as the argument.
      * @return boolean - returns the value of the {@link SoundPreferences#ENABLED} preference. It represents whether the sound is enabled or disabled.
      */
     public boolean isEnabled() {
-        return GamePreferences.getPreferences().getBoolean(getKey(ENABLED));
+        return enabled;
     }
 
     /**
      * This method sets the {@link SoundPreferences#ENABLED} preference of the sound settings in the game's preferences file.
      * It takes a boolean as an argument and uses the {@link GamePreferences} class to set the value of the preference.
      * The key for the {@link SoundPreferences#ENABLED} preference is obtained using the {@link SoundPreferences#getKey(String)} method with {@link SoundPreferences#ENABLED} as the argument.
-     * After setting the value, the preferences are flushed to ensure the changes are saved.
+     * The change is written to the preferences file in the background by the {@link PreferenceStore}.
      * @param b - the new value for the {@link SoundPreferences#ENABLED} preference. It represents whether the sound should be enabled or disabled.
      */
     public void setEnabled(boolean b) {
-        GamePreferences.getPreferences().putBoolean(getKey(ENABLED), b);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putBoolean(getKey(ENABLED), b);
     }
 
     /**
-     * This method retrieves the {@link SoundPreferences#VOLUME} preference of the sound settings from the game's preferences file.
-     * It uses the {@link GamePreferences} class to get the value of the preference.
+     * This method retrieves the {@link SoundPreferences#VOLUME} preference of the sound settings from the cache.
      * The key for the {@link SoundPreferences#VOLUME} preference is obtained using the {@link SoundPreferences#getKey(String)} method with {@link SoundPreferences#VOLUME} as the argument.
      * @return float - returns the value of the {@link SoundPreferences#VOLUME} preference. It represents the volume level of the sound.
      */
     public float getVolume() {
-        return GamePreferences.getPreferences().getFloat(getKey(VOLUME));
+        return volume;
     }
 
     /**
      * This method sets the {@link SoundPreferences#VOLUME} preference of the sound settings in the game's preferences file.
      * It takes a float as an argument and uses the {@link GamePreferences} class to set the value of the preference.
      * The key for the {@link SoundPreferences#VOLUME} preference is obtained using the {@link SoundPreferences#getKey(String)} method with {@link SoundPreferences#VOLUME} as the argument.
-     * After setting the value, the preferences are flushed to ensure the changes are saved.
+     * The change is written to the preferences file in the background by the {@link PreferenceStore}.
      * @param vol - the new value for the {@link SoundPreferences#VOLUME} preference. It represents the volume level of the sound.
      */
     public void setVolume(float vol) {
-        GamePreferences.getPreferences().putFloat(getKey(VOLUME), vol);
-        GamePreferences.getPreferences().flush();
+        PreferenceStore.putFloat(getKey(VOLUME), vol);
     }
 
     /**
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.LongMap;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,35 +14,104 @@ import org.jetbrains.annotations.NotNull;
  * Utility class for creating {@link Drawable}'s with specific colours.
  * This class is marked with Lombok's {@link UtilityClass}, which means it has an implicit private constructor.
  * All methods in this class should be static.
+ * <p>
+ * Every drawable is the same 1x1 white {@link TextureRegion}, tinted with its colour and given its size as its minimum size,
+ * so a coloured drawable costs no texture memory, and drawing several of them does not switch textures in between.
+ * Drawables are cached by their colour and size, so asking for the same drawable again returns the same instance.
+ * As they are shared, the returned drawables must not be changed by the caller.
+ * The white texture is disposed by {@link DrawableUtils#dispose()} when the game closes.
  */
 @UtilityClass
 public class DrawableUtils {
     /**
-     * Creates a {@link Drawable} with the specified width, height and colour.
-     *
-     * @param width  The width of the {@link Drawable} to be created.
-     * @param height The height of the {@link Drawable} to be created.
-     * @param color  The colour of the {@link Drawable} to be created.
-     * @return A {@link Drawable} of the specified width, height and colour.
+     * The largest width or height of a cached drawable, so the width and height fit in the cache key.
      */
-    public static @NotNull Drawable getColouredDrawable(int width, int height, Color color) {
-        // Create a new Pixmap with the specified width, height, and format.
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+    private static final int MAX_SIZE = 0xFFFF;
 
-        // Set the color of the Pixmap to the specified color.
-        pixmap.setColor(color);
+    /**
+     * The 1x1 white texture every drawable is drawn with, or null if it has not been created yet or has been disposed.
+     */
+    private static Texture whiteTexture;
 
-        // Fill the Pixmap with the specified color.
-        pixmap.fill();
+    /**
+     * The region of the {@link DrawableUtils#whiteTexture}, or null if it has not been created yet or has been disposed.
+     */
+    private static TextureRegion whiteRegion;
 
-        // Create a new Texture from the Pixmap, then create a new TextureRegion from the Texture.
-        // Finally, create a new TextureRegionDrawable from the TextureRegion.
-        TextureRegionDrawable drawable = new TextureRegionDrawable(new TextureRegion(new Texture(pixmap)));
+    /**
+     * The drawables created so far, keyed by their colour and size (see {@link DrawableUtils#getKey(int, int, Color)}).
+     */
+    private static final LongMap<Drawable> drawables = new LongMap<>();
 
-        // Dispose of the Pixmap to free up memory resources.
-        pixmap.dispose();
+    /**
+     * Returns the 1x1 white region every drawable is drawn with, creating it if it has not been created yet.
+     * It can be drawn with a tinted batch to fill a rectangle with any colour.
+     * This must be called on the render thread. The returned region must not be changed or disposed by the caller.
+     *
+     * @return The white region.
+     */
+    public static @NotNull TextureRegion getWhiteRegion() {
+        if (whiteRegion == null) {
+            // Create a single white pixel, which is tinted to the colour of each drawable when it is drawn
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            whiteTexture = new Texture(pixmap);
+            pixmap.dispose();
+            whiteRegion = new TextureRegion(whiteTexture);
+        }
+        return whiteRegion;
+    }
 
-        // Return the created TextureRegionDrawable.
+    /**
+     * Returns a {@link Drawable} with the specified width, height and colour.
+     * The drawable is the shared white region tinted with the colour, and is created the first time it is asked for.
+     *
+     * @param width  The width of the {@link Drawable}, between 0 and 65535.
+     * @param height The height of the {@link Drawable}, between 0 and 65535.
+     * @param color  The colour of the {@link Drawable}.
+     * @return A {@link Drawable} of the specified width, height and colour, which must not be changed by the caller.
+     * @throws IllegalArgumentException If the width or height is negative or too large.
+     */
+    public static @NotNull Drawable getColouredDrawable(int width, int height, @NotNull Color color) {
+        long key = getKey(width, height, color);
+        Drawable drawable = drawables.get(key);
+        if (drawable == null) {
+            // Tint the white region, which copies it into a new drawable with the colour, then give it the requested size
+            drawable = new TextureRegionDrawable(getWhiteRegion()).tint(color);
+            drawable.setMinWidth(width);
+            drawable.setMinHeight(height);
+            drawables.put(key, drawable);
+        }
         return drawable;
     }
+
+    /**
+     * Packs the colour and size of a drawable into a single key for the cache.
+     * The colour takes the top 32 bits, and the width and height take 16 bits each.
+     *
+     * @param width  The width of the drawable.
+     * @param height The height of the drawable.
+     * @param color  The colour of the drawable.
+     * @return The key of the drawable.
+     * @throws IllegalArgumentException If the width or height is negative or too large.
+     */
+    private static long getKey(int width, int height, @NotNull Color color) {
+        if (width < 0 || width > MAX_SIZE || height < 0 || height > MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid drawable size: " + width + "x" + height);
+        }
+        return ((long) Color.rgba8888(color) << 32) | ((long) width << 16) | height;
+    }
+
+    /**
+     * Disposes the white texture and forgets the cached drawables, if the texture has been created.
+     * This should only be called when the game is closing, after every screen has been disposed.
+     */
+    public static void dispose() {
+        drawables.clear();
+        whiteRegion = null;
+        if (whiteTexture == null) return;
+        whiteTexture.dispose();
+        whiteTexture = null;
+    }
 }
@@ -4,6 +4,11 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.HdpiMode;
+import uk.ac.york.student.game.replay.InputJournal;
+import uk.ac.york.student.game.replay.InputReplay;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 /**
@@ -16,17 +21,50 @@ public class DesktopLauncher {
 	 * It creates an instance of {@link Lwjgl3ApplicationConfiguration} and sets various configuration options.
 	 * These options include the foreground FPS, windowed mode dimensions, HDPI mode, title, idle FPS, resizability, and initial background color.
 	 * After setting the configuration options, it creates a new instance of {@link Lwjgl3Application} with a new {@link GdxGame} and the configured options.
+	 * <p>
+	 * The input of a game can be recorded with {@code --record <file>}, and replayed with {@code --replay <file>}.
+	 * A replay opens a window of the size the journal was recorded at, as that decides how far the player moves,
+	 * and draws as fast as it can, so its frame times can be compared between builds. Adding {@code --hidden} keeps the window hidden.
 	 *
-	 * @param arg The command-line arguments passed to the application. This parameter is not used in the method.
+	 * @param arg The command-line arguments passed to the application.
+	 * @throws IOException If the journal to replay cannot be read.
 	 */
-	public static void main(String[] arg) {
+	public static void main(String[] arg) throws IOException {
+		InputJournal replay = null;
+		boolean hidden = false;
+		for (int i = 0; i < arg.length; i++) {
+			switch (arg[i]) {
+				case "--record":
+					InputReplay.record(Paths.get(arg[++i]));
+					break;
+				case "--replay":
+					replay = InputReplay.replay(Paths.get(arg[++i]));
+					break;
+				case "--hidden":
+					hidden = true;
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown argument: " + arg[i]);
+			}
+		}
+
 		final Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
-		config.setForegroundFPS(60); // Vsynced to 60fps (no need to go above/below this)
-//		config.setWindowedMode(1920, 1080);
-		config.setFullscreenMode(Lwjgl3ApplicationConfiguration.getDisplayMode());
+		if (replay != null) {
+			// Replay at the size the journal was recorded at, without waiting for the display, so the frame times measure the game
+			config.useVsync(false);
+			config.setForegroundFPS(0);
+			config.setWindowedMode(replay.getScreenWidth(), replay.getScreenHeight());
+			config.setInitialVisible(!hidden);
+		} else {
+			// The game simulates at a fixed rate whatever the frame rate, so draw at the refresh rate of the display
+			config.useVsync(true);
+			config.setForegroundFPS(Lwjgl3ApplicationConfiguration.getDisplayMode().refreshRate + 1);
+//			config.setWindowedMode(1920, 1080);
+			config.setFullscreenMode(Lwjgl3ApplicationConfiguration.getDisplayMode());
+		}
 		config.setHdpiMode(HdpiMode.Logical); // Convert coordinates to be logical (scaled to 1920x1080)
 		config.setTitle("ENG1");
-		config.setIdleFPS(15); // Ensure game doesn't take up unnecessary resources when idle
+		config.setIdleFPS(replay != null ? 0 : 15); // Ensure game doesn't take up unnecessary resources when idle, unless replaying behind other windows
 		config.setResizable(true);
 		config.setInitialBackgroundColor(Color.WHITE);
 		new Lwjgl3Application(new GdxGame(), config);
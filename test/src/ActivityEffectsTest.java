@@ -0,0 +1,98 @@
+import org.junit.Test;
+import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.game.activities.ActivityEffects;
+import uk.ac.york.student.player.MetricStore;
+import uk.ac.york.student.player.PlayerMetrics;
+import uk.ac.york.student.utils.Pair;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ActivityEffectsTest is a JUnit test class that verifies the ActivityEffects class.
+ * It ensures that the compiled table agrees with the effects of every activity,
+ * and that checking and applying an activity through it behaves like applying its effects one by one.
+ */
+public class ActivityEffectsTest {
+    /**
+     * Tests that every cell of the table holds the effect, and its index, listed by the activity, and that other cells are empty.
+     */
+    @Test
+    public void testTableMatchesEffects() {
+        for (Activity activity : Activity.values()) {
+            List<Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect>> effects = activity.getEffects();
+            for (PlayerMetrics.MetricType type : PlayerMetrics.MetricType.values()) {
+                int index = -1;
+                for (int i = 0; i < effects.size(); i++) {
+                    if (effects.get(i).getLeft() == type) {
+                        index = i;
+                        break;
+                    }
+                }
+                assertEquals(index, ActivityEffects.getEffectIndex(activity, type));
+                if (index < 0) {
+                    assertNull(ActivityEffects.getEffect(activity, type));
+                    assertEquals(ActivityEffects.NONE, ActivityEffects.getCode(activity, type));
+                } else {
+                    assertEquals(effects.get(index).getRight(), ActivityEffects.getEffect(activity, type));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that change amounts listed in the order of the effects are moved to the columns of their metrics.
+     */
+    @Test
+    public void testCompileChangeAmounts() {
+        // STUDY increases the study level, and decreases energy, happiness and health
+        float[] row = ActivityEffects.compileChangeAmounts(Activity.STUDY, new float[] {0.3f, 0.2f, 0.15f, 0.25f});
+        float[] expected = new float[PlayerMetrics.MetricType.values().length];
+        expected[PlayerMetrics.MetricType.STUDY_LEVEL.ordinal()] = 0.3f;
+        expected[PlayerMetrics.MetricType.ENERGY.ordinal()] = 0.2f;
+        expected[PlayerMetrics.MetricType.HAPPINESS.ordinal()] = 0.15f;
+        expected[PlayerMetrics.MetricType.HEALTH.ordinal()] = 0.25f;
+        assertArrayEquals(expected, row, 0f);
+    }
+
+    /**
+     * Tests that an activity with too few change amounts is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewChangeAmountsAreRejected() {
+        ActivityEffects.compileChangeAmounts(Activity.ENTERTAIN, new float[] {0.2f});
+    }
+
+    /**
+     * Tests that checking and applying an activity gives the same result as applying each of its effects to the store.
+     */
+    @Test
+    public void testHasEnoughAndApply() {
+        float[] amounts = {0.25f, 0.3f};
+        float[] row = ActivityEffects.compileChangeAmounts(Activity.ENTERTAIN, amounts);
+
+        MetricStore compiled = new MetricStore();
+        MetricStore expected = new MetricStore();
+        compiled.set(PlayerMetrics.MetricType.HAPPINESS, 0.5f);
+        expected.set(PlayerMetrics.MetricType.HAPPINESS, 0.5f);
+
+        assertTrue(ActivityEffects.hasEnough(Activity.ENTERTAIN, row, compiled));
+        ActivityEffects.apply(Activity.ENTERTAIN, row, compiled);
+        List<Pair<PlayerMetrics.MetricType, PlayerMetrics.MetricEffect>> effects = Activity.ENTERTAIN.getEffects();
+        for (int i = 0; i < effects.size(); i++) {
+            expected.change(effects.get(i).getLeft(), effects.get(i).getRight(), amounts[i]);
+        }
+        for (PlayerMetrics.MetricType type : PlayerMetrics.MetricType.values()) {
+            assertEquals(expected.get(type), compiled.get(type), 0f);
+        }
+
+        // Entertaining decreases energy, so it cannot be done without enough of it
+        compiled.set(PlayerMetrics.MetricType.ENERGY, 0.2f);
+        assertFalse(ActivityEffects.hasEnough(Activity.ENTERTAIN, row, compiled));
+    }
+}
@@ -1,41 +1,64 @@
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import uk.ac.york.student.assets.textures.TextureAtlases;
 
 import static org.junit.Assert.assertTrue;
 
 /**
  * Test class for the Asset class.
  * This class uses JUnit for testing and GdxTestRunner for setting up a LibGDX headless environment.
+ * The menu images are packed into texture atlases by the packTextures task, which the test task depends on,
+ * so they are checked as regions of their atlas rather than as loose files.
  */
 
 @RunWith(GdxTestRunner.class)
 public class AssetTest {
+    /**
+     * Checks whether a region with the given name was packed into an atlas.
+     * Only the atlas file is read, so no textures are uploaded.
+     *
+     * @param atlas The atlas to look in.
+     * @param regionName The name of the region, which is the packed image's file name without the extension.
+     * @return True if the atlas exists and contains the region, false otherwise.
+     */
+    private static boolean regionExists(TextureAtlases atlas, String regionName) {
+        FileHandle file = Gdx.files.internal(atlas.getDescriptor().fileName);
+        if (!file.exists()) return false;
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+        for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+            if (region.name.equals(regionName)) return true;
+        }
+        return false;
+    }
+
     /**
      * This test class checks if all assets required for the game exist and can be located.
      */
     @Test
     public void testBottomUpBlackGradientExists() {
         assertTrue("BottomUpBlackGradient exists",
-                Gdx.files.internal("images/BottomUpBlackGradient.png").exists());
+                regionExists(TextureAtlases.SETTINGS, "BottomUpBlackGradient"));
     }
 
     @Test
     public void testCharacter1Exists(){
         assertTrue("Character 1 exists",
-                Gdx.files.internal("images/character1.png").exists());
+                regionExists(TextureAtlases.MENU, "character1"));
     }
 
     @Test
     public void testCharacter2Exists() {
         assertTrue("Character 2 exists",
-                Gdx.files.internal("images/character2.png").exists());
+                regionExists(TextureAtlases.MENU, "character2"));
     }
 
     @Test
     public void testCharacter3Exists() {
         assertTrue("Character 3 exists",
-                Gdx.files.internal("images/character3.png").exists());
+                regionExists(TextureAtlases.MENU, "character3"));
     }
 
     @Test
@@ -47,25 +70,25 @@ public class AssetTest {
     @Test
     public void CloudsFormattedExists() {
         assertTrue("CloudsFormatted exists",
-                Gdx.files.internal("images/CloudsFormatted.png").exists());
+                regionExists(TextureAtlases.MENU, "CloudsFormatted"));
     }
 
     @Test
     public void MapOverviewExists() {
         assertTrue("MapOverview exists",
-                Gdx.files.internal("images/MapOverview.png").exists());
+                regionExists(TextureAtlases.MENU, "MapOverview"));
     }
 
     @Test
     public void StoneWallExists() {
         assertTrue("StoneWall exists",
-                Gdx.files.internal("images/StoneWall.png").exists());
+                regionExists(TextureAtlases.SETTINGS, "StoneWall"));
     }
 
     @Test
     public void VignetteExists() {
         assertTrue("Vignette exists",
-                Gdx.files.internal("images/Vignette.png").exists());
+                regionExists(TextureAtlases.MENU, "Vignette"));
     }
 
 }
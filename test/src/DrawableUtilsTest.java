@@ -0,0 +1,58 @@
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import uk.ac.york.student.utils.DrawableUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * DrawableUtilsTest is a JUnit test class that verifies the coloured drawables of the DrawableUtils class.
+ * It ensures that drawables are cached by colour and size, and that they all share the same white region.
+ */
+@RunWith(GdxTestRunner.class)
+public class DrawableUtilsTest {
+    /**
+     * Disposes the white texture after each test, so each test starts with an empty cache.
+     */
+    @After
+    public void tearDown() {
+        DrawableUtils.dispose();
+    }
+
+    /**
+     * Tests that asking for the same colour and size returns the same drawable, and that a different colour or size does not.
+     */
+    @Test
+    public void testDrawablesAreCached() {
+        Drawable grey = DrawableUtils.getColouredDrawable(50, 5, Color.GRAY);
+        assertSame(grey, DrawableUtils.getColouredDrawable(50, 5, new Color(Color.GRAY)));
+        assertNotSame(grey, DrawableUtils.getColouredDrawable(50, 5, Color.GREEN));
+        assertNotSame(grey, DrawableUtils.getColouredDrawable(0, 5, Color.GRAY));
+    }
+
+    /**
+     * Tests that drawables have the requested size, and are drawn with the shared white region.
+     */
+    @Test
+    public void testDrawablesShareWhiteRegion() {
+        Drawable green = DrawableUtils.getColouredDrawable(40, 7, Color.GREEN);
+        assertEquals(40, green.getMinWidth(), 0);
+        assertEquals(7, green.getMinHeight(), 0);
+        Drawable red = DrawableUtils.getColouredDrawable(3, 3, Color.RED);
+        assertSame(DrawableUtils.getWhiteRegion().getTexture(), ((SpriteDrawable) green).getSprite().getTexture());
+        assertSame(DrawableUtils.getWhiteRegion().getTexture(), ((SpriteDrawable) red).getSprite().getTexture());
+    }
+
+    /**
+     * Tests that sizes that do not fit in the cache key are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSizeIsRejected() {
+        DrawableUtils.getColouredDrawable(-1, 5, Color.GRAY);
+    }
+}
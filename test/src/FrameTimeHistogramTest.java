@@ -0,0 +1,47 @@
+import org.junit.Test;
+import uk.ac.york.student.debug.FrameTimeHistogram;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * FrameTimeHistogramTest is a JUnit test class that verifies the functionality of the FrameTimeHistogram class.
+ * It checks that frames are counted into the right buckets as they enter and leave the window, and that the lows are found.
+ */
+public class FrameTimeHistogramTest {
+    /**
+     * Tests that frames are counted into buckets, that slow frames are counted in the last bucket,
+     * and that the oldest frame leaves its bucket when the window is full.
+     */
+    @Test
+    public void testBuckets() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram(3, 4, 5f);
+        histogram.add(1f);
+        histogram.add(7f);
+        histogram.add(100f);
+        assertEquals(1, histogram.getBucket(0));
+        assertEquals(1, histogram.getBucket(1));
+        assertEquals(1, histogram.getBucket(3));
+
+        // The window is full, so the 1 ms frame is replaced
+        histogram.add(8f);
+        assertEquals(3, histogram.getCount());
+        assertEquals(0, histogram.getBucket(0));
+        assertEquals(2, histogram.getBucket(1));
+        assertEquals(2, histogram.getLargestBucket());
+    }
+
+    /**
+     * Tests that the 1% and 0.1% lows are the fastest of the slowest 1% and 0.1% of the frames.
+     */
+    @Test
+    public void testLows() {
+        FrameTimeHistogram histogram = new FrameTimeHistogram(1000, 10, 2f);
+        for (int i = 0; i < 1000; i++) {
+            histogram.add(i < 990 ? 10f : 40f + i - 990);
+        }
+        // The ten slowest frames take 40 to 49 ms
+        histogram.updateLows();
+        assertEquals(40f, histogram.getOnePercentLow(), 0.0001f);
+        assertEquals(49f, histogram.getPointOnePercentLow(), 0.0001f);
+    }
+}
@@ -0,0 +1,93 @@
+import org.junit.Test;
+import uk.ac.york.student.game.activities.Activity;
+import uk.ac.york.student.game.simulation.ActivityPolicy;
+import uk.ac.york.student.game.simulation.GameSimulator;
+import uk.ac.york.student.game.simulation.SimulatedActivity;
+import uk.ac.york.student.game.simulation.SimulatedGame;
+import uk.ac.york.student.game.simulation.SimulationResult;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * GameSimulatorTest is a JUnit test class that verifies the headless game simulation.
+ * It checks that simulated games follow the rules of the game screen and that batches of games are reproducible.
+ */
+public class GameSimulatorTest {
+    private final SimulatedActivity study = new SimulatedActivity(Activity.STUDY, 4, 0.5f, 0.1f, 0.1f, 0.1f);
+    private final SimulatedActivity sleep = new SimulatedActivity(Activity.SLEEP, 0, 0f, 0f, 0.1f);
+    private final SimulatedActivity exercise = new SimulatedActivity(Activity.EXERCISE, 10, 0.2f, 0.3f);
+
+    /**
+     * Tests that studying once a day for the whole game gives the expected score,
+     * including the bonus for a study streak of at least four days.
+     */
+    @Test
+    public void testStudyEveryDay() {
+        SimulatedGame game = new SimulatedGame();
+        while (!game.isFinished()) {
+            assertTrue(game.perform(study));
+            assertTrue(game.perform(sleep));
+        }
+
+        assertEquals(0, game.getDaysNotStudied());
+        assertEquals(7, game.getStreaks().getStreakCount(Activity.STUDY));
+        // Study total 7 * 0.6, happiness total 0.9 + 0.8 + ... + 0.3, plus the study streak bonus
+        assertEquals(64f, game.getScore(), 0.01f);
+    }
+
+    /**
+     * Tests that never studying forces a fail.
+     */
+    @Test
+    public void testNeverStudying() {
+        SimulatedGame game = new SimulatedGame();
+        while (!game.isFinished()) {
+            game.perform(sleep);
+        }
+        assertEquals(7, game.getDaysNotStudied());
+        assertEquals(0f, game.getScore(), 0f);
+    }
+
+    /**
+     * Tests that an activity cannot be performed when there is not enough time left in the day.
+     */
+    @Test
+    public void testNotEnoughTime() {
+        SimulatedGame game = new SimulatedGame();
+        assertTrue(game.perform(exercise));
+        assertFalse(game.canPerform(exercise));
+        assertFalse(game.perform(exercise));
+        assertEquals(10, game.getCurrentHour());
+    }
+
+    /**
+     * Tests that simulating the same batch twice gives the same distribution of scores.
+     */
+    @Test
+    public void testBatchIsReproducible() {
+        GameSimulator simulator = new GameSimulator(List.of(study, sleep, exercise), ActivityPolicy.random());
+        SimulationResult first = simulator.simulate(5000, 42);
+        SimulationResult second = simulator.simulate(5000, 42);
+
+        assertEquals(5000, first.getGames() + first.getUnfinishedGames());
+        assertEquals(first.getMean(), second.getMean(), 0);
+        assertArrayEquals(first.getHistogram(), second.getHistogram());
+    }
+
+    /**
+     * Tests that batches with consecutive seeds do not play the same games shifted by one index.
+     */
+    @Test
+    public void testAdjacentBatchesDoNotOverlap() {
+        for (long index = 0; index < 1000; index++) {
+            assertNotEquals(GameSimulator.gameSeed(42, index + 1), GameSimulator.gameSeed(43, index));
+            assertNotEquals(GameSimulator.gameSeed(42, index), GameSimulator.gameSeed(42, index + 1));
+        }
+    }
+}
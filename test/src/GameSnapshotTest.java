@@ -0,0 +1,110 @@
+import org.junit.Test;
+import uk.ac.york.student.game.save.GameSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * GameSnapshotTest is a JUnit test class that verifies the GameSnapshot class.
+ * It ensures that a saved game is read back as it was written, that it survives metrics or activities being added,
+ * and that damaged files are rejected.
+ */
+public class GameSnapshotTest {
+    /**
+     * Creates a snapshot with two metrics, three activities and three days of streak history.
+     *
+     * @return The snapshot.
+     */
+    private static GameSnapshot createSnapshot() {
+        return new GameSnapshot(2, 4, 9, new float[] {0.5f, 0.25f}, new float[] {3f, 1.5f},
+                new int[] {1, 0, 2}, new long[] {0b101, 0b001, 0b100}, 1, "home", 120.5f, 64f, 800f, 420f);
+    }
+
+    /**
+     * Tests that a snapshot read from a file has the same values as the snapshot that was written.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Path file = Files.createTempFile("autosave", ".dat");
+        try {
+            createSnapshot().write(file);
+            GameSnapshot read = GameSnapshot.read(file, 2, 3);
+            assertEquals(2, read.getCharacter());
+            assertEquals(4, read.getDay());
+            assertEquals(9, read.getHour());
+            assertArrayEquals(new float[] {0.5f, 0.25f}, read.getMetricValues(), 0);
+            assertArrayEquals(new float[] {3f, 1.5f}, read.getMetricTotals(), 0);
+            assertArrayEquals(new int[] {1, 0, 2}, read.getActivitiesToday());
+            assertArrayEquals(new long[] {0b101, 0b001, 0b100}, read.getStreakHistory());
+            assertEquals(1, read.getNotStudiedCounter());
+            assertEquals("home", read.getMapName());
+            assertEquals(120.5f, read.getX(), 0);
+            assertEquals(64f, read.getY(), 0);
+            assertEquals(800f, read.getReturnX(), 0);
+            assertEquals(420f, read.getReturnY(), 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that the return position, saved in map pixels, puts the player back on the same tile of the main map
+     * when the game is resumed on a screen with a different map scale.
+     */
+    @Test
+    public void testReturnPositionIsIndependentOfScale() throws IOException {
+        float savedScale = 2f;
+        float resumedScale = 1.5f;
+        // The player left the main map at (1600, 840) on the screen it was saved on, which is (800, 420) in map pixels
+        GameSnapshot snapshot = new GameSnapshot(2, 4, 9, new float[] {0.5f, 0.25f}, new float[] {3f, 1.5f},
+                new int[] {1, 0, 2}, new long[] {0b101, 0b001, 0b100}, 1, "home", 120.5f, 64f, 1600f / savedScale, 840f / savedScale);
+        Path file = Files.createTempFile("autosave", ".dat");
+        try {
+            snapshot.write(file);
+            GameSnapshot read = GameSnapshot.read(file, 2, 3);
+            assertEquals(800f * resumedScale, read.getReturnX() * resumedScale, 0);
+            assertEquals(420f * resumedScale, read.getReturnY() * resumedScale, 0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that a snapshot saved before an activity was added gives the new activity its default values,
+     * and that values for metrics that no longer exist are skipped.
+     */
+    @Test
+    public void testArraysAreResized() throws IOException {
+        Path file = Files.createTempFile("autosave", ".dat");
+        try {
+            createSnapshot().write(file);
+            GameSnapshot read = GameSnapshot.read(file, 1, 4);
+            assertArrayEquals(new float[] {0.5f}, read.getMetricValues(), 0);
+            assertArrayEquals(new int[] {1, 0, 2, 0}, read.getActivitiesToday());
+            assertEquals("home", read.getMapName());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that a snapshot with a changed byte is rejected by its checksum.
+     */
+    @Test(expected = IOException.class)
+    public void testCorruptedSnapshotIsRejected() throws IOException {
+        Path file = Files.createTempFile("autosave", ".dat");
+        try {
+            createSnapshot().write(file);
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 12] ^= 1;
+            Files.write(file, bytes);
+            GameSnapshot.read(file, 2, 3);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
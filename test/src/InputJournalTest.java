@@ -0,0 +1,86 @@
+import com.badlogic.gdx.Input;
+import org.junit.Test;
+import uk.ac.york.student.game.replay.InputJournal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * InputJournalTest is a JUnit test class that verifies the InputJournal class.
+ * It ensures that a journal written to a file is read back with the same events, and that damaged files are rejected.
+ */
+public class InputJournalTest {
+    /**
+     * Creates a journal with a few events, including several in the same step and one far after the others.
+     *
+     * @return The finished journal.
+     */
+    private static InputJournal createJournal() {
+        InputJournal journal = new InputJournal(123456789L, 1920, 1080);
+        journal.add(0, Input.Keys.W, true);
+        journal.add(0, Input.Keys.CONTROL_LEFT, true);
+        journal.add(45, Input.Keys.W, false);
+        journal.add(1_000_000, Input.Keys.E, true);
+        journal.finish(1_000_060, 42);
+        return journal;
+    }
+
+    /**
+     * Tests that a journal read from a file has the same header and events as the journal that was written.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Path file = Files.createTempFile("input", ".journal");
+        try {
+            createJournal().write(file);
+            InputJournal read = InputJournal.read(file);
+            assertEquals(123456789L, read.getSeed());
+            assertEquals(1920, read.getScreenWidth());
+            assertEquals(1080, read.getScreenHeight());
+            assertEquals(1_000_060, read.getLength());
+            assertEquals(42, read.getEndChecksum());
+            assertEquals(4, read.getEventCount());
+            assertEquals(0, read.getStep(1));
+            assertEquals(Input.Keys.CONTROL_LEFT, read.getKeycode(1));
+            assertTrue(read.isDown(1));
+            assertEquals(45, read.getStep(2));
+            assertEquals(Input.Keys.W, read.getKeycode(2));
+            assertFalse(read.isDown(2));
+            assertEquals(1_000_000, read.getStep(3));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that a journal with a changed byte is rejected by its checksum.
+     */
+    @Test(expected = IOException.class)
+    public void testCorruptedJournalIsRejected() throws IOException {
+        Path file = Files.createTempFile("input", ".journal");
+        try {
+            createJournal().write(file);
+            byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 12] ^= 1;
+            Files.write(file, bytes);
+            InputJournal.read(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests that events cannot be added out of order.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEventsMustBeInOrder() {
+        InputJournal journal = new InputJournal(0, 800, 600);
+        journal.add(10, Input.Keys.W, true);
+        journal.add(9, Input.Keys.W, false);
+    }
+}
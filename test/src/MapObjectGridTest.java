@@ -0,0 +1,71 @@
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import org.junit.Before;
+import org.junit.Test;
+import uk.ac.york.student.assets.map.MapObjectGrid;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * MapObjectGridTest is a JUnit test class that verifies the point lookups of the MapObjectGrid class.
+ * It ensures that the grid returns the same map object as a linear scan of the bounding boxes would.
+ */
+public class MapObjectGridTest {
+    private MapObjectGrid grid;
+    private MapObject small;
+    private MapObject large;
+
+    /**
+     * Sets up a grid with a small box inside a large box, plus a box spanning several cells.
+     */
+    @Before
+    public void setUp() {
+        grid = new MapObjectGrid(10);
+        small = new MapObject();
+        large = new MapObject();
+        grid.add(small, new BoundingBox(new Vector3(12, 12, 0), new Vector3(18, 18, 0)));
+        grid.add(large, new BoundingBox(new Vector3(0, 0, 0), new Vector3(55, 35, 0)));
+        grid.build();
+    }
+
+    /**
+     * Tests that the first added object is returned when several bounding boxes contain the point.
+     */
+    @Test
+    public void testFindReturnsFirstAdded() {
+        assertSame(small, grid.find(15, 15));
+        assertSame(large, grid.find(5, 5));
+        assertSame(large, grid.find(50, 30));
+    }
+
+    /**
+     * Tests that the bounds of the bounding boxes are inclusive.
+     */
+    @Test
+    public void testFindInclusiveBounds() {
+        assertSame(small, grid.find(12, 18));
+        assertSame(large, grid.find(55, 35));
+        assertSame(large, grid.find(0, 0));
+    }
+
+    /**
+     * Tests that points outside every bounding box return null.
+     */
+    @Test
+    public void testFindOutside() {
+        assertNull(grid.find(-1, 5));
+        assertNull(grid.find(56, 5));
+        assertNull(grid.find(5, 100));
+    }
+
+    /**
+     * Tests that a cleared grid no longer returns any objects.
+     */
+    @Test
+    public void testClear() {
+        grid.clear();
+        assertNull(grid.find(15, 15));
+    }
+}
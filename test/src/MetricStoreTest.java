@@ -0,0 +1,53 @@
+import org.junit.Test;
+import uk.ac.york.student.player.MetricStore;
+import uk.ac.york.student.player.PlayerMetric;
+import uk.ac.york.student.player.PlayerMetrics;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * MetricStoreTest is a JUnit test class that verifies the functionality of the MetricStore class.
+ * It runs without the GdxTestRunner, as the store does not depend on scene2d or a GL context.
+ */
+public class MetricStoreTest {
+    /**
+     * Tests that the metrics start at their defaults and are kept between the progress bar minimum and 1.
+     */
+    @Test
+    public void testDefaultsAndLimits() {
+        MetricStore store = new MetricStore();
+        assertEquals(0.1f, store.get(PlayerMetrics.MetricType.STUDY_LEVEL), 0f);
+        assertEquals(0.6f, store.get(PlayerMetrics.MetricType.HEALTH), 0f);
+
+        store.increase(PlayerMetrics.MetricType.HEALTH, 2f);
+        assertEquals(1f, store.get(PlayerMetrics.MetricType.HEALTH), 0f);
+        store.decrease(PlayerMetrics.MetricType.HEALTH, 2f);
+        assertEquals(PlayerMetric.PROGRESS_BAR_MINIMUM, store.get(PlayerMetrics.MetricType.HEALTH), 0f);
+
+        store.change(PlayerMetrics.MetricType.HEALTH, PlayerMetrics.MetricEffect.RESET, 0f);
+        assertEquals(0.6f, store.get(PlayerMetrics.MetricType.HEALTH), 0f);
+    }
+
+    /**
+     * Tests that listeners are only notified when the value of their metric changes, and not after they are removed.
+     */
+    @Test
+    public void testListenersOnlyNotifiedOnChange() {
+        MetricStore store = new MetricStore();
+        int[] calls = new int[1];
+        MetricStore.Listener listener = (type, value) -> calls[0]++;
+        store.addListener(PlayerMetrics.MetricType.ENERGY, listener);
+
+        // Energy is already at its maximum, so this does not change it
+        store.increase(PlayerMetrics.MetricType.ENERGY, 0.5f);
+        assertEquals(0, calls[0]);
+
+        store.decrease(PlayerMetrics.MetricType.ENERGY, 0.5f);
+        store.decrease(PlayerMetrics.MetricType.HAPPINESS, 0.5f);
+        assertEquals(1, calls[0]);
+
+        store.removeListener(PlayerMetrics.MetricType.ENERGY, listener);
+        store.increase(PlayerMetrics.MetricType.ENERGY, 0.1f);
+        assertEquals(1, calls[0]);
+    }
+}
@@ -4,6 +4,8 @@ import uk.ac.york.student.game.activities.Activity;
 import uk.ac.york.student.player.PlayerStreaks;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * PlayerStreaksTest is a JUnit test class that verifies the functionality of the PlayerStreaks class.
@@ -15,12 +17,12 @@ public class PlayerStreaksTest {
     private int currentDay;
 
     /**
-     * Sets up the testing environment before each test. It initializes a singleton instance of
+     * Sets up the testing environment before each test. It creates a new, empty instance of
      * PlayerStreaks and sets the current day to 1.
      */
     @Before
     public void setUp() {
-        playerStreaks = PlayerStreaks.getInstance();
+        playerStreaks = new PlayerStreaks();
         currentDay = 1;
     }
 
@@ -64,5 +66,46 @@ public class PlayerStreaksTest {
         assertEquals(expectedCount, actualCount);
     }
 
-    
+    /**
+     * Tests that a broken streak starts again from one, while the longest streak and the history of each day are kept.
+     */
+    @Test
+    public void testLongestStreakAndHistory() {
+        PlayerStreaks streaks = new PlayerStreaks(7);
+        streaks.incrementStreak(Activity.EXERCISE, 0);
+        streaks.incrementStreak(Activity.EXERCISE, 1);
+        streaks.incrementStreak(Activity.EXERCISE, 2);
+        streaks.incrementStreak(Activity.EXERCISE, 4);
+        assertEquals(1, streaks.getStreakCount(Activity.EXERCISE));
+        assertEquals(3, streaks.getLongestStreak(Activity.EXERCISE));
+        assertEquals(4, streaks.getLastPerformedDay(Activity.EXERCISE));
+        assertTrue(streaks.wasPerformedOn(Activity.EXERCISE, 2));
+        assertFalse(streaks.wasPerformedOn(Activity.EXERCISE, 3));
+        assertFalse(streaks.wasPerformedOn(Activity.STUDY, 2));
+        assertFalse(streaks.wasPerformedOn(Activity.EXERCISE, 100));
+    }
+
+    /**
+     * Tests that the history grows past the length the streaks were created for, and that restoring a copy of it rebuilds the same streaks.
+     */
+    @Test
+    public void testHistoryGrowsAndRestores() {
+        PlayerStreaks streaks = new PlayerStreaks(2);
+        for (int day = 0; day < 40; day++) {
+            streaks.incrementStreak(Activity.STUDY, day);
+            if (day % 2 == 0) streaks.incrementStreak(Activity.EAT, day);
+        }
+        assertEquals(40, streaks.getDayCount());
+        assertEquals(40, streaks.getStreakCount(Activity.STUDY));
+
+        PlayerStreaks restored = new PlayerStreaks();
+        restored.restore(streaks.copyHistory());
+        for (Activity activity : Activity.values()) {
+            assertEquals(streaks.getStreakCount(activity), restored.getStreakCount(activity));
+            assertEquals(streaks.getLongestStreak(activity), restored.getLongestStreak(activity));
+            assertEquals(streaks.getLastPerformedDay(activity), restored.getLastPerformedDay(activity));
+        }
+        assertTrue(restored.wasPerformedOn(Activity.EAT, 38));
+        assertFalse(restored.wasPerformedOn(Activity.EAT, 39));
+    }
 }
@@ -0,0 +1,101 @@
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.york.student.settings.PreferenceStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * PreferenceStoreTest is a JUnit test class that verifies when the PreferenceStore writes the preferences file.
+ * It checks that changes made close together are written once, that unchanged values are not written,
+ * and that the defaults passed to the getters are never saved.
+ */
+public class PreferenceStoreTest {
+    /**
+     * How long to wait for a scheduled flush, which is well over the store's flush delay of half a second.
+     */
+    private static final long FLUSH_WAIT_MILLIS = 1500;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path file;
+
+    /**
+     * Points the store at an empty preferences file in a temporary folder, so the tests never change the player's settings.
+     */
+    @Before
+    public void setUp() {
+        file = folder.getRoot().toPath().resolve("settings");
+        PreferenceStore.useFile(file);
+    }
+
+    /**
+     * Tests that several changes made within the flush delay are written to the file by a single write.
+     */
+    @Test
+    public void testRepeatedPutsWriteOnce() throws InterruptedException, IOException {
+        int writes = PreferenceStore.getWriteCount();
+        for (int i = 1; i <= 10; i++) {
+            PreferenceStore.putFloat("volume", i / 10f);
+        }
+        Thread.sleep(FLUSH_WAIT_MILLIS);
+
+        assertEquals(writes + 1, PreferenceStore.getWriteCount());
+        assertEquals("1.0", read().getProperty("volume"));
+    }
+
+    /**
+     * Tests that setting a preference to the value it already has does not schedule a write.
+     */
+    @Test
+    public void testUnchangedValueIsNotWritten() throws InterruptedException {
+        PreferenceStore.putBoolean("enabled", true);
+        Thread.sleep(FLUSH_WAIT_MILLIS);
+        int writes = PreferenceStore.getWriteCount();
+
+        PreferenceStore.putBoolean("enabled", true);
+        Thread.sleep(FLUSH_WAIT_MILLIS);
+
+        assertEquals(writes, PreferenceStore.getWriteCount());
+    }
+
+    /**
+     * Tests that reading a preference that has never been set returns the default without saving it,
+     * even when another preference is written.
+     */
+    @Test
+    public void testDefaultsAreNotWritten() throws InterruptedException, IOException {
+        assertTrue(PreferenceStore.getBoolean("neverSet", true));
+        assertEquals(0.5f, PreferenceStore.getFloat("neverSetFloat", 0.5f), 0f);
+        PreferenceStore.putBoolean("enabled", false);
+        Thread.sleep(FLUSH_WAIT_MILLIS);
+
+        Properties properties = read();
+        assertEquals("false", properties.getProperty("enabled"));
+        assertFalse(properties.containsKey("neverSet"));
+        assertFalse(properties.containsKey("neverSetFloat"));
+    }
+
+    /**
+     * Reads the preferences file the store writes.
+     *
+     * @return The preferences in the file.
+     */
+    private Properties read() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.loadFromXML(in);
+        }
+        return properties;
+    }
+}
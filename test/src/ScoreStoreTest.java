@@ -0,0 +1,86 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.york.student.game.leaderboard.ScoreStore;
+import uk.ac.york.student.game.leaderboard.ScoreSubmission;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * ScoreStoreTest is a JUnit test class that verifies the functionality of the ScoreStore class.
+ * It checks the leaderboard queries, and that scores survive reopening, compaction and a torn journal record.
+ */
+public class ScoreStoreTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests that the top scores are returned in order, with earlier submissions first when scores tie,
+     * and that a new score is ranked below every score that is at least as high.
+     */
+    @Test
+    public void testTopAndRank() throws IOException {
+        try (ScoreStore store = ScoreStore.open(folder.getRoot().toPath())) {
+            store.add("Alice", 50f);
+            store.add("Bob", 80f);
+            store.add("Carol", 50f);
+            store.add("Dave", 20f);
+
+            List<ScoreSubmission> top = store.top(3);
+            assertEquals(3, top.size());
+            assertEquals("Bob", top.get(0).getName());
+            assertEquals("Alice", top.get(1).getName());
+            assertEquals("Carol", top.get(2).getName());
+
+            assertEquals(1, store.rankOf(90f));
+            assertEquals(4, store.rankOf(50f));
+            assertEquals(5, store.rankOf(10f));
+        }
+    }
+
+    /**
+     * Tests that scores are kept when the store is reopened, both from the journal and after compaction.
+     */
+    @Test
+    public void testReopen() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (ScoreStore store = ScoreStore.open(directory)) {
+            store.add("Alice", 50f);
+            store.compact();
+            store.add("Bob", 80f);
+        }
+        try (ScoreStore store = ScoreStore.open(directory)) {
+            assertEquals(2, store.size());
+            assertEquals("Bob", store.top(1).get(0).getName());
+            // New submissions carry on from the highest sequence number
+            assertEquals(3, store.add("Carol", 10f).getSequence());
+        }
+    }
+
+    /**
+     * Tests that a record torn at the end of the journal is dropped, and the scores before it are kept.
+     */
+    @Test
+    public void testTornJournalRecord() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (ScoreStore store = ScoreStore.open(directory)) {
+            store.add("Alice", 50f);
+        }
+        // Simulate a crash in the middle of writing a record
+        Files.write(directory.resolve(ScoreStore.JOURNAL_FILE), new byte[]{0, 0, 0, 20, 1, 2}, StandardOpenOption.APPEND);
+
+        try (ScoreStore store = ScoreStore.open(directory)) {
+            assertEquals(1, store.size());
+            store.add("Bob", 80f);
+        }
+        try (ScoreStore store = ScoreStore.open(directory)) {
+            assertEquals(2, store.size());
+        }
+    }
+}